@@ -0,0 +1,98 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Бенчмарк аналітики продажів: один паралельний прохід з накопичувачами на масивах
+ * проти окремих groupingBy для кожного розрізу
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalesAnalyticsBenchmark {
+
+    @Param({"1000000"})
+    public int orders;
+
+    private List<OrderInfo> data;
+    private final SalesAnalytics analytics = new SalesAnalytics();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        CustomerTier[] tiers = CustomerTier.values();
+        PaymentMethod[] payments = PaymentMethod.values();
+        OrderStatus[] statuses = OrderStatus.values();
+
+        List<ProductInfo> catalog = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            catalog.add(new ProductInfo("Товар " + i, 10 + random.nextInt(10_000), random.nextInt(100),
+                    categories[i % categories.length], LocalDate.of(2024, 1, 1)));
+        }
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            customers.add(new CustomerInfo("Ім'я", "Прізвище", "c" + i + "@example.com", null,
+                    LocalDate.of(2023, 1, 1), tiers[i % tiers.length]));
+        }
+        data = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            List<ProductInfo> items = new ArrayList<>();
+            for (int n = 1 + random.nextInt(4); n > 0; n--) {
+                items.add(catalog.get(random.nextInt(catalog.size())));
+            }
+            data.add(new OrderInfo("ORD-" + i, customers.get(random.nextInt(customers.size())), items,
+                    LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365)),
+                    statuses[random.nextInt(statuses.length)], payments[random.nextInt(payments.length)]));
+        }
+    }
+
+    @Benchmark
+    public SalesReport singlePass() throws InterruptedException {
+        return analytics.analyze(data);
+    }
+
+    @Benchmark
+    public void groupingBy(Blackhole blackhole) {
+        List<OrderInfo> active = data.stream().filter(o -> o.status() != OrderStatus.CANCELLED).toList();
+        blackhole.consume(active.stream().collect(Collectors.groupingBy(OrderInfo::paymentMethod,
+                Collectors.summingDouble(o -> o.getSubtotal() - o.getDiscount()))));
+        blackhole.consume(active.stream().collect(Collectors.groupingBy(o -> o.customer().tier(),
+                Collectors.summingDouble(o -> o.getSubtotal() - o.getDiscount()))));
+        blackhole.consume(active.stream().collect(Collectors.groupingBy(OrderInfo::orderDate,
+                Collectors.summingDouble(o -> o.getSubtotal() - o.getDiscount()))));
+        blackhole.consume(active.stream()
+                .flatMap(o -> o.products().stream()
+                        .map(p -> Map.entry(p.category(), p.price() * (1 - o.customer().getDiscount()))))
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingDouble(Map.Entry::getValue))));
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.cache;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.ProductInfo;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Бенчмарк пошуку товару за назвою з розподілом запитів за законом Ципфа:
+ * кеш W-TinyLFU проти необмеженої ConcurrentHashMap (нижня межа вартості звернення)
+ * Частка влучань кешу друкується після кожного запуску.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ProductCacheBenchmark {
+
+    private static final int REQUESTS = 1 << 20;
+
+    @Param({"100000"})
+    public int catalog;
+
+    @Param({"4194304", "16777216"})
+    public long cacheBytes;
+
+    @Param({"0.99"})
+    public double exponent;
+
+    private String[] names;
+    private int[] requests;
+    private ProductInfo[] products;
+    private TinyLfuCache<String, ProductInfo> cache;
+    private ConcurrentHashMap<String, ProductInfo> unbounded;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = new Random().nextInt(REQUESTS);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = new String[catalog];
+        products = new ProductInfo[catalog];
+        unbounded = new ConcurrentHashMap<>();
+        for (int i = 0; i < catalog; i++) {
+            products[i] = new ProductInfo("Товар " + i, 10 + i % 1000, i % 100,
+                    ProductCategory.values()[i % ProductCategory.values().length], LocalDate.of(2024, 1, 1));
+            names[i] = products[i].name();
+            unbounded.put(names[i], products[i]);
+        }
+        requests = zipf(REQUESTS, catalog, exponent, 42);
+        cache = ProductCache.create(cacheBytes, this::load);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.println();
+        System.out.println(cache.getStats().getReport());
+        cache.close();
+    }
+
+    private ProductInfo load(String name) {
+        // Імітація звернення до джерела: розбір ідентифікатора з назви
+        return products[Integer.parseInt(name.substring(name.indexOf(' ') + 1))];
+    }
+
+    @Benchmark
+    public void tinyLfuCache(Cursor cursor, Blackhole blackhole) throws IOException {
+        blackhole.consume(cache.get(names[requests[cursor.next++ & (REQUESTS - 1)]]));
+    }
+
+    @Benchmark
+    public void unboundedMap(Cursor cursor, Blackhole blackhole) {
+        blackhole.consume(unbounded.get(names[requests[cursor.next++ & (REQUESTS - 1)]]));
+    }
+
+    private static int[] zipf(int count, int distinct, double exponent, long seed) {
+        double[] cumulative = new double[distinct];
+        double sum = 0;
+        for (int i = 0; i < distinct; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        Random random = new Random(seed);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            double target = random.nextDouble() * sum;
+            int low = 0;
+            int high = distinct - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            keys[i] = (int) ((low * 2_654_435_761L) % distinct);
+        }
+        return keys;
+    }
+}
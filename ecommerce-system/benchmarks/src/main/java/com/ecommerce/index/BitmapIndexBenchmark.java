@@ -0,0 +1,70 @@
+package com.ecommerce.index;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк фільтра за кількома атрибутами: бітові індекси проти перегляду кожного товару
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BitmapIndexBenchmark {
+
+    private static final EnumSet<ProductCategory> WANTED = EnumSet.of(ProductCategory.ELECTRONICS, ProductCategory.TOYS);
+
+    @Param({"1000000"})
+    public int products;
+
+    private List<ProductInfo> data;
+    private ProductBitmapIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        data = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            data.add(new ProductInfo("Товар " + i, 1 + random.nextInt(10_000), random.nextInt(4) == 0 ? 0 : random.nextInt(100),
+                    categories[random.nextInt(categories.length)], LocalDate.of(2024, 1, 1)));
+        }
+        index = new ProductBitmapIndex(data);
+    }
+
+    @Benchmark
+    public int bitmapCardinality() {
+        return index.categories(WANTED).and(index.inStock()).andCardinality(index.returnable());
+    }
+
+    @Benchmark
+    public int scanCardinality() {
+        int count = 0;
+        for (ProductInfo product : data) {
+            if (WANTED.contains(product.category()) && product.isInStock() && product.category().isReturnable()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
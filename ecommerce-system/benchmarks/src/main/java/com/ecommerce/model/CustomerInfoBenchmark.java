@@ -0,0 +1,52 @@
+package com.ecommerce.model;
+
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Бенчмарк створення CustomerInfo (валідація email регулярним виразом у конструкторі)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerInfoBenchmark {
+
+    @Param({"1000", "100000"})
+    public int customers;
+
+    private String[] emails;
+    private final LocalDate registrationDate = LocalDate.of(2023, 6, 20);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        emails = new String[customers];
+        for (int i = 0; i < customers; i++) {
+            emails[i] = "customer" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (String email : emails) {
+            blackhole.consume(new CustomerInfo("Іван", "Петренко", email, "+380501234567",
+                    registrationDate, CustomerTier.SILVER));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.model;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк OrderInfo.getTotalAmount залежно від кількості товарів у замовленні
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInfoBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int products;
+
+    private OrderInfo order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CustomerInfo customer = new CustomerInfo("Марія", "Коваленко", "maria@example.com",
+                "+380509876543", LocalDate.of(2023, 6, 20), CustomerTier.GOLD);
+        ProductCategory[] categories = ProductCategory.values();
+        List<ProductInfo> items = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            items.add(new ProductInfo("Товар " + i, 100.0 + i, 10, categories[i % categories.length],
+                    LocalDate.of(2024, 10, 1)));
+        }
+        order = new OrderInfo("ORD-1", customer, items, LocalDate.of(2024, 10, 1),
+                OrderStatus.PENDING, PaymentMethod.CREDIT_CARD);
+    }
+
+    @Benchmark
+    public double getTotalAmount() {
+        return order.getTotalAmount();
+    }
+}
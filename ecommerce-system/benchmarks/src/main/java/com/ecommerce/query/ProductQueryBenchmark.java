@@ -0,0 +1,71 @@
+package com.ecommerce.query;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк запиту з ORDER BY і LIMIT: скомпільований запит з індексом категорій і купою
+ * проти лямбд над списком з повним сортуванням
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductQueryBenchmark {
+
+    private static final String QUERY = "category in (ELECTRONICS, BOOKS) and price < 1000 and stock > 0 order by price limit 50";
+
+    @Param({"1000000"})
+    public int products;
+
+    private List<ProductInfo> data;
+    private CompiledQuery compiled;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidDataException {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        data = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            data.add(new ProductInfo("Товар " + i, 1 + random.nextInt(10_000), random.nextInt(100),
+                    categories[random.nextInt(categories.length)], LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+        }
+        compiled = new ProductCatalog(data).compile(QUERY);
+    }
+
+    @Benchmark
+    public List<ProductInfo> compiledQuery() {
+        return compiled.execute();
+    }
+
+    @Benchmark
+    public List<ProductInfo> streamFilterSort() {
+        return data.stream()
+                .filter(p -> p.category() == ProductCategory.ELECTRONICS || p.category() == ProductCategory.BOOKS)
+                .filter(p -> p.price() < 1000 && p.stock() > 0)
+                .sorted(Comparator.comparingDouble(ProductInfo::price))
+                .limit(50)
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.service;
+
+import com.ecommerce.enums.ProductCategory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Детерміновані вхідні дані для бенчмарків
+ */
+final class BenchmarkData {
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+
+    private BenchmarkData() {
+    }
+
+    static List<String> productLines(int rows) {
+        List<String> lines = new ArrayList<>(rows + 1);
+        lines.add("name,price,stock,category,createdDate");
+        for (String[] record : productRecords(rows)) {
+            lines.add(String.join(",", record));
+        }
+        return lines;
+    }
+
+    static List<String[]> productRecords(int rows) {
+        Random random = new Random(42);
+        List<String[]> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            records.add(new String[]{
+                    "Товар " + i,
+                    String.valueOf(random.nextInt(100_000)),
+                    String.valueOf(random.nextInt(500)),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)].name(),
+                    String.format("2024-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28))
+            });
+        }
+        return records;
+    }
+}
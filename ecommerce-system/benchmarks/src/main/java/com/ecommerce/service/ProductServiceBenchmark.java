@@ -0,0 +1,63 @@
+package com.ecommerce.service;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.mapping.RecordMapper;
+import com.ecommerce.mapping.RecordMappers;
+import com.ecommerce.model.ProductInfo;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Бенчмарк розбору вже розділених рядків CSV у ProductInfo:
+ * ручний парсер сервісу проти декларативного RecordMapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private final ProductService service = new ProductService();
+    private List<String[]> records;
+    private RecordMapper.Binding<ProductInfo> binding;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidDataException {
+        records = BenchmarkData.productRecords(rows);
+        binding = RecordMappers.PRODUCTS.bind(new String[]{"name", "price", "stock", "category", "createdDate"});
+    }
+
+    @Benchmark
+    public void parseProduct(Blackhole blackhole) throws InvalidDataException {
+        for (int i = 0; i < records.size(); i++) {
+            ProductInfo product = service.parseProduct(records.get(i), i + 2);
+            blackhole.consume(product);
+        }
+    }
+
+    @Benchmark
+    public void mapProduct(Blackhole blackhole) throws InvalidDataException {
+        for (int i = 0; i < records.size(); i++) {
+            ProductInfo product = binding.map(records.get(i), i + 2);
+            blackhole.consume(product);
+        }
+    }
+}
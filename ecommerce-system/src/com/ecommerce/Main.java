@@ -1,14 +1,26 @@
 package com.ecommerce;
 
 import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.export.DataExporter;
+import com.ecommerce.export.ExportFormat;
 import com.ecommerce.model.CustomerInfo;
 import com.ecommerce.model.ProductInfo;
+import com.ecommerce.model.CustomerInfo.MembershipStatus;
 import com.ecommerce.service.CustomerService;
+import com.ecommerce.service.MembershipSegmentationService;
+import com.ecommerce.service.ProductSearchService;
 import com.ecommerce.service.ProductService;
+import com.ecommerce.service.ReviewRatingAggregator;
+import com.ecommerce.service.ShipmentTrackingService;
+import com.ecommerce.startup.StartupOrchestrator;
+import com.ecommerce.startup.StartupResult;
 import com.ecommerce.util.Logger;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 public class Main {
 
@@ -35,6 +47,12 @@ public class Main {
             // Демонстрація 5: Try-with-resources
             demonstrateTryWithResources();
 
+            // Демонстрація 6: Паралельний запуск
+            demonstrateConcurrentStartup();
+
+            // Демонстрація 7: Експорт у CSV і JSON Lines
+            demonstrateExport();
+
             logger.info("=".repeat(80));
             logger.info("✓ Програма завершена успішно!");
             logger.info("=".repeat(80));
@@ -240,4 +258,82 @@ public class Main {
 
         logger.info("Try-with-resources завершено, ресурси закриті");
     }
+
+    private static void demonstrateConcurrentStartup() {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("6. ПАРАЛЕЛЬНЕ ЗАВАНТАЖЕННЯ ДАНИХ ПРИ ЗАПУСКУ");
+        System.out.println("=".repeat(80));
+
+        StartupOrchestrator startup = new StartupOrchestrator();
+        StartupOrchestrator.Stage<List<ProductInfo>> products =
+                startup.stage("products", ignored -> new ProductService().loadProducts());
+        StartupOrchestrator.Stage<List<CustomerInfo>> customers =
+                startup.stage("customers", ignored -> new CustomerService().loadCustomers());
+        StartupOrchestrator.Stage<ReviewRatingAggregator> reviews = startup.stage("reviews", ignored -> {
+            ReviewRatingAggregator aggregator = new ReviewRatingAggregator();
+            aggregator.loadReviews("data/reviews.csv");
+            return aggregator;
+        });
+        startup.stage("shipments", ignored -> {
+            ShipmentTrackingService tracking = new ShipmentTrackingService();
+            tracking.loadEvents("data/shipment_events.csv");
+            return tracking;
+        });
+        StartupOrchestrator.Stage<ProductSearchService> search = startup.stage("search-index", loaded -> {
+            ProductSearchService searchService = new ProductSearchService();
+            searchService.indexProducts(loaded.get(products));
+            return searchService;
+        }, products);
+        StartupOrchestrator.Stage<Map<MembershipStatus, Integer>> segments = startup.stage("segments",
+                loaded -> new MembershipSegmentationService().countByStatus(loaded.get(customers)), customers);
+
+        try {
+            StartupResult result = startup.run();
+
+            System.out.println("\n✓ Товарів: " + result.get(products).size()
+                    + ", клієнтів: " + result.get(customers).size()
+                    + ", товарів з відгуками: " + result.get(reviews).getProductCount()
+                    + ", у пошуковому індексі: " + result.get(search).getIndexedProductCount());
+            System.out.println("✓ Сегменти членства: " + result.get(segments));
+            System.out.println(result.getTimelineReport());
+
+        } catch (InvalidDataException e) {
+            logger.error("Невалідні дані при запуску", e);
+            System.err.println("❌ ПОМИЛКА: " + e.getDetailedMessage());
+
+        } catch (IOException e) {
+            logger.error("Помилка вводу/виводу при запуску", e);
+            System.err.println("❌ ПОМИЛКА: " + e.getMessage());
+        }
+    }
+
+    private static void demonstrateExport() {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("7. ЕКСПОРТ КАТАЛОГУ І КЛІЄНТІВ");
+        System.out.println("=".repeat(80));
+
+        try {
+            List<ProductInfo> products = new ProductService().loadProducts();
+            List<CustomerInfo> customers = new CustomerService().loadCustomers();
+
+            Path directory = Files.createTempDirectory("ecommerce-export");
+            DataExporter exporter = new DataExporter();
+            exporter.exportProducts(directory.resolve("products.csv"), products, ExportFormat.CSV);
+            exporter.exportProducts(directory.resolve("products.jsonl"), products, ExportFormat.JSON_LINES);
+            exporter.exportCustomers(directory.resolve("customers.jsonl"), customers, ExportFormat.JSON_LINES);
+
+            System.out.println("✓ Експортовано " + products.size() + " товарів і " + customers.size()
+                    + " клієнтів у " + directory);
+            System.out.println("✓ Перший товар у JSON: "
+                    + Files.readAllLines(directory.resolve("products.jsonl")).get(0));
+
+        } catch (InvalidDataException e) {
+            logger.error("Невалідні дані для експорту", e);
+            System.err.println("❌ ПОМИЛКА: " + e.getDetailedMessage());
+
+        } catch (IOException e) {
+            logger.error("Помилка вводу/виводу при експорті", e);
+            System.err.println("❌ ПОМИЛКА: " + e.getMessage());
+        }
+    }
 }
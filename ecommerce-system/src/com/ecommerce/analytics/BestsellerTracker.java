@@ -0,0 +1,224 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.journal.OrderEventListener;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Потокове визначення бестселерів у фіксованому обсязі пам'яті
+ * Продажі рахуються в Count-Min sketch за назвою товару, а кандидати в лідери
+ * тримаються в купах розміру k — загальній і по одній на категорію. Пам'ять не
+ * залежить від розміру каталогу: sketch займає width × depth лічильників.
+ * Межі похибки: оцінка продажів товару ніколи не менша за справжню і з імовірністю
+ * getConfidence() перевищує її не більше ніж на getErrorBound() одиниць. Товар, що входить
+ * у справжній топ із запасом понад цю межу, з тією ж імовірністю є в результаті.
+ * Продажі надходять зі створених у журналі замовлень: OrderJournal.open(directory, config, tracker).
+ * Скасування вже врахованого замовлення не віднімається — sketch лише зростає.
+ */
+public class BestsellerTracker implements OrderEventListener {
+
+    private static final double DEFAULT_EPSILON = 0.0001;
+    private static final double DEFAULT_DELTA = 0.001;
+    private static final Comparator<Bestseller> BY_UNITS = Comparator.comparingLong(Bestseller::estimatedUnits)
+            .reversed()
+            .thenComparing(Bestseller::productName);
+
+    private final CountMinSketch sketch;
+    private final TopK overall;
+    private final TopK[] byCategory;
+
+    public BestsellerTracker(int k) {
+        this(k, DEFAULT_EPSILON, DEFAULT_DELTA);
+    }
+
+    /**
+     * @param k       розмір топу (загального і для кожної категорії)
+     * @param epsilon допустима похибка як частка від усіх проданих одиниць
+     * @param delta   імовірність перевищити цю похибку
+     */
+    public BestsellerTracker(int k, double epsilon, double delta) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Розмір топу має бути додатним");
+        }
+        this.sketch = new CountMinSketch(epsilon, delta);
+        this.overall = new TopK(k);
+        this.byCategory = new TopK[ProductCategory.values().length];
+        for (int i = 0; i < byCategory.length; i++) {
+            byCategory[i] = new TopK(k);
+        }
+    }
+
+    @Override
+    public void onOrderCreated(OrderInfo order) {
+        recordOrder(order);
+    }
+
+    /**
+     * Враховує всі товари замовлення; скасовані замовлення пропускаються
+     */
+    public synchronized void recordOrder(OrderInfo order) {
+        if (order.status() == OrderStatus.CANCELLED) {
+            return;
+        }
+        List<ProductInfo> products = order.products();
+        for (int i = 0, size = products.size(); i < size; i++) {
+            recordSale(products.get(i), 1);
+        }
+    }
+
+    public synchronized void recordSale(ProductInfo product, long units) {
+        Objects.requireNonNull(product, "Товар не може бути null");
+        if (units <= 0) {
+            throw new IllegalArgumentException("Кількість проданих одиниць має бути додатною");
+        }
+        long estimate = sketch.add(Hashing.hash64(product.name()), units);
+        overall.offer(product.name(), product.category(), estimate);
+        byCategory[product.category().ordinal()].offer(product.name(), product.category(), estimate);
+    }
+
+    /**
+     * Оцінка проданих одиниць товару (не менша за справжню кількість)
+     */
+    public synchronized long estimate(String productName) {
+        return sketch.estimate(Hashing.hash64(productName));
+    }
+
+    /**
+     * Загальний топ за спаданням оцінки продажів
+     */
+    public synchronized List<Bestseller> getTop() {
+        return overall.sorted();
+    }
+
+    public synchronized List<Bestseller> getTop(ProductCategory category) {
+        return byCategory[category.ordinal()].sorted();
+    }
+
+    public synchronized long getTotalUnits() {
+        return sketch.getTotal();
+    }
+
+    /**
+     * Максимальне завищення оцінки (ε·N) з імовірністю getConfidence()
+     */
+    public synchronized long getErrorBound() {
+        return (long) Math.ceil(Math.E / sketch.getWidth() * sketch.getTotal());
+    }
+
+    public double getConfidence() {
+        return 1 - Math.exp(-sketch.getDepth());
+    }
+
+    /**
+     * Пам'ять лічильників sketch у байтах
+     */
+    public long getSketchBytes() {
+        return 8L * sketch.getWidth() * sketch.getDepth();
+    }
+
+    public record Bestseller(String productName, ProductCategory category, long estimatedUnits) {
+    }
+
+    /**
+     * Мін-купа k кандидатів з індексом позицій для оновлення оцінки вже присутнього товару
+     */
+    private static final class TopK {
+
+        private final String[] names;
+        private final ProductCategory[] categories;
+        private final long[] counts;
+        private final Map<String, Integer> positions;
+        private int size;
+
+        TopK(int k) {
+            this.names = new String[k];
+            this.categories = new ProductCategory[k];
+            this.counts = new long[k];
+            this.positions = new HashMap<>(k * 2);
+        }
+
+        void offer(String name, ProductCategory category, long count) {
+            Integer position = positions.get(name);
+            if (position != null) {
+                // Оцінка лише зростає, тож елемент може тільки опуститися в мін-купі
+                counts[position] = count;
+                siftDown(position);
+            } else if (size < names.length) {
+                set(size, name, category, count);
+                siftUp(size++);
+            } else if (count > counts[0]) {
+                positions.remove(names[0]);
+                set(0, name, category, count);
+                siftDown(0);
+            }
+        }
+
+        List<Bestseller> sorted() {
+            List<Bestseller> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(new Bestseller(names[i], categories[i], counts[i]));
+            }
+            result.sort(BY_UNITS);
+            return result;
+        }
+
+        private void set(int index, String name, ProductCategory category, long count) {
+            names[index] = name;
+            categories[index] = category;
+            counts[index] = count;
+            positions.put(name, index);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (counts[parent] <= counts[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && counts[left] < counts[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && counts[right] < counts[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            String name = names[a];
+            ProductCategory category = categories[a];
+            long count = counts[a];
+            names[a] = names[b];
+            categories[a] = categories[b];
+            counts[a] = counts[b];
+            names[b] = name;
+            categories[b] = category;
+            counts[b] = count;
+            positions.put(names[a], a);
+            positions.put(names[b], b);
+        }
+    }
+}
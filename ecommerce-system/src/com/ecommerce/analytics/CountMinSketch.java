@@ -0,0 +1,76 @@
+package com.ecommerce.analytics;
+
+/**
+ * Count-Min sketch з консервативним оновленням
+ * Таблиця depth × width лічильників long; ключ потрапляє в один лічильник кожного рядка,
+ * а оцінка — мінімум з них. Оцінка ніколи не менша за справжню кількість і з
+ * імовірністю 1 - δ перевищує її не більше ніж на ε·N, де N — сума всіх приростів,
+ * width = ⌈e/ε⌉, depth = ⌈ln(1/δ)⌉. Консервативне оновлення (збільшуються лише
+ * лічильники, що дорівнюють мінімуму) зберігає цю межу і помітно зменшує завищення.
+ */
+final class CountMinSketch {
+
+    private final long[] counters;
+    private final int width;
+    private final int depth;
+    private final int widthMask;
+    private long total;
+
+    CountMinSketch(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("Похибка і ймовірність мають бути в межах (0, 1)");
+        }
+        int minWidth = (int) Math.ceil(Math.E / epsilon);
+        this.width = minWidth <= 1 ? 1 : Integer.highestOneBit(minWidth - 1) << 1;
+        this.depth = Math.max(1, (int) Math.ceil(Math.log(1 / delta)));
+        this.widthMask = width - 1;
+        this.counters = new long[width * depth];
+    }
+
+    /**
+     * Додає count до ключа і повертає нову оцінку його частоти
+     */
+    long add(long hash, long count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[indexOf(row, h1, h2)]);
+        }
+        long target = estimate + count;
+        for (int row = 0; row < depth; row++) {
+            int index = indexOf(row, h1, h2);
+            if (counters[index] < target) {
+                counters[index] = target;
+            }
+        }
+        total += count;
+        return target;
+    }
+
+    long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[indexOf(row, h1, h2)]);
+        }
+        return estimate;
+    }
+
+    private int indexOf(int row, int h1, int h2) {
+        return row * width + ((h1 + row * h2) & widthMask);
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.analytics;
+
+/**
+ * Хешування ключів для імовірнісних структур аналітики
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * 64-бітний хеш рядка (FNV-1a по символах з фінальним перемішуванням)
+     * Перемішування потрібне, бо і sketch, і HyperLogLog беруть окремі біти хешу.
+     */
+    static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Наближений підрахунок кількості різних значень (HyperLogLog)
+ * Хеш значення ділиться на номер регістра (старші precision бітів) і решту, у якій
+ * рахується позиція першої одиниці; регістр зберігає максимум цієї позиції. Пам'ять —
+ * 2^precision байтів незалежно від кількості значень, стандартна похибка 1.04 / √m.
+ * Оцінка за покращеним методом Ертла (2017) точна на всьому діапазоні без таблиць
+ * поправок. Sketch з однаковою точністю зливаються без втрат: результат такий самий,
+ * ніби всі значення додали в один, тож дні чи вузли можна об'єднувати довільно.
+ * Екземпляр не потокобезпечний.
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Точність має бути від " + MIN_PRECISION + " до " + MAX_PRECISION);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    public void add(String value) {
+        addHash(Hashing.hash64(value));
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Сторожовий біт обмежує ранг значенням 64 - precision + 1
+        long remainder = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Додає до цього sketch усі значення іншого
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Неможливо злити sketch з точністю " + other.precision
+                    + " і " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(precision, registers.clone());
+    }
+
+    /**
+     * Оцінка кількості різних доданих значень
+     */
+    public long estimate() {
+        int m = registers.length;
+        int q = 64 - precision;
+        int[] histogram = new int[q + 2];
+        for (byte register : registers) {
+            histogram[register]++;
+        }
+        if (histogram[0] == m) {
+            return 0;
+        }
+
+        double z = m * tau(1.0 - (double) histogram[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + histogram[k]);
+        }
+        z += m * sigma((double) histogram[0] / m);
+        return Math.round(m / (2 * Math.log(2)) * m / z);
+    }
+
+    private static double sigma(double x) {
+        if (x == 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) {
+            return 0.0;
+        }
+        double y = 1.0;
+        double z = 1 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != previous);
+        return z / 3;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Стандартна відносна похибка оцінки
+     */
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * Двійкове представлення для передачі між вузлами: [версія][точність][регістри]
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[2 + registers.length];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, 2, registers.length);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Невідомий формат HyperLogLog");
+        }
+        int precision = bytes[1];
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION || bytes.length != 2 + (1 << precision)) {
+            throw new IllegalArgumentException("Пошкоджений HyperLogLog: точність " + precision
+                    + ", " + bytes.length + " байт");
+        }
+        byte[] registers = Arrays.copyOfRange(bytes, 2, bytes.length);
+        int maxRank = 64 - precision + 1;
+        for (byte register : registers) {
+            if (register < 0 || register > maxRank) {
+                throw new IllegalArgumentException("Пошкоджений HyperLogLog: регістр " + register);
+            }
+        }
+        return new HyperLogLog(precision, registers);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.journal.OrderEventListener;
+import com.ecommerce.metrics.Gauge;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.metrics.SlidingWindow;
+import com.ecommerce.model.OrderInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Показники замовлень у реальному часі за останні 1, 5 і 60 хвилин
+ * Кожне вікно — SlidingWindow з 60 кошиків, тож оновлення і читання мають сталу
+ * вартість, а записи з різних потоків не блокують ні одне одного, ні читачів.
+ * Виручка зберігається в копійках, щоб підсумовуватися атомарними long.
+ * Події надходять з журналу замовлень: OrderJournal.open(directory, config, metrics).
+ */
+public class OrderWindowMetrics implements OrderEventListener {
+
+    private static final int BUCKETS = 60;
+    private static final int ORDERS = 0;
+    private static final int REVENUE_CENTS = 1;
+    private static final int CANCELLATIONS = 2;
+
+    private final Map<Window, SlidingWindow> windows = new EnumMap<>(Window.class);
+    private final Map<String, Gauge> gauges = new LinkedHashMap<>();
+
+    public OrderWindowMetrics() {
+        this(Clock.systemUTC());
+    }
+
+    public OrderWindowMetrics(Clock clock) {
+        Objects.requireNonNull(clock, "Clock не може бути null");
+        for (Window window : Window.values()) {
+            windows.put(window, new SlidingWindow(window.getSpan(), BUCKETS, 3, clock));
+        }
+    }
+
+    @Override
+    public void onOrderCreated(OrderInfo order) {
+        long cents = Math.round(order.getTotalAmount() * 100);
+        for (SlidingWindow window : windows.values()) {
+            window.increment(ORDERS);
+            window.add(REVENUE_CENTS, cents);
+        }
+    }
+
+    @Override
+    public void onStatusChanged(OrderInfo order, OrderStatus previous) {
+        onStatusChanged(previous, order.status());
+    }
+
+    /**
+     * Фіксує зміну статусу; враховуються лише переходи в CANCELLED
+     */
+    public void onStatusChanged(OrderStatus previous, OrderStatus current) {
+        if (current == OrderStatus.CANCELLED && previous != OrderStatus.CANCELLED) {
+            for (SlidingWindow window : windows.values()) {
+                window.increment(CANCELLATIONS);
+            }
+        }
+    }
+
+    public Snapshot snapshot(Window window) {
+        long[] sums = windows.get(window).sums();
+        return new Snapshot(window, sums[ORDERS], sums[REVENUE_CENTS] / 100.0, sums[CANCELLATIONS]);
+    }
+
+    /**
+     * Реєструє показники всіх вікон як gauges (orders.window.1m.rate тощо)
+     * Gauges попереднього екземпляра з тими ж назвами замінюються, щоб реєстр його не тримав.
+     */
+    public synchronized void registerGauges(MetricsRegistry registry) {
+        for (Window window : Window.values()) {
+            String prefix = "orders.window." + window.getLabel();
+            register(registry, prefix + ".rate", () -> snapshot(window).getOrdersPerMinute());
+            register(registry, prefix + ".revenue", () -> snapshot(window).getRevenuePerMinute());
+            register(registry, prefix + ".cancellationRatio", () -> snapshot(window).getCancellationRatio());
+        }
+    }
+
+    /**
+     * Прибирає з реєстру gauges цього екземпляра, якщо їх не замінив новіший
+     */
+    public synchronized void unregisterGauges(MetricsRegistry registry) {
+        gauges.forEach(registry::remove);
+        gauges.clear();
+    }
+
+    private void register(MetricsRegistry registry, String name, DoubleSupplier supplier) {
+        registry.remove(name);
+        gauges.put(name, registry.gauge(name, supplier));
+    }
+
+    public enum Window {
+        LAST_MINUTE("1m", Duration.ofMinutes(1)),
+        LAST_5_MINUTES("5m", Duration.ofMinutes(5)),
+        LAST_HOUR("60m", Duration.ofMinutes(60));
+
+        private final String label;
+        private final Duration span;
+
+        Window(String label, Duration span) {
+            this.label = label;
+            this.span = span;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public Duration getSpan() {
+            return span;
+        }
+    }
+
+    /**
+     * Суми за вікно; скасування рахуються за часом переходу в CANCELLED
+     */
+    public record Snapshot(Window window, long orders, double revenue, long cancellations) {
+
+        public double getOrdersPerMinute() {
+            return orders / (double) window.getSpan().toMinutes();
+        }
+
+        public double getRevenuePerMinute() {
+            return revenue / window.getSpan().toMinutes();
+        }
+
+        /**
+         * Частка скасувань відносно створених за те саме вікно замовлень
+         */
+        public double getCancellationRatio() {
+            return orders == 0 ? 0.0 : (double) cancellations / orders;
+        }
+
+        public String getReport() {
+            return String.format("За %s: %d замовлень (%.1f/хв), виручка %.2f грн/хв, скасовано %.1f%%",
+                    window.getLabel(), orders, getOrdersPerMinute(), getRevenuePerMinute(),
+                    getCancellationRatio() * 100);
+        }
+    }
+}
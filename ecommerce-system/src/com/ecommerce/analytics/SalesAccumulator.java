@@ -0,0 +1,149 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.util.List;
+
+/**
+ * Проміжні суми продажів одного потоку
+ * Групи за enum зберігаються в масивах примітивів за ordinal, групи за днями — у масивах
+ * за зміщенням від першого дня, що розширюються в обидва боки. Потік працює лише зі своїм
+ * екземпляром, тож синхронізація не потрібна; результати потоків зливаються через merge().
+ */
+final class SalesAccumulator {
+
+    private static final int CATEGORIES = ProductCategory.values().length;
+    private static final int PAYMENTS = PaymentMethod.values().length;
+    private static final int TIERS = CustomerTier.values().length;
+    private static final int INITIAL_DAYS = 64;
+
+    long orders;
+    long cancelled;
+    double revenue;
+    double tax;
+
+    final long[] categoryUnits = new long[CATEGORIES];
+    final double[] categoryRevenue = new double[CATEGORIES];
+    final double[] categoryTax = new double[CATEGORIES];
+
+    final long[] paymentOrders = new long[PAYMENTS];
+    final double[] paymentRevenue = new double[PAYMENTS];
+    final double[] paymentTax = new double[PAYMENTS];
+
+    final long[] tierOrders = new long[TIERS];
+    final double[] tierRevenue = new double[TIERS];
+    final double[] tierTax = new double[TIERS];
+
+    long firstDay;
+    long[] dayOrders = new long[0];
+    double[] dayRevenue = new double[0];
+    double[] dayTax = new double[0];
+
+    void add(OrderInfo order) {
+        if (order.status() == OrderStatus.CANCELLED) {
+            cancelled++;
+            return;
+        }
+
+        // Знижка клієнта розподіляється між товарами пропорційно ціні
+        double keep = 1.0 - order.customer().getDiscount();
+        double orderRevenue = 0;
+        double orderTax = 0;
+        List<ProductInfo> products = order.products();
+        for (int i = 0, size = products.size(); i < size; i++) {
+            ProductInfo product = products.get(i);
+            ProductCategory category = product.category();
+            int c = category.ordinal();
+            double net = product.price() * keep;
+            double productTax = category.calculateTax(product.price());
+            categoryUnits[c]++;
+            categoryRevenue[c] += net;
+            categoryTax[c] += productTax;
+            orderRevenue += net;
+            orderTax += productTax;
+        }
+
+        orders++;
+        revenue += orderRevenue;
+        tax += orderTax;
+
+        int p = order.paymentMethod().ordinal();
+        paymentOrders[p]++;
+        paymentRevenue[p] += orderRevenue;
+        paymentTax[p] += orderTax;
+
+        int t = order.customer().tier().ordinal();
+        tierOrders[t]++;
+        tierRevenue[t] += orderRevenue;
+        tierTax[t] += orderTax;
+
+        int d = dayIndex(order.orderDate().toEpochDay());
+        dayOrders[d]++;
+        dayRevenue[d] += orderRevenue;
+        dayTax[d] += orderTax;
+    }
+
+    void merge(SalesAccumulator other) {
+        orders += other.orders;
+        cancelled += other.cancelled;
+        revenue += other.revenue;
+        tax += other.tax;
+        for (int i = 0; i < CATEGORIES; i++) {
+            categoryUnits[i] += other.categoryUnits[i];
+            categoryRevenue[i] += other.categoryRevenue[i];
+            categoryTax[i] += other.categoryTax[i];
+        }
+        for (int i = 0; i < PAYMENTS; i++) {
+            paymentOrders[i] += other.paymentOrders[i];
+            paymentRevenue[i] += other.paymentRevenue[i];
+            paymentTax[i] += other.paymentTax[i];
+        }
+        for (int i = 0; i < TIERS; i++) {
+            tierOrders[i] += other.tierOrders[i];
+            tierRevenue[i] += other.tierRevenue[i];
+            tierTax[i] += other.tierTax[i];
+        }
+        for (int i = 0; i < other.dayOrders.length; i++) {
+            if (other.dayOrders[i] != 0) {
+                int d = dayIndex(other.firstDay + i);
+                dayOrders[d] += other.dayOrders[i];
+                dayRevenue[d] += other.dayRevenue[i];
+                dayTax[d] += other.dayTax[i];
+            }
+        }
+    }
+
+    private int dayIndex(long epochDay) {
+        if (dayOrders.length == 0) {
+            firstDay = epochDay - INITIAL_DAYS / 2;
+            resizeDays(0, INITIAL_DAYS);
+        }
+        long offset = epochDay - firstDay;
+        if (offset < 0) {
+            // Зсув уперед із запасом, щоб дати, які йдуть у зворотному порядку, не копіювали масив щоразу
+            int shift = (int) Math.max(-offset, dayOrders.length);
+            resizeDays(shift, dayOrders.length + shift);
+            firstDay -= shift;
+            offset += shift;
+        } else if (offset >= dayOrders.length) {
+            resizeDays(0, (int) Math.max(offset + 1, 2L * dayOrders.length));
+        }
+        return (int) offset;
+    }
+
+    private void resizeDays(int shift, int length) {
+        long[] grownOrders = new long[length];
+        double[] grownRevenue = new double[length];
+        double[] grownTax = new double[length];
+        System.arraycopy(dayOrders, 0, grownOrders, shift, dayOrders.length);
+        System.arraycopy(dayRevenue, 0, grownRevenue, shift, dayRevenue.length);
+        System.arraycopy(dayTax, 0, grownTax, shift, dayTax.length);
+        dayOrders = grownOrders;
+        dayRevenue = grownRevenue;
+        dayTax = grownTax;
+    }
+}
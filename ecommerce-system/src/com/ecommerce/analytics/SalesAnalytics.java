@@ -0,0 +1,108 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.util.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Пакетна аналітика продажів за один паралельний прохід по замовленнях
+ * Список ділиться на блоки, які потоки забирають по черзі зі спільного лічильника;
+ * кожен потік накопичує всі групування одразу у власних масивах примітивів
+ * (SalesAccumulator), а в кінці результати потоків зливаються в один звіт.
+ * На відміну від вкладених groupingBy, тут немає упакованих Double і проміжних мап.
+ */
+public class SalesAnalytics {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final LatencyHistogram analyzeLatency = MetricsRegistry.getInstance().histogram("analytics.sales.latency");
+    private static final int CHUNK_SIZE = 16_384;
+
+    private final int threads;
+
+    public SalesAnalytics() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SalesAnalytics(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Кількість потоків має бути додатною");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Рахує підсумки продажів; список не повинен змінюватися під час аналізу
+     */
+    public SalesReport analyze(List<OrderInfo> orders) throws InterruptedException {
+        long start = System.nanoTime();
+        int chunks = (orders.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int workers = Math.min(threads, chunks);
+
+        SalesAccumulator total;
+        if (workers <= 1) {
+            total = new SalesAccumulator();
+            accumulate(orders, 0, orders.size(), total);
+        } else {
+            total = analyzeParallel(orders, chunks, workers);
+        }
+
+        analyzeLatency.recordSince(start);
+        SalesReport report = new SalesReport(total, (System.nanoTime() - start) / 1_000_000);
+        logger.info(String.format("Аналітика продажів: %d замовлень, %d потоків, %d мс",
+                orders.size(), Math.max(1, workers), report.getElapsedMillis()));
+        return report;
+    }
+
+    private static SalesAccumulator analyzeParallel(List<OrderInfo> orders, int chunks, int workers)
+            throws InterruptedException {
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "sales-analytics-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<SalesAccumulator>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    SalesAccumulator sums = new SalesAccumulator();
+                    for (int chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                        int from = chunk * CHUNK_SIZE;
+                        accumulate(orders, from, Math.min(orders.size(), from + CHUNK_SIZE), sums);
+                    }
+                    return sums;
+                }));
+            }
+
+            SalesAccumulator total = new SalesAccumulator();
+            for (Future<SalesAccumulator> future : futures) {
+                try {
+                    total.merge(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException("Помилка аналітики продажів", e.getCause());
+                }
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void accumulate(List<OrderInfo> orders, int from, int to, SalesAccumulator sums) {
+        for (int i = from; i < to; i++) {
+            sums.add(orders.get(i));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ecommerce.analytics;
+
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Підсумки продажів за категоріями, способами оплати, рівнями клієнтів і днями
+ * Виручка — ціни товарів мінус знижка клієнта, без податку і комісії платіжної системи.
+ * Скасовані замовлення не входять у суми і рахуються окремо.
+ */
+public final class SalesReport {
+
+    private final long orders;
+    private final long cancelled;
+    private final double revenue;
+    private final double tax;
+    private final Map<ProductCategory, Totals> byCategory;
+    private final Map<PaymentMethod, Totals> byPaymentMethod;
+    private final Map<CustomerTier, Totals> byTier;
+    private final SortedMap<LocalDate, Totals> byDay;
+    private final long elapsedMillis;
+
+    SalesReport(SalesAccumulator sums, long elapsedMillis) {
+        this.orders = sums.orders;
+        this.cancelled = sums.cancelled;
+        this.revenue = sums.revenue;
+        this.tax = sums.tax;
+        this.elapsedMillis = elapsedMillis;
+
+        Map<ProductCategory, Totals> categories = new EnumMap<>(ProductCategory.class);
+        for (ProductCategory category : ProductCategory.values()) {
+            int i = category.ordinal();
+            if (sums.categoryUnits[i] > 0) {
+                categories.put(category, new Totals(sums.categoryUnits[i], sums.categoryRevenue[i], sums.categoryTax[i]));
+            }
+        }
+        Map<PaymentMethod, Totals> payments = new EnumMap<>(PaymentMethod.class);
+        for (PaymentMethod method : PaymentMethod.values()) {
+            int i = method.ordinal();
+            if (sums.paymentOrders[i] > 0) {
+                payments.put(method, new Totals(sums.paymentOrders[i], sums.paymentRevenue[i], sums.paymentTax[i]));
+            }
+        }
+        Map<CustomerTier, Totals> tiers = new EnumMap<>(CustomerTier.class);
+        for (CustomerTier tier : CustomerTier.values()) {
+            int i = tier.ordinal();
+            if (sums.tierOrders[i] > 0) {
+                tiers.put(tier, new Totals(sums.tierOrders[i], sums.tierRevenue[i], sums.tierTax[i]));
+            }
+        }
+        SortedMap<LocalDate, Totals> days = new TreeMap<>();
+        for (int i = 0; i < sums.dayOrders.length; i++) {
+            if (sums.dayOrders[i] > 0) {
+                days.put(LocalDate.ofEpochDay(sums.firstDay + i),
+                        new Totals(sums.dayOrders[i], sums.dayRevenue[i], sums.dayTax[i]));
+            }
+        }
+
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.byPaymentMethod = Collections.unmodifiableMap(payments);
+        this.byTier = Collections.unmodifiableMap(tiers);
+        this.byDay = Collections.unmodifiableSortedMap(days);
+    }
+
+    /**
+     * Кількість врахованих (нескасованих) замовлень
+     */
+    public long getOrderCount() {
+        return orders;
+    }
+
+    public long getCancelledCount() {
+        return cancelled;
+    }
+
+    public double getRevenue() {
+        return revenue;
+    }
+
+    public double getTax() {
+        return tax;
+    }
+
+    /**
+     * Суми за категоріями; count — кількість проданих одиниць товару
+     */
+    public Map<ProductCategory, Totals> getByCategory() {
+        return byCategory;
+    }
+
+    /**
+     * Суми за способами оплати; count — кількість замовлень
+     */
+    public Map<PaymentMethod, Totals> getByPaymentMethod() {
+        return byPaymentMethod;
+    }
+
+    /**
+     * Суми за рівнями клієнтів; count — кількість замовлень
+     */
+    public Map<CustomerTier, Totals> getByTier() {
+        return byTier;
+    }
+
+    /**
+     * Суми за днями замовлення у хронологічному порядку; count — кількість замовлень
+     */
+    public SortedMap<LocalDate, Totals> getByDay() {
+        return byDay;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "Продажі: %d замовлень (скасовано %d), виручка %.2f грн, податок %.2f грн, днів: %d, %d мс",
+                orders, cancelled, revenue, tax, byDay.size(), elapsedMillis));
+        for (Map.Entry<ProductCategory, Totals> entry : byCategory.entrySet()) {
+            summary.append(String.format("%n  %-12s %10d од. %16.2f грн", entry.getKey().getUkrainianName(),
+                    entry.getValue().count(), entry.getValue().revenue()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Суми однієї групи
+     */
+    public record Totals(long count, double revenue, double tax) {
+    }
+}
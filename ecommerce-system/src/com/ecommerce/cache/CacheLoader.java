@@ -0,0 +1,13 @@
+package com.ecommerce.cache;
+
+import java.io.IOException;
+
+/**
+ * Завантаження значення, якого немає в кеші
+ * Може викликатися з кількох потоків одночасно; null — значення не існує і не кешується.
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+    V load(K key) throws IOException;
+}
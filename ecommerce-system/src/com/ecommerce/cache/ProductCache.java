@@ -0,0 +1,47 @@
+package com.ecommerce.cache;
+
+import com.ecommerce.model.ProductInfo;
+
+/**
+ * Кеш товарів за назвою з межею в байтах
+ */
+public final class ProductCache {
+
+    public static final String METRICS_NAME = "products.cache";
+
+    private static final int RECORD_BYTES = 40;
+    private static final int STRING_BYTES = 24 + 16;
+    private static final int DATE_BYTES = 24;
+    // Вузол кешу і запис HashMap; ключ — той самий рядок, що й назва товару
+    private static final int ENTRY_OVERHEAD = 88;
+
+    private ProductCache() {
+    }
+
+    public static TinyLfuCache<String, ProductInfo> create(long maximumBytes, CacheLoader<String, ProductInfo> loader) {
+        return new TinyLfuCache<>(METRICS_NAME, maximumBytes, ProductCache::footprint, loader);
+    }
+
+    /**
+     * Оцінка пам'яті, яку займає товар у кеші (64-бітна JVM зі стисненими вказівниками)
+     * Категорія — спільний екземпляр enum і не враховується.
+     */
+    public static long footprint(ProductInfo product) {
+        String name = product.name();
+        long nameBytes = STRING_BYTES + align(isLatin1(name) ? name.length() : 2L * name.length());
+        return ENTRY_OVERHEAD + RECORD_BYTES + nameBytes + (product.createdDate() == null ? 0 : DATE_BYTES);
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,423 @@
+package com.ecommerce.cache;
+
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.Gauge;
+import com.ecommerce.metrics.MetricsRegistry;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Кеш з наскрізним читанням, обмежений сумарною вагою записів у байтах (W-TinyLFU)
+ * Нові записи потрапляють у невелике вікно LRU (1% місткості); запис, що випадає з вікна,
+ * допускається в основну частину, лише якщо за оцінкою частоти його запитують частіше,
+ * ніж кандидата на витіснення звідти. Основна частина — сегментований LRU: повторно
+ * запитаний запис переходить з випробувальної зони в захищену (80%). Так одноразові
+ * звернення не вимивають популярні записи, а популярність оцінює компактний
+ * лічильник частоти замість історії ключів.
+ * Кеш розбитий на сегменти з окремими блокуваннями за хешем ключа, тож потоки,
+ * що звертаються до різних ключів, рідко чекають один на одного.
+ * Метрики з префіксом name належать останньому створеному кешу з цією назвою
+ * (наприклад, після перезавантаження каталогу); close() прибирає їх з реєстру.
+ */
+public class TinyLfuCache<K, V> implements Closeable {
+
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.80;
+    private static final int ASSUMED_ENTRY_BYTES = 128;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final ToLongFunction<? super V> weigher;
+    private final CacheLoader<? super K, ? extends V> loader;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final String name;
+    private final Gauge bytesGauge;
+
+    /**
+     * @param name         префікс метрик (name.hits, name.misses, name.evictions, name.bytes)
+     * @param maximumBytes межа сумарної ваги записів
+     * @param weigher      вага запису в байтах
+     * @param loader       джерело значень для відсутніх ключів
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TinyLfuCache(String name, long maximumBytes, ToLongFunction<? super V> weigher,
+                        CacheLoader<? super K, ? extends V> loader) {
+        Objects.requireNonNull(name, "Назва кешу не може бути null");
+        this.weigher = Objects.requireNonNull(weigher, "Функція ваги не може бути null");
+        this.loader = Objects.requireNonNull(loader, "Завантажувач не може бути null");
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("Розмір кешу має бути додатним");
+        }
+
+        // Сегмент має вміщати хоча б кілька десятків типових записів
+        int wanted = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        int count = 1;
+        while (count < wanted && maximumBytes / (count * 2L) >= 64L * ASSUMED_ENTRY_BYTES) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maximumBytes / count);
+        }
+        this.segmentMask = count - 1;
+
+        // Метрики попереднього кешу з тією ж назвою замінюються, щоб реєстр не тримав його
+        this.name = name;
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        for (String metric : metricNames(name)) {
+            metrics.remove(metric);
+        }
+        this.hitCounter = metrics.counter(name + ".hits");
+        this.missCounter = metrics.counter(name + ".misses");
+        this.evictionCounter = metrics.counter(name + ".evictions");
+        this.bytesGauge = metrics.gauge(name + ".bytes", this::getWeightedSize);
+    }
+
+    private static String[] metricNames(String name) {
+        return new String[]{name + ".hits", name + ".misses", name + ".evictions", name + ".bytes"};
+    }
+
+    /**
+     * Значення з кешу або з завантажувача; завантажене значення кешується
+     * Завантаження йде поза блокуванням, тож одночасні промахи по одному ключу
+     * можуть викликати завантажувач кілька разів.
+     */
+    public V get(K key) throws IOException {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.load(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        Objects.requireNonNull(key, "Ключ не може бути null");
+        int hash = spread(key.hashCode());
+        V value = segmentFor(hash).get(key, hash);
+        if (value != null) {
+            hits.increment();
+            hitCounter.increment();
+        } else {
+            misses.increment();
+            missCounter.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "Ключ не може бути null");
+        Objects.requireNonNull(value, "Значення не може бути null");
+        long weight = weigher.applyAsLong(value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Вага запису не може бути від'ємною");
+        }
+        int hash = spread(key.hashCode());
+        int evicted = segmentFor(hash).put(key, hash, value, weight);
+        if (evicted > 0) {
+            evictions.add(evicted);
+            evictionCounter.add(evicted);
+        }
+    }
+
+    public void invalidate(K key) {
+        int hash = spread(key.hashCode());
+        segmentFor(hash).remove(key);
+    }
+
+    public long getWeightedSize() {
+        long total = 0;
+        for (Segment<K, V> segment : segments) {
+            total += segment.weightedSize();
+        }
+        return total;
+    }
+
+    public int getEntryCount() {
+        int total = 0;
+        for (Segment<K, V> segment : segments) {
+            total += segment.entryCount();
+        }
+        return total;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), getEntryCount(), getWeightedSize());
+    }
+
+    /**
+     * Прибирає метрики кешу з реєстру, якщо їх ще не перейняв новіший кеш з тією ж назвою
+     * Сам кеш після цього працює далі, але вже без глобальних метрик.
+     */
+    @Override
+    public void close() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.remove(name + ".hits", hitCounter);
+        metrics.remove(name + ".misses", missCounter);
+        metrics.remove(name + ".evictions", evictionCounter);
+        metrics.remove(name + ".bytes", bytesGauge);
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[(hash >>> 16) & segmentMask];
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * Лічильники кешу
+     */
+    public record Stats(long hits, long misses, long evictions, int entries, long weightedSize) {
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        public String getReport() {
+            return String.format("Кеш: записів=%d, %d КБ; влучань=%d, промахів=%d (%.1f%% влучань), витіснено=%d",
+                    entries, weightedSize / 1024, hits, misses, getHitRate() * 100, evictions);
+        }
+    }
+
+    private enum Region {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        final int hash;
+        V value;
+        long weight;
+        Region region;
+        Node<K, V> previous;
+        Node<K, V> next;
+
+        Node(K key, int hash, V value, long weight) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Двозв'язний список у порядку доступу: голова — найсвіжіший, хвіст — кандидат на витіснення
+     */
+    private static final class AccessOrder<K, V> {
+
+        private final Node<K, V> sentinel = new Node<>(null, 0, null, 0);
+        long weight;
+
+        AccessOrder() {
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+        }
+
+        void addFirst(Node<K, V> node) {
+            node.next = sentinel.next;
+            node.previous = sentinel;
+            sentinel.next.previous = node;
+            sentinel.next = node;
+            weight += node.weight;
+        }
+
+        void remove(Node<K, V> node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+
+        void moveToFirst(Node<K, V> node) {
+            remove(node);
+            addFirst(node);
+        }
+
+        Node<K, V> last() {
+            return sentinel.previous == sentinel ? null : sentinel.previous;
+        }
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, Node<K, V>> nodes = new HashMap<>();
+        private final AccessOrder<K, V> window = new AccessOrder<>();
+        private final AccessOrder<K, V> probation = new AccessOrder<>();
+        private final AccessOrder<K, V> protectedZone = new AccessOrder<>();
+        private final FrequencySketch sketch;
+        private final long maximum;
+        private final long windowMaximum;
+        private final long mainMaximum;
+        private final long protectedMaximum;
+        private volatile long weightedSize;
+        private volatile int entryCount;
+
+        Segment(long maximum) {
+            this.maximum = maximum;
+            this.windowMaximum = Math.max(1, (long) (maximum * WINDOW_SHARE));
+            this.mainMaximum = maximum - windowMaximum;
+            this.protectedMaximum = (long) (mainMaximum * PROTECTED_SHARE);
+            this.sketch = new FrequencySketch((int) Math.min(Integer.MAX_VALUE, maximum / ASSUMED_ENTRY_BYTES));
+        }
+
+        V get(K key, int hash) {
+            lock.lock();
+            try {
+                sketch.increment(hash);
+                Node<K, V> node = nodes.get(key);
+                if (node == null) {
+                    return null;
+                }
+                onAccess(node);
+                return node.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return кількість витіснених записів
+         */
+        int put(K key, int hash, V value, long weight) {
+            lock.lock();
+            try {
+                Node<K, V> existing = nodes.get(key);
+                if (existing != null) {
+                    regionOf(existing).remove(existing);
+                    existing.value = value;
+                    existing.weight = weight;
+                    regionOf(existing).addFirst(existing);
+                    return evict();
+                }
+                if (weight > maximum) {
+                    // Запис, більший за весь сегмент, не кешується
+                    return 0;
+                }
+                Node<K, V> node = new Node<>(key, hash, value, weight);
+                node.region = Region.WINDOW;
+                nodes.put(key, node);
+                window.addFirst(node);
+                return evict();
+            } finally {
+                updateSizes();
+                lock.unlock();
+            }
+        }
+
+        void remove(K key) {
+            lock.lock();
+            try {
+                Node<K, V> node = nodes.remove(key);
+                if (node != null) {
+                    regionOf(node).remove(node);
+                }
+            } finally {
+                updateSizes();
+                lock.unlock();
+            }
+        }
+
+        private void onAccess(Node<K, V> node) {
+            switch (node.region) {
+                case WINDOW -> window.moveToFirst(node);
+                case PROTECTED -> protectedZone.moveToFirst(node);
+                case PROBATION -> {
+                    // Повторний запит: запис переходить у захищену зону
+                    probation.remove(node);
+                    node.region = Region.PROTECTED;
+                    protectedZone.addFirst(node);
+                    while (protectedZone.weight > protectedMaximum) {
+                        Node<K, V> demoted = protectedZone.last();
+                        protectedZone.remove(demoted);
+                        demoted.region = Region.PROBATION;
+                        probation.addFirst(demoted);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Переносить надлишок вікна в основну частину через фільтр допуску
+         */
+        private int evict() {
+            int evicted = 0;
+            while (window.weight > windowMaximum) {
+                Node<K, V> candidate = window.last();
+                window.remove(candidate);
+                candidate.region = Region.PROBATION;
+                probation.addFirst(candidate);
+
+                while (probation.weight + protectedZone.weight > mainMaximum) {
+                    Node<K, V> victim = probation.last();
+                    if (victim == candidate) {
+                        // Кандидат — єдиний у випробувальній зоні; суперник береться із захищеної
+                        victim = protectedZone.last();
+                        if (victim == null) {
+                            break;
+                        }
+                    }
+                    boolean rejected = sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash);
+                    // Кандидат, не популярніший за жертву, витісняється сам
+                    Node<K, V> evictedNode = rejected ? candidate : victim;
+                    regionOf(evictedNode).remove(evictedNode);
+                    nodes.remove(evictedNode.key);
+                    evicted++;
+                    if (rejected) {
+                        break;
+                    }
+                }
+            }
+            // Оновлення ваги існуючого запису могло переповнити основну частину
+            while (probation.weight + protectedZone.weight > mainMaximum) {
+                Node<K, V> victim = probation.last() != null ? probation.last() : protectedZone.last();
+                regionOf(victim).remove(victim);
+                nodes.remove(victim.key);
+                evicted++;
+            }
+            return evicted;
+        }
+
+        private AccessOrder<K, V> regionOf(Node<K, V> node) {
+            return switch (node.region) {
+                case WINDOW -> window;
+                case PROBATION -> probation;
+                case PROTECTED -> protectedZone;
+            };
+        }
+
+        private void updateSizes() {
+            weightedSize = window.weight + probation.weight + protectedZone.weight;
+            entryCount = nodes.size();
+        }
+
+        long weightedSize() {
+            return weightedSize;
+        }
+
+        int entryCount() {
+            return entryCount;
+        }
+    }
+}
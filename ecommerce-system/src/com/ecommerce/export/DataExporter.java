@@ -0,0 +1,117 @@
+package com.ecommerce.export;
+
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.util.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Потоковий експорт товарів, клієнтів і замовлень у CSV або JSON Lines
+ * Рядки беруться з Iterable по одному і кодуються одразу в байтовий буфер,
+ * який скидається у FileChannel блоками; числа і дати форматуються вручну,
+ * без String.format і проміжних рядків. Колонки CSV збігаються з форматом
+ * файлів, які читають сервіси та генерує DatasetGenerator, тож експорт
+ * можна завантажити назад: значення з комами і лапками береться в лапки за RFC 4180,
+ * і FileReader.splitLine читає їх так само. Винятком є перенос рядка всередині
+ * значення — завантажувачі читають файл по рядках.
+ * Буфер перевикористовується між експортами, тому екземпляр не потокобезпечний.
+ */
+public class DataExporter {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private static final String[] PRODUCT_COLUMNS = {"name", "price", "stock", "category", "createdDate"};
+    private static final String[] CUSTOMER_COLUMNS = {"firstName", "lastName", "email", "phone", "registrationDate", "tier"};
+    private static final String[] ORDER_COLUMNS = {"orderId", "customerEmail", "products", "orderDate", "status", "paymentMethod"};
+
+    private final byte[] buffer;
+
+    public DataExporter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize розмір буфера запису в байтах
+     */
+    public DataExporter(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Буфер не може бути меншим за " + MIN_BUFFER_SIZE + " байт");
+        }
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * @return кількість записаних рядків (без заголовка)
+     */
+    public long exportProducts(Path file, Iterable<ProductInfo> products, ExportFormat format) throws IOException {
+        return export(file, "products", PRODUCT_COLUMNS, products, format, (encoder, product) -> {
+            encoder.string("name", product.name());
+            encoder.decimal("price", product.price());
+            encoder.number("stock", product.stock());
+            encoder.constant("category", product.category());
+            encoder.date("createdDate", product.createdDate());
+        });
+    }
+
+    public long exportCustomers(Path file, Iterable<CustomerInfo> customers, ExportFormat format) throws IOException {
+        return export(file, "customers", CUSTOMER_COLUMNS, customers, format, (encoder, customer) -> {
+            encoder.string("firstName", customer.firstName());
+            encoder.string("lastName", customer.lastName());
+            encoder.string("email", customer.email());
+            encoder.string("phone", customer.phone());
+            encoder.date("registrationDate", customer.registrationDate());
+            encoder.constant("tier", customer.tier());
+        });
+    }
+
+    /**
+     * Товари замовлення записуються назвами: у CSV через ';', у JSON — масивом
+     */
+    public long exportOrders(Path file, Iterable<OrderInfo> orders, ExportFormat format) throws IOException {
+        return export(file, "orders", ORDER_COLUMNS, orders, format, (encoder, order) -> {
+            encoder.string("orderId", order.orderId());
+            encoder.string("customerEmail", order.customer().email());
+            encoder.list("products", order.products(), ProductInfo::name);
+            encoder.date("orderDate", order.orderDate());
+            encoder.constant("status", order.status());
+            encoder.constant("paymentMethod", order.paymentMethod());
+        });
+    }
+
+    private <T> long export(Path file, String entity, String[] columns, Iterable<T> rows, ExportFormat format,
+                            RowWriter<T> writer) throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+        long bytes;
+        try (ExportBuffer out = new ExportBuffer(file, buffer)) {
+            RecordEncoder encoder = RecordEncoder.create(format, out);
+            encoder.header(columns);
+            for (T row : rows) {
+                encoder.begin();
+                writer.write(encoder, row);
+                encoder.end();
+                count++;
+            }
+            out.flush();
+            bytes = out.bytesWritten();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        metrics.counter("export." + entity + ".rows").add(count);
+        metrics.counter("export.bytes").add(bytes);
+        logger.info("Експортовано " + count + " рядків (" + entity + ", " + format + ") у " + file
+                + ": " + bytes / 1024 + " КБ за " + elapsedMillis + " мс");
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(RecordEncoder encoder, T row) throws IOException;
+    }
+}
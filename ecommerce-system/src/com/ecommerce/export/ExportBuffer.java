@@ -0,0 +1,181 @@
+package com.ecommerce.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Буфер запису у FileChannel з власним кодуванням UTF-8, цілих і дат
+ * Байти накопичуються в одному масиві і скидаються у канал, коли він заповнений,
+ * тож на рядок не створюється жодного проміжного String чи byte[].
+ */
+final class ExportBuffer implements Closeable {
+
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final FileChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer view;
+    private int size;
+    private long flushed;
+
+    ExportBuffer(Path file, byte[] bytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.bytes = bytes;
+        this.view = ByteBuffer.wrap(bytes);
+    }
+
+    ExportBuffer ascii(char c) throws IOException {
+        if (size == bytes.length) {
+            flush();
+        }
+        bytes[size++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Лише для відомих ASCII-констант: назв полів, enum, роздільників
+     */
+    ExportBuffer ascii(String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            ascii(s.charAt(i));
+        }
+        return this;
+    }
+
+    ExportBuffer utf8(CharSequence s) throws IOException {
+        return utf8(s, 0, s.length());
+    }
+
+    /**
+     * Кодує символи s[start, end) у UTF-8; неспарений сурогат замінюється на '?', як у String.getBytes
+     */
+    ExportBuffer utf8(CharSequence s, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            if (bytes.length - size < MAX_CHAR_BYTES) {
+                flush();
+            }
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[size++] = (byte) (0xC0 | c >> 6);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                bytes[size++] = '?';
+            } else {
+                bytes[size++] = (byte) (0xE0 | c >> 12);
+                bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return this;
+    }
+
+    ExportBuffer number(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            return ascii(Long.toString(value));
+        }
+        if (bytes.length - size < MAX_LONG_DIGITS) {
+            flush();
+        }
+        if (value < 0) {
+            bytes[size++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        // Цифри пишуться з кінця одразу на своє місце
+        for (int i = size + digits - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+        return this;
+    }
+
+    /**
+     * Грошова сума: точна в копійках — до двох знаків без зайвих нулів (45000, 850.5, 19.99),
+     * решта — як Double.toString
+     */
+    ExportBuffer decimal(double value) throws IOException {
+        long cents = Math.round(value * 100);
+        if (Math.abs(value) >= 1e13 || cents / 100.0 != value) {
+            return ascii(Double.toString(value));
+        }
+        if (cents < 0) {
+            ascii('-');
+            cents = -cents;
+        }
+        number(cents / 100);
+        int fraction = (int) (cents % 100);
+        if (fraction != 0) {
+            ascii('.').ascii((char) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                ascii((char) ('0' + fraction % 10));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Дата ISO-8601 (yyyy-MM-dd), як LocalDate.toString
+     */
+    ExportBuffer date(LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return ascii(date.toString());
+        }
+        if (bytes.length - size < 10) {
+            flush();
+        }
+        bytes[size++] = (byte) ('0' + year / 1000);
+        bytes[size++] = (byte) ('0' + year / 100 % 10);
+        bytes[size++] = (byte) ('0' + year / 10 % 10);
+        bytes[size++] = (byte) ('0' + year % 10);
+        bytes[size++] = '-';
+        twoDigits(date.getMonthValue());
+        bytes[size++] = '-';
+        twoDigits(date.getDayOfMonth());
+        return this;
+    }
+
+    private void twoDigits(int value) {
+        bytes[size++] = (byte) ('0' + value / 10);
+        bytes[size++] = (byte) ('0' + value % 10);
+    }
+
+    long bytesWritten() {
+        return flushed + size;
+    }
+
+    void flush() throws IOException {
+        view.clear().limit(size);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        flushed += size;
+        size = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            flush();
+        }
+    }
+}
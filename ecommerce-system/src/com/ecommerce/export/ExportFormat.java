@@ -0,0 +1,11 @@
+package com.ecommerce.export;
+
+/**
+ * Формат файлу експорту
+ */
+public enum ExportFormat {
+    /** CSV із заголовком і екрануванням за RFC 4180 */
+    CSV,
+    /** Один JSON-об'єкт на рядок (JSON Lines) */
+    JSON_LINES
+}
@@ -0,0 +1,286 @@
+package com.ecommerce.export;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Запис полів одного рядка у конкретному форматі
+ * Експортер описує рядок послідовністю викликів field-методів між begin() і end(),
+ * а кодувальник вирішує, як їх розділяти та екранувати.
+ */
+abstract class RecordEncoder {
+
+    protected final ExportBuffer out;
+
+    RecordEncoder(ExportBuffer out) {
+        this.out = out;
+    }
+
+    static RecordEncoder create(ExportFormat format, ExportBuffer out) {
+        return switch (format) {
+            case CSV -> new Csv(out);
+            case JSON_LINES -> new JsonLines(out);
+        };
+    }
+
+    abstract void header(String[] columns) throws IOException;
+
+    abstract void begin() throws IOException;
+
+    abstract void end() throws IOException;
+
+    /**
+     * Рядкове значення; null — порожнє поле у CSV і null у JSON
+     */
+    abstract void string(String field, String value) throws IOException;
+
+    abstract void number(String field, long value) throws IOException;
+
+    abstract void decimal(String field, double value) throws IOException;
+
+    abstract void date(String field, LocalDate value) throws IOException;
+
+    /**
+     * Список значень: у CSV — одне поле через ';' (як у згенерованому orders.csv), у JSON — масив
+     */
+    abstract <T> void list(String field, List<T> items, Function<T, String> value) throws IOException;
+
+    void constant(String field, Enum<?> value) throws IOException {
+        string(field, value == null ? null : value.name());
+    }
+
+    /**
+     * CSV за RFC 4180: поле з комою, лапками або переносом рядка береться в лапки,
+     * лапки всередині подвоюються
+     */
+    static final class Csv extends RecordEncoder {
+
+        private static final char LIST_SEPARATOR = ';';
+
+        private boolean first;
+
+        Csv(ExportBuffer out) {
+            super(out);
+        }
+
+        @Override
+        void header(String[] columns) throws IOException {
+            begin();
+            for (String column : columns) {
+                string(column, column);
+            }
+            end();
+        }
+
+        @Override
+        void begin() {
+            first = true;
+        }
+
+        @Override
+        void end() throws IOException {
+            out.ascii('\n');
+        }
+
+        private void separator() throws IOException {
+            if (!first) {
+                out.ascii(',');
+            }
+            first = false;
+        }
+
+        @Override
+        void string(String field, String value) throws IOException {
+            separator();
+            if (value != null) {
+                escaped(value);
+            }
+        }
+
+        private void escaped(String value) throws IOException {
+            if (!needsQuotes(value)) {
+                out.utf8(value);
+                return;
+            }
+            out.ascii('"');
+            doubledQuotes(value);
+            out.ascii('"');
+        }
+
+        private void doubledQuotes(String value) throws IOException {
+            int from = 0;
+            for (int quote = value.indexOf('"'); quote >= 0; quote = value.indexOf('"', from)) {
+                out.utf8(value, from, quote).ascii("\"\"");
+                from = quote + 1;
+            }
+            out.utf8(value, from, value.length());
+        }
+
+        private static boolean needsQuotes(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void number(String field, long value) throws IOException {
+            separator();
+            out.number(value);
+        }
+
+        @Override
+        void decimal(String field, double value) throws IOException {
+            separator();
+            out.decimal(value);
+        }
+
+        @Override
+        void date(String field, LocalDate value) throws IOException {
+            separator();
+            if (value != null) {
+                out.date(value);
+            }
+        }
+
+        @Override
+        <T> void list(String field, List<T> items, Function<T, String> value) throws IOException {
+            separator();
+            boolean quoted = false;
+            for (int i = 0; i < items.size() && !quoted; i++) {
+                quoted = needsQuotes(value.apply(items.get(i)));
+            }
+            if (quoted) {
+                out.ascii('"');
+            }
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) {
+                    out.ascii(LIST_SEPARATOR);
+                }
+                String item = value.apply(items.get(i));
+                if (quoted) {
+                    doubledQuotes(item);
+                } else {
+                    out.utf8(item);
+                }
+            }
+            if (quoted) {
+                out.ascii('"');
+            }
+        }
+    }
+
+    /**
+     * JSON Lines: об'єкт з полями в порядку колонок, по одному на рядок
+     */
+    static final class JsonLines extends RecordEncoder {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private boolean first;
+
+        JsonLines(ExportBuffer out) {
+            super(out);
+        }
+
+        @Override
+        void header(String[] columns) {
+            // Назви полів є в кожному об'єкті
+        }
+
+        @Override
+        void begin() throws IOException {
+            out.ascii('{');
+            first = true;
+        }
+
+        @Override
+        void end() throws IOException {
+            out.ascii("}\n");
+        }
+
+        private void name(String field) throws IOException {
+            if (!first) {
+                out.ascii(',');
+            }
+            first = false;
+            out.ascii('"').ascii(field).ascii("\":");
+        }
+
+        @Override
+        void string(String field, String value) throws IOException {
+            name(field);
+            quoted(value);
+        }
+
+        private void quoted(String value) throws IOException {
+            if (value == null) {
+                out.ascii("null");
+                return;
+            }
+            out.ascii('"');
+            int from = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                out.utf8(value, from, i).ascii('\\');
+                switch (c) {
+                    case '"', '\\' -> out.ascii(c);
+                    case '\n' -> out.ascii('n');
+                    case '\r' -> out.ascii('r');
+                    case '\t' -> out.ascii('t');
+                    default -> out.ascii("u00").ascii(HEX[c >> 4]).ascii(HEX[c & 0xF]);
+                }
+                from = i + 1;
+            }
+            out.utf8(value, from, value.length()).ascii('"');
+        }
+
+        @Override
+        void number(String field, long value) throws IOException {
+            name(field);
+            out.number(value);
+        }
+
+        @Override
+        void decimal(String field, double value) throws IOException {
+            name(field);
+            // NaN і нескінченність не є числами JSON
+            if (Double.isFinite(value)) {
+                out.decimal(value);
+            } else {
+                out.ascii("null");
+            }
+        }
+
+        @Override
+        void date(String field, LocalDate value) throws IOException {
+            name(field);
+            if (value == null) {
+                out.ascii("null");
+            } else {
+                out.ascii('"').date(value).ascii('"');
+            }
+        }
+
+        @Override
+        <T> void list(String field, List<T> items, Function<T, String> value) throws IOException {
+            name(field);
+            out.ascii('[');
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) {
+                    out.ascii(',');
+                }
+                quoted(value.apply(items.get(i)));
+            }
+            out.ascii(']');
+        }
+    }
+}
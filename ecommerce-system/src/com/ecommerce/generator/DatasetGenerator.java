@@ -0,0 +1,467 @@
+package com.ecommerce.generator;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.exceptions.InvalidDataException.ErrorCode;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.util.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Генератор синтетичних CSV наборів даних (товари, клієнти, замовлення, відгуки)
+ * Результат повністю визначається seed: кожен блок рядків має власний генератор
+ * із seed, похідним від номера блоку, тому вміст не залежить від кількості потоків.
+ * Товари і клієнти адресуються за номером, тому замовлення та відгуки
+ * посилаються на існуючі назви та email без зберігання їх у пам'яті.
+ * Невалідні рядки (частка --invalid) відповідають кодам InvalidDataException.ErrorCode,
+ * які повертають завантажувачі: товари і клієнти — порожні, некоректні, від'ємні значення,
+ * невідомі enum, нестача полів; відгуки — оцінка поза діапазоном. Кожен такий рядок
+ * завантажувач відхиляє, тож кількість невалідних рядків у звіті generate()
+ * дорівнює кількості відхилених рядків.
+ *
+ * Запуск: java com.ecommerce.generator.DatasetGenerator --out data/generated
+ *         --products 1000000 --customers 1000000 --orders 5000000 --reviews 10000000
+ *         --seed 42 --invalid 0.01
+ */
+public class DatasetGenerator {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final int CHUNK_ROWS = 100_000;
+    private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static final String[] FIRST_NAMES = {
+            "Іван", "Марія", "Олександр", "Анна", "Дмитро", "Олена", "Андрій", "Наталія",
+            "Сергій", "Юлія", "Микола", "Тетяна", "Василь", "Ірина", "Петро", "Оксана",
+            "Богдан", "Софія", "Тарас", "Катерина", "Максим", "Вікторія", "Остап", "Ганна"
+    };
+    private static final String[] FIRST_NAMES_LATIN = {
+            "ivan", "maria", "oleksandr", "anna", "dmytro", "olena", "andrii", "natalia",
+            "serhii", "yulia", "mykola", "tetiana", "vasyl", "iryna", "petro", "oksana",
+            "bohdan", "sofia", "taras", "kateryna", "maksym", "viktoria", "ostap", "hanna"
+    };
+    private static final String[] LAST_NAMES = {
+            "Петренко", "Коваленко", "Шевченко", "Бондаренко", "Ткаченко", "Кравченко",
+            "Олійник", "Шевчук", "Поліщук", "Бойко", "Мельник", "Лисенко", "Марченко",
+            "Руденко", "Савченко", "Гнатюк", "Мороз", "Коваль", "Павленко", "Кузьменко"
+    };
+    private static final String[][] PRODUCT_NOUNS = {
+            {"Ноутбук", "Смартфон", "Навушники", "Монітор", "Планшет", "Телевізор"},  // ELECTRONICS
+            {"Футболка", "Куртка", "Джинси", "Светр", "Сукня", "Вишиванка"},           // CLOTHING
+            {"Книга", "Підручник", "Роман", "Збірка віршів", "Довідник", "Комікс"},    // BOOKS
+            {"Кава", "Чай", "Шоколад", "Мед", "Сир", "Печиво"},                        // FOOD
+            {"Стіл", "Крісло", "Шафа", "Диван", "Ліжко", "Полиця"},                    // FURNITURE
+            {"Конструктор", "Лялька", "Пазл", "Машинка", "Настільна гра", "М'яч"},     // TOYS
+            {"Велосипед", "Гантелі", "Кросівки", "Намет", "Рюкзак", "Килимок"},        // SPORTS
+            {"Крем", "Шампунь", "Парфуми", "Помада", "Сироватка", "Маска"}             // BEAUTY
+    };
+    private static final String[] BRANDS = {
+            "Dell", "Lenovo", "Samsung", "Apple", "Xiaomi", "Nike", "Adidas", "IKEA",
+            "Lego", "Roshen", "Vivat", "Bosch", "Philips", "Garnier", "Decathlon", "Sony"
+    };
+    private static final String[] COMMENTS = {
+            "Чудовий товар", "Рекомендую", "Якість відповідає ціні", "Швидка доставка",
+            "Не сподобалось", "Очікував більшого", "Гарний подарунок", "Купуватиму ще",
+            "Є недоліки але загалом добре", "Повернув продавцю"
+    };
+
+    // Частка кожної категорії / рівня (сума = 100)
+    private static final int[] CATEGORY_WEIGHTS = {20, 25, 15, 15, 5, 8, 7, 5};
+    private static final int[] TIER_WEIGHTS = {60, 25, 12, 3};
+    private static final int[] RATING_WEIGHTS = {7, 6, 12, 30, 45};
+    private static final int[] STATUS_WEIGHTS = {5, 5, 5, 10, 65, 10};
+    private static final int[] PAYMENT_WEIGHTS = {10, 40, 25, 10, 10, 5};
+
+    private static final ErrorCode[] PRODUCT_ERRORS = {ErrorCode.EMPTY_VALUE, ErrorCode.INVALID_FORMAT,
+            ErrorCode.NEGATIVE_VALUE, ErrorCode.INVALID_ENUM_VALUE, ErrorCode.MISSING_REQUIRED_FIELD};
+    private static final ErrorCode[] CUSTOMER_ERRORS = {ErrorCode.EMPTY_VALUE, ErrorCode.INVALID_EMAIL,
+            ErrorCode.INVALID_FORMAT, ErrorCode.INVALID_ENUM_VALUE, ErrorCode.MISSING_REQUIRED_FIELD};
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+    private static final CustomerTier[] TIERS = CustomerTier.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final PaymentMethod[] PAYMENTS = PaymentMethod.values();
+
+    private static final long START_EPOCH_DAY = LocalDate.of(2020, 1, 1).toEpochDay();
+    private static final int DATE_RANGE_DAYS = 365 * 5;
+
+    private final Config config;
+
+    public record Config(
+            Path outputDir,
+            long products,
+            long customers,
+            long orders,
+            long reviews,
+            long seed,
+            double invalidFraction
+    ) {
+
+        public Config {
+            if (products <= 0 || customers <= 0) {
+                throw new IllegalArgumentException("Кількість товарів і клієнтів має бути більше 0");
+            }
+            if (orders < 0 || reviews < 0) {
+                throw new IllegalArgumentException("Кількість замовлень і відгуків не може бути від'ємною");
+            }
+            if (invalidFraction < 0 || invalidFraction > 1) {
+                throw new IllegalArgumentException("Частка невалідних рядків має бути від 0 до 1");
+            }
+        }
+
+        public static Config defaults(Path outputDir) {
+            return new Config(outputDir, 10_000, 10_000, 50_000, 100_000, 42L, 0.0);
+        }
+    }
+
+    /**
+     * Підсумок по одному файлу: invalidRows — рядки, які завантажувач має відхилити
+     */
+    public record FileReport(Path file, long rows, long invalidRows, long bytes) {
+    }
+
+    public DatasetGenerator(Config config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path out = Paths.get("data/generated");
+        long products = 10_000;
+        long customers = 10_000;
+        long orders = 50_000;
+        long reviews = 100_000;
+        long seed = 42L;
+        double invalid = 0.0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--out" -> out = Paths.get(value);
+                case "--products" -> products = Long.parseLong(value);
+                case "--customers" -> customers = Long.parseLong(value);
+                case "--orders" -> orders = Long.parseLong(value);
+                case "--reviews" -> reviews = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--invalid" -> invalid = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Невідомий параметр: " + args[i]);
+            }
+        }
+
+        new DatasetGenerator(new Config(out, products, customers, orders, reviews, seed, invalid)).generate();
+    }
+
+    /**
+     * Генерує всі чотири файли. Кожен файл ділиться на блоки по CHUNK_ROWS рядків,
+     * які формуються паралельно і записуються в канал у вихідному порядку.
+     *
+     * @return звіти по файлах у порядку: товари, клієнти, замовлення, відгуки
+     */
+    public List<FileReport> generate() throws IOException, InterruptedException {
+        Files.createDirectories(config.outputDir());
+        long start = System.nanoTime();
+        logger.info("Початок генерації даних у " + config.outputDir());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<FileReport> reports = List.of(
+                    writeFile(executor, "products.csv", "name,price,stock,category,createdDate",
+                            config.products(), 0x5052_4F44L, this::appendProduct),
+                    writeFile(executor, "customers.csv", "firstName,lastName,email,phone,registrationDate,tier",
+                            config.customers(), 0x4355_5354L, this::appendCustomer),
+                    writeFile(executor, "orders.csv", "orderId,customerEmail,products,orderDate,status,paymentMethod",
+                            config.orders(), 0x4F52_4452L, this::appendOrder),
+                    writeFile(executor, "reviews.csv", "productName,customerEmail,rating,comment,reviewDate",
+                            config.reviews(), 0x5245_5649L, this::appendReview));
+
+            long bytes = 0;
+            for (FileReport report : reports) {
+                bytes += report.bytes();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            logger.info(String.format("Генерацію завершено: %.1f МБ за %.2f с (%.1f МБ/с)",
+                    bytes / 1e6, seconds, bytes / 1e6 / seconds));
+            return reports;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private FileReport writeFile(ExecutorService executor, String fileName, String header, long rows,
+                           long fileSeed, RowWriter writer) throws IOException, InterruptedException {
+        Path file = config.outputDir().resolve(fileName);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, (header + "\n").getBytes(StandardCharsets.UTF_8));
+
+            Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+            long invalid = 0;
+            for (long from = 0; from < rows; from += CHUNK_ROWS) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(rows, from + CHUNK_ROWS);
+                long chunkSeed = mix(config.seed() ^ fileSeed ^ mix(from / CHUNK_ROWS + 1));
+                inFlight.add(executor.submit(() -> generateChunk(chunkSeed, chunkFrom, chunkTo, writer)));
+                if (inFlight.size() >= THREADS * 2) {
+                    invalid += writeChunk(channel, await(inFlight.poll()));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                invalid += writeChunk(channel, await(inFlight.poll()));
+            }
+            logger.info("Згенеровано " + rows + " рядків у " + file + " (невалідних: " + invalid + ")");
+            return new FileReport(file, rows, invalid, channel.position());
+        }
+    }
+
+    private record Chunk(byte[] bytes, long invalidRows) {
+    }
+
+    private static Chunk generateChunk(long seed, long from, long to, RowWriter writer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder chunk = new StringBuilder((int) Math.min(Integer.MAX_VALUE / 2, (to - from) * 96));
+        long invalid = 0;
+        for (long i = from; i < to; i++) {
+            if (writer.append(chunk, i, random)) {
+                invalid++;
+            }
+            chunk.append('\n');
+        }
+        return new Chunk(chunk.toString().getBytes(StandardCharsets.UTF_8), invalid);
+    }
+
+    private static long writeChunk(FileChannel channel, Chunk chunk) throws IOException {
+        writeFully(channel, chunk.bytes());
+        return chunk.invalidRows();
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Помилка генерації даних", e.getCause());
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Дописує рядок з номером index у row; повертає true, якщо рядок навмисно невалідний
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        boolean append(StringBuilder row, long index, SplittableRandom random);
+    }
+
+    private boolean appendProduct(StringBuilder row, long i, SplittableRandom random) {
+        int category = categoryOf(i);
+        if (isInvalid(random)) {
+            ErrorCode code = PRODUCT_ERRORS[random.nextInt(PRODUCT_ERRORS.length)];
+            switch (code) {
+                case EMPTY_VALUE -> row.append(",100,1,").append(CATEGORIES[category].name()).append(",2024-01-01");
+                case INVALID_FORMAT -> {
+                    appendProductName(row, i);
+                    row.append(",ціна,1,").append(CATEGORIES[category].name()).append(",2024-01-01");
+                }
+                case NEGATIVE_VALUE -> {
+                    appendProductName(row, i);
+                    row.append(',').append(-1 - random.nextInt(1000)).append(",1,")
+                            .append(CATEGORIES[category].name()).append(",2024-01-01");
+                }
+                case INVALID_ENUM_VALUE -> {
+                    appendProductName(row, i);
+                    row.append(",100,1,UNKNOWN_CATEGORY,2024-01-01");
+                }
+                default -> {
+                    appendProductName(row, i);
+                    row.append(",100");
+                }
+            }
+            return true;
+        }
+
+        appendProductName(row, i);
+        row.append(',');
+        appendPrice(row, category, random);
+        row.append(',').append(random.nextInt(500))
+                .append(',').append(CATEGORIES[category].name())
+                .append(',');
+        appendDate(row, random);
+        return false;
+    }
+
+    private boolean appendCustomer(StringBuilder row, long i, SplittableRandom random) {
+        int first = (int) (i % FIRST_NAMES.length);
+        int last = (int) ((i / FIRST_NAMES.length) % LAST_NAMES.length);
+        String tier = TIERS[weighted(TIER_WEIGHTS, random)].name();
+
+        if (isInvalid(random)) {
+            ErrorCode code = CUSTOMER_ERRORS[random.nextInt(CUSTOMER_ERRORS.length)];
+            switch (code) {
+                case EMPTY_VALUE -> row.append(',').append(LAST_NAMES[last]).append(',')
+                        .append(emailOf(i)).append(",+380500000000,2024-01-01,").append(tier);
+                case INVALID_EMAIL -> row.append(FIRST_NAMES[first]).append(',').append(LAST_NAMES[last])
+                        .append(',').append(FIRST_NAMES_LATIN[first]).append(i)
+                        .append("-at-example,+380500000000,2024-01-01,").append(tier);
+                case INVALID_FORMAT -> row.append(FIRST_NAMES[first]).append(',').append(LAST_NAMES[last])
+                        .append(',').append(emailOf(i)).append(",+380500000000,01.01.2024,").append(tier);
+                case INVALID_ENUM_VALUE -> row.append(FIRST_NAMES[first]).append(',')
+                        .append(LAST_NAMES[last]).append(',').append(emailOf(i))
+                        .append(",+380500000000,2024-01-01,DIAMOND");
+                default -> row.append(FIRST_NAMES[first]).append(',').append(LAST_NAMES[last]);
+            }
+            return true;
+        }
+
+        row.append(FIRST_NAMES[first]).append(',').append(LAST_NAMES[last]).append(',')
+                .append(emailOf(i)).append(",+38050");
+        appendPadded(row, random.nextInt(10_000_000), 7);
+        row.append(',');
+        appendDate(row, random);
+        row.append(',').append(tier);
+        return false;
+    }
+
+    private boolean appendOrder(StringBuilder row, long i, SplittableRandom random) {
+        row.append("ORD-").append(i).append(',').append(emailOf(skewed(config.customers(), random)))
+                .append(',');
+        int items = 1 + random.nextInt(4);
+        for (int k = 0; k < items; k++) {
+            if (k > 0) {
+                row.append(';');
+            }
+            appendProductName(row, skewed(config.products(), random));
+        }
+        row.append(',');
+        appendDate(row, random);
+        row.append(',').append(STATUSES[weighted(STATUS_WEIGHTS, random)].name())
+                .append(',').append(PAYMENTS[weighted(PAYMENT_WEIGHTS, random)].name());
+        return false;
+    }
+
+    private boolean appendReview(StringBuilder row, long i, SplittableRandom random) {
+        appendProductName(row, skewed(config.products(), random));
+        row.append(',').append(emailOf(random.nextLong(config.customers()))).append(',');
+        boolean invalid = isInvalid(random);
+        if (invalid) {
+            // INVALID_RANGE: оцінка поза діапазоном 1..5
+            row.append(6 + random.nextInt(5));
+        } else {
+            row.append(weighted(RATING_WEIGHTS, random) + 1);
+        }
+        row.append(',').append(COMMENTS[random.nextInt(COMMENTS.length)]).append(',');
+        appendDate(row, random);
+        return invalid;
+    }
+
+    /**
+     * Назва товару однозначно визначається його номером
+     */
+    static void appendProductName(StringBuilder row, long index) {
+        int category = categoryOf(index);
+        String[] nouns = PRODUCT_NOUNS[category];
+        row.append(nouns[(int) ((index >>> 3) % nouns.length)]).append(' ')
+                .append(BRANDS[(int) ((index >>> 5) % BRANDS.length)]).append(' ')
+                .append(index);
+    }
+
+    static String emailOf(long index) {
+        return FIRST_NAMES_LATIN[(int) (index % FIRST_NAMES_LATIN.length)] + "." + index + "@example.com";
+    }
+
+    /**
+     * Категорія товару за номером (з урахуванням CATEGORY_WEIGHTS)
+     */
+    static int categoryOf(long index) {
+        int bucket = (int) (mix(index) % 100);
+        for (int c = 0; c < CATEGORY_WEIGHTS.length; c++) {
+            bucket -= CATEGORY_WEIGHTS[c];
+            if (bucket < 0) {
+                return c;
+            }
+        }
+        return CATEGORY_WEIGHTS.length - 1;
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        return (z ^ (z >>> 31)) >>> 1;
+    }
+
+    private static void appendPrice(StringBuilder row, int category, SplittableRandom random) {
+        int base = switch (CATEGORIES[category]) {
+            case ELECTRONICS -> 5_000 + random.nextInt(95_000);
+            case FURNITURE -> 1_500 + random.nextInt(40_000);
+            case SPORTS -> 300 + random.nextInt(20_000);
+            case CLOTHING -> 200 + random.nextInt(5_000);
+            case BEAUTY, TOYS -> 100 + random.nextInt(3_000);
+            case BOOKS -> 100 + random.nextInt(1_500);
+            case FOOD -> 20 + random.nextInt(800);
+        };
+        row.append(base).append('.');
+        appendPadded(row, random.nextInt(100), 2);
+    }
+
+    private static int weighted(int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Номер з перекосом у бік малих значень (популярні товари / активні клієнти)
+     */
+    private static long skewed(long bound, SplittableRandom random) {
+        double u = random.nextDouble();
+        return Math.min(bound - 1, (long) (u * u * u * bound));
+    }
+
+    private boolean isInvalid(SplittableRandom random) {
+        return config.invalidFraction() > 0 && random.nextDouble() < config.invalidFraction();
+    }
+
+    private static void appendDate(StringBuilder row, SplittableRandom random) {
+        LocalDate date = LocalDate.ofEpochDay(START_EPOCH_DAY + random.nextInt(DATE_RANGE_DAYS));
+        row.append(date.getYear()).append('-');
+        appendPadded(row, date.getMonthValue(), 2);
+        row.append('-');
+        appendPadded(row, date.getDayOfMonth(), 2);
+    }
+
+    private static void appendPadded(StringBuilder row, int value, int width) {
+        int digits = value == 0 ? 1 : (int) Math.log10(value) + 1;
+        for (int i = digits; i < width; i++) {
+            row.append('0');
+        }
+        row.append(value);
+    }
+}
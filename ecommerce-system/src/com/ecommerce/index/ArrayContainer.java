@@ -0,0 +1,215 @@
+package com.ecommerce.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Розріджений контейнер: відсортований масив молодших 16 біт
+ */
+final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        // Індекси будуються за зростанням номерів рядків, тому дописування в кінець — основний шлях
+        int index = cardinality == 0 || value > values[cardinality - 1]
+                ? -cardinality - 1
+                : Arrays.binarySearch(values, 0, cardinality, value);
+        if (index >= 0) {
+            return this;
+        }
+        if (cardinality == ARRAY_MAX_SIZE) {
+            return toBitmap().add(value);
+        }
+        index = -index - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, Math.max(4, cardinality * 2)));
+        }
+        System.arraycopy(values, index, values, index + 1, cardinality - index);
+        values[index] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        char[] result = new char[cardinality];
+        int count = 0;
+        if (other instanceof ArrayContainer array) {
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                char a = values[i];
+                char b = array.values[j];
+                if (a == b) {
+                    result[count++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof BitmapContainer bitmap) {
+            BitmapContainer result = bitmap.copy();
+            for (int i = 0; i < cardinality; i++) {
+                result.set(values[i]);
+            }
+            return result;
+        }
+        ArrayContainer array = (ArrayContainer) other;
+        if (cardinality + array.cardinality > ARRAY_MAX_SIZE) {
+            BitmapContainer result = toBitmap();
+            for (int i = 0; i < array.cardinality; i++) {
+                result.set(array.values[i]);
+            }
+            return result.normalize();
+        }
+        char[] result = new char[cardinality + array.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+            char a = values[i];
+            char b = array.values[j];
+            if (a <= b) {
+                result[count++] = a;
+                i++;
+                if (a == b) {
+                    j++;
+                }
+            } else {
+                result[count++] = b;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[count++] = values[i++];
+        }
+        while (j < array.cardinality) {
+            result[count++] = array.values[j++];
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] result = new char[cardinality];
+        int count = 0;
+        if (other instanceof ArrayContainer array) {
+            int j = 0;
+            for (int i = 0; i < cardinality; i++) {
+                char a = values[i];
+                while (j < array.cardinality && array.values[j] < a) {
+                    j++;
+                }
+                if (j == array.cardinality || array.values[j] != a) {
+                    result[count++] = a;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        int count = 0;
+        if (other instanceof ArrayContainer array) {
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                char a = values[i];
+                char b = array.values[j];
+                if (a == b) {
+                    count++;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    ArrayContainer copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer consumer) {
+        for (int i = 0; i < cardinality; i++) {
+            consumer.accept(base | values[i]);
+        }
+    }
+
+    @Override
+    int fill(int[] target, int offset, int base) {
+        for (int i = 0; i < cardinality; i++) {
+            target[offset++] = base | values[i];
+        }
+        return offset;
+    }
+
+    @Override
+    long getSizeInBytes() {
+        return 16 + 2L * values.length;
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.set(values[i]);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,166 @@
+package com.ecommerce.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Щільний контейнер: 1024 слова long, по біту на кожне з 65536 значень
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORDS = 1024;
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    void set(char value) {
+        long before = words[value >>> 6];
+        long after = before | (1L << value);
+        words[value >>> 6] = after;
+        // Зсув береться за модулем 64, тому різниця слів дає 1 лише для нового біта
+        cardinality += (int) ((before ^ after) >>> value);
+    }
+
+    @Override
+    Container add(char value) {
+        set(value);
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof ArrayContainer array) {
+            return array.and(this);
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & otherWords[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count).normalize();
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof ArrayContainer array) {
+            return array.or(this);
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | otherWords[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        if (other instanceof ArrayContainer array) {
+            BitmapContainer result = copy();
+            array.forEach(0, value -> result.clear((char) value));
+            return result.normalize();
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~otherWords[i];
+            count += Long.bitCount(result[i]);
+        }
+        return new BitmapContainer(result, count).normalize();
+    }
+
+    @Override
+    int andCardinality(Container other) {
+        if (other instanceof ArrayContainer array) {
+            return array.andCardinality(this);
+        }
+        long[] otherWords = ((BitmapContainer) other).words;
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(words[i] & otherWords[i]);
+        }
+        return count;
+    }
+
+    @Override
+    BitmapContainer copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void forEach(int base, IntConsumer consumer) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    int fill(int[] target, int offset, int base) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                target[offset++] = base | (i << 6) | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return offset;
+    }
+
+    @Override
+    long getSizeInBytes() {
+        return 16 + 8L * WORDS;
+    }
+
+    /**
+     * Повертає масивне подання, якщо значень стало не більше ARRAY_MAX_SIZE
+     */
+    Container normalize() {
+        if (cardinality > ARRAY_MAX_SIZE) {
+            return this;
+        }
+        char[] values = new char[Math.max(cardinality, 4)];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+
+    private void clear(char value) {
+        long before = words[value >>> 6];
+        long after = before & ~(1L << value);
+        words[value >>> 6] = after;
+        cardinality -= (int) ((before ^ after) >>> value);
+    }
+}
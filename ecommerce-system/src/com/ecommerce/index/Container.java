@@ -0,0 +1,46 @@
+package com.ecommerce.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Контейнер для 65536 значень з однаковими старшими 16 бітами
+ * Операції над контейнерами завжди повертають новий контейнер і не змінюють аргументи.
+ */
+abstract class Container {
+
+    /**
+     * Межа між поданнями: до 4096 значень масив char компактніший за бітову карту (8 КБ)
+     */
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    /**
+     * Додає значення; може повернути інший контейнер, якщо змінилось подання
+     */
+    abstract Container add(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract int andCardinality(Container other);
+
+    abstract Container copy();
+
+    /**
+     * Передає значення у зростаючому порядку; base — старші біти, вже зсунуті на 16
+     */
+    abstract void forEach(int base, IntConsumer consumer);
+
+    /**
+     * Записує значення в масив, починаючи з offset; повертає наступну вільну позицію
+     */
+    abstract int fill(int[] target, int offset, int base);
+
+    abstract long getSizeInBytes();
+}
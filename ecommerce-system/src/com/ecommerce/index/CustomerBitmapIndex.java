@@ -0,0 +1,56 @@
+package com.ecommerce.index;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import java.util.List;
+
+/**
+ * Бітові індекси рівнів клієнтів; номер рядка — позиція клієнта у списку
+ */
+public final class CustomerBitmapIndex {
+
+    private final int size;
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byTier = new RoaringBitmap[CustomerTier.values().length];
+
+    public CustomerBitmapIndex(List<CustomerInfo> customers) {
+        this.size = customers.size();
+        for (int t = 0; t < byTier.length; t++) {
+            byTier[t] = new RoaringBitmap();
+        }
+        int row = 0;
+        for (CustomerInfo customer : customers) {
+            all.add(row);
+            byTier[customer.tier().ordinal()].add(row);
+            row++;
+        }
+    }
+
+    public RoaringBitmap all() {
+        return all;
+    }
+
+    public RoaringBitmap tier(CustomerTier tier) {
+        return byTier[tier.ordinal()];
+    }
+
+    public RoaringBitmap tiers(Iterable<CustomerTier> tiers) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (CustomerTier tier : tiers) {
+            result = result.or(byTier[tier.ordinal()]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getSizeInBytes() {
+        long bytes = all.getSizeInBytes();
+        for (RoaringBitmap bitmap : byTier) {
+            bytes += bitmap.getSizeInBytes();
+        }
+        return bytes;
+    }
+}
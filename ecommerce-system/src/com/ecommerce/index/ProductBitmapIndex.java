@@ -0,0 +1,79 @@
+package com.ecommerce.index;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.ProductInfo;
+import java.util.List;
+
+/**
+ * Бітові індекси атрибутів товарів з малою кількістю значень
+ * Будуються одним проходом під час завантаження; номер рядка — позиція товару у списку.
+ * Фільтри на кшталт «в наявності, категорія з множини, можна повернути» зводяться до
+ * AND/OR/ANDNOT над стиснутими множинами замість перегляду кожного об'єкта.
+ */
+public final class ProductBitmapIndex {
+
+    private final int size;
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final RoaringBitmap returnable = new RoaringBitmap();
+    private final RoaringBitmap[] byCategory = new RoaringBitmap[ProductCategory.values().length];
+
+    public ProductBitmapIndex(List<ProductInfo> products) {
+        this.size = products.size();
+        for (int c = 0; c < byCategory.length; c++) {
+            byCategory[c] = new RoaringBitmap();
+        }
+        int row = 0;
+        for (ProductInfo product : products) {
+            all.add(row);
+            if (product.isInStock()) {
+                inStock.add(row);
+            }
+            if (product.category().isReturnable()) {
+                returnable.add(row);
+            }
+            byCategory[product.category().ordinal()].add(row);
+            row++;
+        }
+    }
+
+    public RoaringBitmap all() {
+        return all;
+    }
+
+    public RoaringBitmap inStock() {
+        return inStock;
+    }
+
+    public RoaringBitmap outOfStock() {
+        return all.andNot(inStock);
+    }
+
+    public RoaringBitmap returnable() {
+        return returnable;
+    }
+
+    public RoaringBitmap category(ProductCategory category) {
+        return byCategory[category.ordinal()];
+    }
+
+    public RoaringBitmap categories(Iterable<ProductCategory> categories) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (ProductCategory category : categories) {
+            result = result.or(byCategory[category.ordinal()]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getSizeInBytes() {
+        long bytes = all.getSizeInBytes() + inStock.getSizeInBytes() + returnable.getSizeInBytes();
+        for (RoaringBitmap bitmap : byCategory) {
+            bytes += bitmap.getSizeInBytes();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,436 @@
+package com.ecommerce.ingest;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.service.FileReader;
+import com.ecommerce.util.CompressedInput;
+import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Конвеєр завантаження CSV: читання → розбиття → декодування/валідація → приймач
+ * Рядки передаються між етапами пакетами через обмежені черги. Читач бере дозвіл
+ * на кожен пакет і чекає, коли пакетів у роботі стає забагато, тож повільний етап
+ * гальмує читання файлу, а не роздуває пам'ять. Розбиття і декодування виконуються
+ * кількома потоками; приймач отримує записи в порядку рядків файлу в потоці,
+ * що викликав run().
+ */
+public class IngestPipeline<R> {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final Batch END = new Batch(-1, 0);
+    private static final long POLL_MILLIS = 50;
+
+    private final Config config;
+    private final RowParser<R> parser;
+
+    public IngestPipeline(RowParser<R> parser) {
+        this(parser, Config.defaults());
+    }
+
+    public IngestPipeline(RowParser<R> parser, Config config) {
+        this.parser = Objects.requireNonNull(parser, "Парсер не може бути null");
+        this.config = Objects.requireNonNull(config, "Конфігурація не може бути null");
+    }
+
+    /**
+     * Обробляє файл (перший рядок — заголовок) і повертає статистику етапів
+     */
+    public Result run(Path file, IngestSink<R> sink) throws IOException, InvalidDataException {
+        Objects.requireNonNull(sink, "Приймач не може бути null");
+        if (!Files.exists(file)) {
+            logger.error("Файл не знайдено: " + file);
+            throw new FileNotFoundException("Файл не знайдено: " + file);
+        }
+        return new Run(file, sink).execute();
+    }
+
+    /**
+     * Один запуск конвеєра з власними чергами, потоками і лічильниками
+     */
+    private final class Run {
+
+        private final Path file;
+        private final IngestSink<R> sink;
+        private final BlockingQueue<Batch> lines = new ArrayBlockingQueue<>(config.queueCapacity());
+        private final BlockingQueue<Batch> tokens = new ArrayBlockingQueue<>(config.queueCapacity());
+        private final BlockingQueue<Batch> decoded = new ArrayBlockingQueue<>(config.queueCapacity());
+        private final Semaphore inFlight = new Semaphore(config.queueCapacity() * 3
+                + config.tokenizerThreads() + config.decoderThreads());
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicInteger activeTokenizers = new AtomicInteger(config.tokenizerThreads());
+        private final AtomicInteger activeDecoders = new AtomicInteger(config.decoderThreads());
+        private final LongAdder bytesSaved = new LongAdder();
+        private final List<Thread> threads = new ArrayList<>();
+
+        private final StageCounter reader = new StageCounter("reader", 1, lines);
+        private final StageCounter tokenizer = new StageCounter("tokenizer", config.tokenizerThreads(), tokens);
+        private final StageCounter decoder = new StageCounter("decoder", config.decoderThreads(), decoded);
+        private final StageCounter writer = new StageCounter("sink", 1, null);
+
+        Run(Path file, IngestSink<R> sink) {
+            this.file = file;
+            this.sink = sink;
+        }
+
+        Result execute() throws IOException, InvalidDataException {
+            long start = System.nanoTime();
+            logger.info(String.format("Початок конвеєрного завантаження %s: розбиття=%d, декодування=%d, черга=%d",
+                    file, config.tokenizerThreads(), config.decoderThreads(), config.queueCapacity()));
+
+            startThread("ingest-reader", this::read);
+            for (int i = 0; i < config.tokenizerThreads(); i++) {
+                startThread("ingest-tokenizer-" + (i + 1), this::tokenize);
+            }
+            for (int i = 0; i < config.decoderThreads(); i++) {
+                startThread("ingest-decoder-" + (i + 1), this::decode);
+            }
+
+            long[] totals = new long[2];
+            try {
+                drain(totals);
+            } catch (Throwable e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                failure.compareAndSet(null, e);
+            } finally {
+                if (failure.get() != null) {
+                    threads.forEach(Thread::interrupt);
+                }
+                for (Thread thread : threads) {
+                    joinQuietly(thread);
+                }
+            }
+            rethrowFailure();
+
+            long elapsedNanos = System.nanoTime() - start;
+            Result result = new Result(totals[0], totals[1], bytesSaved.sum(), elapsedNanos / 1_000_000, List.of(
+                    reader.snapshot(elapsedNanos), tokenizer.snapshot(elapsedNanos),
+                    decoder.snapshot(elapsedNanos), writer.snapshot(elapsedNanos)));
+            logger.info(result.getReport());
+            return result;
+        }
+
+        private void startThread(String name, Worker worker) {
+            Thread thread = new Thread(() -> {
+                try {
+                    worker.run();
+                } catch (InterruptedException e) {
+                    // Конвеєр зупиняється через помилку в іншому етапі
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        private void read() throws IOException, InvalidDataException, InterruptedException {
+            long start = System.nanoTime();
+            try (BufferedReader in = CompressedInput.newBufferedReader(file)) {
+                int lineNumber = 1;
+                if (in.readLine() == null) {
+                    throw new InvalidDataException("Файл порожній: " + file, InvalidDataException.ErrorCode.EMPTY_VALUE);
+                }
+
+                long sequence = 0;
+                Batch batch = new Batch(sequence, config.batchSize());
+                String line;
+                while ((line = in.readLine()) != null) {
+                    lineNumber++;
+                    if (line.trim().isEmpty()) {
+                        logger.warning("Порожній рядок #" + lineNumber + ", пропущено");
+                        continue;
+                    }
+                    batch.add(line, lineNumber);
+                    if (batch.size == config.batchSize()) {
+                        publish(batch);
+                        batch = new Batch(++sequence, config.batchSize());
+                    }
+                }
+                if (batch.size > 0) {
+                    publish(batch);
+                }
+            } finally {
+                reader.busyNanos.add(System.nanoTime() - start - reader.blocked.sum());
+                finish(lines, config.tokenizerThreads());
+            }
+        }
+
+        /**
+         * Сигнал завершення наступному етапу; після помилки не надсилається,
+         * бо споживачів уже зупинено і черга може ніколи не звільнитися
+         */
+        private void finish(BlockingQueue<Batch> queue, int consumers) throws InterruptedException {
+            for (int i = 0; i < consumers && failure.get() == null; i++) {
+                queue.put(END);
+            }
+        }
+
+        private void publish(Batch batch) throws InterruptedException {
+            long waitStart = System.nanoTime();
+            inFlight.acquire();
+            reader.blocked.add(System.nanoTime() - waitStart);
+            reader.rows.add(batch.size);
+            reader.batches.increment();
+            reader.put(batch);
+        }
+
+        private void tokenize() throws InterruptedException {
+            StringDeduplicator strings = new StringDeduplicator();
+            try {
+                Batch batch;
+                while ((batch = lines.take()) != END) {
+                    long start = System.nanoTime();
+                    batch.values = new String[batch.size][];
+                    for (int i = 0; i < batch.size; i++) {
+                        batch.values[i] = FileReader.splitLine(batch.lines[i], strings);
+                    }
+                    batch.lines = null;
+                    tokenizer.count(batch.size, System.nanoTime() - start);
+                    tokenizer.put(batch);
+                }
+            } finally {
+                bytesSaved.add(strings.getBytesSaved());
+                if (activeTokenizers.decrementAndGet() == 0) {
+                    finish(tokens, config.decoderThreads());
+                }
+            }
+        }
+
+        private void decode() throws InterruptedException {
+            try {
+                Batch batch;
+                while ((batch = tokens.take()) != END) {
+                    long start = System.nanoTime();
+                    batch.records = new Object[batch.size];
+                    for (int i = 0; i < batch.size; i++) {
+                        try {
+                            batch.records[i] = parser.parse(batch.values[i], batch.lineNumbers[i]);
+                        } catch (InvalidDataException e) {
+                            if (batch.errors == null) {
+                                batch.errors = new InvalidDataException[batch.size];
+                            }
+                            batch.errors[i] = e;
+                        }
+                    }
+                    batch.values = null;
+                    decoder.count(batch.size, System.nanoTime() - start);
+                    decoder.put(batch);
+                }
+            } finally {
+                if (activeDecoders.decrementAndGet() == 0) {
+                    finish(decoded, 1);
+                }
+            }
+        }
+
+        /**
+         * Приймач у потоці виклику: пакети, що прийшли раніше за свою чергу, чекають у буфері
+         */
+        @SuppressWarnings("unchecked")
+        private void drain(long[] totals) throws InterruptedException {
+            Map<Long, Batch> pending = new HashMap<>();
+            long next = 0;
+            while (failure.get() == null) {
+                Batch batch = decoded.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (batch == null) {
+                    continue;
+                }
+                if (batch == END) {
+                    return;
+                }
+                pending.put(batch.sequence, batch);
+                while ((batch = pending.remove(next)) != null) {
+                    long start = System.nanoTime();
+                    for (int i = 0; i < batch.size; i++) {
+                        InvalidDataException error = batch.errors == null ? null : batch.errors[i];
+                        if (error == null) {
+                            sink.accept((R) batch.records[i]);
+                            totals[0]++;
+                        } else {
+                            sink.reject(batch.lineNumbers[i], error);
+                            totals[1]++;
+                        }
+                    }
+                    writer.count(batch.size, System.nanoTime() - start);
+                    inFlight.release();
+                    next++;
+                }
+            }
+        }
+
+        private void rethrowFailure() throws IOException, InvalidDataException {
+            Throwable error = failure.get();
+            if (error == null) {
+                return;
+            }
+            logger.error("Конвеєр зупинено через помилку: " + error.getMessage());
+            if (error instanceof IOException io) {
+                throw io;
+            }
+            if (error instanceof InvalidDataException invalid) {
+                throw invalid;
+            }
+            if (error instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (error instanceof Error fatal) {
+                throw fatal;
+            }
+            throw new IllegalStateException("Помилка конвеєра завантаження", error);
+        }
+
+        private void joinQuietly(Thread thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+
+        void run() throws Exception;
+    }
+
+    /**
+     * Пакет рядків, що проходить усі етапи; кожен етап заповнює своє поле і звільняє попереднє
+     */
+    private static final class Batch {
+
+        final long sequence;
+        String[] lines;
+        int[] lineNumbers;
+        int size;
+        String[][] values;
+        Object[] records;
+        InvalidDataException[] errors;
+
+        Batch(long sequence, int capacity) {
+            this.sequence = sequence;
+            this.lines = new String[capacity];
+            this.lineNumbers = new int[capacity];
+        }
+
+        void add(String line, int lineNumber) {
+            lines[size] = line;
+            lineNumbers[size] = lineNumber;
+            size++;
+        }
+    }
+
+    /**
+     * Лічильники етапу: оброблені рядки, час роботи, час очікування на чергу і її глибина
+     */
+    private static final class StageCounter {
+
+        final String name;
+        final int threads;
+        final BlockingQueue<Batch> output;
+        final LongAdder rows = new LongAdder();
+        final LongAdder batches = new LongAdder();
+        final LongAdder busyNanos = new LongAdder();
+        final LongAdder blocked = new LongAdder();
+        final LongAdder depthSum = new LongAdder();
+        final AtomicLong maxDepth = new AtomicLong();
+
+        StageCounter(String name, int threads, BlockingQueue<Batch> output) {
+            this.name = name;
+            this.threads = threads;
+            this.output = output;
+        }
+
+        void count(int batchRows, long nanos) {
+            rows.add(batchRows);
+            batches.increment();
+            busyNanos.add(nanos);
+        }
+
+        void put(Batch batch) throws InterruptedException {
+            int depth = output.size();
+            depthSum.add(depth);
+            maxDepth.accumulateAndGet(depth, Math::max);
+            long start = System.nanoTime();
+            output.put(batch);
+            blocked.add(System.nanoTime() - start);
+        }
+
+        StageStats snapshot(long elapsedNanos) {
+            long batchCount = batches.sum();
+            return new StageStats(name, threads, rows.sum(),
+                    elapsedNanos == 0 ? 0 : rows.sum() * 1_000_000_000.0 / elapsedNanos,
+                    busyNanos.sum() / 1_000_000, blocked.sum() / 1_000_000,
+                    output == null ? 0 : output.remainingCapacity() + output.size(),
+                    batchCount == 0 ? 0 : (double) depthSum.sum() / batchCount,
+                    (int) maxDepth.get());
+        }
+    }
+
+    /**
+     * Параметри конвеєра
+     *
+     * @param batchSize        рядків в одному пакеті
+     * @param queueCapacity    пакетів у кожній черзі між етапами
+     * @param tokenizerThreads потоків розбиття рядків
+     * @param decoderThreads   потоків декодування і валідації
+     */
+    public record Config(int batchSize, int queueCapacity, int tokenizerThreads, int decoderThreads) {
+
+        public Config {
+            if (batchSize <= 0 || queueCapacity <= 0 || tokenizerThreads <= 0 || decoderThreads <= 0) {
+                throw new IllegalArgumentException("Параметри конвеєра мають бути додатними");
+            }
+        }
+
+        public static Config defaults() {
+            int processors = Runtime.getRuntime().availableProcessors();
+            return new Config(1_024, 16, Math.max(1, processors / 4), Math.max(1, processors / 2));
+        }
+    }
+
+    /**
+     * Статистика етапу: пропускна здатність, зайнятість, очікування на наступний етап
+     * (ознака зворотного тиску) і глибина вихідної черги
+     */
+    public record StageStats(String name, int threads, long rows, double rowsPerSecond, long busyMillis,
+                             long blockedMillis, int queueCapacity, double averageQueueDepth, int maxQueueDepth) {
+    }
+
+    public record Result(long accepted, long rejected, long bytesSaved, long elapsedMillis, List<StageStats> stages) {
+
+        public String getReport() {
+            StringBuilder sb = new StringBuilder(String.format(
+                    "Конвеєр завершено за %d мс: прийнято=%d, відхилено=%d, заощаджено ~%d КБ",
+                    elapsedMillis, accepted, rejected, bytesSaved / 1024));
+            for (StageStats stage : stages) {
+                sb.append(System.lineSeparator()).append(String.format(
+                        "  %-9s x%d: %,d рядків (%.0f/с), робота=%d мс, очікування=%d мс, черга %.1f/%d (макс %d)",
+                        stage.name(), stage.threads(), stage.rows(), stage.rowsPerSecond(), stage.busyMillis(),
+                        stage.blockedMillis(), stage.averageQueueDepth(), stage.queueCapacity(), stage.maxQueueDepth()));
+            }
+            return sb.toString();
+        }
+    }
+}
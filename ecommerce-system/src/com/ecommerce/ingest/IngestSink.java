@@ -0,0 +1,14 @@
+package com.ecommerce.ingest;
+
+import com.ecommerce.exceptions.InvalidDataException;
+
+/**
+ * Приймач результатів конвеєра
+ * Викликається з одного потоку і в порядку рядків файлу.
+ */
+public interface IngestSink<R> {
+
+    void accept(R record);
+
+    void reject(int lineNumber, InvalidDataException error);
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.ingest;
+
+import com.ecommerce.exceptions.InvalidDataException;
+
+/**
+ * Перетворення розділеного рядка CSV у запис
+ * Викликається з кількох потоків одночасно, тож не повинен мати змінного стану.
+ */
+@FunctionalInterface
+public interface RowParser<R> {
+
+    R parse(String[] values, int lineNumber) throws InvalidDataException;
+}
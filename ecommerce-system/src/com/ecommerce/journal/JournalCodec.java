@@ -0,0 +1,176 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Двійковий формат записів журналу замовлень
+ * Кадр запису: [довжина int][CRC32C int][тіло], де тіло — [номер long][тип byte][дані].
+ * Enum зберігаються за назвою, щоб зміна порядку констант не ламала старі журнали.
+ */
+final class JournalCodec {
+
+    static final int FRAME_HEADER = 8;
+    static final int MAX_BODY = 16 * 1024 * 1024;
+
+    static final byte ORDER_CREATED = 1;
+    static final byte STATUS_CHANGED = 2;
+    static final byte SNAPSHOT_ORDER = 3;
+
+    private JournalCodec() {
+    }
+
+    static void writeOrder(DataOutput out, OrderInfo order) throws IOException {
+        out.writeUTF(order.orderId());
+        CustomerInfo customer = order.customer();
+        out.writeUTF(customer.firstName());
+        out.writeUTF(customer.lastName());
+        out.writeUTF(customer.email());
+        writeNullable(out, customer.phone());
+        writeDate(out, customer.registrationDate());
+        out.writeUTF(customer.tier().name());
+
+        out.writeInt(order.products().size());
+        for (ProductInfo product : order.products()) {
+            out.writeUTF(product.name());
+            out.writeDouble(product.price());
+            out.writeInt(product.stock());
+            out.writeUTF(product.category().name());
+            writeDate(out, product.createdDate());
+        }
+        writeDate(out, order.orderDate());
+        out.writeUTF(order.status().name());
+        out.writeUTF(order.paymentMethod().name());
+    }
+
+    static OrderInfo readOrder(DataInput in) throws IOException {
+        String orderId = in.readUTF();
+        CustomerInfo customer = new CustomerInfo(in.readUTF(), in.readUTF(), in.readUTF(), readNullable(in),
+                readDate(in), CustomerTier.valueOf(in.readUTF()));
+
+        int count = in.readInt();
+        List<ProductInfo> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductInfo(in.readUTF(), in.readDouble(), in.readInt(),
+                    ProductCategory.valueOf(in.readUTF()), readDate(in)));
+        }
+        return new OrderInfo(orderId, customer, products, readDate(in),
+                OrderStatus.valueOf(in.readUTF()), PaymentMethod.valueOf(in.readUTF()));
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date == null ? Long.MIN_VALUE : date.toEpochDay());
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        long epochDay = in.readLong();
+        return epochDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static int checksum(byte[] data, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Читає кадр із позиції position; null — кадр обірваний або не збігається CRC
+     */
+    static Frame readFrame(byte[] data, int position) {
+        if (position + FRAME_HEADER > data.length) {
+            return null;
+        }
+        ByteBuffer view = ByteBuffer.wrap(data);
+        int length = view.getInt(position);
+        int body = position + FRAME_HEADER;
+        if (length < Long.BYTES + 1 || length > MAX_BODY || length > data.length - body) {
+            return null;
+        }
+        if (view.getInt(position + 4) != checksum(data, body, length)) {
+            return null;
+        }
+        return new Frame(view.getLong(body), data[body + Long.BYTES], data, body + Long.BYTES + 1, body + length);
+    }
+
+    /**
+     * Прочитаний кадр; end — позиція наступного кадру
+     */
+    record Frame(long sequence, byte type, byte[] data, int payloadOffset, int end) {
+
+        DataInput payload() {
+            return new DataInputStream(new ByteArrayInputStream(data, payloadOffset, end - payloadOffset));
+        }
+    }
+
+    /**
+     * Буфер, у який кадри кодуються один за одним перед спільним записом у канал
+     * Довжина і CRC дописуються в заголовок кадру, коли тіло вже закодоване.
+     */
+    static final class FrameBuffer extends ByteArrayOutputStream {
+
+        private final DataOutputStream data = new DataOutputStream(this);
+        private int frameStart;
+
+        FrameBuffer(int capacity) {
+            super(capacity);
+        }
+
+        DataOutput begin(long sequence, byte type) throws IOException {
+            frameStart = count;
+            data.writeLong(0);
+            data.writeLong(sequence);
+            data.writeByte(type);
+            return data;
+        }
+
+        void end() throws IOException {
+            int length = count - frameStart - FRAME_HEADER;
+            if (length > MAX_BODY) {
+                rollback();
+                throw new IOException("Запис журналу завеликий: " + length + " байт");
+            }
+            ByteBuffer view = ByteBuffer.wrap(buf, 0, count);
+            view.putInt(frameStart, length);
+            view.putInt(frameStart + 4, checksum(buf, frameStart + FRAME_HEADER, length));
+        }
+
+        /**
+         * Відкидає незавершений кадр, якщо кодування тіла не вдалося
+         */
+        void rollback() {
+            count = frameStart;
+        }
+
+        ByteBuffer bytes() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.model.OrderInfo;
+import java.util.List;
+
+/**
+ * Отримувач подій замовлень, зафіксованих у журналі
+ * Викликається з потоку запису журналу після fsync пакета, тож має бути швидким і не
+ * звертатися до журналу. Стан, відновлений при відкритті, подій не генерує.
+ */
+public interface OrderEventListener {
+
+    OrderEventListener NONE = order -> {
+    };
+
+    void onOrderCreated(OrderInfo order);
+
+    /**
+     * Зміна статусу; повторна установка того самого статусу подією не є
+     */
+    default void onStatusChanged(OrderInfo order, OrderStatus previous) {
+    }
+
+    /**
+     * Розсилає події всім отримувачам у заданому порядку
+     */
+    static OrderEventListener all(OrderEventListener... listeners) {
+        List<OrderEventListener> targets = List.of(listeners);
+        return new OrderEventListener() {
+            @Override
+            public void onOrderCreated(OrderInfo order) {
+                for (OrderEventListener listener : targets) {
+                    listener.onOrderCreated(order);
+                }
+            }
+
+            @Override
+            public void onStatusChanged(OrderInfo order, OrderStatus previous) {
+                for (OrderEventListener listener : targets) {
+                    listener.onStatusChanged(order, previous);
+                }
+            }
+        };
+    }
+}
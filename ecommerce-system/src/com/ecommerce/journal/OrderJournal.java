@@ -0,0 +1,839 @@
+package com.ecommerce.journal;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.journal.JournalCodec.Frame;
+import com.ecommerce.journal.JournalCodec.FrameBuffer;
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.util.Logger;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+/**
+ * Журнал попереднього запису (WAL) для створення замовлень і зміни їх статусу
+ * Кожна операція стає двійковим записом з довжиною і CRC, який дописується в кінець
+ * сегмента через FileChannel. Запис веде один потік: усі запити, що накопичилися,
+ * поки йшов попередній fsync, кодуються разом і фіксуються одним fsync (group commit),
+ * а виклик append()/updateStatus() повертається лише після того, як запис на диску.
+ * Кожні snapshotInterval записів стан зберігається у знімок. Потік запису лише копіює
+ * посилання на замовлення (вони незмінні) і починає новий сегмент — ця пауза
+ * вимірюється метрикою journal.snapshot.stall, — а сам знімок пишеться окремим потоком,
+ * поки записи йдуть далі; після нього покриті знімком сегменти видаляються. Помилка
+ * знімка не зачіпає зафіксованих записів: старі сегменти лишаються, а знімок
+ * повторюється при наступному запиті чи через наступні snapshotInterval записів.
+ * При відкритті стан відновлюється з останнього знімка і записів після нього;
+ * обірваний запис у кінці останнього сегмента (збій під час запису) відрізається.
+ * Зафіксовані створення і зміни статусу передаються OrderEventListener (аналітика в реальному часі).
+ */
+public class OrderJournal implements Closeable {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final Counter entriesWritten = metrics.counter("journal.entries");
+    private static final Counter commitsWritten = metrics.counter("journal.commits");
+    private static final LatencyHistogram commitLatency = metrics.histogram("journal.commit.latency");
+    private static final LatencyHistogram snapshotStall = metrics.histogram("journal.snapshot.stall");
+    private static final LatencyHistogram snapshotLatency = metrics.histogram("journal.snapshot.latency");
+    private static final Counter snapshotFailures = metrics.counter("journal.snapshot.failures");
+    private static final Counter ordersCreated = metrics.counter("orders.created");
+    private static final Counter[] statusTransitions = new Counter[OrderStatus.values().length];
+
+    static {
+        for (OrderStatus status : OrderStatus.values()) {
+            statusTransitions[status.ordinal()] = metrics.counter("orders.status." + status.name());
+        }
+    }
+
+    private static final int SEGMENT_MAGIC = 0x4F57414C;   // "OWAL"
+    private static final int SNAPSHOT_MAGIC = 0x4F534E50;  // "OSNP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER = 8;
+    private static final int SNAPSHOT_HEADER = FILE_HEADER + Long.BYTES + Integer.BYTES;
+    private static final int SNAPSHOT_FLUSH_BYTES = 1024 * 1024;
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final Config config;
+    private final RecoveryReport recovery;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final Map<String, OrderInfo> committed;
+    private final Thread writer;
+    private final ExecutorService snapshotWriter;
+    private final OrderEventListener listener;
+
+    // Стан нижче належить потоку запису
+    private final Map<String, OrderInfo> state;
+    private final FrameBuffer frames = new FrameBuffer(64 * 1024);
+    private FileChannel segment;
+    private long segmentFirst;
+    private long lastSequence;
+    private long snapshotSequence;
+    private long entriesSinceSnapshot;
+    private CompletableFuture<Long> snapshotTask;
+    private final List<Request> snapshotWaiters = new ArrayList<>();
+
+    private volatile IOException failure;
+    private volatile long commitCount;
+    private volatile long entryCount;
+    private boolean closed;
+
+    private OrderJournal(Path directory, Config config, OrderEventListener listener, Recovered recovered) {
+        this.directory = directory;
+        this.config = config;
+        this.listener = listener;
+        this.recovery = recovered.report();
+        this.state = recovered.state();
+        this.committed = new ConcurrentHashMap<>(recovered.state());
+        this.segment = recovered.segment();
+        this.segmentFirst = recovered.segmentFirst();
+        this.lastSequence = recovered.lastSequence();
+        this.snapshotSequence = recovered.report().snapshotSequence();
+        this.entriesSinceSnapshot = lastSequence - snapshotSequence;
+        this.snapshotWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-journal-snapshot-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer = new Thread(this::runWriter, "order-journal-" + directory.getFileName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public static OrderJournal open(Path directory) throws IOException {
+        return open(directory, Config.defaults());
+    }
+
+    /**
+     * Відкриває журнал у каталозі, відновлюючи стан з наявних знімків і сегментів
+     */
+    public static OrderJournal open(Path directory, Config config) throws IOException {
+        return open(directory, config, OrderEventListener.NONE);
+    }
+
+    /**
+     * Відкриває журнал, передаючи listener кожне зафіксоване створення і зміну статусу
+     */
+    public static OrderJournal open(Path directory, Config config, OrderEventListener listener) throws IOException {
+        Objects.requireNonNull(directory, "Каталог журналу не може бути null");
+        Objects.requireNonNull(config, "Налаштування не можуть бути null");
+        Objects.requireNonNull(listener, "Отримувач подій не може бути null");
+        Files.createDirectories(directory);
+        Recovered recovered = recover(directory);
+        logger.info(recovered.report().getSummary() + " (" + directory + ")");
+        return new OrderJournal(directory, config, listener, recovered);
+    }
+
+    /**
+     * Записує нове замовлення; повертається, коли запис збережено на диску
+     *
+     * @throws IllegalArgumentException замовлення з таким ID вже є
+     */
+    public OrderInfo append(OrderInfo order) throws IOException {
+        Objects.requireNonNull(order, "Замовлення не може бути null");
+        return submit(new Request(RequestType.CREATE, order.orderId(), order, null));
+    }
+
+    /**
+     * Записує зміну статусу і повертає оновлене замовлення
+     *
+     * @throws IllegalArgumentException замовлення з таким ID немає
+     */
+    public OrderInfo updateStatus(String orderId, OrderStatus status) throws IOException {
+        Objects.requireNonNull(orderId, "ID замовлення не може бути null");
+        Objects.requireNonNull(status, "Статус не може бути null");
+        return submit(new Request(RequestType.STATUS, orderId, null, status));
+    }
+
+    /**
+     * Позачерговий знімок стану: усі записи до нього більше не потрібні для відновлення
+     * Повертається, коли знімок на диску; інші записи тим часом не чекають.
+     *
+     * @throws IOException знімок не вдалося записати; журнал при цьому працює далі
+     */
+    public void snapshot() throws IOException {
+        submit(new Request(RequestType.SNAPSHOT, null, null, null));
+    }
+
+    /**
+     * Зафіксоване замовлення або null, якщо такого немає
+     */
+    public OrderInfo find(String orderId) {
+        return committed.get(orderId);
+    }
+
+    public List<OrderInfo> getOrders() {
+        return List.copyOf(committed.values());
+    }
+
+    public int getOrderCount() {
+        return committed.size();
+    }
+
+    public RecoveryReport getRecovery() {
+        return recovery;
+    }
+
+    /**
+     * Кількість fsync; при паралельних записах вона менша за кількість записів
+     */
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    private OrderInfo submit(Request request) throws IOException {
+        synchronized (queue) {
+            if (closed) {
+                throw new IOException("Журнал замовлень закрито");
+            }
+            queue.add(request);
+        }
+        try {
+            return request.result().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Очікування запису в журнал перервано");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw new IOException(io.getMessage(), io);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Помилка запису в журнал", cause);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Request close = new Request(RequestType.CLOSE, null, null, null);
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(close);
+        }
+        try {
+            close.result().join();
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Очікування закриття журналу перервано");
+        }
+        logger.info("Журнал замовлень закрито: записів=" + entryCount + ", fsync=" + commitCount);
+    }
+
+    // ---------------------------------------------------------------- потік запису
+
+    private void runWriter() {
+        List<Request> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // Потік запису перериває лише close(), а він надсилає CLOSE
+                continue;
+            }
+            queue.drainTo(batch);
+            running = process(batch);
+            batch.clear();
+        }
+        finishSnapshots();
+        snapshotWriter.shutdown();
+        try {
+            segment.close();
+        } catch (IOException e) {
+            logger.error("Не вдалося закрити сегмент журналу", e);
+        }
+    }
+
+    /**
+     * Кодує пакет запитів, фіксує його одним fsync і відповідає всім очікувачам
+     *
+     * @return false, якщо в пакеті був запит на закриття
+     */
+    private boolean process(List<Request> batch) {
+        boolean running = true;
+        List<Request> written = new ArrayList<>(batch.size());
+        List<OrderInfo> results = new ArrayList<>(batch.size());
+        List<OrderStatus> previousStatuses = new ArrayList<>(batch.size());
+        List<Request> waiting = new ArrayList<>();
+        frames.reset();
+        collectSnapshot();
+
+        for (Request request : batch) {
+            if (failure != null && request.type() != RequestType.CLOSE) {
+                request.result().completeExceptionally(new IOException("Журнал недоступний після помилки запису", failure));
+                continue;
+            }
+            switch (request.type()) {
+                case CREATE, STATUS -> {
+                    try {
+                        OrderInfo previous = request.type() == RequestType.STATUS ? state.get(request.orderId()) : null;
+                        OrderInfo result = encode(request);
+                        written.add(request);
+                        results.add(result);
+                        previousStatuses.add(previous == null ? null : previous.status());
+                    } catch (IOException | RuntimeException e) {
+                        request.result().completeExceptionally(e);
+                    }
+                }
+                case SNAPSHOT -> snapshotWaiters.add(request);
+                case SNAPSHOT_DONE -> {
+                    // Лише пробуджує потік запису: знімок зібрано вище
+                }
+                case CLOSE -> {
+                    running = false;
+                    waiting.add(request);
+                }
+            }
+        }
+
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            if (!written.isEmpty()) {
+                commit(written.size());
+                for (int i = 0; i < written.size(); i++) {
+                    OrderInfo order = results.get(i);
+                    committed.put(order.orderId(), order);
+                    countCommitted(order, previousStatuses.get(i));
+                    written.get(i).result().complete(order);
+                }
+            }
+            if (!snapshotWaiters.isEmpty() || entriesSinceSnapshot >= config.snapshotInterval()) {
+                startSnapshot();
+            }
+            for (Request request : waiting) {
+                request.result().complete(null);
+            }
+        } catch (IOException e) {
+            // Стан потоку запису вже містить незафіксовані записи, тому журнал далі не приймає нічого
+            if (failure == null) {
+                failure = e;
+                logger.error("Помилка запису журналу замовлень у " + directory, e);
+            }
+            for (Request request : written) {
+                request.result().completeExceptionally(e);
+            }
+            for (Request request : snapshotWaiters) {
+                request.result().completeExceptionally(e);
+            }
+            snapshotWaiters.clear();
+            for (Request request : waiting) {
+                if (request.type() == RequestType.CLOSE) {
+                    request.result().complete(null);
+                } else {
+                    request.result().completeExceptionally(e);
+                }
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Перевіряє запит проти поточного стану, кодує його в пакет і застосовує до стану
+     */
+    private OrderInfo encode(Request request) throws IOException {
+        OrderInfo result;
+        byte type;
+        if (request.type() == RequestType.CREATE) {
+            if (state.containsKey(request.orderId())) {
+                throw new IllegalArgumentException("Замовлення " + request.orderId() + " вже є в журналі");
+            }
+            result = request.order();
+            type = JournalCodec.ORDER_CREATED;
+        } else {
+            OrderInfo current = state.get(request.orderId());
+            if (current == null) {
+                throw new IllegalArgumentException("Замовлення " + request.orderId() + " не знайдено в журналі");
+            }
+            result = current.withStatus(request.status());
+            type = JournalCodec.STATUS_CHANGED;
+        }
+
+        DataOutput out = frames.begin(lastSequence + 1, type);
+        try {
+            if (type == JournalCodec.ORDER_CREATED) {
+                JournalCodec.writeOrder(out, result);
+            } else {
+                out.writeUTF(request.orderId());
+                out.writeUTF(request.status().name());
+            }
+        } catch (IOException | RuntimeException e) {
+            frames.rollback();
+            throw e;
+        }
+        frames.end();
+
+        lastSequence++;
+        state.put(result.orderId(), result);
+        return result;
+    }
+
+    /**
+     * Метрики і події замовлень рахуються лише для зафіксованих записів; повторна
+     * установка того самого статусу не є переходом
+     */
+    private void countCommitted(OrderInfo order, OrderStatus previousStatus) {
+        try {
+            if (previousStatus == null) {
+                ordersCreated.increment();
+                listener.onOrderCreated(order);
+            } else if (previousStatus != order.status()) {
+                statusTransitions[order.status().ordinal()].increment();
+                listener.onStatusChanged(order, previousStatus);
+            }
+        } catch (RuntimeException e) {
+            // Запис уже на диску: помилка отримувача не має зупиняти журнал
+            logger.error("Помилка обробки події замовлення " + order.orderId(), e);
+        }
+    }
+
+    private void commit(int entries) throws IOException {
+        long start = System.nanoTime();
+        writeFully(segment, frames.bytes());
+        if (config.fsync()) {
+            segment.force(false);
+        }
+        commitLatency.recordSince(start);
+
+        entriesSinceSnapshot += entries;
+        entryCount += entries;
+        commitCount++;
+        entriesWritten.add(entries);
+        commitsWritten.increment();
+    }
+
+    /**
+     * Фіксує результат знімка, що пишеться окремим потоком, якщо він уже завершився
+     */
+    private void collectSnapshot() {
+        if (snapshotTask != null && snapshotTask.isDone()) {
+            if (!snapshotTask.isCompletedExceptionally()) {
+                snapshotSequence = snapshotTask.join();
+            }
+            snapshotTask = null;
+        }
+    }
+
+    /**
+     * Починає знімок поточного стану: копіює посилання на замовлення і переходить на новий
+     * сегмент, а запис файлу передає потоку знімків. Поки попередній знімок не завершено,
+     * запити чекають у snapshotWaiters; якщо ж за час знімка набралося ще snapshotInterval
+     * записів, потік запису чекає на нього, щоб сегменти не накопичувались.
+     */
+    private void startSnapshot() {
+        if (snapshotTask != null) {
+            if (entriesSinceSnapshot < config.snapshotInterval()) {
+                return;
+            }
+            awaitSnapshot();
+        }
+        long sequence = lastSequence;
+        List<Request> waiters = List.copyOf(snapshotWaiters);
+        snapshotWaiters.clear();
+        if (sequence == snapshotSequence) {
+            entriesSinceSnapshot = 0;
+            waiters.forEach(request -> request.result().complete(null));
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<OrderInfo> orders = List.copyOf(state.values());
+        try {
+            // Записи після знімка йдуть у новий сегмент; старі видаляються лише після знімка.
+            // Після невдалого знімка без нових записів поточний сегмент уже починається з sequence + 1.
+            if (segmentFirst != sequence + 1) {
+                FileChannel previous = segment;
+                segment = createSegment(directory, sequence + 1);
+                segmentFirst = sequence + 1;
+                previous.close();
+                syncDirectory(directory);
+            }
+        } catch (IOException e) {
+            snapshotFailures.increment();
+            logger.error("Не вдалося почати знімок журналу замовлень у " + directory, e);
+            entriesSinceSnapshot = 0;
+            waiters.forEach(request -> request.result().completeExceptionally(e));
+            return;
+        }
+        entriesSinceSnapshot = 0;
+        snapshotStall.recordSince(start);
+
+        CompletableFuture<Long> task = new CompletableFuture<>();
+        snapshotTask = task;
+        snapshotWriter.execute(() -> {
+            try {
+                writeSnapshot(sequence, orders);
+                task.complete(sequence);
+                waiters.forEach(request -> request.result().complete(null));
+            } catch (IOException | RuntimeException e) {
+                snapshotFailures.increment();
+                logger.error("Знімок журналу замовлень #" + sequence + " не записано, буде повторено", e);
+                task.completeExceptionally(e);
+                waiters.forEach(request -> request.result().completeExceptionally(e));
+            } finally {
+                queue.add(new Request(RequestType.SNAPSHOT_DONE, null, null, null));
+            }
+        });
+    }
+
+    private void awaitSnapshot() {
+        try {
+            snapshotTask.join();
+        } catch (RuntimeException e) {
+            // Помилку вже записано в лог і передано очікувачам
+        }
+        collectSnapshot();
+    }
+
+    /**
+     * При закритті дочекатися знімка в роботі і виконати запитані після нього
+     */
+    private void finishSnapshots() {
+        while (snapshotTask != null || !snapshotWaiters.isEmpty()) {
+            if (snapshotTask != null) {
+                awaitSnapshot();
+            }
+            if (!snapshotWaiters.isEmpty()) {
+                if (failure != null) {
+                    IOException e = new IOException("Журнал недоступний після помилки запису", failure);
+                    snapshotWaiters.forEach(request -> request.result().completeExceptionally(e));
+                    snapshotWaiters.clear();
+                } else {
+                    startSnapshot();
+                }
+            }
+        }
+    }
+
+    /**
+     * Записує знімок через тимчасовий файл і видаляє покриті ним сегменти та старі знімки
+     * Виконується потоком знімків; orders — копія стану на момент sequence.
+     */
+    private void writeSnapshot(long sequence, List<OrderInfo> orders) throws IOException {
+        long start = System.nanoTime();
+        // Буфер потоку знімків: frames належить потоку запису
+        FrameBuffer buffer = new FrameBuffer(64 * 1024);
+        Path target = directory.resolve(fileName(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + TEMPORARY_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER)
+                    .putInt(SNAPSHOT_MAGIC).putInt(FORMAT_VERSION).putLong(sequence).putInt(orders.size())
+                    .flip();
+            writeFully(channel, header);
+            for (OrderInfo order : orders) {
+                JournalCodec.writeOrder(buffer.begin(sequence, JournalCodec.SNAPSHOT_ORDER), order);
+                buffer.end();
+                if (buffer.size() >= SNAPSHOT_FLUSH_BYTES) {
+                    writeFully(channel, buffer.bytes());
+                    buffer.reset();
+                }
+            }
+            writeFully(channel, buffer.bytes());
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(directory);
+
+        // Записи старих сегментів уже є у знімку; поточний сегмент починається з sequence + 1
+        for (long first : listSequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (first <= sequence) {
+                Files.deleteIfExists(directory.resolve(fileName(SEGMENT_PREFIX, first, SEGMENT_SUFFIX)));
+            }
+        }
+        for (long older : listSequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (older < sequence) {
+                Files.deleteIfExists(directory.resolve(fileName(SNAPSHOT_PREFIX, older, SNAPSHOT_SUFFIX)));
+            }
+        }
+
+        snapshotLatency.recordSince(start);
+        logger.info("Знімок журналу замовлень #" + sequence + ": " + orders.size() + " замовлень за "
+                + (System.nanoTime() - start) / 1_000_000 + " мс");
+    }
+
+    // ---------------------------------------------------------------- відновлення
+
+    private static Recovered recover(Path directory) throws IOException {
+        long start = System.nanoTime();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                // Незавершений знімок: збій стався до перейменування
+                Files.delete(file);
+            }
+        }
+
+        Map<String, OrderInfo> state = new LinkedHashMap<>();
+        long snapshotSequence = 0;
+        List<Long> snapshots = listSequences(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (!snapshots.isEmpty()) {
+            snapshotSequence = snapshots.get(snapshots.size() - 1);
+            readSnapshot(directory.resolve(fileName(SNAPSHOT_PREFIX, snapshotSequence, SNAPSHOT_SUFFIX)),
+                    snapshotSequence, state);
+        }
+
+        long lastSequence = snapshotSequence;
+        int replayed = 0;
+        long truncatedBytes = 0;
+        Path current = null;
+        long currentFirst = 0;
+        List<Long> segments = listSequences(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = directory.resolve(fileName(SEGMENT_PREFIX, segments.get(i), SEGMENT_SUFFIX));
+            boolean last = i == segments.size() - 1;
+            byte[] data = Files.readAllBytes(file);
+            if (data.length < FILE_HEADER && last) {
+                // Збій під час створення сегмента: заголовок не встиг записатися
+                truncatedBytes += data.length;
+                Files.delete(file);
+                break;
+            }
+            checkHeader(file, data, SEGMENT_MAGIC);
+
+            int position = FILE_HEADER;
+            while (position < data.length) {
+                Frame frame = JournalCodec.readFrame(data, position);
+                if (frame == null) {
+                    if (!last) {
+                        throw new IOException("Пошкоджений запис у " + file + " на зміщенні " + position);
+                    }
+                    truncatedBytes += data.length - position;
+                    truncate(file, position);
+                    logger.warning("Обірваний запис у кінці " + file + ": відрізано " + (data.length - position) + " байт");
+                    break;
+                }
+                if (frame.sequence() > lastSequence) {
+                    if (frame.sequence() != lastSequence + 1) {
+                        throw new IOException("Пропуск у журналі " + file + ": очікувався запис #"
+                                + (lastSequence + 1) + ", знайдено #" + frame.sequence());
+                    }
+                    replay(file, frame, state);
+                    lastSequence = frame.sequence();
+                    replayed++;
+                }
+                position = frame.end();
+            }
+            if (last) {
+                current = file;
+                currentFirst = segments.get(i);
+            }
+        }
+
+        FileChannel segment;
+        if (current != null) {
+            segment = FileChannel.open(current, StandardOpenOption.WRITE);
+            segment.position(segment.size());
+        } else {
+            currentFirst = lastSequence + 1;
+            segment = createSegment(directory, currentFirst);
+            syncDirectory(directory);
+        }
+
+        RecoveryReport report = new RecoveryReport(snapshotSequence, replayed, truncatedBytes, state.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new Recovered(state, lastSequence, segment, currentFirst, report);
+    }
+
+    private static void readSnapshot(Path file, long sequence, Map<String, OrderInfo> state) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        checkHeader(file, data, SNAPSHOT_MAGIC);
+        if (data.length < SNAPSHOT_HEADER) {
+            throw new IOException("Пошкоджений знімок " + file);
+        }
+        ByteBuffer header = ByteBuffer.wrap(data);
+        if (header.getLong(FILE_HEADER) != sequence) {
+            throw new IOException("Номер знімка " + file + " не збігається з назвою файлу");
+        }
+        int count = header.getInt(FILE_HEADER + Long.BYTES);
+
+        int position = SNAPSHOT_HEADER;
+        for (int i = 0; i < count; i++) {
+            Frame frame = JournalCodec.readFrame(data, position);
+            if (frame == null || frame.type() != JournalCodec.SNAPSHOT_ORDER) {
+                throw new IOException("Пошкоджений знімок " + file + " на зміщенні " + position);
+            }
+            OrderInfo order = decode(file, frame);
+            state.put(order.orderId(), order);
+            position = frame.end();
+        }
+    }
+
+    private static void replay(Path file, Frame frame, Map<String, OrderInfo> state) throws IOException {
+        switch (frame.type()) {
+            case JournalCodec.ORDER_CREATED -> {
+                OrderInfo order = decode(file, frame);
+                state.put(order.orderId(), order);
+            }
+            case JournalCodec.STATUS_CHANGED -> {
+                DataInput payload = frame.payload();
+                String orderId;
+                OrderStatus status;
+                try {
+                    orderId = payload.readUTF();
+                    status = OrderStatus.valueOf(payload.readUTF());
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Невідомий статус у записі #" + frame.sequence() + " (" + file + ")", e);
+                }
+                OrderInfo current = state.get(orderId);
+                if (current == null) {
+                    throw new IOException("Запис #" + frame.sequence() + " змінює статус невідомого замовлення " + orderId);
+                }
+                // Відновлення не є новою зміною статусу, тому метрики тут не рахуються
+                state.put(orderId, new OrderInfo(orderId, current.customer(), current.products(),
+                        current.orderDate(), status, current.paymentMethod()));
+            }
+            default -> throw new IOException("Невідомий тип запису " + frame.type() + " у " + file);
+        }
+    }
+
+    private static OrderInfo decode(Path file, Frame frame) throws IOException {
+        try {
+            return JournalCodec.readOrder(frame.payload());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Некоректне замовлення в записі #" + frame.sequence() + " (" + file + ")", e);
+        }
+    }
+
+    private static void checkHeader(Path file, byte[] data, int magic) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(data);
+        if (data.length < FILE_HEADER || header.getInt(0) != magic) {
+            throw new IOException("Файл " + file + " не є файлом журналу замовлень");
+        }
+        if (header.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Непідтримувана версія формату " + header.getInt(4) + " у " + file);
+        }
+    }
+
+    private static FileChannel createSegment(Path directory, long firstSequence) throws IOException {
+        Path file = directory.resolve(fileName(SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        writeFully(channel, ByteBuffer.allocate(FILE_HEADER).putInt(SEGMENT_MAGIC).putInt(FORMAT_VERSION).flip());
+        channel.force(true);
+        return channel;
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * fsync каталогу, щоб створення і перейменування файлів пережили збій
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Не всі платформи дозволяють відкрити каталог як канал
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static String fileName(String prefix, long sequence, String suffix) {
+        return prefix + String.format("%020d", sequence) + suffix;
+    }
+
+    private static List<Long> listSequences(Path directory, String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private enum RequestType {
+        CREATE, STATUS, SNAPSHOT, SNAPSHOT_DONE, CLOSE
+    }
+
+    private record Request(RequestType type, String orderId, OrderInfo order, OrderStatus status,
+                           CompletableFuture<OrderInfo> result) {
+
+        Request(RequestType type, String orderId, OrderInfo order, OrderStatus status) {
+            this(type, orderId, order, status, new CompletableFuture<>());
+        }
+    }
+
+    private record Recovered(Map<String, OrderInfo> state, long lastSequence, FileChannel segment,
+                             long segmentFirst, RecoveryReport report) {
+    }
+
+    /**
+     * Налаштування журналу
+     *
+     * @param snapshotInterval кількість записів між автоматичними знімками
+     * @param fsync            чи чекати на fsync; false — лише запис у кеш ОС (тести, бенчмарки)
+     */
+    public record Config(int snapshotInterval, boolean fsync) {
+
+        public Config {
+            if (snapshotInterval <= 0) {
+                throw new IllegalArgumentException("Інтервал знімків має бути додатним");
+            }
+        }
+
+        public static Config defaults() {
+            return new Config(100_000, true);
+        }
+    }
+
+    /**
+     * Підсумок відновлення: з якого знімка почали, скільки записів повторено і скільки байтів відрізано
+     */
+    public record RecoveryReport(long snapshotSequence, int replayedEntries, long truncatedBytes, int orders,
+                                 long elapsedMillis) {
+
+        public String getSummary() {
+            return String.format("Відновлення журналу замовлень: знімок #%d, повторено записів=%d, "
+                            + "відрізано байтів=%d, замовлень=%d; %d мс",
+                    snapshotSequence, replayedEntries, truncatedBytes, orders, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.mapping;
+
+import com.ecommerce.exceptions.InvalidDataException;
+
+/**
+ * Перетворює текстове значення колонки CSV у значення компонента запису
+ */
+@FunctionalInterface
+public interface ColumnDecoder<T> {
+
+    T decode(String value, String column, int lineNumber) throws InvalidDataException;
+
+    /**
+     * Декодер дійсних чисел без упаковки для компонентів типу double
+     */
+    @FunctionalInterface
+    interface OfDouble extends ColumnDecoder<Double> {
+
+        double decodeDouble(String value, String column, int lineNumber) throws InvalidDataException;
+
+        @Override
+        default Double decode(String value, String column, int lineNumber) throws InvalidDataException {
+            return decodeDouble(value, column, lineNumber);
+        }
+    }
+
+    /**
+     * Декодер цілих чисел без упаковки для компонентів типу int
+     */
+    @FunctionalInterface
+    interface OfInt extends ColumnDecoder<Integer> {
+
+        int decodeInt(String value, String column, int lineNumber) throws InvalidDataException;
+
+        @Override
+        default Integer decode(String value, String column, int lineNumber) throws InvalidDataException {
+            return decodeInt(value, column, lineNumber);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.mapping;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.exceptions.InvalidDataException.ErrorCode;
+import com.ecommerce.util.EnumLookup;
+import com.ecommerce.util.FieldParsers;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * Стандартні декодери колонок з тими ж кодами помилок, що й у ручних парсерах
+ */
+public final class Decoders {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    private Decoders() {
+    }
+
+    public static ColumnDecoder<String> string() {
+        return (value, column, line) -> value;
+    }
+
+    public static ColumnDecoder<String> nonEmptyString() {
+        return (value, column, line) -> {
+            if (value == null || value.trim().isEmpty()) {
+                throw new InvalidDataException("Порожнє поле '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.EMPTY_VALUE);
+            }
+            return value;
+        };
+    }
+
+    public static ColumnDecoder<String> email() {
+        return (value, column, line) -> {
+            if (value == null || !EMAIL.matcher(value).matches()) {
+                throw new InvalidDataException("Невалідний email в рядку #" + line,
+                        column, value, ErrorCode.INVALID_EMAIL);
+            }
+            return value;
+        };
+    }
+
+    public static ColumnDecoder.OfDouble decimal(boolean allowNegative) {
+        return (value, column, line) -> {
+            double result;
+            try {
+                result = FieldParsers.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidDataException("Невірний формат числа '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.INVALID_FORMAT, e);
+            }
+            if (!allowNegative && result < 0) {
+                throw new InvalidDataException("Від'ємне значення '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.NEGATIVE_VALUE);
+            }
+            return result;
+        };
+    }
+
+    public static ColumnDecoder.OfInt integer(boolean allowNegative) {
+        return (value, column, line) -> {
+            int result;
+            try {
+                result = FieldParsers.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidDataException("Невірний формат числа '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.INVALID_FORMAT, e);
+            }
+            if (!allowNegative && result < 0) {
+                throw new InvalidDataException("Від'ємне значення '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.NEGATIVE_VALUE);
+            }
+            return result;
+        };
+    }
+
+    public static ColumnDecoder<LocalDate> isoDate() {
+        return (value, column, line) -> {
+            try {
+                return FieldParsers.parseIsoDate(value);
+            } catch (DateTimeParseException e) {
+                throw new InvalidDataException("Невірний формат дати в рядку #" + line,
+                        column, value, ErrorCode.INVALID_FORMAT, e);
+            }
+        };
+    }
+
+    public static <E extends Enum<E>> ColumnDecoder<E> enumOf(Class<E> type) {
+        EnumLookup<E> lookup = EnumLookup.of(type);
+        return (value, column, line) -> {
+            try {
+                return lookup.valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidDataException("Невірне значення '" + column + "' в рядку #" + line,
+                        column, value, ErrorCode.INVALID_ENUM_VALUE, e);
+            }
+        };
+    }
+
+    /**
+     * Порожнє значення перетворюється на null, інше — передається декодеру
+     */
+    public static <T> ColumnDecoder<T> optional(ColumnDecoder<T> decoder) {
+        return (value, column, line) -> value == null || value.isEmpty() ? null : decoder.decode(value, column, line);
+    }
+
+    /**
+     * Декодер за замовчуванням для типу компонента запису
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ColumnDecoder<?> forType(Class<?> type) {
+        if (type == String.class) {
+            return nonEmptyString();
+        } else if (type == double.class || type == Double.class) {
+            return decimal(true);
+        } else if (type == int.class || type == Integer.class) {
+            return integer(true);
+        } else if (type == LocalDate.class) {
+            return isoDate();
+        } else if (type.isEnum()) {
+            return enumOf((Class) type);
+        }
+        throw new IllegalArgumentException("Немає декодера за замовчуванням для типу " + type.getName());
+    }
+}
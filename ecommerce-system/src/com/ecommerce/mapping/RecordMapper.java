@@ -0,0 +1,286 @@
+package com.ecommerce.mapping;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.exceptions.InvalidDataException.ErrorCode;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Декларативне відображення рядків CSV у записи (record)
+ * Колонки зв'язуються з компонентами запису за назвою в заголовку, а не за позицією.
+ * Рефлексія використовується лише в build(): канонічний конструктор перетворюється
+ * на MethodHandle. bind() один раз обчислює індекси колонок і складає з конструктора
+ * та декодерів один типізований MethodHandle (String[], int) -> запис, тож обробка
+ * рядка — це декодування значень і виклик конструктора без проміжного Object[].
+ * Колонки double та int з декодерами ColumnDecoder.OfDouble / OfInt передаються
+ * в конструктор без упаковки.
+ */
+public final class RecordMapper<R extends Record> {
+
+    private static final MethodHandle DECODE;
+    private static final MethodHandle DECODE_DOUBLE;
+    private static final MethodHandle DECODE_INT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            DECODE = lookup.findStatic(RecordMapper.class, "decode", MethodType.methodType(Object.class,
+                    ColumnDecoder.class, String.class, boolean.class, int.class, String[].class, int.class));
+            DECODE_DOUBLE = lookup.findStatic(RecordMapper.class, "decodeDouble", MethodType.methodType(double.class,
+                    ColumnDecoder.OfDouble.class, String.class, int.class, String[].class, int.class));
+            DECODE_INT = lookup.findStatic(RecordMapper.class, "decodeInt", MethodType.methodType(int.class,
+                    ColumnDecoder.OfInt.class, String.class, int.class, String[].class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<R> type;
+    private final String[] components;
+    private final String[] columns;
+    private final ColumnDecoder<?>[] decoders;
+    private final boolean[] required;
+    private final MethodHandle constructor;
+
+    private RecordMapper(Class<R> type, String[] components, String[] columns, ColumnDecoder<?>[] decoders,
+                         boolean[] required, MethodHandle constructor) {
+        this.type = type;
+        this.components = components;
+        this.columns = columns;
+        this.decoders = decoders;
+        this.required = required;
+        this.constructor = constructor;
+    }
+
+    public static <R extends Record> Builder<R> of(Class<R> type) {
+        return new Builder<>(type);
+    }
+
+    public Class<R> getType() {
+        return type;
+    }
+
+    /**
+     * Зв'язує відображення з конкретним заголовком CSV
+     */
+    public Binding<R> bind(String[] header) throws InvalidDataException {
+        Objects.requireNonNull(header, "Заголовок не може бути null");
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            positions.putIfAbsent(normalize(header[i]), i);
+        }
+
+        int[] indexes = new int[columns.length];
+        int minLength = 0;
+        for (int c = 0; c < columns.length; c++) {
+            Integer position = positions.get(normalize(columns[c]));
+            if (position == null) {
+                if (required[c]) {
+                    throw new InvalidDataException(
+                            "Колонку '" + columns[c] + "' не знайдено в заголовку для " + type.getSimpleName(),
+                            columns[c],
+                            String.join(",", header),
+                            ErrorCode.MISSING_REQUIRED_FIELD
+                    );
+                }
+                indexes[c] = -1;
+            } else {
+                indexes[c] = position;
+                if (required[c]) {
+                    minLength = Math.max(minLength, position + 1);
+                }
+            }
+        }
+        return new Binding<>(this, binder(indexes), minLength);
+    }
+
+    /**
+     * Складає конструктор з декодерами колонок: кожен параметр конструктора замінюється
+     * обробником (String[], int) -> тип параметра, після чого всі пари аргументів
+     * зводяться до однієї
+     */
+    private MethodHandle binder(int[] indexes) {
+        MethodHandle binder = constructor;
+        // З кінця, щоб позиції ще не замінених параметрів не зсувались
+        for (int c = indexes.length - 1; c >= 0; c--) {
+            binder = MethodHandles.collectArguments(binder, c, argument(c, indexes[c]));
+        }
+        int[] reorder = new int[indexes.length * 2];
+        for (int i = 0; i < reorder.length; i++) {
+            reorder[i] = i % 2;
+        }
+        return MethodHandles.permuteArguments(binder,
+                MethodType.methodType(Object.class, String[].class, int.class), reorder);
+    }
+
+    private MethodHandle argument(int c, int index) {
+        Class<?> parameterType = constructor.type().parameterType(c);
+        ColumnDecoder<?> decoder = decoders[c];
+        MethodHandle argument;
+        if (index < 0) {
+            // Необов'язкова колонка відсутня в заголовку
+            return MethodHandles.dropArguments(MethodHandles.constant(parameterType, null), 0,
+                    String[].class, int.class);
+        } else if (parameterType == double.class && decoder instanceof ColumnDecoder.OfDouble) {
+            argument = MethodHandles.insertArguments(DECODE_DOUBLE, 0, decoder, components[c], index);
+        } else if (parameterType == int.class && decoder instanceof ColumnDecoder.OfInt) {
+            argument = MethodHandles.insertArguments(DECODE_INT, 0, decoder, components[c], index);
+        } else {
+            argument = MethodHandles.insertArguments(DECODE, 0, decoder, components[c], required[c], index);
+        }
+        return argument.asType(MethodType.methodType(parameterType, String[].class, int.class));
+    }
+
+    private static Object decode(ColumnDecoder<?> decoder, String column, boolean required, int index,
+                                 String[] values, int lineNumber) throws InvalidDataException {
+        String value = index < values.length ? values[index] : null;
+        if (value == null || (!required && value.isEmpty())) {
+            return null;
+        }
+        return decoder.decode(value, column, lineNumber);
+    }
+
+    /**
+     * Примітивні колонки завжди обов'язкові, тож їхній індекс менший за minLength
+     */
+    private static double decodeDouble(ColumnDecoder.OfDouble decoder, String column, int index,
+                                       String[] values, int lineNumber) throws InvalidDataException {
+        return decoder.decodeDouble(values[index], column, lineNumber);
+    }
+
+    private static int decodeInt(ColumnDecoder.OfInt decoder, String column, int index,
+                                 String[] values, int lineNumber) throws InvalidDataException {
+        return decoder.decodeInt(values[index], column, lineNumber);
+    }
+
+    private static String normalize(String column) {
+        return column.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Відображення, прив'язане до позицій колонок конкретного файлу
+     */
+    public static final class Binding<R extends Record> {
+
+        private final RecordMapper<R> mapper;
+        private final MethodHandle binder;
+        private final int minLength;
+
+        private Binding(RecordMapper<R> mapper, MethodHandle binder, int minLength) {
+            this.mapper = mapper;
+            this.binder = binder;
+            this.minLength = minLength;
+        }
+
+        public R map(String[] values, int lineNumber) throws InvalidDataException {
+            if (values.length < minLength) {
+                throw new InvalidDataException(
+                        "Недостатньо полів у рядку #" + lineNumber + ". Очікується: " + minLength
+                                + ", отримано: " + values.length,
+                        ErrorCode.MISSING_REQUIRED_FIELD
+                );
+            }
+
+            try {
+                return mapper.type.cast((Object) binder.invokeExact(values, lineNumber));
+            } catch (InvalidDataException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new InvalidDataException(
+                        "Неочікувана помилка при обробці рядка #" + lineNumber,
+                        ErrorCode.INVALID_FORMAT,
+                        e
+                );
+            } catch (Throwable e) {
+                if (e instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Помилка виклику конструктора " + mapper.type.getSimpleName(), e);
+            }
+        }
+    }
+
+    public static final class Builder<R extends Record> {
+
+        private final Class<R> type;
+        private final Map<String, Column> overrides = new LinkedHashMap<>();
+
+        private Builder(Class<R> type) {
+            this.type = Objects.requireNonNull(type, "Тип запису не може бути null");
+        }
+
+        /**
+         * Обов'язкова колонка з назвою компонента і власним декодером
+         */
+        public Builder<R> column(String component, ColumnDecoder<?> decoder) {
+            return column(component, component, decoder);
+        }
+
+        public Builder<R> column(String component, String header, ColumnDecoder<?> decoder) {
+            overrides.put(component, new Column(header, decoder, true));
+            return this;
+        }
+
+        /**
+         * Необов'язкова колонка: відсутня колонка або порожнє значення дають null
+         */
+        public Builder<R> optionalColumn(String component, ColumnDecoder<?> decoder) {
+            overrides.put(component, new Column(component, decoder, false));
+            return this;
+        }
+
+        public RecordMapper<R> build() {
+            RecordComponent[] recordComponents = type.getRecordComponents();
+            int n = recordComponents.length;
+            String[] names = new String[n];
+            String[] columns = new String[n];
+            ColumnDecoder<?>[] decoders = new ColumnDecoder<?>[n];
+            boolean[] required = new boolean[n];
+            Class<?>[] parameterTypes = new Class<?>[n];
+
+            List<String> unknown = new ArrayList<>(overrides.keySet());
+            for (int c = 0; c < n; c++) {
+                RecordComponent component = recordComponents[c];
+                names[c] = component.getName();
+                parameterTypes[c] = component.getType();
+                unknown.remove(names[c]);
+
+                Column column = overrides.get(names[c]);
+                if (column == null) {
+                    column = new Column(names[c], Decoders.forType(component.getType()), true);
+                }
+                if (!column.required() && component.getType().isPrimitive()) {
+                    throw new IllegalArgumentException("Примітивний компонент '" + names[c] + "' не може бути необов'язковим");
+                }
+                columns[c] = column.header();
+                decoders[c] = Objects.requireNonNull(column.decoder(), "Декодер не може бути null");
+                required[c] = column.required();
+            }
+            if (!unknown.isEmpty()) {
+                throw new IllegalArgumentException("Невідомі компоненти " + type.getSimpleName() + ": " + unknown);
+            }
+
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+                constructor = constructor.asType(constructor.type().changeReturnType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException("Канонічний конструктор " + type.getName() + " недоступний", e);
+            }
+            return new RecordMapper<>(type, names, columns, decoders, required, constructor);
+        }
+
+        private record Column(String header, ColumnDecoder<?> decoder, boolean required) {
+        }
+    }
+}
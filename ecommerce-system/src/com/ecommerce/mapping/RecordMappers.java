@@ -0,0 +1,23 @@
+package com.ecommerce.mapping;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.ProductInfo;
+
+/**
+ * Готові відображення для моделей з тими ж правилами валідації, що й у сервісах
+ */
+public final class RecordMappers {
+
+    public static final RecordMapper<ProductInfo> PRODUCTS = RecordMapper.of(ProductInfo.class)
+            .column("price", Decoders.decimal(false))
+            .column("stock", Decoders.integer(false))
+            .build();
+
+    public static final RecordMapper<CustomerInfo> CUSTOMERS = RecordMapper.of(CustomerInfo.class)
+            .column("email", Decoders.email())
+            .optionalColumn("phone", Decoders.string())
+            .build();
+
+    private RecordMappers() {
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Лічильник на основі LongAdder (розподілені комірки, без конкуренції між потоками)
+ */
+public class Counter implements CounterMBean {
+
+    private final LongAdder adder = new LongAdder();
+    private final long createdNanos = System.nanoTime();
+
+    // Знімок для обчислення швидкості між двома зчитуваннями (наприклад, JMX scrape)
+    private long lastCount;
+    private long lastNanos = createdNanos;
+
+    public void increment() {
+        adder.increment();
+    }
+
+    public void add(long delta) {
+        adder.add(delta);
+    }
+
+    @Override
+    public long getCount() {
+        return adder.sum();
+    }
+
+    @Override
+    public double getMeanRatePerSecond() {
+        long elapsed = System.nanoTime() - createdNanos;
+        return elapsed <= 0 ? 0.0 : getCount() * 1e9 / elapsed;
+    }
+
+    /**
+     * Швидкість з моменту попереднього виклику цього методу
+     */
+    @Override
+    public synchronized double getRatePerSecond() {
+        long now = System.nanoTime();
+        long count = getCount();
+        double rate = now == lastNanos ? 0.0 : (count - lastCount) * 1e9 / (now - lastNanos);
+        lastCount = count;
+        lastNanos = now;
+        return rate;
+    }
+}
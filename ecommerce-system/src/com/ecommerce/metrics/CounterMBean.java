@@ -0,0 +1,10 @@
+package com.ecommerce.metrics;
+
+public interface CounterMBean {
+
+    long getCount();
+
+    double getMeanRatePerSecond();
+
+    double getRatePerSecond();
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Показник, значення якого обчислюється в момент зчитування
+ */
+public class Gauge implements GaugeMBean {
+
+    private final DoubleSupplier supplier;
+
+    public Gauge(DoubleSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public double getValue() {
+        return supplier.getAsDouble();
+    }
+}
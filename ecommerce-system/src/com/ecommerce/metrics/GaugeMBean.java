@@ -0,0 +1,6 @@
+package com.ecommerce.metrics;
+
+public interface GaugeMBean {
+
+    double getValue();
+}
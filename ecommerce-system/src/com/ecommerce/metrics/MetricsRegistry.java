@@ -0,0 +1,148 @@
+package com.ecommerce.metrics;
+
+import com.ecommerce.util.Logger;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Реєстр метрик застосунку
+ * Кожна метрика реєструється в платформному MBeanServer як
+ * com.ecommerce:type=Counter|Gauge|LatencyHistogram,name=...
+ */
+public class MetricsRegistry {
+
+    private static final String DOMAIN = "com.ecommerce";
+    private static MetricsRegistry instance;
+
+    private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+    private final MBeanServer mBeanServer;
+
+    private MetricsRegistry(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry(ManagementFactory.getPlatformMBeanServer());
+        }
+        return instance;
+    }
+
+    /**
+     * Окремий реєстр без JMX (для тестів і вбудованого використання)
+     */
+    public static MetricsRegistry createLocal() {
+        return new MetricsRegistry(null);
+    }
+
+    public Counter counter(String name) {
+        return getOrCreate(name, Counter.class, n -> new Counter());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return getOrCreate(name, LatencyHistogram.class, n -> new LatencyHistogram());
+    }
+
+    public Gauge gauge(String name, DoubleSupplier supplier) {
+        return getOrCreate(name, Gauge.class, n -> new Gauge(supplier));
+    }
+
+    /**
+     * Прибирає метрику з реєстру і JMX, лише якщо під назвою зареєстровано саме її
+     * Так власник метрики (наприклад, закритий кеш) не прибере метрику, яку вже
+     * перереєстрував його наступник.
+     *
+     * @return true, якщо метрику прибрано
+     */
+    public boolean remove(String name, Object metric) {
+        if (!metrics.remove(name, metric)) {
+            return false;
+        }
+        unregister(name, metric);
+        return true;
+    }
+
+    /**
+     * Прибирає метрику з реєстру і JMX незалежно від її власника
+     */
+    public void remove(String name) {
+        Object metric = metrics.remove(name);
+        if (metric != null) {
+            unregister(name, metric);
+        }
+    }
+
+    private <T> T getOrCreate(String name, Class<T> type, Function<String, T> factory) {
+        Object metric = metrics.get(name);
+        if (metric == null) {
+            metric = metrics.computeIfAbsent(name, n -> register(n, type, factory.apply(n)));
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Метрика '" + name + "' вже зареєстрована з типом "
+                    + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    private <T> T register(String name, Class<T> type, T metric) {
+        if (mBeanServer != null) {
+            try {
+                ObjectName objectName = objectName(name, type);
+                if (!mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.registerMBean(metric, objectName);
+                }
+            } catch (JMException e) {
+                Logger.getInstance().warning("Не вдалося зареєструвати метрику в JMX: " + name
+                        + " (" + e.getMessage() + ")");
+            }
+        }
+        return metric;
+    }
+
+    private void unregister(String name, Object metric) {
+        if (mBeanServer != null) {
+            try {
+                ObjectName objectName = objectName(name, metric.getClass());
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                Logger.getInstance().warning("Не вдалося прибрати метрику з JMX: " + name
+                        + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private static ObjectName objectName(String name, Class<?> type) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type.getSimpleName() + ",name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Текстовий знімок усіх метрик у алфавітному порядку
+     */
+    public String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Object> entry : new TreeMap<>(metrics).entrySet()) {
+            Object metric = entry.getValue();
+            sb.append(entry.getKey()).append(": ");
+            if (metric instanceof Counter counter) {
+                sb.append(counter.getCount());
+            } else if (metric instanceof Gauge gauge) {
+                sb.append(gauge.getValue());
+            } else if (metric instanceof LatencyHistogram histogram) {
+                sb.append(String.format("count=%d, p50=%.1f мкс, p99=%.1f мкс, max=%.1f мкс",
+                        histogram.getCount(), histogram.getP50Micros(),
+                        histogram.getP99Micros(), histogram.getMaxMicros()));
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
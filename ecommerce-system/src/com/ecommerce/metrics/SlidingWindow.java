@@ -0,0 +1,117 @@
+package com.ecommerce.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Суми кількох лічильників за останній проміжок часу (ковзне вікно на кільцевому буфері)
+ * Вікно поділене на кошики фіксованої тривалості; кошик знає свій часовий слот і
+ * замінюється новим через CAS, коли час повертається до тієї ж позиції в кільці.
+ * Запис — одна атомарна операція без блокувань, читання лише підсумовує кошики поточного
+ * вікна, тож вартість обох не залежить від інтенсивності подій.
+ * Поточний кошик заповнений частково, тому фактичний проміжок — від (buckets - 1) до buckets
+ * тривалостей кошика.
+ */
+public class SlidingWindow {
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int fields;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    /**
+     * @param span    тривалість вікна
+     * @param buckets кількість кошиків (роздільна здатність вікна)
+     * @param fields  кількість незалежних лічильників у кожному кошику
+     */
+    public SlidingWindow(Duration span, int buckets, int fields, Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock не може бути null");
+        if (buckets <= 0 || fields <= 0) {
+            throw new IllegalArgumentException("Кількість кошиків і лічильників має бути додатною");
+        }
+        if (span.toMillis() < buckets) {
+            throw new IllegalArgumentException("Кошик вікна має тривати щонайменше 1 мс");
+        }
+        this.bucketMillis = span.toMillis() / buckets;
+        this.fields = fields;
+        this.ring = new AtomicReferenceArray<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            ring.set(i, new Bucket(Long.MIN_VALUE, fields));
+        }
+    }
+
+    public void add(int field, long delta) {
+        long slot = Math.floorDiv(clock.millis(), bucketMillis);
+        int index = (int) Math.floorMod(slot, (long) ring.length());
+        Bucket bucket = ring.get(index);
+        while (bucket.slot != slot) {
+            if (bucket.slot > slot) {
+                // Подія старша за кошик на її місці — вона вже випала з вікна
+                return;
+            }
+            Bucket fresh = new Bucket(slot, fields);
+            if (ring.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = ring.get(index);
+            }
+        }
+        bucket.values.addAndGet(field, delta);
+    }
+
+    public void increment(int field) {
+        add(field, 1);
+    }
+
+    /**
+     * Сума лічильника за вікно
+     */
+    public long sum(int field) {
+        long current = Math.floorDiv(clock.millis(), bucketMillis);
+        long oldest = current - ring.length() + 1;
+        long total = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket.slot >= oldest && bucket.slot <= current) {
+                total += bucket.values.get(field);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Суми всіх лічильників, зібрані за один прохід по кошиках
+     */
+    public long[] sums() {
+        long current = Math.floorDiv(clock.millis(), bucketMillis);
+        long oldest = current - ring.length() + 1;
+        long[] totals = new long[fields];
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket.slot >= oldest && bucket.slot <= current) {
+                for (int field = 0; field < fields; field++) {
+                    totals[field] += bucket.values.get(field);
+                }
+            }
+        }
+        return totals;
+    }
+
+    public Duration getSpan() {
+        return Duration.ofMillis(bucketMillis * ring.length());
+    }
+
+    private static final class Bucket {
+
+        final long slot;
+        final AtomicLongArray values;
+
+        Bucket(long slot, int fields) {
+            this.slot = slot;
+            this.values = new AtomicLongArray(fields);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.ecommerce.model;
 
 import ua.util.Utils;
 import java.time.LocalDate;
-import java.time.Period;
 import java.util.Objects;
 
 public record CustomerInfo(
@@ -46,6 +45,34 @@ public record CustomerInfo(
         }
     }
 
+    public enum MembershipStatus {
+        NEW("🌱 Новий клієнт"),
+        REGULAR("👤 Постійний клієнт"),
+        VIP("⭐ VIP клієнт"),
+        PREMIUM("💎 Преміум клієнт");
+
+        private final String label;
+
+        MembershipStatus(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static MembershipStatus fromMonths(int months) {
+            if (months < 3) {
+                return NEW;
+            } else if (months < 12) {
+                return REGULAR;
+            } else if (months < 24) {
+                return VIP;
+            }
+            return PREMIUM;
+        }
+    }
+
     // Compact constructor
     public CustomerInfo {
         Objects.requireNonNull(firstName, "Ім'я не може бути null");
@@ -79,8 +106,48 @@ public record CustomerInfo(
     }
 
     public int getMembershipMonths() {
-        return Period.between(registrationDate, LocalDate.now()).getMonths() +
-                Period.between(registrationDate, LocalDate.now()).getYears() * 12;
+        return getMembershipMonths(LocalDate.now());
+    }
+
+    /**
+     * Кількість повних місяців членства на вказану дату
+     * Цілочисельний еквівалент Period.between(...).toTotalMonths() без створення Period
+     */
+    public int getMembershipMonths(LocalDate today) {
+        return monthsSinceRegistration(today.getYear(), today.getMonthValue(), today.getDayOfMonth());
+    }
+
+    /**
+     * Те саме для дати, заданої номером дня від епохи; рік, місяць і день обчислюються
+     * з номера дня цілочисельно (алгоритм civil_from_days Г. Гіннанта), без LocalDate
+     */
+    public int getMembershipMonths(long todayEpochDay) {
+        // Зсув до 0000-03-01: рік починається з березня, тож 29 лютого — останній день року
+        long shifted = todayEpochDay + 719_468;
+        long era = (shifted >= 0 ? shifted : shifted - 146_096) / 146_097;
+        int dayOfEra = (int) (shifted - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+        return monthsSinceRegistration(year, month, day);
+    }
+
+    private int monthsSinceRegistration(int year, int month, int day) {
+        int months = (year - registrationDate.getYear()) * 12 + month - registrationDate.getMonthValue();
+        int days = day - registrationDate.getDayOfMonth();
+        if (months > 0 && days < 0) {
+            months--;
+        } else if (months < 0 && days > 0) {
+            months++;
+        }
+        return months;
+    }
+
+    public MembershipStatus getMembershipStatus(LocalDate today) {
+        return MembershipStatus.fromMonths(getMembershipMonths(today));
     }
 
     public double getDiscount() {
@@ -93,18 +160,7 @@ public record CustomerInfo(
     }
 
     public String getMembershipStatus() {
-        int months = getMembershipMonths();
-        if (months < 3) {
-            return "🌱 Новий клієнт";
-        } else if (months >= 3 && months < 12) {
-            return "👤 Постійний клієнт";
-        } else if (months >= 12 && months < 24) {
-            return "⭐ VIP клієнт";
-        } else if (months >= 24) {
-            return "💎 Преміум клієнт";
-        } else {
-            return "Клієнт";
-        }
+        return getMembershipStatus(LocalDate.now()).getLabel();
     }
 
     // Factory methods
@@ -66,6 +66,9 @@ public record OrderInfo(
     }
 
     public OrderInfo withStatus(OrderStatus newStatus) {
+        if (newStatus == status) {
+            return this;
+        }
         return new OrderInfo(orderId, customer, products, orderDate, newStatus, paymentMethod);
     }
 
@@ -0,0 +1,67 @@
+package com.ecommerce.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public record ProductRating(
+        String productName,
+        int[] distribution
+) {
+
+    // Compact constructor
+    public ProductRating {
+        Objects.requireNonNull(productName, "Назва товару не може бути null");
+        Objects.requireNonNull(distribution, "Розподіл оцінок не може бути null");
+
+        if (distribution.length != 5) {
+            throw new IllegalArgumentException("Розподіл оцінок має містити 5 значень");
+        }
+
+        distribution = distribution.clone();
+    }
+
+    @Override
+    public int[] distribution() {
+        return distribution.clone();
+    }
+
+    public int getCount(int rating) {
+        return distribution[rating - 1];
+    }
+
+    public long getReviewCount() {
+        long count = 0;
+        for (int value : distribution) {
+            count += value;
+        }
+        return count;
+    }
+
+    public double getAverage() {
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            count += distribution[i];
+            sum += (long) distribution[i] * (i + 1);
+        }
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ProductRating other)) return false;
+        return productName.equals(other.productName) && Arrays.equals(distribution, other.distribution);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * productName.hashCode() + Arrays.hashCode(distribution);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProductRating[%s, середня=%.2f, відгуків=%d, розподіл=%s]",
+                productName, getAverage(), getReviewCount(), Arrays.toString(distribution));
+    }
+}
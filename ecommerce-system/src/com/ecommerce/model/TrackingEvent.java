@@ -0,0 +1,30 @@
+package com.ecommerce.model;
+
+import com.ecommerce.enums.ShipmentStatus;
+import java.util.Objects;
+
+public record TrackingEvent(
+        String trackingNumber,
+        ShipmentStatus status,
+        long epochSecond
+) {
+
+    // Compact constructor
+    public TrackingEvent {
+        Objects.requireNonNull(trackingNumber, "Трекінг номер не може бути null");
+        Objects.requireNonNull(status, "Статус не може бути null");
+
+        if (trackingNumber.isBlank()) {
+            throw new IllegalArgumentException("Трекінг номер не може бути пустим");
+        }
+        if (epochSecond < 0) {
+            throw new IllegalArgumentException("Час події не може бути від'ємним");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TrackingEvent[%s, status=%s, time=%d]",
+                trackingNumber, status.getUkrainianName(), epochSecond);
+    }
+}
@@ -0,0 +1,400 @@
+package com.ecommerce.query;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.index.RoaringBitmap;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.query.QueryNode.Operator;
+import com.ecommerce.query.QueryParser.ParsedQuery;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.IntPredicate;
+
+/**
+ * Запит, скомпільований під конкретний каталог
+ * План: умови верхнього рівня, з'єднані AND, для яких є індекс (категорія, наявність
+ * на складі, слова назви), перетинаються як бітові множини і дають рядки-кандидати; решта умов
+ * компілюється в IntPredicate над колонками каталогу — окрема лямбда для кожного
+ * поля й оператора, без розбору дерева під час виконання. ORDER BY з LIMIT тримає
+ * лише LIMIT найкращих рядків у купі замість сортування всіх знайдених.
+ */
+public final class CompiledQuery {
+
+    private static final LatencyHistogram queryLatency = MetricsRegistry.getInstance().histogram("query.products.latency");
+
+    private final ProductCatalog catalog;
+    private final String query;
+    private final int[] candidates;
+    private final String source;
+    private final IntPredicate filter;
+    private final String filterDescription;
+    private final RowComparator order;
+    private final String orderDescription;
+    private final int limit;
+
+    CompiledQuery(ProductCatalog catalog, String query, ParsedQuery parsed) {
+        this.catalog = catalog;
+        this.query = query;
+        this.limit = parsed.limit();
+
+        List<QueryNode> conjuncts = new ArrayList<>();
+        if (parsed.filter() instanceof QueryNode.And and) {
+            conjuncts.addAll(and.children());
+        } else if (parsed.filter() != null) {
+            conjuncts.add(parsed.filter());
+        }
+
+        // Усі умови з індексом перетинаються як бітові множини і дають рядки-кандидати
+        List<RoaringBitmap> indexed = new ArrayList<>();
+        StringJoiner indexDescription = new StringJoiner(" AND ");
+        for (Iterator<QueryNode> it = conjuncts.iterator(); it.hasNext(); ) {
+            QueryNode conjunct = it.next();
+            RoaringBitmap rows = indexRows(conjunct);
+            if (rows != null) {
+                indexed.add(rows);
+                indexDescription.add(describe(conjunct));
+                it.remove();
+            }
+        }
+        this.candidates = indexed.isEmpty()
+                ? null
+                : RoaringBitmap.intersection(indexed.toArray(new RoaringBitmap[0])).toArray();
+        this.source = indexed.isEmpty()
+                ? "повний перегляд (" + catalog.size() + " рядків)"
+                : "індекс " + indexDescription + " (" + candidates.length + " рядків)";
+
+        IntPredicate compiled = null;
+        StringJoiner description = new StringJoiner(" AND ");
+        for (QueryNode conjunct : conjuncts) {
+            IntPredicate predicate = compile(conjunct);
+            compiled = compiled == null ? predicate : compiled.and(predicate);
+            description.add(describe(conjunct));
+        }
+        this.filter = compiled;
+        this.filterDescription = compiled == null ? null : description.toString();
+
+        if (parsed.orderBy() != null) {
+            RowComparator comparator = comparatorFor(parsed.orderBy());
+            this.order = parsed.descending() ? (a, b) -> comparator.compare(b, a) : comparator;
+            this.orderDescription = parsed.orderBy().getQueryName() + (parsed.descending() ? " DESC" : " ASC");
+        } else {
+            this.order = null;
+            this.orderDescription = null;
+        }
+    }
+
+    /**
+     * Виконує запит; результат у порядку ORDER BY або в порядку каталогу
+     */
+    public List<ProductInfo> execute() {
+        long start = System.nanoTime();
+        int[] rows = order == null ? scanInOrder() : scanTop();
+        List<ProductInfo> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(catalog.get(row));
+        }
+        queryLatency.recordSince(start);
+        return result;
+    }
+
+    /**
+     * План виконання у читабельному вигляді
+     */
+    public String explain() {
+        StringBuilder plan = new StringBuilder("Запит: ").append(query).append("\n  джерело: ").append(source);
+        if (filterDescription != null) {
+            plan.append("\n  фільтр: ").append(filterDescription);
+        }
+        if (order != null) {
+            plan.append(limit >= 0
+                    ? "\n  купа на " + limit + " найкращих за " + orderDescription
+                    : "\n  сортування за " + orderDescription);
+        } else if (limit >= 0) {
+            plan.append("\n  зупинка після ").append(limit).append(" рядків");
+        }
+        return plan.toString();
+    }
+
+    private int[] scanInOrder() {
+        int total = candidates != null ? candidates.length : catalog.size();
+        int[] found = new int[limit >= 0 ? Math.min(limit, total) : total];
+        int count = 0;
+        for (int i = 0; i < total && count < found.length; i++) {
+            int row = candidates != null ? candidates[i] : i;
+            if (filter == null || filter.test(row)) {
+                found[count++] = row;
+            }
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    private int[] scanTop() {
+        int total = candidates != null ? candidates.length : catalog.size();
+        TopRows top = new TopRows(limit >= 0 ? Math.min(limit, total) : total, order);
+        if (top.capacity() == 0) {
+            return new int[0];
+        }
+        for (int i = 0; i < total; i++) {
+            int row = candidates != null ? candidates[i] : i;
+            if (filter == null || filter.test(row)) {
+                top.offer(row);
+            }
+        }
+        return top.drainSorted();
+    }
+
+    private RoaringBitmap indexRows(QueryNode node) {
+        if (node instanceof QueryNode.CategoryTest test) {
+            return catalog.bitmaps.categories(test.categories());
+        }
+        if (node instanceof QueryNode.NumberTest test && test.field() == ProductField.STOCK
+                && (test.operator() == Operator.GT && test.value() == 0
+                || test.operator() == Operator.GE && test.value() == 1)) {
+            return catalog.bitmaps.inStock();
+        }
+        if (node instanceof QueryNode.Matches matches) {
+            return RoaringBitmap.of(catalog.nameIndex.searchAll(matches.text()));
+        }
+        return null;
+    }
+
+    private IntPredicate compile(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            IntPredicate result = compile(and.children().get(0));
+            for (int i = 1; i < and.children().size(); i++) {
+                result = result.and(compile(and.children().get(i)));
+            }
+            return result;
+        }
+        if (node instanceof QueryNode.Or or) {
+            IntPredicate result = compile(or.children().get(0));
+            for (int i = 1; i < or.children().size(); i++) {
+                result = result.or(compile(or.children().get(i)));
+            }
+            return result;
+        }
+        if (node instanceof QueryNode.Not not) {
+            return compile(not.child()).negate();
+        }
+        if (node instanceof QueryNode.NumberTest test) {
+            return switch (test.field()) {
+                case PRICE -> compareDouble(catalog.prices, test.operator(), test.value());
+                case STOCK -> compareInt(catalog.stocks, test.operator(), test.value());
+                case CREATED_DATE -> compareLong(catalog.createdDays, test.operator(), (long) test.value());
+                default -> throw new IllegalStateException("Нечислове поле " + test.field());
+            };
+        }
+        if (node instanceof QueryNode.NameTest test) {
+            String[] names = catalog.names;
+            String value = test.value();
+            return test.equal() ? row -> names[row].equals(value) : row -> !names[row].equals(value);
+        }
+        if (node instanceof QueryNode.CategoryTest test) {
+            boolean[] allowed = new boolean[ProductCategory.values().length];
+            for (ProductCategory category : test.categories()) {
+                allowed[category.ordinal()] = true;
+            }
+            byte[] categories = catalog.categories;
+            return row -> allowed[categories[row]];
+        }
+        if (node instanceof QueryNode.Matches matches) {
+            BitSet rows = new BitSet(catalog.size());
+            for (int row : catalog.nameIndex.searchAll(matches.text())) {
+                rows.set(row);
+            }
+            return rows::get;
+        }
+        throw new IllegalStateException("Невідомий вузол запиту " + node);
+    }
+
+    private static IntPredicate compareDouble(double[] column, Operator operator, double value) {
+        return switch (operator) {
+            case EQ -> row -> column[row] == value;
+            case NE -> row -> column[row] != value;
+            case LT -> row -> column[row] < value;
+            case LE -> row -> column[row] <= value;
+            case GT -> row -> column[row] > value;
+            case GE -> row -> column[row] >= value;
+        };
+    }
+
+    private static IntPredicate compareInt(int[] column, Operator operator, double value) {
+        return switch (operator) {
+            case EQ -> row -> column[row] == value;
+            case NE -> row -> column[row] != value;
+            case LT -> row -> column[row] < value;
+            case LE -> row -> column[row] <= value;
+            case GT -> row -> column[row] > value;
+            case GE -> row -> column[row] >= value;
+        };
+    }
+
+    private static IntPredicate compareLong(long[] column, Operator operator, long value) {
+        return switch (operator) {
+            case EQ -> row -> column[row] == value;
+            case NE -> row -> column[row] != value;
+            case LT -> row -> column[row] < value;
+            case LE -> row -> column[row] <= value;
+            case GT -> row -> column[row] > value;
+            case GE -> row -> column[row] >= value;
+        };
+    }
+
+    private RowComparator comparatorFor(ProductField field) {
+        return switch (field) {
+            case PRICE -> {
+                double[] prices = catalog.prices;
+                yield (a, b) -> {
+                    int result = Double.compare(prices[a], prices[b]);
+                    return result != 0 ? result : Integer.compare(a, b);
+                };
+            }
+            case STOCK -> {
+                int[] stocks = catalog.stocks;
+                yield (a, b) -> {
+                    int result = Integer.compare(stocks[a], stocks[b]);
+                    return result != 0 ? result : Integer.compare(a, b);
+                };
+            }
+            case CREATED_DATE -> {
+                long[] days = catalog.createdDays;
+                yield (a, b) -> {
+                    int result = Long.compare(days[a], days[b]);
+                    return result != 0 ? result : Integer.compare(a, b);
+                };
+            }
+            case NAME -> {
+                String[] names = catalog.names;
+                yield (a, b) -> {
+                    int result = names[a].compareTo(names[b]);
+                    return result != 0 ? result : Integer.compare(a, b);
+                };
+            }
+            case CATEGORY -> throw new IllegalStateException("Сортування за категорією не підтримується");
+        };
+    }
+
+    private static String describe(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            StringJoiner joiner = new StringJoiner(" AND ", "(", ")");
+            and.children().forEach(child -> joiner.add(describe(child)));
+            return joiner.toString();
+        }
+        if (node instanceof QueryNode.Or or) {
+            StringJoiner joiner = new StringJoiner(" OR ", "(", ")");
+            or.children().forEach(child -> joiner.add(describe(child)));
+            return joiner.toString();
+        }
+        if (node instanceof QueryNode.Not not) {
+            return "NOT " + describe(not.child());
+        }
+        if (node instanceof QueryNode.NumberTest test) {
+            String value = test.field() == ProductField.CREATED_DATE
+                    ? "'" + LocalDate.ofEpochDay((long) test.value()) + "'"
+                    : String.valueOf(test.value());
+            return test.field().getQueryName() + " " + test.operator().getSymbol() + " " + value;
+        }
+        if (node instanceof QueryNode.NameTest test) {
+            return "name " + (test.equal() ? "=" : "!=") + " '" + test.value() + "'";
+        }
+        if (node instanceof QueryNode.CategoryTest test) {
+            StringJoiner joiner = new StringJoiner(", ", "category IN (", ")");
+            test.categories().forEach(category -> joiner.add(category.name()));
+            return joiner.toString();
+        }
+        if (node instanceof QueryNode.Matches matches) {
+            return "name MATCHES " + matches.terms();
+        }
+        return String.valueOf(node);
+    }
+
+    /**
+     * Порівняння рядків каталогу без упакування номерів у Integer
+     */
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * Обмежена купа номерів рядків: у корені найгірший із залишених
+     */
+    private static final class TopRows {
+
+        private final int[] heap;
+        private final RowComparator order;
+        private int size;
+
+        TopRows(int capacity, RowComparator order) {
+            this.heap = new int[capacity];
+            this.order = order;
+        }
+
+        int capacity() {
+            return heap.length;
+        }
+
+        void offer(int row) {
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(size++);
+            } else if (order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Повертає рядки від найкращого до найгіршого, спустошуючи купу
+         */
+        int[] drainSorted() {
+            int[] sorted = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sorted[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        private void siftUp(int index) {
+            int row = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (order.compare(heap[parent], row) >= 0) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = row;
+        }
+
+        private void siftDown(int index) {
+            if (size == 0) {
+                return;
+            }
+            int row = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < size && order.compare(heap[right], heap[child]) > 0) {
+                    child = right;
+                }
+                if (order.compare(row, heap[child]) >= 0) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = row;
+        }
+    }
+}
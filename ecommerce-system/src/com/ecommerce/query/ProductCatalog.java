@@ -0,0 +1,70 @@
+package com.ecommerce.query;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.index.ProductBitmapIndex;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.search.InvertedIndex;
+import java.util.List;
+
+/**
+ * Незмінний каталог товарів для запитів мовою фільтрів
+ * Поля товарів розкладені в масиви примітивів (по колонці на поле), щоб скомпільовані
+ * умови читали числа без розпакування об'єктів. Під час створення будуються індекси:
+ * бітові множини категорій і наявності та інвертований індекс слів назви
+ * (номер документа = номер рядка).
+ */
+public final class ProductCatalog {
+
+    private final ProductInfo[] products;
+    final String[] names;
+    final double[] prices;
+    final int[] stocks;
+    final byte[] categories;
+    final long[] createdDays;
+    final ProductBitmapIndex bitmaps;
+    final InvertedIndex nameIndex = new InvertedIndex();
+
+    public ProductCatalog(List<ProductInfo> products) {
+        int size = products.size();
+        this.products = products.toArray(new ProductInfo[0]);
+        this.names = new String[size];
+        this.prices = new double[size];
+        this.stocks = new int[size];
+        this.categories = new byte[size];
+        this.createdDays = new long[size];
+        this.bitmaps = new ProductBitmapIndex(products);
+
+        for (int row = 0; row < size; row++) {
+            ProductInfo product = this.products[row];
+            names[row] = product.name();
+            prices[row] = product.price();
+            stocks[row] = product.stock();
+            categories[row] = (byte) product.category().ordinal();
+            createdDays[row] = product.createdDate().toEpochDay();
+            nameIndex.add(product.name());
+        }
+    }
+
+    /**
+     * Розбирає і компілює запит; скомпільований запит можна виконувати багато разів
+     */
+    public CompiledQuery compile(String query) throws InvalidDataException {
+        return new CompiledQuery(this, query, QueryParser.parse(query));
+    }
+
+    public List<ProductInfo> query(String query) throws InvalidDataException {
+        return compile(query).execute();
+    }
+
+    public int size() {
+        return products.length;
+    }
+
+    public ProductBitmapIndex getBitmapIndex() {
+        return bitmaps;
+    }
+
+    ProductInfo get(int row) {
+        return products[row];
+    }
+}
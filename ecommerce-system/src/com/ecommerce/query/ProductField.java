@@ -0,0 +1,35 @@
+package com.ecommerce.query;
+
+/**
+ * Поля товару, доступні в запитах
+ */
+enum ProductField {
+    NAME("name"),
+    PRICE("price"),
+    STOCK("stock"),
+    CATEGORY("category"),
+    CREATED_DATE("createdDate");
+
+    private final String queryName;
+
+    ProductField(String queryName) {
+        this.queryName = queryName;
+    }
+
+    String getQueryName() {
+        return queryName;
+    }
+
+    boolean isNumeric() {
+        return this == PRICE || this == STOCK || this == CREATED_DATE;
+    }
+
+    static ProductField fromQueryName(String name) {
+        for (ProductField field : values()) {
+            if (field.queryName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.query;
+
+import com.ecommerce.enums.ProductCategory;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Дерево умови запиту після розбору
+ */
+sealed interface QueryNode {
+
+    record And(List<QueryNode> children) implements QueryNode {
+    }
+
+    record Or(List<QueryNode> children) implements QueryNode {
+    }
+
+    record Not(QueryNode child) implements QueryNode {
+    }
+
+    /**
+     * Порівняння числового поля; дата зберігається як номер дня від епохи
+     */
+    record NumberTest(ProductField field, Operator operator, double value) implements QueryNode {
+    }
+
+    record NameTest(boolean equal, String value) implements QueryNode {
+    }
+
+    /**
+     * Належність категорії до множини; =, !=, in і not in зводяться до неї
+     */
+    record CategoryTest(EnumSet<ProductCategory> categories) implements QueryNode {
+    }
+
+    /**
+     * Назва містить усі слова (за правилами Tokenizer)
+     */
+    record Matches(String text, List<String> terms) implements QueryNode {
+    }
+
+    enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        String getSymbol() {
+            return symbol;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.ecommerce.query;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.exceptions.InvalidDataException.ErrorCode;
+import com.ecommerce.query.QueryNode.Operator;
+import com.ecommerce.search.Tokenizer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Розбір запиту до каталогу товарів (рекурсивний спуск)
+ * <pre>
+ * query      := [condition] [ORDER BY field [ASC | DESC]] [LIMIT number]
+ * condition  := and (OR and)*
+ * and        := unary (AND unary)*
+ * unary      := NOT unary | '(' condition ')' | predicate
+ * predicate  := field op literal | field [NOT] IN '(' literal (',' literal)* ')' | name MATCHES 'слова'
+ * op         := = | != | &lt;&gt; | &lt; | &lt;= | &gt; | &gt;=
+ * </pre>
+ * Ключові слова і назви полів нечутливі до регістру; рядки й дати — в одинарних лапках.
+ */
+final class QueryParser {
+
+    private enum Type {
+        WORD, NUMBER, STRING, SYMBOL, END
+    }
+
+    private record Token(Type type, String text, int position) {
+    }
+
+    /**
+     * Результат розбору; filter == null — без умови, limit &lt; 0 — без обмеження
+     */
+    record ParsedQuery(QueryNode filter, ProductField orderBy, boolean descending, int limit) {
+    }
+
+    private final String query;
+    private final List<Token> tokens;
+    private int next;
+
+    private QueryParser(String query) throws InvalidDataException {
+        this.query = query;
+        this.tokens = tokenize(query);
+    }
+
+    static ParsedQuery parse(String query) throws InvalidDataException {
+        return new QueryParser(query).parseQuery();
+    }
+
+    private ParsedQuery parseQuery() throws InvalidDataException {
+        QueryNode filter = null;
+        if (!isKeyword("order") && !isKeyword("limit") && peek().type() != Type.END) {
+            filter = parseOr();
+        }
+
+        ProductField orderBy = null;
+        boolean descending = false;
+        if (acceptKeyword("order")) {
+            expectKeyword("by");
+            orderBy = parseField();
+            if (orderBy == ProductField.CATEGORY) {
+                // Категорія впорядковується за ordinal, що не має змісту для користувача
+                throw error("Сортування за категорією не підтримується", peekPrevious());
+            }
+            if (acceptKeyword("desc")) {
+                descending = true;
+            } else {
+                acceptKeyword("asc");
+            }
+        }
+
+        int limit = -1;
+        if (acceptKeyword("limit")) {
+            Token token = take();
+            try {
+                limit = Integer.parseInt(token.text());
+            } catch (NumberFormatException e) {
+                limit = -1;
+            }
+            if (token.type() != Type.NUMBER || limit < 0) {
+                throw error("LIMIT має бути невід'ємним цілим числом", token);
+            }
+        }
+
+        if (peek().type() != Type.END) {
+            throw error("Зайвий фрагмент запиту", peek());
+        }
+        return new ParsedQuery(filter, orderBy, descending, limit);
+    }
+
+    private QueryNode parseOr() throws InvalidDataException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (acceptKeyword("or")) {
+            children.add(parseAnd());
+        }
+        return children.size() == 1 ? children.get(0) : new QueryNode.Or(List.copyOf(children));
+    }
+
+    private QueryNode parseAnd() throws InvalidDataException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseUnary());
+        while (acceptKeyword("and")) {
+            children.add(parseUnary());
+        }
+        return children.size() == 1 ? children.get(0) : new QueryNode.And(List.copyOf(children));
+    }
+
+    private QueryNode parseUnary() throws InvalidDataException {
+        if (acceptKeyword("not")) {
+            return new QueryNode.Not(parseUnary());
+        }
+        if (acceptSymbol("(")) {
+            QueryNode inner = parseOr();
+            expectSymbol(")");
+            return inner;
+        }
+        return parsePredicate();
+    }
+
+    private QueryNode parsePredicate() throws InvalidDataException {
+        Token fieldToken = peek();
+        ProductField field = parseField();
+
+        if (acceptKeyword("matches")) {
+            if (field != ProductField.NAME) {
+                throw error("MATCHES застосовується лише до name", fieldToken);
+            }
+            Token text = take();
+            if (text.type() != Type.STRING) {
+                throw error("Після MATCHES очікується рядок у лапках", text);
+            }
+            List<String> terms = Tokenizer.tokenize(text.text());
+            if (terms.isEmpty()) {
+                throw error("MATCHES без жодного слова", text);
+            }
+            return new QueryNode.Matches(text.text(), terms);
+        }
+
+        boolean negated = isKeyword("not");
+        if (negated) {
+            take();
+            if (!isKeyword("in")) {
+                throw error("Після NOT очікується IN", peek());
+            }
+        }
+        if (acceptKeyword("in")) {
+            expectSymbol("(");
+            List<Token> values = new ArrayList<>();
+            do {
+                values.add(take());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            return inList(field, values, negated);
+        }
+
+        Token operatorToken = take();
+        Operator operator = operatorOf(operatorToken);
+        Token literal = take();
+        return switch (field) {
+            case CATEGORY -> {
+                if (operator != Operator.EQ && operator != Operator.NE) {
+                    throw error("Категорію можна лише порівнювати на рівність", operatorToken);
+                }
+                yield categoryTest(EnumSet.of(parseCategory(literal)), operator == Operator.NE);
+            }
+            case NAME -> {
+                if (operator != Operator.EQ && operator != Operator.NE) {
+                    throw error("Назву можна порівнювати лише на рівність або через MATCHES", operatorToken);
+                }
+                yield new QueryNode.NameTest(operator == Operator.EQ, parseString(literal));
+            }
+            default -> new QueryNode.NumberTest(field, operator, parseNumber(field, literal));
+        };
+    }
+
+    private QueryNode inList(ProductField field, List<Token> values, boolean negated) throws InvalidDataException {
+        if (field == ProductField.CATEGORY) {
+            EnumSet<ProductCategory> categories = EnumSet.noneOf(ProductCategory.class);
+            for (Token value : values) {
+                categories.add(parseCategory(value));
+            }
+            return categoryTest(categories, negated);
+        }
+        List<QueryNode> alternatives = new ArrayList<>();
+        for (Token value : values) {
+            alternatives.add(field == ProductField.NAME
+                    ? new QueryNode.NameTest(true, parseString(value))
+                    : new QueryNode.NumberTest(field, Operator.EQ, parseNumber(field, value)));
+        }
+        QueryNode any = alternatives.size() == 1 ? alternatives.get(0) : new QueryNode.Or(List.copyOf(alternatives));
+        return negated ? new QueryNode.Not(any) : any;
+    }
+
+    private static QueryNode categoryTest(EnumSet<ProductCategory> categories, boolean negated) {
+        return new QueryNode.CategoryTest(negated ? EnumSet.complementOf(categories) : categories);
+    }
+
+    private ProductField parseField() throws InvalidDataException {
+        Token token = take();
+        ProductField field = token.type() == Type.WORD ? ProductField.fromQueryName(token.text()) : null;
+        if (field == null) {
+            throw error("Невідоме поле '" + token.text() + "'", token);
+        }
+        return field;
+    }
+
+    private Operator operatorOf(Token token) throws InvalidDataException {
+        if (token.type() == Type.SYMBOL) {
+            switch (token.text()) {
+                case "=":
+                    return Operator.EQ;
+                case "!=":
+                case "<>":
+                    return Operator.NE;
+                case "<":
+                    return Operator.LT;
+                case "<=":
+                    return Operator.LE;
+                case ">":
+                    return Operator.GT;
+                case ">=":
+                    return Operator.GE;
+                default:
+                    break;
+            }
+        }
+        throw error("Очікується оператор порівняння", token);
+    }
+
+    private ProductCategory parseCategory(Token token) throws InvalidDataException {
+        if (token.type() == Type.WORD || token.type() == Type.STRING) {
+            for (ProductCategory category : ProductCategory.values()) {
+                if (category.name().equalsIgnoreCase(token.text())) {
+                    return category;
+                }
+            }
+        }
+        throw new InvalidDataException(
+                "Невідома категорія '" + token.text() + "' у позиції " + (token.position() + 1) + ": " + query,
+                "category",
+                token.text(),
+                ErrorCode.INVALID_ENUM_VALUE
+        );
+    }
+
+    private String parseString(Token token) throws InvalidDataException {
+        if (token.type() != Type.STRING) {
+            throw error("Очікується рядок у лапках", token);
+        }
+        return token.text();
+    }
+
+    private double parseNumber(ProductField field, Token token) throws InvalidDataException {
+        if (field == ProductField.CREATED_DATE) {
+            try {
+                return LocalDate.parse(parseString(token)).toEpochDay();
+            } catch (DateTimeParseException e) {
+                throw error("Дата має бути у форматі 'yyyy-MM-dd'", token);
+            }
+        }
+        if (token.type() != Type.NUMBER) {
+            throw error("Очікується число для поля " + field.getQueryName(), token);
+        }
+        try {
+            return Double.parseDouble(token.text());
+        } catch (NumberFormatException e) {
+            throw error("Невірний формат числа", token);
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(next);
+    }
+
+    private Token peekPrevious() {
+        return tokens.get(Math.max(0, next - 1));
+    }
+
+    private Token take() {
+        Token token = tokens.get(next);
+        if (token.type() != Type.END) {
+            next++;
+        }
+        return token;
+    }
+
+    private boolean isKeyword(String keyword) {
+        Token token = peek();
+        return token.type() == Type.WORD && token.text().equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (isKeyword(keyword)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) throws InvalidDataException {
+        if (!acceptKeyword(keyword)) {
+            throw error("Очікується " + keyword.toUpperCase(), peek());
+        }
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        Token token = peek();
+        if (token.type() == Type.SYMBOL && token.text().equals(symbol)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) throws InvalidDataException {
+        if (!acceptSymbol(symbol)) {
+            throw error("Очікується '" + symbol + "'", peek());
+        }
+    }
+
+    private InvalidDataException error(String message, Token token) {
+        String found = token.type() == Type.END ? "кінець запиту" : "'" + token.text() + "'";
+        return new InvalidDataException(
+                message + " у позиції " + (token.position() + 1) + " (знайдено " + found + "): " + query,
+                "query",
+                query,
+                ErrorCode.INVALID_FORMAT
+        );
+    }
+
+    private static List<Token> tokenize(String query) throws InvalidDataException {
+        List<Token> tokens = new ArrayList<>();
+        int length = query.length();
+        int i = 0;
+        while (i < length) {
+            char c = query.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                while (i < length && (Character.isLetterOrDigit(query.charAt(i)) || query.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(Type.WORD, query.substring(start, i), start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < length && Character.isDigit(query.charAt(i + 1)))) {
+                i++;
+                while (i < length && (Character.isDigit(query.charAt(i)) || query.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(new Token(Type.NUMBER, query.substring(start, i), start));
+            } else if (c == '\'') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new InvalidDataException("Незакритий рядок у позиції " + (start + 1) + ": " + query,
+                                "query", query, ErrorCode.INVALID_FORMAT);
+                    }
+                    char ch = query.charAt(i++);
+                    if (ch == '\'') {
+                        // Дві лапки поспіль — лапка всередині рядка
+                        if (i < length && query.charAt(i) == '\'') {
+                            text.append('\'');
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    text.append(ch);
+                }
+                tokens.add(new Token(Type.STRING, text.toString(), start));
+            } else if (c == '<' || c == '>' || c == '!') {
+                i++;
+                if (i < length && (query.charAt(i) == '=' || (c == '<' && query.charAt(i) == '>'))) {
+                    i++;
+                }
+                String symbol = query.substring(start, i);
+                if (symbol.equals("!")) {
+                    throw new InvalidDataException("Невідомий символ '!' у позиції " + (start + 1) + ": " + query,
+                            "query", query, ErrorCode.INVALID_FORMAT);
+                }
+                tokens.add(new Token(Type.SYMBOL, symbol, start));
+            } else if (c == '=' || c == '(' || c == ')' || c == ',') {
+                i++;
+                tokens.add(new Token(Type.SYMBOL, String.valueOf(c), start));
+            } else {
+                throw new InvalidDataException("Невідомий символ '" + c + "' у позиції " + (start + 1) + ": " + query,
+                        "query", query, ErrorCode.INVALID_FORMAT);
+            }
+        }
+        tokens.add(new Token(Type.END, "", length));
+        return tokens;
+    }
+}
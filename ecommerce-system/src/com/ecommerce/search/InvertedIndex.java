@@ -0,0 +1,186 @@
+package com.ecommerce.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Інвертований індекс: термін -> список документів
+ * Ідентифікатори документів призначаються індексом і монотонно зростають,
+ * тому додавання завжди дописує дельту в кінець списку.
+ * Видалені документи позначаються в BitSet і фізично прибираються при ущільненні.
+ */
+public class InvertedIndex {
+
+    private static final double COMPACT_THRESHOLD = 0.25;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final List<String[]> documentTerms = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    /**
+     * Індексує текст і повертає ідентифікатор документа
+     */
+    public synchronized int add(String text) {
+        int docId = documentTerms.size();
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(text));
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new PostingList()).append(docId);
+        }
+        documentTerms.add(terms.toArray(new String[0]));
+        return docId;
+    }
+
+    public synchronized boolean remove(int docId) {
+        if (docId < 0 || docId >= documentTerms.size() || deleted.get(docId)) {
+            return false;
+        }
+        deleted.set(docId);
+        deletedCount++;
+        if (deletedCount > documentTerms.size() * COMPACT_THRESHOLD) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Документи, що містять усі терміни запиту (AND)
+     */
+    public synchronized int[] searchAll(String query) {
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return new int[0];
+        }
+
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        return intersect(lists);
+    }
+
+    /**
+     * Документи, що містять хоча б один термін запиту (OR)
+     */
+    public synchronized int[] searchAny(String query) {
+        BitSet union = new BitSet(documentTerms.size());
+        for (String term : Tokenizer.tokenize(query)) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                PostingList.Cursor cursor = list.cursor();
+                while (cursor.next()) {
+                    union.set(cursor.doc());
+                }
+            }
+        }
+        union.andNot(deleted);
+        return union.stream().toArray();
+    }
+
+    /**
+     * Запит виду "ноутбук dell OR макбук": групи термінів, розділені OR, об'єднуються,
+     * терміни всередині групи перетинаються
+     */
+    public synchronized int[] search(String query) {
+        String[] groups = query.split("\\s+(?:OR|АБО)\\s+");
+        if (groups.length == 1) {
+            return searchAll(groups[0]);
+        }
+        BitSet union = new BitSet(documentTerms.size());
+        for (String group : groups) {
+            for (int docId : searchAll(group)) {
+                union.set(docId);
+            }
+        }
+        return union.stream().toArray();
+    }
+
+    private int[] intersect(List<PostingList> lists) {
+        PostingList.Cursor lead = lists.get(0).cursor();
+        PostingList.Cursor[] others = new PostingList.Cursor[lists.size() - 1];
+        for (int i = 1; i < lists.size(); i++) {
+            others[i - 1] = lists.get(i).cursor();
+        }
+
+        int[] result = new int[Math.min(lists.get(0).size(), 16)];
+        int count = 0;
+        if (!lead.next()) {
+            return new int[0];
+        }
+        int doc = lead.doc();
+
+        candidates:
+        while (true) {
+            for (PostingList.Cursor other : others) {
+                if (!other.advance(doc)) {
+                    break candidates;
+                }
+                if (other.doc() > doc) {
+                    // Пропускаємо провідний курсор до наступного можливого кандидата
+                    if (!lead.advance(other.doc())) {
+                        break candidates;
+                    }
+                    doc = lead.doc();
+                    continue candidates;
+                }
+            }
+            if (!deleted.get(doc)) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = doc;
+            }
+            if (!lead.next()) {
+                break;
+            }
+            doc = lead.doc();
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Прибирає видалені документи зі списків термінів
+     */
+    public synchronized void compact() {
+        if (deletedCount == 0) {
+            return;
+        }
+        Set<String> affected = new LinkedHashSet<>();
+        for (int docId = deleted.nextSetBit(0); docId >= 0; docId = deleted.nextSetBit(docId + 1)) {
+            String[] terms = documentTerms.get(docId);
+            if (terms != null) {
+                affected.addAll(List.of(terms));
+                documentTerms.set(docId, null);
+            }
+        }
+        for (String term : affected) {
+            PostingList compacted = postings.get(term).without(deleted::get);
+            if (compacted.size() == 0) {
+                postings.remove(term);
+            } else {
+                postings.put(term, compacted);
+            }
+        }
+        deletedCount = 0;
+    }
+
+    public synchronized int getDocumentCount() {
+        return documentTerms.size() - deleted.cardinality();
+    }
+
+    public synchronized int getTermCount() {
+        return postings.size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.search;
+
+import java.util.Arrays;
+
+/**
+ * Список документів для одного терміну
+ * Ідентифікатори зберігаються як дельти між сусідніми значеннями у масиві int.
+ * Кожен SKIP_INTERVAL-й елемент має пропуск (абсолютний id + позиція),
+ * що дозволяє перестрибувати блоки під час перетину списків.
+ */
+final class PostingList {
+
+    static final int SKIP_INTERVAL = 64;
+
+    private int[] deltas = new int[4];
+    private int size;
+    private int lastDoc = -1;
+
+    private int[] skipDocs = new int[1];
+    private int skipCount;
+
+    /**
+     * Додає документ. Ідентифікатори мають надходити у зростаючому порядку.
+     */
+    void append(int docId) {
+        if (docId <= lastDoc) {
+            if (docId == lastDoc) {
+                return;
+            }
+            throw new IllegalArgumentException("Документи мають додаватись у зростаючому порядку");
+        }
+        if (size == deltas.length) {
+            deltas = Arrays.copyOf(deltas, size + (size >> 1) + 1);
+        }
+        if (size % SKIP_INTERVAL == 0) {
+            if (skipCount == skipDocs.length) {
+                skipDocs = Arrays.copyOf(skipDocs, skipCount * 2);
+            }
+            skipDocs[skipCount++] = docId;
+        }
+        deltas[size++] = lastDoc < 0 ? docId : docId - lastDoc;
+        lastDoc = docId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Послідовний курсор по списку з підтримкою пропусків
+     */
+    final class Cursor {
+
+        private int index = -1;
+        private int doc = -1;
+
+        int doc() {
+            return doc;
+        }
+
+        boolean next() {
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+            index++;
+            doc = index % SKIP_INTERVAL == 0 ? skipDocs[index / SKIP_INTERVAL] : doc + deltas[index];
+            return true;
+        }
+
+        /**
+         * Переміщує курсор на перший документ >= target
+         */
+        boolean advance(int target) {
+            if (index >= size) {
+                return false;
+            }
+            if (index >= 0 && doc >= target) {
+                return true;
+            }
+            // Шукаємо останній блок, що починається не пізніше target
+            int block = Math.max(0, index) / SKIP_INTERVAL;
+            int lastBlock = block;
+            if (block + 1 < skipCount) {
+                int pos = Arrays.binarySearch(skipDocs, block + 1, skipCount, target);
+                lastBlock = Math.max(block, pos >= 0 ? pos : -pos - 2);
+            }
+            if (lastBlock > block || index < 0) {
+                index = lastBlock * SKIP_INTERVAL;
+                doc = skipDocs[lastBlock];
+                if (doc >= target) {
+                    return true;
+                }
+            }
+            while (next()) {
+                if (doc >= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Повертає новий список без документів, для яких filter повертає true
+     */
+    PostingList without(java.util.function.IntPredicate filter) {
+        PostingList result = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            if (!filter.test(cursor.doc())) {
+                result.append(cursor.doc());
+            }
+        }
+        return result;
+    }
+}
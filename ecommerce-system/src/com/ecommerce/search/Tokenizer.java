@@ -0,0 +1,57 @@
+package com.ecommerce.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Токенізатор для кирилиці та латиниці
+ * Слова — послідовності літер і цифр будь-якого алфавіту, приведені до нижнього регістру.
+ * Апостроф всередині слова (м'ясо, п’ять) вилучається, щоб різні варіанти апострофа
+ * давали однаковий токен.
+ */
+public final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(normalize(c));
+            } else if (isApostrophe(c) && current.length() > 0
+                    && i + 1 < length && Character.isLetter(text.charAt(i + 1))) {
+                // Апостроф між літерами — частина слова
+                continue;
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static char normalize(char c) {
+        char lower = Character.toLowerCase(c);
+        // ё трапляється в російськомовних назвах, ґ у старих кодуваннях часто заміщується на г
+        return switch (lower) {
+            case 'ё' -> 'е';
+            case 'ґ' -> 'г';
+            default -> lower;
+        };
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’' || c == 'ʼ' || c == '`';
+    }
+}
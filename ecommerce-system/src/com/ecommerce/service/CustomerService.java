@@ -1,11 +1,22 @@
 package com.ecommerce.service;
 
 import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.ingest.IngestPipeline;
+import com.ecommerce.ingest.IngestSink;
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
 import com.ecommerce.model.CustomerInfo;
 import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.store.CustomerStore;
+import com.ecommerce.util.EnumLookup;
+import com.ecommerce.util.FieldParsers;
 import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -17,7 +28,13 @@ import java.util.List;
 public class CustomerService {
 
     private static final Logger logger = Logger.getInstance();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final Counter loaded = metrics.counter("customers.loaded");
+    private static final Counter rejected = metrics.counter("customers.rejected");
+    private static final LatencyHistogram parseLatency = metrics.histogram("customers.parse.latency");
+    private static final EnumLookup<CustomerTier> TIERS = EnumLookup.of(CustomerTier.class);
     private static final String CUSTOMERS_FILE = "data/customers.csv";
+    private static final int IMPORT_BATCH = 50_000;
 
     /**
      * Завантажує клієнтів з CSV файлу
@@ -28,9 +45,10 @@ public class CustomerService {
 
         List<CustomerInfo> customers = new ArrayList<>();
         List<String[]> records;
+        StringDeduplicator strings = new StringDeduplicator();
 
         try {
-            records = FileReader.readCSV(CUSTOMERS_FILE);
+            records = FileReader.readCSV(CUSTOMERS_FILE, strings);
         } catch (FileNotFoundException e) {
             logger.error("Файл клієнтів не знайдено: " + CUSTOMERS_FILE);
             throw e;
@@ -46,18 +64,25 @@ public class CustomerService {
             String[] values = records.get(i);
 
             try {
+                long startNanos = System.nanoTime();
                 CustomerInfo customer = parseCustomer(values, i + 2);
+                parseLatency.recordSince(startNanos);
                 customers.add(customer);
                 successCount++;
+                loaded.increment();
                 logger.info("Клієнт створено: " + customer.getFullName());
 
             } catch (InvalidDataException e) {
                 failCount++;
+                rejected.increment();
+                metrics.counter("customers.rejected." + e.getErrorCode()).increment();
                 logger.error("Не вдалося створити клієнта з рядка #" + (i + 2) + ": " + e.getMessage());
             }
         }
 
         logger.info(String.format("Завантаження завершено: успішно=%d, помилок=%d", successCount, failCount));
+        logger.info(strings.getReport());
+        metrics.counter("customers.strings.saved.bytes").add(strings.getBytesSaved());
 
         if (customers.isEmpty() && !records.isEmpty()) {
             throw new InvalidDataException(
@@ -69,6 +94,60 @@ public class CustomerService {
         return customers;
     }
 
+    /**
+     * Імпортує клієнтів з CSV у сховище через потоковий конвеєр
+     * У купі одночасно лише один пакет клієнтів, а не весь файл.
+     *
+     * @return кількість збережених клієнтів
+     */
+    public long importCustomers(String filePath, CustomerStore store) throws IOException, InvalidDataException {
+        List<CustomerInfo> batch = new ArrayList<>(IMPORT_BATCH);
+        IngestPipeline<CustomerInfo> pipeline = new IngestPipeline<>(this::parseCustomer);
+
+        IngestPipeline.Result result;
+        try {
+            result = pipeline.run(Paths.get(filePath), new IngestSink<>() {
+                @Override
+                public void accept(CustomerInfo customer) {
+                    batch.add(customer);
+                    if (batch.size() == IMPORT_BATCH) {
+                        putBatch(store, batch);
+                    }
+                }
+
+                @Override
+                public void reject(int lineNumber, InvalidDataException e) {
+                    rejected.increment();
+                    metrics.counter("customers.rejected." + e.getErrorCode()).increment();
+                    logger.warning("Клієнта з рядка #" + lineNumber + " не імпортовано: " + e.getMessage());
+                }
+            });
+            putBatch(store, batch);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        loaded.add(result.accepted());
+        metrics.counter("customers.strings.saved.bytes").add(result.bytesSaved());
+
+        if (result.accepted() == 0 && result.rejected() > 0) {
+            throw new InvalidDataException(
+                    "Не вдалося імпортувати жодного клієнта",
+                    InvalidDataException.ErrorCode.INVALID_FORMAT
+            );
+        }
+        return result.accepted();
+    }
+
+    private static void putBatch(CustomerStore store, List<CustomerInfo> batch) {
+        try {
+            store.putAll(batch);
+        } catch (IOException e) {
+            // Приймач конвеєра не може кидати перевірені винятки
+            throw new UncheckedIOException(e);
+        }
+        batch.clear();
+    }
+
     /**
      * Парсить рядок CSV в CustomerInfo
      */
@@ -116,7 +195,7 @@ public class CustomerService {
 
             LocalDate registrationDate;
             try {
-                registrationDate = LocalDate.parse(values[4]);
+                registrationDate = FieldParsers.parseIsoDate(values[4]);
             } catch (DateTimeParseException e) {
                 throw new InvalidDataException(
                         "Невірний формат дати в рядку #" + lineNumber,
@@ -129,7 +208,7 @@ public class CustomerService {
 
             CustomerTier tier;
             try {
-                tier = CustomerTier.valueOf(values[5].toUpperCase());
+                tier = TIERS.valueOf(values[5]);
             } catch (IllegalArgumentException e) {
                 throw new InvalidDataException(
                         "Невірний tier клієнта в рядку #" + lineNumber,
@@ -1,7 +1,12 @@
 package com.ecommerce.service;
 
 import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.util.CompressedInput;
 import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -14,9 +19,22 @@ import java.util.List;
 public class FileReader {
 
     private static final Logger logger = Logger.getInstance();
+    private static final Counter rowsRead = MetricsRegistry.getInstance().counter("filereader.rows");
+    private static final Counter filesRead = MetricsRegistry.getInstance().counter("filereader.files");
+    private static final LatencyHistogram fileLatency = MetricsRegistry.getInstance().histogram("filereader.file.latency");
 
     public static List<String[]> readCSV(String filePath) throws FileNotFoundException, IOException, InvalidDataException {
+        return readCSV(filePath, null);
+    }
+
+    /**
+     * Читає CSV, пропускаючи кожне значення через таблицю інтернування,
+     * щоб повторювані рядки різних записів були одним екземпляром String
+     */
+    public static List<String[]> readCSV(String filePath, StringDeduplicator strings)
+            throws FileNotFoundException, IOException, InvalidDataException {
         logger.info("Початок читання файлу: " + filePath);
+        long startNanos = System.nanoTime();
 
         Path path = Paths.get(filePath);
 
@@ -29,7 +47,7 @@ public class FileReader {
         BufferedReader reader = null;
 
         try {
-            reader = Files.newBufferedReader(path);
+            reader = CompressedInput.newBufferedReader(path);
             String line;
             int lineNumber = 0;
 
@@ -54,11 +72,7 @@ public class FileReader {
                 }
 
                 try {
-                    String[] values = line.split(",");
-
-                    for (int i = 0; i < values.length; i++) {
-                        values[i] = values[i].trim();
-                    }
+                    String[] values = splitLine(line, strings);
 
                     records.add(values);
                     logger.debug("Прочитано рядок #" + lineNumber + ": " + line);
@@ -76,6 +90,9 @@ public class FileReader {
             }
 
             logger.info("Успішно прочитано " + records.size() + " записів з файлу: " + filePath);
+            rowsRead.add(records.size());
+            filesRead.increment();
+            fileLatency.recordSince(startNanos);
             return records;
 
         } catch (IOException e) {
@@ -93,6 +110,121 @@ public class FileReader {
         }
     }
 
+    /**
+     * Те саме, що line.split(",") з trim() кожного значення, але без проміжних рядків:
+     * значення береться з таблиці за діапазоном символів (strings == null — без таблиці).
+     * Поле, що починається з лапки, читається за RFC 4180, як його пише DataExporter:
+     * кома в лапках не розділяє поля, "" — одна лапка. Перенос рядка в лапках не
+     * підтримується, бо файл читається по рядках.
+     */
+    public static String[] splitLine(String line, StringDeduplicator strings) {
+        if (line.indexOf('"') >= 0) {
+            return splitQuoted(line, strings);
+        }
+        int fields = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == ',') {
+                fields++;
+            }
+        }
+        // split(",") відкидає порожні значення в кінці рядка
+        int end = line.length();
+        while (fields > 0 && (end == 0 || line.charAt(end - 1) == ',')) {
+            fields--;
+            end = end == 0 ? 0 : end - 1;
+        }
+
+        String[] values = new String[fields];
+        int start = 0;
+        for (int field = 0; field < fields; field++) {
+            int comma = line.indexOf(',', start);
+            int fieldEnd = comma < 0 || comma > end ? end : comma;
+            values[field] = trimmed(line, start, fieldEnd, strings);
+            start = fieldEnd + 1;
+        }
+        return values;
+    }
+
+    private static String[] splitQuoted(String line, StringDeduplicator strings) {
+        List<String> values = new ArrayList<>();
+        StringBuilder quoted = new StringBuilder();
+        int length = line.length();
+        int start = 0;
+        while (true) {
+            int from = start;
+            while (from < length && line.charAt(from) <= ' ') {
+                from++;
+            }
+            int fieldEnd;
+            if (from < length && line.charAt(from) == '"') {
+                quoted.setLength(0);
+                int i = from + 1;
+                while (i < length) {
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        quoted.append(c);
+                    } else if (i < length && line.charAt(i) == '"') {
+                        quoted.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                // Символи між закриваючою лапкою і комою відкидаються
+                int comma = line.indexOf(',', i);
+                fieldEnd = comma < 0 ? length : comma;
+                values.add(strings == null ? quoted.toString() : strings.intern(quoted, 0, quoted.length()));
+            } else {
+                int comma = line.indexOf(',', from);
+                fieldEnd = comma < 0 ? length : comma;
+                values.add(trimmed(line, from, fieldEnd, strings));
+            }
+            if (fieldEnd == length) {
+                break;
+            }
+            start = fieldEnd + 1;
+        }
+
+        // Як і split(","), порожні значення в кінці рядка відкидаються
+        int fields = values.size();
+        while (fields > 0 && values.get(fields - 1).isEmpty()) {
+            fields--;
+        }
+        return values.subList(0, fields).toArray(new String[0]);
+    }
+
+    private static String trimmed(String line, int from, int to, StringDeduplicator strings) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return strings == null ? line.substring(from, to) : strings.intern(line, from, to);
+    }
+
+    /**
+     * Повертає лише заголовок CSV (назви колонок) для відображення за назвами
+     */
+    public static String[] readHeader(String filePath) throws IOException, InvalidDataException {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            logger.error("Файл не знайдено: " + filePath);
+            throw new FileNotFoundException("Файл не знайдено: " + filePath);
+        }
+
+        try (BufferedReader reader = CompressedInput.newBufferedReader(path)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidDataException(
+                        "Файл порожній: " + filePath,
+                        InvalidDataException.ErrorCode.EMPTY_VALUE
+                );
+            }
+            return splitLine(header, null);
+        }
+    }
+
     public static boolean fileExists(String filePath) {
         return Files.exists(Paths.get(filePath));
     }
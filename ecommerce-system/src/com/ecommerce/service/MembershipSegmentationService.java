@@ -0,0 +1,74 @@
+package com.ecommerce.service;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.MembershipStatus;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Сегментація клієнтів за тривалістю членства
+ * Поточна дата береться з Clock один раз на весь виклик, далі для кожного клієнта
+ * виконується лише цілочисельна арифметика місяців.
+ */
+public class MembershipSegmentationService {
+
+    private static final MembershipStatus[] STATUSES = MembershipStatus.values();
+
+    private final Clock clock;
+
+    public MembershipSegmentationService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public MembershipSegmentationService(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock не може бути null");
+    }
+
+    /**
+     * Розкладає клієнтів по чотирьох статусах членства за один прохід
+     */
+    public Map<MembershipStatus, List<CustomerInfo>> segment(Collection<CustomerInfo> customers) {
+        return segment(customers, LocalDate.now(clock).toEpochDay());
+    }
+
+    public Map<MembershipStatus, List<CustomerInfo>> segment(Collection<CustomerInfo> customers, long todayEpochDay) {
+        LocalDate today = LocalDate.ofEpochDay(todayEpochDay);
+        List<List<CustomerInfo>> buckets = new ArrayList<>(STATUSES.length);
+        for (int i = 0; i < STATUSES.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        for (CustomerInfo customer : customers) {
+            buckets.get(customer.getMembershipStatus(today).ordinal()).add(customer);
+        }
+
+        Map<MembershipStatus, List<CustomerInfo>> result = new EnumMap<>(MembershipStatus.class);
+        for (MembershipStatus status : STATUSES) {
+            result.put(status, buckets.get(status.ordinal()));
+        }
+        return result;
+    }
+
+    /**
+     * Лише кількість клієнтів у кожному статусі, без збереження списків
+     */
+    public Map<MembershipStatus, Integer> countByStatus(Collection<CustomerInfo> customers) {
+        LocalDate today = LocalDate.now(clock);
+        int[] counts = new int[STATUSES.length];
+        for (CustomerInfo customer : customers) {
+            counts[customer.getMembershipStatus(today).ordinal()]++;
+        }
+
+        Map<MembershipStatus, Integer> result = new EnumMap<>(MembershipStatus.class);
+        for (MembershipStatus status : STATUSES) {
+            result.put(status, counts[status.ordinal()]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.service;
+
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.search.InvertedIndex;
+import com.ecommerce.util.Logger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Пошук товарів за ключовими словами в назві та в коментарях відгуків
+ */
+public class ProductSearchService {
+
+    private static final Logger logger = Logger.getInstance();
+
+    private final InvertedIndex nameIndex = new InvertedIndex();
+    private final InvertedIndex commentIndex = new InvertedIndex();
+
+    private final List<ProductInfo> productsByDoc = new ArrayList<>();
+    private final Map<String, Integer> docByName = new HashMap<>();
+    private final List<String> commentProducts = new ArrayList<>();
+
+    public synchronized void indexProducts(Collection<ProductInfo> products) {
+        for (ProductInfo product : products) {
+            indexProduct(product);
+        }
+        logger.info("Проіндексовано товарів: " + products.size() + ", термінів: " + nameIndex.getTermCount());
+    }
+
+    /**
+     * Додає товар до індексу або оновлює існуючий з тією ж назвою
+     */
+    public synchronized void indexProduct(ProductInfo product) {
+        Integer existing = docByName.get(product.name());
+        if (existing != null) {
+            // Назва не змінилась — достатньо замінити об'єкт без переіндексації
+            productsByDoc.set(existing, product);
+            return;
+        }
+        int docId = nameIndex.add(product.name());
+        while (productsByDoc.size() <= docId) {
+            productsByDoc.add(null);
+        }
+        productsByDoc.set(docId, product);
+        docByName.put(product.name(), docId);
+    }
+
+    public synchronized boolean removeProduct(ProductInfo product) {
+        Integer docId = docByName.remove(product.name());
+        if (docId == null) {
+            return false;
+        }
+        productsByDoc.set(docId, null);
+        return nameIndex.remove(docId);
+    }
+
+    /**
+     * Оновлює товар, у тому числі з перейменуванням
+     */
+    public synchronized void updateProduct(ProductInfo oldProduct, ProductInfo newProduct) {
+        if (!oldProduct.name().equals(newProduct.name())) {
+            removeProduct(oldProduct);
+        }
+        indexProduct(newProduct);
+    }
+
+    public synchronized void indexReviewComment(String productName, String comment) {
+        int docId = commentIndex.add(comment);
+        while (commentProducts.size() <= docId) {
+            commentProducts.add(null);
+        }
+        commentProducts.set(docId, productName);
+    }
+
+    /**
+     * Пошук за назвою: слова запиту поєднуються через AND, групи — через OR
+     */
+    public synchronized List<ProductInfo> search(String query) {
+        int[] docs = nameIndex.search(query);
+        List<ProductInfo> result = new ArrayList<>(docs.length);
+        for (int docId : docs) {
+            result.add(productsByDoc.get(docId));
+        }
+        return result;
+    }
+
+    public synchronized List<ProductInfo> searchAny(String query) {
+        int[] docs = nameIndex.searchAny(query);
+        List<ProductInfo> result = new ArrayList<>(docs.length);
+        for (int docId : docs) {
+            result.add(productsByDoc.get(docId));
+        }
+        return result;
+    }
+
+    /**
+     * Повертає назви товарів, у відгуках на які зустрічаються слова запиту
+     */
+    public synchronized Set<String> searchReviews(String query) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int docId : commentIndex.search(query)) {
+            result.add(commentProducts.get(docId));
+        }
+        return result;
+    }
+
+    public synchronized int getIndexedProductCount() {
+        return docByName.size();
+    }
+}
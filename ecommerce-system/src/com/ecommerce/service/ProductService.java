@@ -2,10 +2,19 @@ package com.ecommerce.service;
 
 import com.ecommerce.enums.ProductCategory;
 import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.ingest.IngestPipeline;
+import com.ecommerce.ingest.IngestSink;
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
 import com.ecommerce.model.ProductInfo;
+import com.ecommerce.util.EnumLookup;
+import com.ecommerce.util.FieldParsers;
 import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -17,6 +26,11 @@ import java.util.List;
 public class ProductService {
 
     private static final Logger logger = Logger.getInstance();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final Counter loaded = metrics.counter("products.loaded");
+    private static final Counter rejected = metrics.counter("products.rejected");
+    private static final LatencyHistogram parseLatency = metrics.histogram("products.parse.latency");
+    private static final EnumLookup<ProductCategory> CATEGORIES = EnumLookup.of(ProductCategory.class);
     private static final String PRODUCTS_FILE = "data/products.csv";
 
     /**
@@ -28,9 +42,10 @@ public class ProductService {
 
         List<ProductInfo> products = new ArrayList<>();
         List<String[]> records;
+        StringDeduplicator strings = new StringDeduplicator();
 
         try {
-            records = FileReader.readCSV(PRODUCTS_FILE);
+            records = FileReader.readCSV(PRODUCTS_FILE, strings);
         } catch (FileNotFoundException e) {
             logger.error("Файл товарів не знайдено: " + PRODUCTS_FILE);
             throw e;
@@ -46,19 +61,26 @@ public class ProductService {
             String[] values = records.get(i);
 
             try {
+                long startNanos = System.nanoTime();
                 ProductInfo product = parseProduct(values, i + 2); // +2 (заголовок + 1-based)
+                parseLatency.recordSince(startNanos);
                 products.add(product);
                 successCount++;
+                loaded.increment();
                 logger.info("Товар створено: " + product.name());
 
             } catch (InvalidDataException e) {
                 failCount++;
+                rejected.increment();
+                metrics.counter("products.rejected." + e.getErrorCode()).increment();
                 logger.error("Не вдалося створити товар з рядка #" + (i + 2) + ": " + e.getMessage());
                 // Продовжуємо обробку інших записів
             }
         }
 
         logger.info(String.format("Завантаження завершено: успішно=%d, помилок=%d", successCount, failCount));
+        logger.info(strings.getReport());
+        metrics.counter("products.strings.saved.bytes").add(strings.getBytesSaved());
 
         if (products.isEmpty() && !records.isEmpty()) {
             throw new InvalidDataException(
@@ -71,9 +93,45 @@ public class ProductService {
     }
 
     /**
-     * Парсить рядок CSV в ProductInfo
+     * Завантажує великий файл товарів через багатопотоковий конвеєр
+     * Рядки розбиваються і валідуються паралельно; порядок товарів і правила
+     * валідації ті самі, що й у loadProducts().
      */
-    private ProductInfo parseProduct(String[] values, int lineNumber) throws InvalidDataException {
+    public List<ProductInfo> loadProducts(String filePath, IngestPipeline.Config config)
+            throws FileNotFoundException, IOException, InvalidDataException {
+        List<ProductInfo> products = new ArrayList<>();
+        IngestPipeline<ProductInfo> pipeline = new IngestPipeline<>(this::parseProduct, config);
+
+        IngestPipeline.Result result = pipeline.run(Paths.get(filePath), new IngestSink<>() {
+            @Override
+            public void accept(ProductInfo product) {
+                products.add(product);
+                loaded.increment();
+            }
+
+            @Override
+            public void reject(int lineNumber, InvalidDataException e) {
+                rejected.increment();
+                metrics.counter("products.rejected." + e.getErrorCode()).increment();
+                logger.error("Не вдалося створити товар з рядка #" + lineNumber + ": " + e.getMessage());
+            }
+        });
+        metrics.counter("products.strings.saved.bytes").add(result.bytesSaved());
+
+        if (products.isEmpty() && result.rejected() > 0) {
+            throw new InvalidDataException(
+                    "Не вдалося завантажити жодного товару",
+                    InvalidDataException.ErrorCode.INVALID_FORMAT
+            );
+        }
+
+        return products;
+    }
+
+    /**
+     * Парсить рядок CSV в ProductInfo (видимий у пакеті для бенчмарків)
+     */
+    ProductInfo parseProduct(String[] values, int lineNumber) throws InvalidDataException {
         if (values.length < 5) {
             throw new InvalidDataException(
                     "Недостатньо полів у рядку #" + lineNumber + ". Очікується: 5, отримано: " + values.length,
@@ -94,7 +152,7 @@ public class ProductService {
 
             double price;
             try {
-                price = Double.parseDouble(values[1]);
+                price = FieldParsers.parseDouble(values[1]);
                 if (price < 0) {
                     throw new InvalidDataException(
                             "Від'ємна ціна в рядку #" + lineNumber,
@@ -115,7 +173,7 @@ public class ProductService {
 
             int stock;
             try {
-                stock = Integer.parseInt(values[2]);
+                stock = FieldParsers.parseInt(values[2]);
                 if (stock < 0) {
                     throw new InvalidDataException(
                             "Від'ємна кількість в рядку #" + lineNumber,
@@ -136,7 +194,7 @@ public class ProductService {
 
             ProductCategory category;
             try {
-                category = ProductCategory.valueOf(values[3].toUpperCase());
+                category = CATEGORIES.valueOf(values[3]);
             } catch (IllegalArgumentException e) {
                 throw new InvalidDataException(
                         "Невірна категорія товару в рядку #" + lineNumber,
@@ -149,7 +207,7 @@ public class ProductService {
 
             LocalDate createdDate;
             try {
-                createdDate = LocalDate.parse(values[4]);
+                createdDate = FieldParsers.parseIsoDate(values[4]);
             } catch (DateTimeParseException e) {
                 throw new InvalidDataException(
                         "Невірний формат дати в рядку #" + lineNumber,
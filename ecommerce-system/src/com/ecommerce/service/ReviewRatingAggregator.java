@@ -0,0 +1,254 @@
+package com.ecommerce.service;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.model.ProductRating;
+import com.ecommerce.util.CompressedInput;
+import com.ecommerce.util.FieldParsers;
+import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Інкрементальна агрегація оцінок відгуків по товарах
+ * Для кожного товару зберігається гістограма з п'яти лічильників int
+ * в одному плоскому масиві: histograms[productId * 5 + (rating - 1)]
+ */
+public class ReviewRatingAggregator {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final int RATINGS = 5;
+
+    private final Map<String, Integer> productIds;
+    private final List<String> productNames;
+    private int[] histograms;
+
+    public ReviewRatingAggregator() {
+        this(1024);
+    }
+
+    public ReviewRatingAggregator(int expectedProducts) {
+        this.productIds = new HashMap<>(Math.max(16, (int) (expectedProducts / 0.75f) + 1));
+        this.productNames = new ArrayList<>(expectedProducts);
+        this.histograms = new int[Math.max(1, expectedProducts) * RATINGS];
+    }
+
+    /**
+     * Завантажує відгуки з CSV файлу (також .csv.gz)
+     * Формат: productName,customerEmail,rating,comment,reviewDate
+     * Рядки читаються потоком і одразу додаються в гістограми, тож пам'ять
+     * залежить від кількості товарів, а не від кількості відгуків.
+     */
+    public int loadReviews(String filePath) throws FileNotFoundException, IOException, InvalidDataException {
+        logger.info("Початок завантаження відгуків з файлу: " + filePath);
+
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            logger.error("Файл відгуків не знайдено: " + filePath);
+            throw new FileNotFoundException("Файл не знайдено: " + filePath);
+        }
+
+        StringDeduplicator strings = new StringDeduplicator();
+        int successCount = 0;
+        int failCount = 0;
+
+        try (BufferedReader reader = CompressedInput.newBufferedReader(path)) {
+            if (reader.readLine() == null) {
+                throw new InvalidDataException(
+                        "Файл порожній: " + filePath,
+                        InvalidDataException.ErrorCode.EMPTY_VALUE
+                );
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    String[] values = FileReader.splitLine(line, strings);
+                    int rating = parseRating(values, lineNumber);
+                    addRating(values[0], rating);
+                    successCount++;
+                } catch (InvalidDataException e) {
+                    failCount++;
+                    logger.error("Не вдалося обробити відгук з рядка #" + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Помилка читання файлу відгуків", e);
+            throw e;
+        }
+
+        logger.info(String.format("Завантаження відгуків завершено: успішно=%d, помилок=%d", successCount, failCount));
+
+        if (successCount == 0 && failCount > 0) {
+            throw new InvalidDataException(
+                    "Не вдалося завантажити жодного відгуку",
+                    InvalidDataException.ErrorCode.INVALID_FORMAT
+            );
+        }
+
+        return successCount;
+    }
+
+    private int parseRating(String[] values, int lineNumber) throws InvalidDataException {
+        if (values.length < 3) {
+            throw new InvalidDataException(
+                    "Недостатньо полів у рядку #" + lineNumber + ". Очікується щонайменше: 3, отримано: " + values.length,
+                    InvalidDataException.ErrorCode.MISSING_REQUIRED_FIELD
+            );
+        }
+
+        if (values[0].isEmpty()) {
+            throw new InvalidDataException(
+                    "Порожня назва товару в рядку #" + lineNumber,
+                    "productName",
+                    values[0],
+                    InvalidDataException.ErrorCode.EMPTY_VALUE
+            );
+        }
+
+        int rating;
+        try {
+            rating = FieldParsers.parseInt(values[2]);
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException(
+                    "Невірний формат оцінки в рядку #" + lineNumber,
+                    "rating",
+                    values[2],
+                    InvalidDataException.ErrorCode.INVALID_FORMAT,
+                    e
+            );
+        }
+        if (rating < 1 || rating > RATINGS) {
+            throw new InvalidDataException(
+                    "Оцінка має бути від 1 до 5 в рядку #" + lineNumber,
+                    "rating",
+                    values[2],
+                    InvalidDataException.ErrorCode.INVALID_RANGE
+            );
+        }
+        return rating;
+    }
+
+    public synchronized void addRating(String productName, int rating) {
+        validateRating(rating);
+        // id обчислюється окремо: idOf може замінити масив, а посилання на масив у виразі
+        // з індексом береться до обчислення індексу
+        int id = idOf(productName);
+        histograms[id * RATINGS + rating - 1]++;
+    }
+
+    /**
+     * Скасовує раніше враховану оцінку (видалення або редагування відгуку)
+     */
+    public synchronized void removeRating(String productName, int rating) {
+        validateRating(rating);
+        Integer id = productIds.get(productName);
+        if (id == null || histograms[id * RATINGS + rating - 1] == 0) {
+            throw new IllegalStateException("Оцінку " + rating + " для товару '" + productName + "' не враховано");
+        }
+        histograms[id * RATINGS + rating - 1]--;
+    }
+
+    public synchronized ProductRating getRating(String productName) {
+        Integer id = productIds.get(productName);
+        return id == null ? null : toRating(id);
+    }
+
+    /**
+     * Повертає N товарів з найвищою середньою оцінкою серед тих,
+     * що мають щонайменше minCount відгуків. Використовує min-heap розміру N.
+     */
+    public synchronized List<ProductRating> topByAverage(int n, long minCount) {
+        if (n <= 0) {
+            return List.of();
+        }
+
+        int productCount = productNames.size();
+        double[] averages = new double[productCount];
+        PriorityQueue<Integer> heap = new PriorityQueue<>(n + 1,
+                (a, b) -> averages[a] != averages[b]
+                        ? Double.compare(averages[a], averages[b])
+                        : Long.compare(countOf(a), countOf(b)));
+
+        for (int id = 0; id < productCount; id++) {
+            long count = countOf(id);
+            if (count == 0 || count < minCount) {
+                continue;
+            }
+            averages[id] = averageOf(id, count);
+            if (heap.size() < n) {
+                heap.add(id);
+            } else if (heap.comparator().compare(id, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(id);
+            }
+        }
+
+        ProductRating[] result = new ProductRating[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = toRating(heap.poll());
+        }
+        return Arrays.asList(result);
+    }
+
+    public synchronized int getProductCount() {
+        return productNames.size();
+    }
+
+    private int idOf(String productName) {
+        Integer id = productIds.get(productName);
+        if (id == null) {
+            id = productNames.size();
+            productIds.put(productName, id);
+            productNames.add(productName);
+            if ((id + 1) * RATINGS > histograms.length) {
+                histograms = Arrays.copyOf(histograms, histograms.length * 2);
+            }
+        }
+        return id;
+    }
+
+    private long countOf(int id) {
+        long count = 0;
+        for (int i = id * RATINGS; i < (id + 1) * RATINGS; i++) {
+            count += histograms[i];
+        }
+        return count;
+    }
+
+    private double averageOf(int id, long count) {
+        long sum = 0;
+        int base = id * RATINGS;
+        for (int r = 0; r < RATINGS; r++) {
+            sum += (long) histograms[base + r] * (r + 1);
+        }
+        return (double) sum / count;
+    }
+
+    private ProductRating toRating(int id) {
+        return new ProductRating(productNames.get(id),
+                Arrays.copyOfRange(histograms, id * RATINGS, (id + 1) * RATINGS));
+    }
+
+    private static void validateRating(int rating) {
+        if (rating < 1 || rating > RATINGS) {
+            throw new IllegalArgumentException("Рейтинг має бути від 1 до 5");
+        }
+    }
+}
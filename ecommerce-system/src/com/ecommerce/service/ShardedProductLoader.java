@@ -0,0 +1,311 @@
+package com.ecommerce.service;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.util.CompressedInput;
+import com.ecommerce.util.Logger;
+import com.ecommerce.util.StringDeduplicator;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Завантаження каталогу товарів з багатьох CSV-шардів
+ * Шарди обробляються паралельно, але одночасно в роботі лише стільки файлів,
+ * скільки вміщує бюджет пам'яті (за розміром даних: для .csv.gz — після розпакування,
+ * див. CompressedInput.estimateUncompressedSize). Результат зливається
+ * в один каталог у порядку шардів; товар з уже відомою назвою вважається дублікатом.
+ * Помилка шарду не зупиняє інші: вона фіксується у звіті, а resume() повторює
+ * лише невдалі шарди і зберігає результати успішних.
+ */
+public class ShardedProductLoader {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    private final ProductService productService = new ProductService();
+    private final int threads;
+    private final int budgetKilobytes;
+
+    public ShardedProductLoader() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors()), DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * @param threads           кількість шардів, що обробляються одночасно
+     * @param memoryBudgetBytes сумарний розмір розпакованих шардів, які можуть бути в роботі одночасно
+     */
+    public ShardedProductLoader(int threads, long memoryBudgetBytes) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Кількість потоків має бути додатною");
+        }
+        if (memoryBudgetBytes < 1024) {
+            throw new IllegalArgumentException("Бюджет пам'яті не може бути меншим за 1 КБ");
+        }
+        this.threads = threads;
+        this.budgetKilobytes = (int) Math.min(Integer.MAX_VALUE, memoryBudgetBytes / 1024);
+    }
+
+    /**
+     * Завантажує всі шарди з каталогу (*.csv, *.csv.gz) або за glob-шаблоном (data/shards/products-*.csv)
+     */
+    public Result load(String directoryOrGlob) throws IOException {
+        List<Path> shards = findShards(directoryOrGlob);
+        logger.info("Знайдено шардів: " + shards.size() + " (" + directoryOrGlob + ")");
+        return process(shards, new LinkedHashMap<>());
+    }
+
+    /**
+     * Повторно обробляє лише ті шарди, що завершилися помилкою
+     */
+    public Result resume(Result previous) {
+        // Порядок шардів зберігається: невдалі поки що займають місце з null
+        Map<Path, ShardOutcome> outcomes = new LinkedHashMap<>();
+        List<Path> retry = new ArrayList<>();
+        for (ShardReport report : previous.getShards()) {
+            if (report.status() == ShardStatus.SUCCESS) {
+                outcomes.put(report.shard(), new ShardOutcome(report, previous.productsByShard.get(report.shard())));
+            } else {
+                outcomes.put(report.shard(), null);
+                retry.add(report.shard());
+            }
+        }
+        logger.info("Відновлення: повторна обробка " + retry.size() + " шардів");
+        return process(retry, outcomes);
+    }
+
+    static List<Path> findShards(String directoryOrGlob) throws IOException {
+        Path path = Paths.get(directoryOrGlob);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.list(path)) {
+                return files.filter(file -> Files.isRegularFile(file) && isCsv(file.getFileName().toString()))
+                        .sorted()
+                        .toList();
+            }
+        }
+
+        // База пошуку — частина шляху до першого спецсимволу glob
+        int firstMeta = indexOfGlobMeta(directoryOrGlob);
+        if (firstMeta < 0) {
+            if (!Files.isRegularFile(path)) {
+                throw new FileNotFoundException("Шарди не знайдено: " + directoryOrGlob);
+            }
+            return List.of(path);
+        }
+        int separator = Math.max(directoryOrGlob.lastIndexOf('/', firstMeta), directoryOrGlob.lastIndexOf('\\', firstMeta));
+        Path base = separator < 0 ? Paths.get(".") : Paths.get(directoryOrGlob.substring(0, separator + 1));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + directoryOrGlob);
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(separator < 0 ? base.relativize(file) : file))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static boolean isCsv(String fileName) {
+        return fileName.endsWith(".csv") || fileName.endsWith(".csv.gz");
+    }
+
+    private static int indexOfGlobMeta(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Result process(List<Path> shards, Map<Path, ShardOutcome> outcomes) {
+        long start = System.nanoTime();
+        Semaphore budget = new Semaphore(budgetKilobytes);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, shards.size())), runnable -> {
+            Thread thread = new Thread(runnable, "shard-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Map<Path, Future<ShardOutcome>> futures = new LinkedHashMap<>();
+            for (Path shard : shards) {
+                futures.put(shard, executor.submit(() -> loadShard(shard, budget)));
+            }
+            for (Map.Entry<Path, Future<ShardOutcome>> entry : futures.entrySet()) {
+                outcomes.put(entry.getKey(), await(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Result result = merge(outcomes, (System.nanoTime() - start) / 1_000_000);
+        logger.info(result.getSummary());
+        return result;
+    }
+
+    private static ShardOutcome await(Path shard, Future<ShardOutcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(shard, 0, "Перервано");
+        } catch (ExecutionException e) {
+            return failed(shard, 0, String.valueOf(e.getCause()));
+        }
+    }
+
+    private ShardOutcome loadShard(Path shard, Semaphore budget) throws InterruptedException {
+        long start = System.nanoTime();
+        // Шард, більший за весь бюджет, займає його повністю і обробляється сам
+        int permits = budgetKilobytes;
+        try {
+            permits = (int) Math.min(budgetKilobytes,
+                    Math.max(1, CompressedInput.estimateUncompressedSize(shard) / 1024));
+        } catch (IOException e) {
+            // Розмір невідомий — читання нижче поверне справжню помилку
+        }
+
+        budget.acquire(permits);
+        try {
+            List<String[]> records = FileReader.readCSV(shard.toString(), new StringDeduplicator());
+            List<ProductInfo> products = new ArrayList<>(records.size());
+            int rejected = 0;
+            for (int i = 0; i < records.size(); i++) {
+                try {
+                    products.add(productService.parseProduct(records.get(i), i + 2));
+                } catch (InvalidDataException e) {
+                    rejected++;
+                    logger.warning("Шард " + shard.getFileName() + ", рядок #" + (i + 2) + ": " + e.getMessage());
+                }
+            }
+            if (products.isEmpty() && !records.isEmpty()) {
+                throw new InvalidDataException(
+                        "Не вдалося завантажити жодного товару з шарду " + shard,
+                        InvalidDataException.ErrorCode.INVALID_FORMAT
+                );
+            }
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            return new ShardOutcome(new ShardReport(shard, ShardStatus.SUCCESS, products.size(), rejected, 0,
+                    elapsedMillis, null), products);
+
+        } catch (IOException | InvalidDataException e) {
+            logger.error("Шард " + shard + " не завантажено: " + e.getMessage());
+            return failed(shard, (System.nanoTime() - start) / 1_000_000, e.getMessage());
+        } finally {
+            budget.release(permits);
+        }
+    }
+
+    private static ShardOutcome failed(Path shard, long elapsedMillis, String error) {
+        return new ShardOutcome(new ShardReport(shard, ShardStatus.FAILED, 0, 0, 0, elapsedMillis, error),
+                Collections.emptyList());
+    }
+
+    private static Result merge(Map<Path, ShardOutcome> outcomes, long elapsedMillis) {
+        List<ProductInfo> catalog = new ArrayList<>();
+        List<ShardReport> reports = new ArrayList<>(outcomes.size());
+        Map<Path, List<ProductInfo>> productsByShard = new LinkedHashMap<>();
+        Set<String> names = new HashSet<>();
+
+        for (ShardOutcome outcome : outcomes.values()) {
+            int duplicates = 0;
+            for (ProductInfo product : outcome.products()) {
+                if (names.add(product.name())) {
+                    catalog.add(product);
+                } else {
+                    duplicates++;
+                }
+            }
+            ShardReport report = outcome.report();
+            reports.add(new ShardReport(report.shard(), report.status(), report.loaded(), report.rejected(),
+                    duplicates, report.elapsedMillis(), report.error()));
+            productsByShard.put(report.shard(), outcome.products());
+        }
+        return new Result(catalog, reports, productsByShard, elapsedMillis);
+    }
+
+    public enum ShardStatus {
+        SUCCESS, FAILED
+    }
+
+    /**
+     * Облік одного шарду: скільки товарів прийнято, відхилено і відкинуто як дублікати
+     */
+    public record ShardReport(Path shard, ShardStatus status, int loaded, int rejected, int duplicates,
+                              long elapsedMillis, String error) {
+    }
+
+    private record ShardOutcome(ShardReport report, List<ProductInfo> products) {
+    }
+
+    /**
+     * Зведений каталог і звіти по кожному шарду
+     */
+    public static class Result {
+
+        private final List<ProductInfo> products;
+        private final List<ShardReport> shards;
+        private final Map<Path, List<ProductInfo>> productsByShard;
+        private final long elapsedMillis;
+
+        private Result(List<ProductInfo> products, List<ShardReport> shards,
+                       Map<Path, List<ProductInfo>> productsByShard, long elapsedMillis) {
+            this.products = Collections.unmodifiableList(products);
+            this.shards = Collections.unmodifiableList(shards);
+            this.productsByShard = Objects.requireNonNull(productsByShard);
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public List<ProductInfo> getProducts() {
+            return products;
+        }
+
+        public List<ShardReport> getShards() {
+            return shards;
+        }
+
+        public List<ShardReport> getFailedShards() {
+            return shards.stream().filter(report -> report.status() == ShardStatus.FAILED).toList();
+        }
+
+        public boolean isComplete() {
+            return getFailedShards().isEmpty();
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public String getSummary() {
+            int rejected = 0;
+            int duplicates = 0;
+            for (ShardReport report : shards) {
+                rejected += report.rejected();
+                duplicates += report.duplicates();
+            }
+            return String.format("Шарди: всього=%d, невдалих=%d; товарів=%d, відхилено рядків=%d, дублікатів=%d; %d мс",
+                    shards.size(), getFailedShards().size(), products.size(), rejected, duplicates, elapsedMillis);
+        }
+    }
+}
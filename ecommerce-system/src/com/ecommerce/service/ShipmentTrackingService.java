@@ -0,0 +1,414 @@
+package com.ecommerce.service;
+
+import com.ecommerce.enums.ShipmentStatus;
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.model.TrackingEvent;
+import com.ecommerce.util.EnumLookup;
+import com.ecommerce.util.LongLongHashMap;
+import com.ecommerce.util.Logger;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Сервіс відстеження відправок за подіями сканування перевізника
+ * Поточний стан кожної відправки зберігається як одне long значення:
+ * (час останнього оновлення в epoch секундах << 8) | ordinal статусу
+ */
+public class ShipmentTrackingService {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final EnumLookup<ShipmentStatus> STATUSES = EnumLookup.of(ShipmentStatus.class);
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long NO_STATE = -1L;
+    private static final long NO_KEY = -1L;
+
+    // Теги ключів для стандартних трекінг номерів (див. Shipment.generateTrackingNumber)
+    private static final long TAG_TRK = 1L << 32;
+    private static final long TAG_PENDING = 2L << 32;
+    private static final long TAG_DICTIONARY = 1L << 62;
+
+    private final LongLongHashMap states;
+    private final Map<String, Long> dictionaryKeys = new HashMap<>();
+    private final List<String> dictionaryNames = new ArrayList<>();
+
+    // Відправки зі статусом IN_TRANSIT, згруповані за днем останнього оновлення
+    private final NavigableMap<Long, LongLongHashMap> inTransitByDay = new TreeMap<>();
+
+    // Історія подій; historyPrevious зв'язує події однієї відправки у список від нових до старих,
+    // historyLast зберігає позицію останньої події кожної відправки
+    private long[] historyKeys = new long[1024];
+    private long[] historyStates = new long[1024];
+    private int[] historyPrevious = new int[1024];
+    private int historySize;
+    private final LongLongHashMap historyLast = new LongLongHashMap();
+
+    public ShipmentTrackingService() {
+        this(1024);
+    }
+
+    public ShipmentTrackingService(int expectedShipments) {
+        this.states = new LongLongHashMap(expectedShipments);
+    }
+
+    /**
+     * Завантажує події сканування з CSV файлу
+     * Формат: trackingNumber,status,timestamp (ISO-8601 instant або epoch секунди)
+     */
+    public int loadEvents(String filePath) throws FileNotFoundException, IOException, InvalidDataException {
+        logger.info("Початок завантаження подій відстеження з файлу: " + filePath);
+
+        List<String[]> records;
+        try {
+            records = FileReader.readCSV(filePath);
+        } catch (FileNotFoundException e) {
+            logger.error("Файл подій не знайдено: " + filePath);
+            throw e;
+        }
+
+        List<TrackingEvent> events = new ArrayList<>(records.size());
+        int failCount = 0;
+
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                events.add(parseEvent(records.get(i), i + 2));
+            } catch (InvalidDataException e) {
+                failCount++;
+                logger.error("Не вдалося розібрати подію з рядка #" + (i + 2) + ": " + e.getMessage());
+            }
+        }
+
+        int applied = ingest(events);
+        logger.info(String.format("Завантаження подій завершено: прочитано=%d, застосовано=%d, помилок=%d",
+                events.size(), applied, failCount));
+
+        if (events.isEmpty() && !records.isEmpty()) {
+            throw new InvalidDataException(
+                    "Не вдалося завантажити жодної події відстеження",
+                    InvalidDataException.ErrorCode.INVALID_FORMAT
+            );
+        }
+
+        return applied;
+    }
+
+    private TrackingEvent parseEvent(String[] values, int lineNumber) throws InvalidDataException {
+        if (values.length < 3) {
+            throw new InvalidDataException(
+                    "Недостатньо полів у рядку #" + lineNumber + ". Очікується: 3, отримано: " + values.length,
+                    InvalidDataException.ErrorCode.MISSING_REQUIRED_FIELD
+            );
+        }
+
+        String trackingNumber = values[0];
+        if (trackingNumber.isEmpty()) {
+            throw new InvalidDataException(
+                    "Порожній трекінг номер в рядку #" + lineNumber,
+                    "trackingNumber",
+                    trackingNumber,
+                    InvalidDataException.ErrorCode.EMPTY_VALUE
+            );
+        }
+
+        ShipmentStatus status;
+        try {
+            status = STATUSES.valueOf(values[1]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException(
+                    "Невірний статус відправки в рядку #" + lineNumber,
+                    "status",
+                    values[1],
+                    InvalidDataException.ErrorCode.INVALID_ENUM_VALUE,
+                    e
+            );
+        }
+
+        long epochSecond;
+        try {
+            String timestamp = values[2];
+            epochSecond = timestamp.indexOf('T') >= 0
+                    ? Instant.parse(timestamp).getEpochSecond()
+                    : Long.parseLong(timestamp);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidDataException(
+                    "Невірний формат часу в рядку #" + lineNumber,
+                    "timestamp",
+                    values[2],
+                    InvalidDataException.ErrorCode.INVALID_FORMAT,
+                    e
+            );
+        }
+        if (epochSecond < 0) {
+            throw new InvalidDataException(
+                    "Від'ємний час події в рядку #" + lineNumber,
+                    "timestamp",
+                    values[2],
+                    InvalidDataException.ErrorCode.NEGATIVE_VALUE
+            );
+        }
+
+        return new TrackingEvent(trackingNumber, status, epochSecond);
+    }
+
+    /**
+     * Застосовує пакет подій. Події, старіші за поточний стан відправки,
+     * потрапляють лише в історію і не змінюють поточний статус.
+     *
+     * @return кількість подій, що змінили поточний стан
+     */
+    public synchronized int ingest(Collection<TrackingEvent> events) {
+        ensureHistoryCapacity(historySize + events.size());
+        int applied = 0;
+        for (TrackingEvent event : events) {
+            if (apply(keyOf(event.trackingNumber()), event.status().ordinal(), event.epochSecond())) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    public synchronized boolean ingest(TrackingEvent event) {
+        ensureHistoryCapacity(historySize + 1);
+        return apply(keyOf(event.trackingNumber()), event.status().ordinal(), event.epochSecond());
+    }
+
+    private boolean apply(long key, int statusOrdinal, long epochSecond) {
+        long packed = pack(epochSecond, statusOrdinal);
+        historyKeys[historySize] = key;
+        historyStates[historySize] = packed;
+        historyPrevious[historySize] = (int) historyLast.put(key, historySize, -1L);
+        historySize++;
+
+        long previous = states.get(key, NO_STATE);
+        if (previous != NO_STATE && epochSecondOf(previous) > epochSecond) {
+            return false;
+        }
+
+        states.put(key, packed);
+        if (previous != NO_STATE && statusOrdinalOf(previous) == ShipmentStatus.IN_TRANSIT.ordinal()) {
+            removeFromTransitIndex(key, epochSecondOf(previous));
+        }
+        if (statusOrdinal == ShipmentStatus.IN_TRANSIT.ordinal()) {
+            inTransitByDay.computeIfAbsent(epochSecond / SECONDS_PER_DAY, day -> new LongLongHashMap())
+                    .put(key, epochSecond);
+        }
+        return true;
+    }
+
+    private void removeFromTransitIndex(long key, long epochSecond) {
+        long day = epochSecond / SECONDS_PER_DAY;
+        LongLongHashMap bucket = inTransitByDay.get(day);
+        if (bucket != null) {
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                inTransitByDay.remove(day);
+            }
+        }
+    }
+
+    /**
+     * Повертає трекінг номери відправок, що перебувають у статусі IN_TRANSIT
+     * довше за вказану кількість днів. Переглядаються лише "старі" денні кошики індексу.
+     */
+    public synchronized List<String> findStuckInTransit(int days, long nowEpochSecond) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Кількість днів не може бути від'ємною");
+        }
+        long cutoff = nowEpochSecond - days * SECONDS_PER_DAY;
+        List<String> stuck = new ArrayList<>();
+
+        for (LongLongHashMap bucket : inTransitByDay.headMap(cutoff / SECONDS_PER_DAY, true).values()) {
+            bucket.forEach((key, lastUpdate) -> {
+                if (lastUpdate < cutoff) {
+                    stuck.add(trackingNumberOf(key));
+                }
+            });
+        }
+        return stuck;
+    }
+
+    public synchronized ShipmentStatus getStatus(String trackingNumber) {
+        long key = findKey(trackingNumber);
+        long state = key == NO_KEY ? NO_STATE : states.get(key, NO_STATE);
+        return state == NO_STATE ? null : ShipmentStatus.values()[statusOrdinalOf(state)];
+    }
+
+    public synchronized long getLastUpdateEpochSecond(String trackingNumber) {
+        long key = findKey(trackingNumber);
+        long state = key == NO_KEY ? NO_STATE : states.get(key, NO_STATE);
+        return state == NO_STATE ? -1L : epochSecondOf(state);
+    }
+
+    public synchronized Map<ShipmentStatus, Integer> countByStatus() {
+        int[] counts = new int[ShipmentStatus.values().length];
+        states.forEach((key, state) -> counts[statusOrdinalOf(state)]++);
+
+        Map<ShipmentStatus, Integer> result = new EnumMap<>(ShipmentStatus.class);
+        for (ShipmentStatus status : ShipmentStatus.values()) {
+            result.put(status, counts[status.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Повертає історію відправки у вигляді подій у порядку надходження
+     * Події відправки обходяться за ланцюжком historyPrevious, тому час пропорційний
+     * кількості подій цієї відправки, а не розміру всієї історії.
+     */
+    public synchronized List<TrackingEvent> getHistory(String trackingNumber) {
+        long key = findKey(trackingNumber);
+        List<TrackingEvent> history = new ArrayList<>();
+        if (key == NO_KEY) {
+            return history;
+        }
+        for (int i = (int) historyLast.get(key, -1L); i >= 0; i = historyPrevious[i]) {
+            long state = historyStates[i];
+            history.add(new TrackingEvent(trackingNumber,
+                    ShipmentStatus.values()[statusOrdinalOf(state)], epochSecondOf(state)));
+        }
+        Collections.reverse(history);
+        return history;
+    }
+
+    /**
+     * Ущільнює історію: повторні сканування з тим самим статусом поспіль
+     * для однієї відправки видаляються, зберігається лише перше з них.
+     *
+     * @return кількість видалених подій
+     */
+    public synchronized int compactHistory() {
+        LongLongHashMap lastStatus = new LongLongHashMap(states.size());
+        historyLast.clear();
+        int write = 0;
+        for (int read = 0; read < historySize; read++) {
+            long key = historyKeys[read];
+            long status = statusOrdinalOf(historyStates[read]) + 1L;
+            if (lastStatus.put(key, status, 0L) == status) {
+                continue;
+            }
+            historyKeys[write] = key;
+            historyStates[write] = historyStates[read];
+            historyPrevious[write] = (int) historyLast.put(key, write, -1L);
+            write++;
+        }
+        int removed = historySize - write;
+        historySize = write;
+
+        if (historyKeys.length > 1024 && historySize < historyKeys.length / 4) {
+            historyKeys = Arrays.copyOf(historyKeys, Math.max(1024, historySize * 2));
+            historyStates = Arrays.copyOf(historyStates, historyKeys.length);
+            historyPrevious = Arrays.copyOf(historyPrevious, historyKeys.length);
+        }
+
+        logger.info(String.format("Історію відстеження ущільнено: видалено=%d, залишилось=%d", removed, historySize));
+        return removed;
+    }
+
+    public synchronized int getShipmentCount() {
+        return states.size();
+    }
+
+    public synchronized int getHistorySize() {
+        return historySize;
+    }
+
+    /**
+     * Кількість трекінг номерів нестандартного формату у словнику
+     */
+    public synchronized int getDictionarySize() {
+        return dictionaryNames.size();
+    }
+
+    private void ensureHistoryCapacity(int required) {
+        if (required > historyKeys.length) {
+            int capacity = Math.max(required, historyKeys.length + (historyKeys.length >> 1));
+            historyKeys = Arrays.copyOf(historyKeys, capacity);
+            historyStates = Arrays.copyOf(historyStates, capacity);
+            historyPrevious = Arrays.copyOf(historyPrevious, capacity);
+        }
+    }
+
+    private static long pack(long epochSecond, int statusOrdinal) {
+        return (epochSecond << 8) | statusOrdinal;
+    }
+
+    private static long epochSecondOf(long state) {
+        return state >>> 8;
+    }
+
+    private static int statusOrdinalOf(long state) {
+        return (int) (state & 0xFF);
+    }
+
+    /**
+     * Перетворює трекінг номер на числовий ключ. Номери формату TRK-XXXXXXXX та
+     * PENDING-xxxxxxxx кодуються без словника, інші отримують послідовний ідентифікатор.
+     */
+    private long keyOf(String trackingNumber) {
+        long key = findKey(trackingNumber);
+        if (key == NO_KEY) {
+            key = TAG_DICTIONARY | dictionaryNames.size();
+            dictionaryKeys.put(trackingNumber, key);
+            dictionaryNames.add(trackingNumber);
+        }
+        return key;
+    }
+
+    /**
+     * Те саме, що keyOf, але без додавання у словник; для невідомого номера повертає NO_KEY.
+     * Використовується на шляхах читання, щоб запити невідомих номерів не роздували словник.
+     */
+    private long findKey(String trackingNumber) {
+        if (trackingNumber.length() == 12 && trackingNumber.startsWith("TRK-")) {
+            long hex = parseHex(trackingNumber, 4, false);
+            if (hex >= 0) {
+                return TAG_TRK | hex;
+            }
+        } else if (trackingNumber.length() == 16 && trackingNumber.startsWith("PENDING-")) {
+            long hex = parseHex(trackingNumber, 8, true);
+            if (hex >= 0) {
+                return TAG_PENDING | hex;
+            }
+        }
+        Long key = dictionaryKeys.get(trackingNumber);
+        return key == null ? NO_KEY : key;
+    }
+
+    private String trackingNumberOf(long key) {
+        if ((key & TAG_DICTIONARY) != 0) {
+            return dictionaryNames.get((int) (key & ~TAG_DICTIONARY));
+        }
+        String hex = String.format("%08x", key & 0xFFFFFFFFL);
+        return (key & ~0xFFFFFFFFL) == TAG_TRK ? "TRK-" + hex.toUpperCase() : "PENDING-" + hex;
+    }
+
+    private static long parseHex(String value, int from, boolean lowerCase) {
+        long result = 0;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (!lowerCase && c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else if (lowerCase && c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return -1;
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,222 @@
+package com.ecommerce.service;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.util.Logger;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Пакетне (нічне) перерахування рівнів усіх клієнтів за історією замовлень
+ * Витрати рахуються по всіх замовленнях, крім скасованих.
+ * Обидва проходи (замовлення і клієнти) розбиваються на діапазони в ForkJoinPool.
+ * Кожен діапазон замовлень накопичує витрати у власному масиві double, масиви
+ * зливаються при join у фіксованому порядку (ліва частина + права), тому суми
+ * не залежать від того, в якому порядку потоки виконали завдання.
+ */
+public class TierRecalculationJob {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final int TIERS = CustomerTier.values().length;
+    private static final int LEAF_SIZE = 8_192;
+
+    private final ForkJoinPool pool;
+    private final boolean allowDowngrade;
+
+    public TierRecalculationJob() {
+        this(ForkJoinPool.commonPool(), false);
+    }
+
+    public TierRecalculationJob(ForkJoinPool pool, boolean allowDowngrade) {
+        this.pool = Objects.requireNonNull(pool, "Пул потоків не може бути null");
+        this.allowDowngrade = allowDowngrade;
+    }
+
+    /**
+     * Визначає рівень за сумою витрат і тривалістю членства
+     */
+    public static CustomerTier decideTier(double totalSpend, long membershipMonths) {
+        if (totalSpend >= 100_000 && membershipMonths >= 24) {
+            return CustomerTier.PLATINUM;
+        }
+        if (totalSpend >= 50_000 && membershipMonths >= 12) {
+            return CustomerTier.GOLD;
+        }
+        if (totalSpend >= 10_000 && membershipMonths >= 3) {
+            return CustomerTier.SILVER;
+        }
+        return CustomerTier.BRONZE;
+    }
+
+    public Result run(List<CustomerInfo> customers, List<OrderInfo> orders, LocalDate today) {
+        long start = System.nanoTime();
+        logger.info(String.format("Початок перерахунку рівнів: клієнтів=%d, замовлень=%d",
+                customers.size(), orders.size()));
+
+        Map<String, Integer> indexByEmail = new HashMap<>(Math.max(16, (int) (customers.size() / 0.75f) + 1));
+        for (int i = 0; i < customers.size(); i++) {
+            indexByEmail.put(customers.get(i).email(), i);
+        }
+
+        // Кожен лист тримає масив на всіх клієнтів, тому кількість листів обмежена
+        // кількома на потік, а не фіксованим розміром діапазону
+        int spendLeaf = Math.max(LEAF_SIZE, orders.size() / (pool.getParallelism() * 4) + 1);
+        double[] spend = pool.invoke(
+                new SpendTask(orders, indexByEmail, customers.size(), spendLeaf, 0, orders.size()));
+
+        CustomerInfo[] updated = new CustomerInfo[customers.size()];
+        long[] transitions = pool.invoke(new TierTask(customers, spend, today, updated, 0, customers.size()));
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Result result = new Result(Arrays.asList(updated), transitions, elapsedMillis);
+        logger.info(String.format("Перерахунок рівнів завершено за %d мс: змінено=%d",
+                elapsedMillis, result.getChangedCount()));
+        return result;
+    }
+
+    @SuppressWarnings("serial") // завдання не серіалізуються
+    private static final class SpendTask extends RecursiveTask<double[]> {
+
+        private final List<OrderInfo> orders;
+        private final Map<String, Integer> indexByEmail;
+        private final int customerCount;
+        private final int leafSize;
+        private final int from;
+        private final int to;
+
+        SpendTask(List<OrderInfo> orders, Map<String, Integer> indexByEmail,
+                  int customerCount, int leafSize, int from, int to) {
+            this.orders = orders;
+            this.indexByEmail = indexByEmail;
+            this.customerCount = customerCount;
+            this.leafSize = leafSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= leafSize) {
+                double[] spend = new double[customerCount];
+                for (int i = from; i < to; i++) {
+                    OrderInfo order = orders.get(i);
+                    if (order.status() == OrderStatus.CANCELLED) {
+                        continue;
+                    }
+                    Integer index = indexByEmail.get(order.customer().email());
+                    if (index != null) {
+                        spend[index] += order.getTotalAmount();
+                    }
+                }
+                return spend;
+            }
+            int middle = (from + to) >>> 1;
+            SpendTask left = new SpendTask(orders, indexByEmail, customerCount, leafSize, from, middle);
+            SpendTask right = new SpendTask(orders, indexByEmail, customerCount, leafSize, middle, to);
+            left.fork();
+            double[] rightSpend = right.compute();
+            double[] spend = left.join();
+            for (int i = 0; i < spend.length; i++) {
+                spend[i] += rightSpend[i];
+            }
+            return spend;
+        }
+    }
+
+    @SuppressWarnings("serial") // завдання не серіалізуються
+    private final class TierTask extends RecursiveTask<long[]> {
+
+        private final List<CustomerInfo> customers;
+        private final double[] spend;
+        private final LocalDate today;
+        private final CustomerInfo[] updated;
+        private final int from;
+        private final int to;
+
+        TierTask(List<CustomerInfo> customers, double[] spend, LocalDate today,
+                 CustomerInfo[] updated, int from, int to) {
+            this.customers = customers;
+            this.spend = spend;
+            this.today = today;
+            this.updated = updated;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_SIZE) {
+                long[] transitions = new long[TIERS * TIERS];
+                for (int i = from; i < to; i++) {
+                    CustomerInfo customer = customers.get(i);
+                    long months = Math.max(0, customer.getMembershipMonths(today));
+                    CustomerTier target = decideTier(spend[i], months);
+                    if (!allowDowngrade && target.ordinal() < customer.tier().ordinal()) {
+                        target = customer.tier();
+                    }
+                    transitions[customer.tier().ordinal() * TIERS + target.ordinal()]++;
+                    updated[i] = target == customer.tier()
+                            ? customer
+                            : new CustomerInfo(customer.firstName(), customer.lastName(), customer.email(),
+                            customer.phone(), customer.registrationDate(), target);
+                }
+                return transitions;
+            }
+            int middle = (from + to) >>> 1;
+            TierTask left = new TierTask(customers, spend, today, updated, from, middle);
+            TierTask right = new TierTask(customers, spend, today, updated, middle, to);
+            left.fork();
+            long[] transitions = right.compute();
+            long[] leftTransitions = left.join();
+            for (int i = 0; i < transitions.length; i++) {
+                transitions[i] += leftTransitions[i];
+            }
+            return transitions;
+        }
+    }
+
+    /**
+     * Результат перерахунку: новий набір клієнтів і матриця переходів між рівнями
+     */
+    public record Result(List<CustomerInfo> customers, long[] transitions, long elapsedMillis) {
+
+        public long getTransitionCount(CustomerTier from, CustomerTier to) {
+            return transitions[from.ordinal() * TIERS + to.ordinal()];
+        }
+
+        public long getChangedCount() {
+            long changed = 0;
+            for (int from = 0; from < TIERS; from++) {
+                for (int to = 0; to < TIERS; to++) {
+                    if (from != to) {
+                        changed += transitions[from * TIERS + to];
+                    }
+                }
+            }
+            return changed;
+        }
+
+        public String getTransitionReport() {
+            StringBuilder sb = new StringBuilder("Переходи між рівнями:");
+            for (CustomerTier from : CustomerTier.values()) {
+                for (CustomerTier to : CustomerTier.values()) {
+                    long count = getTransitionCount(from, to);
+                    if (from != to && count > 0) {
+                        sb.append(System.lineSeparator()).append("  ")
+                                .append(from.getUkrainianName()).append(" -> ").append(to.getUkrainianName())
+                                .append(": ").append(count);
+                    }
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
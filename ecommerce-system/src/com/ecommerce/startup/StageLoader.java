@@ -0,0 +1,14 @@
+package com.ecommerce.startup;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import java.io.IOException;
+
+/**
+ * Завантаження одного набору даних під час запуску
+ * Результати залежностей доступні через StartupResult.get().
+ */
+@FunctionalInterface
+public interface StageLoader<T> {
+
+    T load(StartupResult dependencies) throws IOException, InvalidDataException;
+}
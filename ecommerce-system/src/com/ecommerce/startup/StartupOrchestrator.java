@@ -0,0 +1,175 @@
+package com.ecommerce.startup;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.util.Logger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Паралельне завантаження наборів даних під час запуску
+ * Незалежні етапи виконуються одночасно на власному пулі потоків, залежний етап
+ * стартує, щойно завершаться всі його залежності. Перша помилка зупиняє запуск:
+ * решта етапів переривається, а з run() вилітає саме той виняток, що кинув етап.
+ * Залежності можна вказати лише на вже зареєстровані етапи, тож циклів не буває.
+ */
+public class StartupOrchestrator {
+
+    private static final Logger logger = Logger.getInstance();
+
+    private final List<Stage<?>> stages = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private final int parallelism;
+
+    public StartupOrchestrator() {
+        this(0);
+    }
+
+    /**
+     * @param parallelism кількість потоків; 0 — по одному на етап
+     */
+    public StartupOrchestrator(int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Кількість потоків не може бути від'ємною");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public <T> Stage<T> stage(String name, StageLoader<T> loader, Stage<?>... dependsOn) {
+        Objects.requireNonNull(name, "Назва етапу не може бути null");
+        Objects.requireNonNull(loader, "Завантажувач не може бути null");
+        if (!names.add(name)) {
+            throw new IllegalArgumentException("Етап '" + name + "' вже зареєстровано");
+        }
+        for (Stage<?> dependency : dependsOn) {
+            if (dependency == null || dependency.owner != this) {
+                throw new IllegalArgumentException("Залежність етапу '" + name + "' не належить цьому запуску");
+            }
+        }
+        Stage<T> stage = new Stage<>(this, name, loader, List.of(dependsOn), stages.size());
+        stages.add(stage);
+        return stage;
+    }
+
+    public StartupResult run() throws IOException, InvalidDataException {
+        StartupResult result = new StartupResult();
+        if (stages.isEmpty()) {
+            return result;
+        }
+
+        int threads = parallelism > 0 ? parallelism : stages.size();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startNanos = System.nanoTime();
+        logger.info("Початок запуску: етапів=" + stages.size() + ", потоків=" + threads);
+
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(stages.size());
+        for (Stage<?> stage : stages) {
+            CompletableFuture<?>[] dependencies = stage.dependencies.stream()
+                    .map(dependency -> futures.get(dependency.index))
+                    .toArray(CompletableFuture<?>[]::new);
+            CompletableFuture<Void> future = CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> execute(stage, result, startNanos), executor);
+            future.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failure.completeExceptionally(error);
+                }
+            });
+            futures.add(future);
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)), failure).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof InvalidDataException invalid) {
+                throw invalid;
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Помилка етапу запуску", cause);
+        } finally {
+            executor.shutdownNow();
+            result.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        logger.info("Запуск завершено за " + result.getElapsedMillis() + " мс");
+        return result;
+    }
+
+    private static void execute(Stage<?> stage, StartupResult result, long runStartNanos) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            logger.info("Етап '" + stage.name + "' розпочато");
+            result.put(stage, stage.loader.load(result));
+            failed = false;
+        } catch (IOException | InvalidDataException e) {
+            logger.error("Етап '" + stage.name + "' завершився помилкою: " + e.getMessage());
+            throw new CompletionException(e);
+        } finally {
+            long end = System.nanoTime();
+            result.addTiming(new StartupResult.StageTiming(stage.name,
+                    (start - runStartNanos) / 1_000_000, (end - runStartNanos) / 1_000_000,
+                    Thread.currentThread().getName(), failed));
+            if (!failed) {
+                logger.info("Етап '" + stage.name + "' завершено за " + (end - start) / 1_000_000 + " мс");
+            }
+        }
+    }
+
+    /**
+     * Зареєстрований етап; використовується як ключ для отримання результату
+     */
+    public static final class Stage<T> {
+
+        private final StartupOrchestrator owner;
+        private final String name;
+        private final StageLoader<T> loader;
+        private final List<Stage<?>> dependencies;
+        private final int index;
+
+        private Stage(StartupOrchestrator owner, String name, StageLoader<T> loader,
+                      List<Stage<?>> dependencies, int index) {
+            this.owner = owner;
+            this.name = name;
+            this.loader = loader;
+            this.dependencies = dependencies;
+            this.index = index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Stage<?>> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
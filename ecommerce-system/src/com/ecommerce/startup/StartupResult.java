@@ -0,0 +1,82 @@
+package com.ecommerce.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Результати етапів запуску і часова шкала їх виконання
+ */
+public class StartupResult {
+
+    private final Map<StartupOrchestrator.Stage<?>, Object> values = new ConcurrentHashMap<>();
+    private final List<StageTiming> timeline = Collections.synchronizedList(new ArrayList<>());
+    private volatile long elapsedMillis;
+
+    /**
+     * Результат завершеного етапу (для етапу-залежності завжди вже доступний)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(StartupOrchestrator.Stage<T> stage) {
+        Object value = values.get(stage);
+        if (value == null && !values.containsKey(stage)) {
+            throw new IllegalStateException("Етап '" + stage.getName() + "' ще не завершено");
+        }
+        return value == NullValue.INSTANCE ? null : (T) value;
+    }
+
+    public List<StageTiming> getTimeline() {
+        synchronized (timeline) {
+            List<StageTiming> sorted = new ArrayList<>(timeline);
+            sorted.sort(Comparator.comparingLong(StageTiming::startMillis).thenComparing(StageTiming::name));
+            return sorted;
+        }
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Текстова шкала: коли кожен етап почався і завершився відносно старту
+     */
+    public String getTimelineReport() {
+        StringBuilder sb = new StringBuilder("Етапи запуску (загалом ").append(elapsedMillis).append(" мс):");
+        for (StageTiming timing : getTimeline()) {
+            sb.append(System.lineSeparator())
+                    .append(String.format("  %-16s %6d → %6d мс (%d мс) [%s]%s",
+                            timing.name(), timing.startMillis(), timing.endMillis(), timing.getDurationMillis(),
+                            timing.thread(), timing.failed() ? " ПОМИЛКА" : ""));
+        }
+        return sb.toString();
+    }
+
+    void put(StartupOrchestrator.Stage<?> stage, Object value) {
+        values.put(stage, value == null ? NullValue.INSTANCE : value);
+    }
+
+    void addTiming(StageTiming timing) {
+        timeline.add(timing);
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    private enum NullValue {
+        INSTANCE
+    }
+
+    /**
+     * Час виконання етапу в мілісекундах від початку запуску
+     */
+    public record StageTiming(String name, long startMillis, long endMillis, String thread, boolean failed) {
+
+        public long getDurationMillis() {
+            return endMillis - startMillis;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.store;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Двійкове представлення клієнта в таблицях сховища
+ * Email є ключем запису, тому у значенні не дублюється.
+ */
+final class CustomerCodec {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private CustomerCodec() {
+    }
+
+    static byte[] key(String email) {
+        return email.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] encode(CustomerInfo customer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(customer.firstName());
+            out.writeUTF(customer.lastName());
+            out.writeBoolean(customer.phone() != null);
+            if (customer.phone() != null) {
+                out.writeUTF(customer.phone());
+            }
+            out.writeLong(customer.registrationDate() == null ? NO_DATE : customer.registrationDate().toEpochDay());
+            out.writeUTF(customer.tier().name());
+        } catch (IOException e) {
+            // Запис у пам'ять не кидає IOException, окрім рядків понад 64 КБ
+            throw new UncheckedIOException("Не вдалося закодувати клієнта " + customer.email(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CustomerInfo decode(String email, byte[] data, int offset, int length) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        String firstName = in.readUTF();
+        String lastName = in.readUTF();
+        String phone = in.readBoolean() ? in.readUTF() : null;
+        long epochDay = in.readLong();
+        LocalDate registrationDate = epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        try {
+            return new CustomerInfo(firstName, lastName, email, phone, registrationDate,
+                    CustomerTier.valueOf(in.readUTF()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Некоректний запис клієнта " + email, e);
+        }
+    }
+
+    /**
+     * Порядок ключів у пам'яті, що збігається з порядком у файлах: побайтове порівняння
+     * UTF-8 без знаку дає той самий результат, що й порівняння кодових точок
+     */
+    static int compareKeys(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; ) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(i);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+}
@@ -0,0 +1,559 @@
+package com.ecommerce.store;
+
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.store.SortedTable.TableEntry;
+import com.ecommerce.util.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Вбудоване сховище клієнтів на диску з ключем email (LSM-дерево)
+ * Нові записи потрапляють у відсортовану таблицю в пам'яті; коли вона наповнюється,
+ * її вміст записується на диск незмінною відсортованою таблицею, відображеною в пам'ять.
+ * Пошук іде від найновішого джерела до найстарішого, а фільтри Блума відсікають таблиці
+ * без потрібного ключа. Компакція зливає всі таблиці в одну, відкидаючи перезаписані
+ * значення та видалені ключі. putAll() записує пакет одразу окремою таблицею, тож після
+ * повернення він уже на диску; поодинокі put() і delete() зберігаються при flush(),
+ * close() або наповненні таблиці в пам'яті.
+ */
+public class CustomerStore implements Closeable {
+
+    private static final Logger logger = Logger.getInstance();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final Counter lookups = metrics.counter("customers.store.lookups");
+    private static final Counter bloomSkips = metrics.counter("customers.store.bloom.skips");
+    private static final Counter flushes = metrics.counter("customers.store.flushes");
+    private static final Counter compactions = metrics.counter("customers.store.compactions");
+
+    private static final String TABLE_PREFIX = "customers-";
+    private static final String TABLE_SUFFIX = ".sst";
+
+    private final Path directory;
+    private final Config config;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Запис нових таблиць (flush, putAll, компакція) іде по одному
+    private final ReentrantLock tableWriter = new ReentrantLock();
+
+    private ConcurrentSkipListMap<String, Slot> memtable = newMemtable();
+    private final AtomicInteger memtableSize = new AtomicInteger();
+    private NavigableMap<String, Slot> flushing;
+    // Від найновішої до найстарішої
+    private List<SortedTable> tables;
+    private long nextGeneration;
+    private boolean closed;
+
+    private CustomerStore(Path directory, Config config, List<SortedTable> tables) {
+        this.directory = directory;
+        this.config = config;
+        this.tables = tables;
+        this.nextGeneration = tables.isEmpty() ? 1 : tables.get(0).getGeneration() + 1;
+    }
+
+    public static CustomerStore open(Path directory) throws IOException {
+        return open(directory, Config.defaults());
+    }
+
+    /**
+     * Відкриває сховище в каталозі; таблиці, поглинуті незавершеною компакцією, видаляються
+     */
+    public static CustomerStore open(Path directory, Config config) throws IOException {
+        Objects.requireNonNull(directory, "Каталог сховища не може бути null");
+        Objects.requireNonNull(config, "Налаштування не можуть бути null");
+        Files.createDirectories(directory);
+
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(TABLE_PREFIX) && name.endsWith(TABLE_SUFFIX + ".tmp")) {
+                    Files.delete(file);
+                } else if (name.startsWith(TABLE_PREFIX) && name.endsWith(TABLE_SUFFIX)) {
+                    generations.add(Long.parseLong(name.substring(TABLE_PREFIX.length(),
+                            name.length() - TABLE_SUFFIX.length())));
+                }
+            }
+        }
+        generations.sort(Comparator.reverseOrder());
+
+        List<SortedTable> tables = new ArrayList<>();
+        long covered = 0;
+        for (long generation : generations) {
+            Path file = directory.resolve(tableName(generation));
+            if (generation <= covered) {
+                Files.delete(file);
+                continue;
+            }
+            SortedTable table = SortedTable.open(file, generation);
+            covered = Math.max(covered, table.getBaseGeneration());
+            tables.add(table);
+        }
+
+        CustomerStore store = new CustomerStore(directory, config, tables);
+        logger.info("Сховище клієнтів відкрито: " + tables.size() + " таблиць, ~" + store.getApproximateCount()
+                + " записів (" + directory + ")");
+        return store;
+    }
+
+    /**
+     * Додає або замінює клієнта; зберігається на диску при наступному скиданні таблиці в пам'яті
+     */
+    public void put(CustomerInfo customer) throws IOException {
+        Objects.requireNonNull(customer, "Клієнт не може бути null");
+        write(customer.email(), new Slot(customer));
+    }
+
+    public void delete(String email) throws IOException {
+        Objects.requireNonNull(email, "Email не може бути null");
+        write(email, Slot.DELETED);
+    }
+
+    private void write(String email, Slot slot) throws IOException {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            if (memtable.put(email, slot) == null) {
+                memtableSize.incrementAndGet();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (memtableSize.get() >= config.memtableEntries()) {
+            flush();
+        }
+    }
+
+    /**
+     * Записує пакет клієнтів окремою таблицею; при повторі email перемагає останній
+     */
+    public void putAll(Collection<CustomerInfo> customers) throws IOException {
+        TreeMap<String, CustomerInfo> batch = new TreeMap<>(CustomerCodec::compareKeys);
+        for (CustomerInfo customer : customers) {
+            batch.put(customer.email(), customer);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        tableWriter.lock();
+        try {
+            // Старіші поодинокі записи мають опинитися на диску раніше за пакет
+            flushMemtable();
+            Iterator<TableEntry> entries = batch.values().stream()
+                    .map(customer -> new TableEntry(CustomerCodec.key(customer.email()), CustomerCodec.encode(customer)))
+                    .iterator();
+            install(writeTable(entries, batch.size(), 0), List.of());
+        } finally {
+            tableWriter.unlock();
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Клієнт за email або null
+     */
+    public CustomerInfo get(String email) throws IOException {
+        Objects.requireNonNull(email, "Email не може бути null");
+        lookups.increment();
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            Slot slot = memtable.get(email);
+            if (slot == null && flushing != null) {
+                slot = flushing.get(email);
+            }
+            if (slot != null) {
+                return slot.customer();
+            }
+
+            byte[] key = CustomerCodec.key(email);
+            long hash = SortedTable.hash(key, 0, key.length);
+            for (SortedTable table : tables) {
+                if (!table.mightContain(hash)) {
+                    bloomSkips.increment();
+                    continue;
+                }
+                TableEntry entry = table.find(key);
+                if (entry != null) {
+                    return entry.deleted() ? null : CustomerCodec.decode(email, entry.value(), 0, entry.value().length);
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Клієнти, чий email починається з prefix, у порядку email
+     */
+    public List<CustomerInfo> scanPrefix(String prefix) throws IOException {
+        Objects.requireNonNull(prefix, "Префікс не може бути null");
+        byte[] from = CustomerCodec.key(prefix);
+        // Від найстарішого джерела до найновішого: новіші значення перезаписують старіші
+        TreeMap<String, Object> found = new TreeMap<>(CustomerCodec::compareKeys);
+
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                Iterator<TableEntry> entries = tables.get(i).iterator(from);
+                while (entries.hasNext()) {
+                    TableEntry entry = entries.next();
+                    if (!startsWith(entry.key(), from)) {
+                        break;
+                    }
+                    found.put(new String(entry.key(), StandardCharsets.UTF_8), entry);
+                }
+            }
+            if (flushing != null) {
+                collectPrefix(flushing, prefix, found);
+            }
+            collectPrefix(memtable, prefix, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CustomerInfo> result = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : found.entrySet()) {
+            if (entry.getValue() instanceof TableEntry table) {
+                if (!table.deleted()) {
+                    result.add(CustomerCodec.decode(entry.getKey(), table.value(), 0, table.value().length));
+                }
+            } else if (((Slot) entry.getValue()).customer() != null) {
+                result.add(((Slot) entry.getValue()).customer());
+            }
+        }
+        return result;
+    }
+
+    private static void collectPrefix(NavigableMap<String, Slot> source, String prefix, Map<String, Object> found) {
+        for (Map.Entry<String, Slot> entry : source.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            found.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * Записує таблицю з пам'яті на диск
+     */
+    public void flush() throws IOException {
+        tableWriter.lock();
+        try {
+            flushMemtable();
+        } finally {
+            tableWriter.unlock();
+        }
+        compactIfNeeded();
+    }
+
+    private void flushMemtable() throws IOException {
+        NavigableMap<String, Slot> frozen;
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            if (memtable.isEmpty()) {
+                return;
+            }
+            frozen = memtable;
+            flushing = frozen;
+            memtable = newMemtable();
+            memtableSize.set(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Iterator<TableEntry> entries = frozen.entrySet().stream()
+                .map(entry -> new TableEntry(CustomerCodec.key(entry.getKey()),
+                        entry.getValue().customer() == null ? null : CustomerCodec.encode(entry.getValue().customer())))
+                .iterator();
+        SortedTable table;
+        try {
+            table = writeTable(entries, frozen.size(), 0);
+        } catch (IOException | RuntimeException e) {
+            // Записи повертаються в пам'ять, новіші значення мають перевагу
+            lock.writeLock().lock();
+            try {
+                frozen.forEach(memtable::putIfAbsent);
+                memtableSize.set(memtable.size());
+                flushing = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        install(table, List.of());
+        flushes.increment();
+    }
+
+    /**
+     * Зливає всі таблиці в одну: перезаписані значення і видалені ключі відкидаються
+     */
+    public void compact() throws IOException {
+        tableWriter.lock();
+        try {
+            flushMemtable();
+            List<SortedTable> inputs;
+            lock.readLock().lock();
+            try {
+                checkOpen();
+                inputs = tables;
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (inputs.size() < 2 && inputs.stream().allMatch(table -> table.getBaseGeneration() > 0)) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            long maxEntries = 0;
+            for (SortedTable table : inputs) {
+                maxEntries += table.size();
+            }
+            Iterator<TableEntry> merged = new MergeIterator(inputs);
+            SortedTable table = writeTable(merged, (int) Math.min(Integer.MAX_VALUE, maxEntries),
+                    inputs.get(0).getGeneration());
+            install(table, inputs);
+            compactions.increment();
+            logger.info("Компакція сховища клієнтів: " + inputs.size() + " таблиць → 1, записів " + maxEntries
+                    + " → " + table.size() + " за " + (System.nanoTime() - start) / 1_000_000 + " мс");
+        } finally {
+            tableWriter.unlock();
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (getTableCount() > config.maxTables()) {
+            compact();
+        }
+    }
+
+    private SortedTable writeTable(Iterator<TableEntry> entries, int maxEntries, long baseGeneration) throws IOException {
+        long generation = nextGeneration++;
+        return SortedTable.write(directory.resolve(tableName(generation)), generation, baseGeneration,
+                entries, maxEntries);
+    }
+
+    /**
+     * Робить нову таблицю видимою і прибирає поглинуті нею
+     */
+    private void install(SortedTable table, List<SortedTable> replaced) throws IOException {
+        lock.writeLock().lock();
+        try {
+            List<SortedTable> updated = new ArrayList<>(tables.size() + 1);
+            updated.add(table);
+            for (SortedTable existing : tables) {
+                if (!replaced.contains(existing)) {
+                    updated.add(existing);
+                }
+            }
+            tables = updated;
+            flushing = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Від найстарішої: після збою посеред видалення не воскресне ключ, видалений пізніше
+        for (int i = replaced.size() - 1; i >= 0; i--) {
+            Files.deleteIfExists(replaced.get(i).getFile());
+        }
+    }
+
+    public int getTableCount() {
+        lock.readLock().lock();
+        try {
+            return tables.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Верхня оцінка кількості записів: дублікати між таблицями і видалення не віднімаються
+     */
+    public long getApproximateCount() {
+        lock.readLock().lock();
+        try {
+            long count = memtableSize.get() + (flushing == null ? 0 : flushing.size());
+            for (SortedTable table : tables) {
+                count += table.size();
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Сховище клієнтів закрито");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        tableWriter.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flushMemtable();
+            lock.writeLock().lock();
+            try {
+                closed = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            tableWriter.unlock();
+        }
+        logger.info("Сховище клієнтів закрито: " + directory);
+    }
+
+    private static ConcurrentSkipListMap<String, Slot> newMemtable() {
+        return new ConcurrentSkipListMap<>(CustomerCodec::compareKeys);
+    }
+
+    private static String tableName(long generation) {
+        return TABLE_PREFIX + String.format("%012d", generation) + TABLE_SUFFIX;
+    }
+
+    /**
+     * Значення в пам'яті; customer == null — ключ видалено
+     */
+    private record Slot(CustomerInfo customer) {
+        static final Slot DELETED = new Slot(null);
+    }
+
+    /**
+     * Злиття таблиць у порядку ключів; для однакового ключа береться найновіша таблиця,
+     * видалені ключі пропускаються, бо старіших таблиць після повної компакції не лишається
+     */
+    private static final class MergeIterator implements Iterator<TableEntry> {
+
+        private final PriorityQueue<Source> queue = new PriorityQueue<>();
+        private TableEntry next;
+
+        MergeIterator(List<SortedTable> tables) {
+            for (int rank = 0; rank < tables.size(); rank++) {
+                Iterator<TableEntry> entries = tables.get(rank).iterator(null);
+                if (entries.hasNext()) {
+                    queue.add(new Source(entries, rank, entries.next()));
+                }
+            }
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null && !queue.isEmpty()) {
+                Source newest = queue.poll();
+                TableEntry candidate = newest.current;
+                // Ті самі ключі в старіших таблицях перекриті
+                while (!queue.isEmpty() && Arrays.equals(queue.peek().current.key(), candidate.key())) {
+                    Source older = queue.poll();
+                    if (older.move()) {
+                        queue.add(older);
+                    }
+                }
+                if (newest.move()) {
+                    queue.add(newest);
+                }
+                if (!candidate.deleted()) {
+                    next = candidate;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public TableEntry next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            TableEntry result = next;
+            advance();
+            return result;
+        }
+
+        private static final class Source implements Comparable<Source> {
+
+            private final Iterator<TableEntry> entries;
+            private final int rank;
+            private TableEntry current;
+
+            Source(Iterator<TableEntry> entries, int rank, TableEntry current) {
+                this.entries = entries;
+                this.rank = rank;
+                this.current = current;
+            }
+
+            boolean move() {
+                if (!entries.hasNext()) {
+                    return false;
+                }
+                current = entries.next();
+                return true;
+            }
+
+            @Override
+            public int compareTo(Source other) {
+                int byKey = Arrays.compareUnsigned(current.key(), other.current.key());
+                // Менший ранг — новіша таблиця, вона виходить першою
+                return byKey != 0 ? byKey : Integer.compare(rank, other.rank);
+            }
+        }
+    }
+
+    /**
+     * Налаштування сховища
+     *
+     * @param memtableEntries кількість записів у пам'яті, після якої вони скидаються на диск
+     * @param maxTables       кількість таблиць, після якої запускається компакція
+     */
+    public record Config(int memtableEntries, int maxTables) {
+
+        public Config {
+            if (memtableEntries <= 0) {
+                throw new IllegalArgumentException("Розмір таблиці в пам'яті має бути додатним");
+            }
+            if (maxTables < 1) {
+                throw new IllegalArgumentException("Кількість таблиць має бути не меншою за 1");
+            }
+        }
+
+        public static Config defaults() {
+            return new Config(100_000, 8);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.ecommerce.store;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Незмінна відсортована таблиця записів на диску, відображена в пам'ять
+ * Формат: [записи][індекс зміщень int × count][фільтр Блума long × words][футер].
+ * Запис — [довжина ключа u16][ключ UTF-8][прапорець видалення][довжина значення int][значення].
+ * Індекс дає бінарний пошук прямо по відображеному файлу, а фільтр Блума дозволяє
+ * не торкатися файлу для ключів, яких у таблиці точно немає.
+ */
+final class SortedTable {
+
+    private static final int MAGIC = 0x43535354;  // "CSST"
+    private static final int VERSION = 1;
+    private static final int FOOTER = 44;
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASHES = 7;
+    private static final byte LIVE = 0;
+    private static final byte DELETED = 1;
+
+    private final Path file;
+    private final long generation;
+    private final long baseGeneration;
+    private final MappedByteBuffer data;
+    private final int count;
+    private final int indexOffset;
+    private final long[] bloom;
+
+    private SortedTable(Path file, long generation, long baseGeneration, MappedByteBuffer data, int count,
+                        int indexOffset, long[] bloom) {
+        this.file = file;
+        this.generation = generation;
+        this.baseGeneration = baseGeneration;
+        this.data = data;
+        this.count = count;
+        this.indexOffset = indexOffset;
+        this.bloom = bloom;
+    }
+
+    /**
+     * Відкриває таблицю, перевіряючи футер і контрольну суму
+     */
+    static SortedTable open(Path file, long generation) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FOOTER || size > Integer.MAX_VALUE) {
+                throw new IOException("Некоректний розмір таблиці " + file + ": " + size);
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int footer = data.limit() - FOOTER;
+        if (data.getInt(footer + 40) != MAGIC || data.getInt(footer + 36) != VERSION) {
+            throw new IOException("Файл " + file + " не є таблицею сховища клієнтів");
+        }
+        int count = data.getInt(footer);
+        long indexOffset = data.getLong(footer + 4);
+        long bloomOffset = data.getLong(footer + 12);
+        int bloomWords = data.getInt(footer + 20);
+        long baseGeneration = data.getLong(footer + 24);
+        int checksum = data.getInt(footer + 32);
+
+        if (count < 0 || bloomWords <= 0 || indexOffset + 4L * count != bloomOffset
+                || bloomOffset + 8L * bloomWords != footer) {
+            throw new IOException("Пошкоджений футер таблиці " + file);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(data.slice(0, footer));
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Контрольна сума таблиці " + file + " не збігається");
+        }
+
+        long[] bloom = new long[bloomWords];
+        data.slice((int) bloomOffset, 8 * bloomWords).asLongBuffer().get(bloom);
+        return new SortedTable(file, generation, baseGeneration, data, count, (int) indexOffset, bloom);
+    }
+
+    /**
+     * Записує відсортовані за ключем записи у нову таблицю через тимчасовий файл
+     *
+     * @param maxEntries верхня межа кількості записів, за нею розраховується фільтр Блума
+     */
+    static SortedTable write(Path file, long generation, long baseGeneration, Iterator<TableEntry> entries,
+                             int maxEntries) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        int bloomWords = Math.max(1, (int) ((Math.max(1L, maxEntries) * BITS_PER_KEY + 63) / 64));
+        long[] bloom = new long[bloomWords];
+        int[] offsets = new int[Math.max(16, Math.min(maxEntries, 1 << 20))];
+        int count = 0;
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 256 * 1024), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            byte[] previous = null;
+
+            while (entries.hasNext()) {
+                TableEntry entry = entries.next();
+                byte[] key = entry.key();
+                if (previous != null && Arrays.compareUnsigned(previous, key) >= 0) {
+                    throw new IllegalArgumentException("Ключі таблиці мають бути унікальними і відсортованими");
+                }
+                if (key.length > 0xFFFF) {
+                    throw new IllegalArgumentException("Ключ завеликий: " + key.length + " байт");
+                }
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+                offsets[count++] = out.size();
+                addToBloom(bloom, hash(key, 0, key.length));
+
+                out.writeShort(key.length);
+                out.write(key);
+                out.writeByte(entry.deleted() ? DELETED : LIVE);
+                byte[] value = entry.deleted() ? new byte[0] : entry.value();
+                out.writeInt(value.length);
+                out.write(value);
+                // size() насичується на Integer.MAX_VALUE замість переповнення
+                if (out.size() == Integer.MAX_VALUE) {
+                    throw new IOException("Таблиця " + file + " перевищила 2 ГБ");
+                }
+                previous = key;
+            }
+
+            long indexOffset = out.size();
+            for (int i = 0; i < count; i++) {
+                out.writeInt(offsets[i]);
+            }
+            long bloomOffset = indexOffset + 4L * count;
+            for (long word : bloom) {
+                out.writeLong(word);
+            }
+            if (bloomOffset + 8L * bloomWords + FOOTER > Integer.MAX_VALUE) {
+                throw new IOException("Таблиця " + file + " перевищила 2 ГБ");
+            }
+            out.flush();
+            int checksum = (int) checked.getChecksum().getValue();
+
+            out.writeInt(count);
+            out.writeLong(indexOffset);
+            out.writeLong(bloomOffset);
+            out.writeInt(bloomWords);
+            out.writeLong(baseGeneration);
+            out.writeInt(checksum);
+            out.writeInt(VERSION);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(file, generation);
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Найновіше покоління серед таблиць, злитих у цю компакцією (0 — таблиця не з компакції)
+     */
+    long getBaseGeneration() {
+        return baseGeneration;
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean mightContain(long hash) {
+        long bits = 64L * bloom.length;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = ((h1 + i * h2) & 0x7FFFFFFF) % bits;
+            if ((bloom[(int) (bit >>> 6)] & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addToBloom(long[] bloom, long hash) {
+        long bits = 64L * bloom.length;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = ((h1 + i * h2) & 0x7FFFFFFF) % bits;
+            bloom[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * 64-бітний хеш ключа (FNV-1a з фінальним перемішуванням)
+     */
+    static long hash(byte[] key, int offset, int length) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h ^= key[i] & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Запис з точно таким ключем або null
+     */
+    TableEntry find(byte[] key) {
+        int index = lowerBound(key);
+        return index < count && compareKey(index, key) == 0 ? entryAt(index) : null;
+    }
+
+    /**
+     * Записи з ключем не меншим за from, у порядку ключів
+     */
+    Iterator<TableEntry> iterator(byte[] from) {
+        int start = from == null ? 0 : lowerBound(from);
+        return new Iterator<>() {
+            private int next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public TableEntry next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                return entryAt(next++);
+            }
+        };
+    }
+
+    private int offsetOf(int index) {
+        return data.getInt(indexOffset + 4 * index);
+    }
+
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKey(middle, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareKey(int index, byte[] key) {
+        int position = offsetOf(index);
+        int length = data.getShort(position) & 0xFFFF;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int a = data.get(position + 2 + i) & 0xFF;
+            int b = key[i] & 0xFF;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return length - key.length;
+    }
+
+    private TableEntry entryAt(int index) {
+        ByteBuffer view = data.duplicate();
+        view.position(offsetOf(index));
+        byte[] key = new byte[view.getShort() & 0xFFFF];
+        view.get(key);
+        boolean deleted = view.get() == DELETED;
+        byte[] value = new byte[view.getInt()];
+        view.get(value);
+        return new TableEntry(key, deleted ? null : value);
+    }
+
+    /**
+     * Запис таблиці; value == null — надгробок (ключ видалено)
+     */
+    record TableEntry(byte[] key, byte[] value) {
+
+        boolean deleted() {
+            return value == null;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.ecommerce.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Прозоре читання стиснених файлів
+ * Gzip визначається за сигнатурою 1f 8b, а не за розширенням, і розпаковується
+ * потоково, без тимчасового файлу на диску. Файл з кількох gzip-членів (pigz,
+ * bgzip, конкатенація) розпаковується паралельно: кандидати на початок члена
+ * знаходяться за заголовком, кожен розпаковується окремою задачею, а справжність
+ * межі підтверджується тим, що попередній член закінчився саме там і його CRC збігся.
+ * Задача розпаковує не більше MEMBER_LIMIT байтів, а кількість задач наперед обмежена
+ * пам'яттю JVM. Більший член читається потоково через буфер STREAM_BUFFER, як у
+ * GZIPInputStream, і лише після нього паралельне розпакування продовжується, тож
+ * член цілком у пам'яті не опиняється незалежно від його розміру.
+ */
+public final class CompressedInput {
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final int DEFLATE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int RESERVED_FLAGS = 0xE0;
+    private static final int STREAM_BUFFER = 64 * 1024;
+    private static final int MEMBER_BUFFER = 1024 * 1024;
+    private static final int MEMBER_LIMIT = 4 * 1024 * 1024;
+    // Типовий коефіцієнт стиснення CSV, коли ISIZE не описує весь файл
+    private static final int GZIP_RATIO = 8;
+
+    private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService DECODERS = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+        private final AtomicInteger number = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "gzip-decoder-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private CompressedInput() {
+    }
+
+    /**
+     * Читач UTF-8 для звичайного або gzip-файлу
+     */
+    public static BufferedReader newBufferedReader(Path path) throws IOException {
+        // Декодер з REPORT: некоректний UTF-8 дає помилку, як і Files.newBufferedReader
+        return new BufferedReader(new InputStreamReader(newInputStream(path), StandardCharsets.UTF_8.newDecoder()),
+                STREAM_BUFFER);
+    }
+
+    public static InputStream newInputStream(Path path) throws IOException {
+        if (!isGzip(path)) {
+            return Files.newInputStream(path);
+        }
+        long size = Files.size(path);
+        if (size > Integer.MAX_VALUE) {
+            return new GZIPInputStream(Files.newInputStream(path), STREAM_BUFFER);
+        }
+
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        int[] candidates = findMemberCandidates(data);
+        if (candidates.length < 2) {
+            return new GZIPInputStream(Files.newInputStream(path), STREAM_BUFFER);
+        }
+        return new ParallelGzipInputStream(data, candidates, readAheadWindow());
+    }
+
+    /**
+     * Кількість задач наперед: до двох на потік, але не більше восьмої частини купи
+     * з розрахунку MEMBER_LIMIT на задачу
+     */
+    private static int readAheadWindow() {
+        long byMemory = Runtime.getRuntime().maxMemory() / 8 / MEMBER_LIMIT;
+        return (int) Math.max(2, Math.min(THREADS * 2L, byMemory));
+    }
+
+    /**
+     * Оцінка розміру даних після розпакування (для бюджетів пам'яті)
+     * Для gzip береться ISIZE з кінця файлу — розмір останнього члена за модулем 2^32.
+     * Якщо він менший за стиснений розмір (кілька членів або понад 4 ГБ даних),
+     * оцінкою стає стиснений розмір, помножений на GZIP_RATIO.
+     */
+    public static long estimateUncompressedSize(Path path) throws IOException {
+        long size = Files.size(path);
+        if (size < 18 || !isGzip(path)) {
+            return size;
+        }
+        ByteBuffer trailer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (trailer.hasRemaining() && channel.read(trailer, size - 4 + trailer.position()) >= 0) {
+                // дочитуємо 4 байти ISIZE
+            }
+        }
+        long isize = trailer.getInt(0) & 0xFFFFFFFFL;
+        return isize >= size ? isize : size * GZIP_RATIO;
+    }
+
+    public static boolean isGzip(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return in.read() == GZIP_MAGIC_1 && in.read() == GZIP_MAGIC_2;
+        }
+    }
+
+    /**
+     * Зміщення, з яких може починатися gzip-член: сигнатура, метод deflate і нульові зарезервовані біти
+     */
+    static int[] findMemberCandidates(ByteBuffer data) {
+        int limit = data.limit();
+        int[] candidates = new int[16];
+        int count = 0;
+        for (int i = 0; i + 10 <= limit; i++) {
+            if ((data.get(i) & 0xFF) == GZIP_MAGIC_1 && (data.get(i + 1) & 0xFF) == GZIP_MAGIC_2
+                    && data.get(i + 2) == DEFLATE && (data.get(i + 3) & RESERVED_FLAGS) == 0) {
+                if (count == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, count * 2);
+                }
+                candidates[count++] = i;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Розпаковує один член, що починається з offset; null — тут не справжня межа члена,
+     * OVERSIZED — член довший за maxSize (розпакування перервано, межа ще не перевірена)
+     */
+    static Member decodeMember(ByteBuffer data, int offset, int maxSize) {
+        int limit = data.limit();
+        try {
+            int position = skipHeader(data, offset);
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(data.slice(position, limit - position));
+                byte[] out = new byte[Math.min(MEMBER_BUFFER, maxSize)];
+                int size = 0;
+                while (!inflater.finished()) {
+                    if (size == out.length) {
+                        if (size == maxSize) {
+                            return Member.OVERSIZED;
+                        }
+                        out = Arrays.copyOf(out, (int) Math.min(maxSize, out.length * 2L));
+                    }
+                    int n = inflater.inflate(out, size, out.length - size);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        return null;
+                    }
+                    size += n;
+                }
+
+                int trailer = position + (int) inflater.getBytesRead();
+                if (trailer + 8 > limit) {
+                    return null;
+                }
+                ByteBuffer le = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                CRC32 crc = new CRC32();
+                crc.update(out, 0, size);
+                if ((int) crc.getValue() != le.getInt(trailer) || size != le.getInt(trailer + 4)) {
+                    return null;
+                }
+                return new Member(out, size, trailer + 8);
+            } finally {
+                inflater.end();
+            }
+        } catch (DataFormatException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static int skipHeader(ByteBuffer data, int offset) {
+        int flags = data.get(offset + 3) & 0xFF;
+        int position = offset + 10;
+        if ((flags & FEXTRA) != 0) {
+            int length = (data.get(position) & 0xFF) | (data.get(position + 1) & 0xFF) << 8;
+            position += 2 + length;
+        }
+        if ((flags & FNAME) != 0) {
+            while (data.get(position++) != 0) {
+                // пропускаємо ім'я файлу
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (data.get(position++) != 0) {
+                // пропускаємо коментар
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            position += 2;
+        }
+        return position;
+    }
+
+    record Member(byte[] data, int size, int end) {
+
+        static final Member OVERSIZED = new Member(new byte[0], 0, -1);
+    }
+
+    /**
+     * Видає розпаковані члени по черзі, тримаючи в роботі обмежену кількість задач наперед
+     */
+    static final class ParallelGzipInputStream extends InputStream {
+
+        private final ByteBuffer data;
+        private final int[] candidates;
+        private final int window;
+        private final Map<Integer, CompletableFuture<Member>> scheduled = new HashMap<>();
+        private int nextCandidate;
+        private int position;
+        private byte[] current = new byte[0];
+        private int currentSize;
+        private int currentOffset;
+        private boolean closed;
+
+        // Потокове розпакування члена, довшого за MEMBER_LIMIT
+        private Inflater streaming;
+        private CRC32 streamingCrc;
+        private long streamingSize;
+        private int streamingBody;
+        private byte[] streamingBuffer;
+
+        ParallelGzipInputStream(ByteBuffer data, int[] candidates, int window) {
+            this.data = data;
+            this.candidates = candidates;
+            this.window = window;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int n = read(single, 0, 1);
+            return n < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Потік закрито");
+            }
+            if (length == 0) {
+                return 0;
+            }
+            while (currentOffset == currentSize) {
+                if (streaming != null ? !inflateStreaming() : !advance()) {
+                    return -1;
+                }
+            }
+            int n = Math.min(length, currentSize - currentOffset);
+            System.arraycopy(current, currentOffset, buffer, offset, n);
+            currentOffset += n;
+            return n;
+        }
+
+        /**
+         * Переходить до члена, що починається з position
+         */
+        private boolean advance() throws IOException {
+            if (position >= data.limit()) {
+                return false;
+            }
+            schedule();
+            CompletableFuture<Member> future = scheduled.remove(position);
+            Member member;
+            try {
+                member = future != null ? future.join() : decodeMember(data, position, MEMBER_LIMIT);
+            } catch (CompletionException e) {
+                throw new IOException("Помилка розпакування gzip", e.getCause());
+            }
+            if (member == null) {
+                // Як і GZIPInputStream: сміття без сигнатури після останнього члена ігнорується,
+                // а член із сигнатурою, що не розпаковується, — це пошкоджений файл
+                if (position + 2 <= data.limit() && (data.get(position) & 0xFF) == GZIP_MAGIC_1
+                        && (data.get(position + 1) & 0xFF) == GZIP_MAGIC_2) {
+                    throw new ZipException("Пошкоджений gzip-член на зміщенні " + position);
+                }
+                position = data.limit();
+                return false;
+            }
+            if (member == Member.OVERSIZED) {
+                startStreaming();
+                return true;
+            }
+
+            discardBefore(member.end());
+            current = member.data();
+            currentSize = member.size();
+            currentOffset = 0;
+            position = member.end();
+            return true;
+        }
+
+        /**
+         * Кандидати всередині щойно прочитаного члена були хибними
+         */
+        private void discardBefore(int end) {
+            List<Integer> stale = new ArrayList<>();
+            for (Integer start : scheduled.keySet()) {
+                if (start < end) {
+                    stale.add(start);
+                }
+            }
+            for (Integer start : stale) {
+                scheduled.remove(start).cancel(false);
+            }
+        }
+
+        private void startStreaming() {
+            streamingBody = skipHeader(data, position);
+            streaming = new Inflater(true);
+            streaming.setInput(data.slice(streamingBody, data.limit() - streamingBody));
+            streamingCrc = new CRC32();
+            streamingSize = 0;
+            if (streamingBuffer == null) {
+                streamingBuffer = new byte[STREAM_BUFFER];
+            }
+            current = streamingBuffer;
+            currentSize = 0;
+            currentOffset = 0;
+        }
+
+        /**
+         * Розпаковує наступну порцію великого члена; після його кінця перевіряє CRC і
+         * довжину та повертається до паралельного розпакування
+         */
+        private boolean inflateStreaming() throws IOException {
+            try {
+                if (!streaming.finished()) {
+                    int n = streaming.inflate(streamingBuffer, 0, streamingBuffer.length);
+                    if (n == 0 && !streaming.finished() && (streaming.needsInput() || streaming.needsDictionary())) {
+                        throw new ZipException("Неочікуваний кінець gzip-члена на зміщенні " + position);
+                    }
+                    streamingCrc.update(streamingBuffer, 0, n);
+                    streamingSize += n;
+                    currentSize = n;
+                    currentOffset = 0;
+                    return true;
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException("Пошкоджений gzip-член на зміщенні " + position + ": " + e.getMessage());
+            }
+
+            int trailer = streamingBody + (int) streaming.getBytesRead();
+            streaming.end();
+            streaming = null;
+            if (trailer + 8 > data.limit()) {
+                throw new ZipException("Неочікуваний кінець gzip-члена на зміщенні " + position);
+            }
+            ByteBuffer le = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            if ((int) streamingCrc.getValue() != le.getInt(trailer) || (int) streamingSize != le.getInt(trailer + 4)) {
+                throw new ZipException("Невідповідність CRC або довжини gzip-члена на зміщенні " + position);
+            }
+            position = trailer + 8;
+            discardBefore(position);
+            return advance();
+        }
+
+        private void schedule() {
+            while (nextCandidate < candidates.length && candidates[nextCandidate] < position) {
+                nextCandidate++;
+            }
+            while (scheduled.size() < window && nextCandidate < candidates.length) {
+                int start = candidates[nextCandidate++];
+                scheduled.put(start, CompletableFuture.supplyAsync(() -> decodeMember(data, start, MEMBER_LIMIT),
+                        DECODERS));
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            scheduled.values().forEach(future -> future.cancel(false));
+            scheduled.clear();
+            if (streaming != null) {
+                streaming.end();
+                streaming = null;
+            }
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Пошук константи enum за назвою без урахування регістру і без toUpperCase()
+ * При створенні підбирається множник, з яким хеш усіх назв потрапляє в різні
+ * комірки таблиці (ідеальне хешування), тож пошук — один прохід по символах
+ * і одне порівняння з єдиним кандидатом.
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    private final Class<E> type;
+    private final E[] table;
+    private final int multiplier;
+    private final int shift;
+
+    private EnumLookup(Class<E> type, E[] table, int multiplier, int shift) {
+        this.type = type;
+        this.table = table;
+        this.multiplier = multiplier;
+        this.shift = shift;
+    }
+
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type) {
+        E[] constants = Objects.requireNonNull(type, "Тип enum не може бути null").getEnumConstants();
+        SplittableRandom random = new SplittableRandom(type.getName().hashCode());
+        for (int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(constants.length * 2 - 1)); bits <= 16; bits++) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int multiplier = random.nextInt() | 1;
+                E[] table = tryBuild(constants, 1 << bits, multiplier, 32 - bits);
+                if (table != null) {
+                    return new EnumLookup<>(type, table, multiplier, 32 - bits);
+                }
+            }
+        }
+        throw new IllegalStateException("Не вдалося побудувати ідеальний хеш для " + type.getName());
+    }
+
+    private static <E extends Enum<E>> E[] tryBuild(E[] constants, int size, int multiplier, int shift) {
+        E[] table = Arrays.copyOf(constants, size);
+        Arrays.fill(table, null);
+        for (E constant : constants) {
+            String name = constant.name();
+            int slot = (hash(name, 0, name.length()) * multiplier) >>> shift;
+            if (table[slot] != null) {
+                return null;
+            }
+            table[slot] = constant;
+        }
+        return table;
+    }
+
+    private static int hash(CharSequence s, int start, int end) {
+        int h = end - start;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + toUpper(s.charAt(i));
+        }
+        return h;
+    }
+
+    private static char toUpper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    public E valueOf(CharSequence s) {
+        return valueOf(s, 0, s.length());
+    }
+
+    /**
+     * Константа за назвою з діапазону [start, end)
+     * Невідома назва — IllegalArgumentException, як у Enum.valueOf.
+     */
+    public E valueOf(CharSequence s, int start, int end) {
+        E candidate = find(s, start, end);
+        if (candidate == null) {
+            throw new IllegalArgumentException("No enum constant " + type.getCanonicalName() + "." + s.subSequence(start, end));
+        }
+        return candidate;
+    }
+
+    /**
+     * Те саме, що valueOf, але для невідомої назви повертає null
+     */
+    public E find(CharSequence s, int start, int end) {
+        E candidate = table[(hash(s, start, end) * multiplier) >>> shift];
+        if (candidate == null) {
+            return null;
+        }
+        String name = candidate.name();
+        if (name.length() != end - start) {
+            return null;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != toUpper(s.charAt(start + i))) {
+                return null;
+            }
+        }
+        return candidate;
+    }
+}
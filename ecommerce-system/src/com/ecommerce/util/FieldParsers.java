@@ -0,0 +1,180 @@
+package com.ecommerce.util;
+
+import java.time.LocalDate;
+
+/**
+ * Розбір чисел і дат прямо з CharSequence без проміжних рядків
+ * Звичайний формат обробляється швидким шляхом; усе інше (експонента, NaN,
+ * незвичні дати) передається стандартним методам, тому результат і тип
+ * винятку завжди збігаються з Double.parseDouble, Integer.parseInt і LocalDate.parse.
+ */
+public final class FieldParsers {
+
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int DAYS_0000_TO_1970 = (146_097 * 5) - (30 * 365 + 7);
+
+    private FieldParsers() {
+    }
+
+    public static int parseInt(CharSequence s) {
+        return parseInt(s, 0, s.length());
+    }
+
+    /**
+     * Ціле число з діапазону [start, end); помилка — NumberFormatException
+     * Знак, не-ASCII цифри і переповнення передаються Integer.parseInt.
+     */
+    public static int parseInt(CharSequence s, int start, int end) {
+        if (start >= end || end - start > 9) {
+            return Integer.parseInt(s, start, end, 10);
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(s, start, end, 10);
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    public static double parseDouble(CharSequence s) {
+        return parseDouble(s, 0, s.length());
+    }
+
+    /**
+     * Десяткове число вигляду [-+]digits[.digits]
+     * Поки значущих цифр не більше 15, мантиса і степінь десяти точно представлені
+     * в double, тож одне множення чи ділення дає те саме округлення, що й parseDouble.
+     */
+    public static double parseDouble(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int significant = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (significant > 0 || c != '0') {
+                    significant++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                return slowParseDouble(s, start, end);
+            }
+        }
+        if (digits == 0 || significant > MAX_FAST_DIGITS || fractionDigits >= POWERS_OF_TEN.length) {
+            return slowParseDouble(s, start, end);
+        }
+
+        double value = (double) mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double slowParseDouble(CharSequence s, int start, int end) {
+        return Double.parseDouble(s.subSequence(start, end).toString());
+    }
+
+    public static LocalDate parseIsoDate(CharSequence s) {
+        return parseIsoDate(s, 0, s.length());
+    }
+
+    /**
+     * Дата yyyy-MM-dd; помилка — DateTimeParseException, як у LocalDate.parse
+     */
+    public static LocalDate parseIsoDate(CharSequence s, int start, int end) {
+        int packed = parsePackedDate(s, start, end);
+        if (packed < 0) {
+            return LocalDate.parse(s.subSequence(start, end));
+        }
+        return LocalDate.of(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    public static long parseEpochDay(CharSequence s) {
+        return parseEpochDay(s, 0, s.length());
+    }
+
+    /**
+     * Дата yyyy-MM-dd одразу в номер дня від 1970-01-01 без створення LocalDate
+     */
+    public static long parseEpochDay(CharSequence s, int start, int end) {
+        int packed = parsePackedDate(s, start, end);
+        if (packed < 0) {
+            return LocalDate.parse(s.subSequence(start, end)).toEpochDay();
+        }
+        return toEpochDay(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    /**
+     * Повертає рік, місяць і день, упаковані в int, або -1, якщо потрібен повільний шлях
+     */
+    private static int parsePackedDate(CharSequence s, int start, int end) {
+        if (end - start != 10 || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+            return -1;
+        }
+        int year = digits(s, start, 4);
+        int month = digits(s, start + 5, 2);
+        int day = digits(s, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return -1;
+        }
+        return (year << 9) | (month << 5) | day;
+    }
+
+    private static int digits(CharSequence s, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    // Той самий алгоритм, що й у LocalDate.toEpochDay (рік тут завжди 0..9999)
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
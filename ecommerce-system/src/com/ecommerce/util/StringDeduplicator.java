@@ -0,0 +1,148 @@
+package com.ecommerce.util;
+
+/**
+ * Обмежена таблиця інтернування рядків для завантаження CSV
+ * Повторювані значення (категорії, рівні, імена, назви товарів) зводяться до одного
+ * екземпляра String, тобто до запису словника, на який посилаються всі рядки файлу.
+ * Пошук іде за діапазоном символів вихідного рядка, тож для вже відомого значення
+ * новий String взагалі не створюється. Таблиця має фіксований розмір: кожен кошик
+ * містить кілька слотів, знайдене значення переміщується на початок кошика, а нове
+ * займає останній слот, тому унікальні значення (email) не роздувають пам'ять
+ * і не витісняють часті.
+ * Не потокобезпечна: один екземпляр на одне завантаження.
+ */
+public class StringDeduplicator {
+
+    private static final int WAYS = 4;
+    private static final int STRING_HEADER_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final String[] slots;
+    private final int[] hashes;
+    private final int bucketMask;
+
+    private long lookups;
+    private long hits;
+    private long bytesSaved;
+
+    public StringDeduplicator() {
+        this(1 << 16);
+    }
+
+    /**
+     * @param capacity максимальна кількість рядків у таблиці (округлюється до степеня двійки)
+     */
+    public StringDeduplicator(int capacity) {
+        if (capacity < WAYS) {
+            throw new IllegalArgumentException("Місткість не може бути меншою за " + WAYS);
+        }
+        int buckets = Integer.highestOneBit(capacity / WAYS);
+        this.slots = new String[buckets * WAYS];
+        this.hashes = new int[buckets * WAYS];
+        this.bucketMask = buckets - 1;
+    }
+
+    public String intern(String value) {
+        return value == null ? null : intern(value, 0, value.length());
+    }
+
+    /**
+     * Повертає канонічний рядок для символів s[start, end)
+     */
+    public String intern(CharSequence s, int start, int end) {
+        lookups++;
+        int hash = hash(s, start, end);
+        int base = (mix(hash) & bucketMask) * WAYS;
+        int free = base + WAYS - 1;
+        for (int i = base; i < base + WAYS; i++) {
+            String candidate = slots[i];
+            if (candidate == null) {
+                free = i;
+                break;
+            }
+            if (hashes[i] == hash && contentEquals(candidate, s, start, end)) {
+                hits++;
+                bytesSaved += sizeOf(candidate);
+                moveToFront(base, i);
+                return candidate;
+            }
+        }
+
+        // Новий рядок займає вільний або останній слот: одноразові значення
+        // витісняють лише одне одного, а повторені вже піднялися на початок кошика
+        String value = s.subSequence(start, end).toString();
+        slots[free] = value;
+        hashes[free] = hash;
+        return value;
+    }
+
+    private void moveToFront(int base, int index) {
+        if (index == base) {
+            return;
+        }
+        String value = slots[index];
+        int hash = hashes[index];
+        System.arraycopy(slots, base, slots, base + 1, index - base);
+        System.arraycopy(hashes, base, hashes, base + 1, index - base);
+        slots[base] = value;
+        hashes[base] = hash;
+    }
+
+    private static int hash(CharSequence s, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean contentEquals(String candidate, CharSequence s, int start, int end) {
+        if (candidate.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < candidate.length(); i++) {
+            if (candidate.charAt(i) != s.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Приблизний розмір String у купі: заголовок, масив і вміст (Latin-1 або UTF-16)
+     */
+    private static long sizeOf(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        long payload = latin1 ? value.length() : 2L * value.length();
+        return STRING_HEADER_BYTES + ((ARRAY_HEADER_BYTES + payload + 7) & ~7L);
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    public double getHitRate() {
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public String getReport() {
+        return String.format("Дедуплікація рядків: пошуків=%d, повторів=%d (%.1f%%), заощаджено ~%d КБ",
+                lookups, hits, getHitRate() * 100, bytesSaved / 1024);
+    }
+}
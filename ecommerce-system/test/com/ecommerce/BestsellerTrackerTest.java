@@ -0,0 +1,215 @@
+package com.ecommerce;
+
+import com.ecommerce.analytics.BestsellerTracker;
+import com.ecommerce.analytics.BestsellerTracker.Bestseller;
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.journal.OrderEventListener;
+import com.ecommerce.journal.OrderJournal;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Базові тести для BestsellerTracker
+ */
+public class BestsellerTrackerTest {
+
+    private static final int CATALOG = 50_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ BestsellerTracker ===\n");
+
+        List<ProductInfo> catalog = catalog();
+        testTopMatchesExactCounts(catalog);
+        testTopPerCategory(catalog);
+        testOrdersFeed(catalog);
+        testFedFromJournal(catalog);
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static List<ProductInfo> catalog() {
+        ProductCategory[] categories = ProductCategory.values();
+        List<ProductInfo> catalog = new ArrayList<>(CATALOG);
+        for (int i = 0; i < CATALOG; i++) {
+            catalog.add(new ProductInfo("Товар " + i, 100, 10, categories[i % categories.length],
+                    LocalDate.of(2024, 1, 1)));
+        }
+        return catalog;
+    }
+
+    /**
+     * Продажі за законом Ципфа: товар з рангом r продається пропорційно 1 / r
+     */
+    private static int[] zipfSales(int count, long seed) {
+        double[] cumulative = new double[CATALOG];
+        double sum = 0;
+        for (int i = 0; i < CATALOG; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        Random random = new Random(seed);
+        int[] sales = new int[count];
+        for (int i = 0; i < count; i++) {
+            double target = random.nextDouble() * sum;
+            int low = 0;
+            int high = CATALOG - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            sales[i] = (int) ((low * 2_654_435_761L) % CATALOG);
+        }
+        return sales;
+    }
+
+    private static void testTopMatchesExactCounts(List<ProductInfo> catalog) {
+        System.out.println("Тест 1: Топ і оцінки в межах задокументованої похибки");
+
+        int[] sales = zipfSales(1_000_000, 5);
+        BestsellerTracker tracker = new BestsellerTracker(10, 0.001, 0.01);
+        Map<String, Long> exact = new HashMap<>();
+        for (int index : sales) {
+            ProductInfo product = catalog.get(index);
+            tracker.recordSale(product, 1);
+            exact.merge(product.name(), 1L, Long::sum);
+        }
+
+        long bound = tracker.getErrorBound();
+        assert tracker.getTotalUnits() == sales.length : "Одиниць: " + tracker.getTotalUnits();
+        assert bound <= 0.001 * sales.length + 1 : "Межа похибки: " + bound;
+        int violations = 0;
+        for (Map.Entry<String, Long> entry : exact.entrySet()) {
+            long estimate = tracker.estimate(entry.getKey());
+            assert estimate >= entry.getValue() : "Оцінка менша за справжню для " + entry.getKey();
+            if (estimate > entry.getValue() + bound) {
+                violations++;
+            }
+        }
+        assert violations <= exact.size() * (1 - tracker.getConfidence()) + 1 : "Перевищень межі: " + violations;
+
+        List<String> expectedTop = exact.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Bestseller> top = tracker.getTop();
+        assert top.size() == 10 : "Розмір топу: " + top.size();
+        assert top.stream().map(Bestseller::productName).toList().equals(expectedTop)
+                : "Топ відрізняється: " + top + " проти " + expectedTop;
+        for (Bestseller bestseller : top) {
+            long actual = exact.get(bestseller.productName());
+            assert bestseller.estimatedUnits() >= actual && bestseller.estimatedUnits() <= actual + bound
+                    : "Оцінка " + bestseller;
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  sketch: " + tracker.getSketchBytes() / 1024 + " КБ на " + exact.size()
+                + " товарів, межа похибки " + bound + " од.\n");
+    }
+
+    private static void testTopPerCategory(List<ProductInfo> catalog) {
+        System.out.println("Тест 2: Окремий топ для кожної категорії");
+
+        int[] sales = zipfSales(300_000, 9);
+        BestsellerTracker tracker = new BestsellerTracker(5);
+        Map<String, Long> exact = new HashMap<>();
+        for (int index : sales) {
+            ProductInfo product = catalog.get(index);
+            tracker.recordSale(product, 1);
+            exact.merge(product.name(), 1L, Long::sum);
+        }
+
+        for (ProductCategory category : ProductCategory.values()) {
+            List<Bestseller> top = tracker.getTop(category);
+            assert top.size() == 5 : "Розмір топу " + category;
+            assert top.stream().allMatch(b -> b.category() == category) : "Чужа категорія в топі " + category;
+            assert top.stream().map(Bestseller::estimatedUnits).sorted(Comparator.reverseOrder()).toList()
+                    .equals(top.stream().map(Bestseller::estimatedUnits).toList()) : "Топ не впорядкований";
+
+            String leader = catalog.stream()
+                    .filter(p -> p.category() == category)
+                    .map(ProductInfo::name)
+                    .max(Comparator.comparingLong(name -> exact.getOrDefault(name, 0L)))
+                    .orElseThrow();
+            assert top.get(0).productName().equals(leader) : "Лідер " + category + ": " + top.get(0);
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testOrdersFeed(List<ProductInfo> catalog) {
+        System.out.println("Тест 3: Облік із потоку замовлень без скасованих");
+
+        CustomerInfo customer = new CustomerInfo("Марія", "Коваленко", "maria@example.com", null,
+                LocalDate.of(2023, 6, 20), CustomerTier.GOLD);
+        BestsellerTracker tracker = new BestsellerTracker(3);
+        for (int i = 0; i < 100; i++) {
+            OrderStatus status = i % 10 == 0 ? OrderStatus.CANCELLED : OrderStatus.PENDING;
+            tracker.recordOrder(new OrderInfo("ORD-" + i, customer,
+                    List.of(catalog.get(0), catalog.get(0), catalog.get(1 + i % 3)),
+                    LocalDate.of(2024, 10, 1), status, PaymentMethod.CASH));
+        }
+
+        List<Bestseller> top = tracker.getTop();
+        assert tracker.getTotalUnits() == 270 : "Одиниць: " + tracker.getTotalUnits();
+        assert top.get(0).productName().equals("Товар 0") && top.get(0).estimatedUnits() == 180 : "Лідер: " + top.get(0);
+        assert top.size() == 3 : "Розмір топу: " + top.size();
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testFedFromJournal(List<ProductInfo> catalog) throws Exception {
+        System.out.println("Тест 4: Облік зафіксованих у журналі замовлень");
+
+        CustomerInfo customer = new CustomerInfo("Марія", "Коваленко", "maria@example.com", null,
+                LocalDate.of(2023, 6, 20), CustomerTier.GOLD);
+        BestsellerTracker tracker = new BestsellerTracker(3);
+        BestsellerTracker second = new BestsellerTracker(3);
+        Path directory = Files.createTempDirectory("bestseller-journal");
+        try {
+            try (OrderJournal journal = OrderJournal.open(directory, OrderJournal.Config.defaults(),
+                    OrderEventListener.all(tracker, second))) {
+                for (int i = 0; i < 20; i++) {
+                    journal.append(new OrderInfo("ORD-" + i, customer, List.of(catalog.get(i % 2), catalog.get(5)),
+                            LocalDate.of(2024, 10, 1), OrderStatus.PENDING, PaymentMethod.CASH));
+                }
+                // Зміна статусу не є новим продажем
+                journal.updateStatus("ORD-0", OrderStatus.SHIPPED);
+            }
+            // Відновлені при відкритті замовлення не рахуються вдруге
+            try (OrderJournal journal = OrderJournal.open(directory, OrderJournal.Config.defaults(), tracker)) {
+                assert journal.getOrderCount() == 20;
+            }
+        } finally {
+            try (var files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        assert tracker.getTotalUnits() == 40 : "Одиниць: " + tracker.getTotalUnits();
+        assert second.getTotalUnits() == 40 : "Другий отримувач: " + second.getTotalUnits();
+        assert tracker.getTop().get(0).equals(new Bestseller("Товар 5", catalog.get(5).category(), 20))
+                : "Лідер: " + tracker.getTop().get(0);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
@@ -0,0 +1,266 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.index.CustomerBitmapIndex;
+import com.ecommerce.index.ProductBitmapIndex;
+import com.ecommerce.index.RoaringBitmap;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Базові тести для стиснених бітових індексів (RoaringBitmap, ProductBitmapIndex, CustomerBitmapIndex)
+ */
+public class BitmapIndexTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ BitmapIndex ===\n");
+
+        testOperationsMatchBitSet();
+        testCompression();
+        testProductIndex();
+        testCustomerIndex();
+        testLargeFilter();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    /**
+     * Випадкові значення з частками заповнення по блоках: від розріджених до щільних,
+     * щоб перевірити обидва подання блоків і переходи між ними
+     */
+    private static int[] randomValues(Random random, int blocks, double density) {
+        List<Integer> values = new ArrayList<>();
+        for (int block = 0; block < blocks; block++) {
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+            double blockDensity = density * random.nextDouble() * 2;
+            for (int low = 0; low < 65_536; low++) {
+                if (random.nextDouble() < blockDensity) {
+                    values.add(block << 16 | low);
+                }
+            }
+        }
+        // Перемішування перевіряє вставку не за зростанням
+        int[] result = values.stream().mapToInt(Integer::intValue).toArray();
+        for (int i = result.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = result[i];
+            result[i] = result[j];
+            result[j] = swap;
+        }
+        return result;
+    }
+
+    private static BitSet bitSetOf(int[] values) {
+        BitSet bits = new BitSet();
+        for (int value : values) {
+            bits.set(value);
+        }
+        return bits;
+    }
+
+    private static void assertSame(RoaringBitmap bitmap, BitSet expected, String operation) {
+        assert bitmap.getCardinality() == expected.cardinality()
+                : operation + ": потужність " + bitmap.getCardinality() + " замість " + expected.cardinality();
+        assert Arrays.equals(bitmap.toArray(), expected.stream().toArray()) : operation + ": значення не збігаються";
+    }
+
+    private static void testOperationsMatchBitSet() {
+        System.out.println("Тест 1: AND/OR/ANDNOT збігаються з BitSet");
+
+        Random random = new Random(42);
+        double[] densities = {0.001, 0.03, 0.06, 0.5};
+        for (double first : densities) {
+            for (double second : densities) {
+                int[] a = randomValues(random, 6, first);
+                int[] b = randomValues(random, 6, second);
+                RoaringBitmap left = RoaringBitmap.of(a);
+                RoaringBitmap right = RoaringBitmap.of(b);
+                BitSet leftBits = bitSetOf(a);
+                BitSet rightBits = bitSetOf(b);
+                assertSame(left, leftBits, "побудова");
+
+                BitSet and = (BitSet) leftBits.clone();
+                and.and(rightBits);
+                assertSame(left.and(right), and, "AND " + first + "/" + second);
+                assert left.andCardinality(right) == and.cardinality() : "andCardinality";
+
+                BitSet or = (BitSet) leftBits.clone();
+                or.or(rightBits);
+                assertSame(left.or(right), or, "OR " + first + "/" + second);
+
+                BitSet andNot = (BitSet) leftBits.clone();
+                andNot.andNot(rightBits);
+                assertSame(left.andNot(right), andNot, "ANDNOT " + first + "/" + second);
+
+                // Аргументи операцій не змінюються
+                assertSame(left, leftBits, "лівий аргумент після операцій");
+                assertSame(right, rightBits, "правий аргумент після операцій");
+
+                for (int probe = 0; probe < 1000; probe++) {
+                    int value = random.nextInt(7 << 16);
+                    assert left.contains(value) == leftBits.get(value) : "contains " + value;
+                }
+            }
+        }
+
+        RoaringBitmap empty = RoaringBitmap.of();
+        RoaringBitmap some = RoaringBitmap.of(5, 70_000, 3, 5);
+        assert some.getCardinality() == 3 && Arrays.equals(some.toArray(), new int[]{3, 5, 70_000});
+        assert some.and(empty).isEmpty() && some.or(empty).getCardinality() == 3;
+        assert some.andNot(some).isEmpty();
+        assert RoaringBitmap.intersection(some, RoaringBitmap.of(5, 6), RoaringBitmap.of(1, 5)).getCardinality() == 1;
+        assert RoaringBitmap.union(RoaringBitmap.of(1), RoaringBitmap.of(2), RoaringBitmap.of(1)).getCardinality() == 2;
+        assert !some.contains(-1);
+
+        try {
+            RoaringBitmap.of(-5);
+            assert false : "Від'ємні значення мали бути відхилені";
+        } catch (IllegalArgumentException e) {
+            // очікувано
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCompression() {
+        System.out.println("Тест 2: Стиснення розріджених і щільних множин");
+
+        int rows = 10_000_000;
+        RoaringBitmap sparse = RoaringBitmap.of(IntStream.range(0, rows).filter(i -> i % 1000 == 0).toArray());
+        RoaringBitmap dense = RoaringBitmap.of(IntStream.range(0, rows).filter(i -> i % 2 == 0).toArray());
+        long bitSetBytes = rows / 8;
+
+        System.out.println("Розріджена (1/1000): " + sparse);
+        System.out.println("Щільна (1/2):        " + dense);
+        System.out.println("BitSet на " + rows + " рядків: " + bitSetBytes + " байт");
+
+        assert sparse.getSizeInBytes() < bitSetBytes / 20 : "Розріджена множина не стиснулась";
+        assert dense.getSizeInBytes() < bitSetBytes * 1.1 : "Щільна множина більша за BitSet";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static List<ProductInfo> generateProducts(int count, long seed) {
+        Random random = new Random(seed);
+        ProductCategory[] categories = ProductCategory.values();
+        List<ProductInfo> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductInfo("Товар " + i, 1 + random.nextInt(1000), random.nextInt(4) == 0 ? 0 : random.nextInt(50),
+                    categories[random.nextInt(categories.length)], LocalDate.of(2024, 1, 1)));
+        }
+        return products;
+    }
+
+    private static int[] rows(List<ProductInfo> products, Predicate<ProductInfo> filter) {
+        return IntStream.range(0, products.size()).filter(i -> filter.test(products.get(i))).toArray();
+    }
+
+    private static void testProductIndex() {
+        System.out.println("Тест 3: Індекс товарів збігається з фільтрацією списку");
+
+        List<ProductInfo> products = generateProducts(200_000, 7);
+        ProductBitmapIndex index = new ProductBitmapIndex(products);
+        assert index.size() == products.size() && index.all().getCardinality() == products.size();
+
+        assert Arrays.equals(index.inStock().toArray(), rows(products, ProductInfo::isInStock)) : "inStock";
+        assert Arrays.equals(index.outOfStock().toArray(), rows(products, p -> !p.isInStock())) : "outOfStock";
+        assert Arrays.equals(index.returnable().toArray(), rows(products, p -> p.category().isReturnable()))
+                : "returnable";
+        for (ProductCategory category : ProductCategory.values()) {
+            assert Arrays.equals(index.category(category).toArray(), rows(products, p -> p.category() == category))
+                    : "category " + category;
+        }
+
+        EnumSet<ProductCategory> wanted = EnumSet.of(ProductCategory.ELECTRONICS, ProductCategory.FOOD, ProductCategory.TOYS);
+        RoaringBitmap combined = index.categories(wanted).and(index.inStock()).andNot(index.returnable());
+        int[] expected = rows(products, p -> wanted.contains(p.category()) && p.isInStock() && !p.category().isReturnable());
+        assert Arrays.equals(combined.toArray(), expected) : "Комбінований фільтр";
+        assert index.inStock().andCardinality(index.category(ProductCategory.BOOKS))
+                == rows(products, p -> p.isInStock() && p.category() == ProductCategory.BOOKS).length;
+
+        System.out.println("Пам'ять індексу на " + products.size() + " товарів: " + index.getSizeInBytes() + " байт");
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCustomerIndex() {
+        System.out.println("Тест 4: Індекс рівнів клієнтів");
+
+        Random random = new Random(11);
+        CustomerTier[] tiers = CustomerTier.values();
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            // Бронзових більшість, платинових — одиниці
+            int tier = Math.min(tiers.length - 1, (int) (-Math.log(random.nextDouble()) * 0.7));
+            customers.add(new CustomerInfo("Ім'я", "Прізвище", "c" + i + "@example.com", null,
+                    LocalDate.of(2023, 1, 1), tiers[tier]));
+        }
+        CustomerBitmapIndex index = new CustomerBitmapIndex(customers);
+
+        int total = 0;
+        for (CustomerTier tier : tiers) {
+            RoaringBitmap bitmap = index.tier(tier);
+            int expected = (int) customers.stream().filter(c -> c.tier() == tier).count();
+            assert bitmap.getCardinality() == expected : "tier " + tier;
+            total += expected;
+        }
+        assert total == index.size();
+
+        RoaringBitmap premium = index.tiers(EnumSet.of(CustomerTier.GOLD, CustomerTier.PLATINUM));
+        assert premium.getCardinality()
+                == index.tier(CustomerTier.GOLD).getCardinality() + index.tier(CustomerTier.PLATINUM).getCardinality();
+        assert index.all().andNot(premium).getCardinality()
+                == index.tiers(EnumSet.of(CustomerTier.BRONZE, CustomerTier.SILVER)).getCardinality();
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testLargeFilter() {
+        System.out.println("Тест 5: Фільтр за кількома атрибутами на 10 млн рядків");
+
+        int rows = 10_000_000;
+        Random random = new Random(3);
+        byte[] categories = new byte[rows];
+        boolean[] inStock = new boolean[rows];
+        for (int i = 0; i < rows; i++) {
+            categories[i] = (byte) random.nextInt(8);
+            inStock[i] = random.nextInt(4) != 0;
+        }
+        RoaringBitmap stock = RoaringBitmap.of(IntStream.range(0, rows).filter(i -> inStock[i]).toArray());
+        RoaringBitmap electronics = RoaringBitmap.of(IntStream.range(0, rows).filter(i -> categories[i] == 0).toArray());
+        RoaringBitmap books = RoaringBitmap.of(IntStream.range(0, rows).filter(i -> categories[i] == 2).toArray());
+
+        int expected = 0;
+        long scanStart = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            if (inStock[i] && (categories[i] == 0 || categories[i] == 2)) {
+                expected++;
+            }
+        }
+        long scanMicros = (System.nanoTime() - scanStart) / 1000;
+
+        int actual = 0;
+        long bitmapMicros = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 5; attempt++) {
+            long start = System.nanoTime();
+            actual = electronics.or(books).andCardinality(stock);
+            bitmapMicros = Math.min(bitmapMicros, (System.nanoTime() - start) / 1000);
+        }
+
+        System.out.println("Перегляд масивів: " + scanMicros + " мкс, бітові множини: " + bitmapMicros + " мкс");
+        assert actual == expected : "Потужність " + actual + " замість " + expected;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
@@ -0,0 +1,250 @@
+package com.ecommerce;
+
+import com.ecommerce.service.FileReader;
+import com.ecommerce.util.CompressedInput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Базові тести для CompressedInput
+ */
+public class CompressedInputTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ CompressedInput ===\n");
+
+        Path directory = Files.createTempDirectory("gzip");
+        try {
+            testPlainAndSingleMember(directory);
+            testMultiMemberMatchesOriginal(directory);
+            testFalseMemberCandidates(directory);
+            testCorruptedInput(directory);
+            testLargeMemberWithFalseCandidate(directory);
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static byte[] csv(int rows, int offset) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = offset; i < offset + rows; i++) {
+            sb.append("Товар ").append(i).append(',').append(i % 900).append(",5,BOOKS,2024-01-15\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] content, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(Path file) throws IOException {
+        try (InputStream in = CompressedInput.newInputStream(file)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void testPlainAndSingleMember(Path directory) throws Exception {
+        System.out.println("Тест 1: Звичайний файл і одночленний gzip читаються однаково");
+
+        byte[] content = concat("name,price,stock,category,createdDate\n".getBytes(StandardCharsets.UTF_8), csv(1000, 0));
+        Path plain = Files.write(directory.resolve("products.csv"), content);
+        Path compressed = Files.write(directory.resolve("products.csv.gz"), gzip(content, Deflater.DEFAULT_COMPRESSION));
+
+        assert !CompressedInput.isGzip(plain) && CompressedInput.isGzip(compressed) : "Неправильне визначення gzip";
+        assert Arrays.equals(readAll(compressed), content) : "Вміст gzip відрізняється";
+        assert CompressedInput.estimateUncompressedSize(plain) == content.length : "Розмір звичайного файлу";
+        assert CompressedInput.estimateUncompressedSize(compressed) == content.length : "ISIZE одночленного gzip";
+
+        List<String[]> expected = FileReader.readCSV(plain.toString());
+        List<String[]> actual = FileReader.readCSV(compressed.toString());
+        assert expected.size() == actual.size() : "Різна кількість рядків";
+        for (int i = 0; i < expected.size(); i++) {
+            assert Arrays.equals(expected.get(i), actual.get(i)) : "Рядок #" + i + " відрізняється";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testMultiMemberMatchesOriginal(Path directory) throws Exception {
+        System.out.println("Тест 2: Багаточленний gzip розпаковується паралельно без змін");
+
+        ByteArrayOutputStream original = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (int member = 0; member < 24; member++) {
+            byte[] chunk = csv(5_000, member * 5_000);
+            original.write(chunk);
+            compressed.write(gzip(chunk, Deflater.BEST_SPEED));
+        }
+        compressed.write(new byte[]{0, 0, 0, 0});
+        Path file = Files.write(directory.resolve("multi.csv.gz"), compressed.toByteArray());
+
+        long start = System.nanoTime();
+        byte[] decoded = readAll(file);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assert Arrays.equals(decoded, original.toByteArray()) : "Вміст відрізняється від оригіналу";
+        // ISIZE описує лише останній член, тож оцінка спирається на коефіцієнт стиснення
+        long estimate = CompressedInput.estimateUncompressedSize(file);
+        assert estimate >= original.size() / 2 && estimate <= original.size() * 4L
+                : "Оцінка " + estimate + " для " + original.size() + " байтів";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + decoded.length / 1024 + " КБ за " + elapsedMillis + " мс\n");
+    }
+
+    private static void testFalseMemberCandidates(Path directory) throws Exception {
+        System.out.println("Тест 3: Сигнатура gzip всередині даних не ламає межі членів");
+
+        // Рівень 0 зберігає байти як є, тож сигнатура 1f 8b 08 00 з'являється всередині члена
+        byte[] trap = new byte[4_096];
+        for (int i = 0; i + 10 <= trap.length; i += 10) {
+            trap[i] = 0x1f;
+            trap[i + 1] = (byte) 0x8b;
+            trap[i + 2] = 8;
+        }
+        ByteArrayOutputStream original = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (int member = 0; member < 5; member++) {
+            byte[] chunk = concat(trap, csv(100, member * 100));
+            original.write(chunk);
+            compressed.write(gzip(chunk, Deflater.NO_COMPRESSION));
+        }
+        Path file = Files.write(directory.resolve("trap.gz"), compressed.toByteArray());
+
+        assert Arrays.equals(readAll(file), original.toByteArray()) : "Хибні кандидати зламали розпакування";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCorruptedInput(Path directory) throws Exception {
+        System.out.println("Тест 4: Пошкоджений gzip дає IOException");
+
+        byte[] first = gzip(csv(2_000, 0), Deflater.DEFAULT_COMPRESSION);
+        byte[] second = gzip(csv(2_000, 2_000), Deflater.DEFAULT_COMPRESSION);
+        for (int corrupted : new int[]{first.length / 2, first.length + second.length / 2}) {
+            byte[] compressed = concat(first, second);
+            compressed[corrupted] ^= 0x55;
+            compressed[corrupted + 1] ^= 0x55;
+            Path file = Files.write(directory.resolve("broken.gz"), compressed);
+
+            try {
+                readAll(file);
+                assert false : "Очікувався IOException для пошкодження на зміщенні " + corrupted;
+            } catch (IOException e) {
+                // очікувано
+            }
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    /**
+     * Великий член не розпаковується в пам'ять цілком: понад 1 ГБ нулів не вмістився б
+     * у купу одним масивом, а сигнатура всередині члена робить файл "багаточленним"
+     */
+    private static void testLargeMemberWithFalseCandidate(Path directory) throws Exception {
+        System.out.println("Тест 5: Великий член з хибною сигнатурою читається потоково");
+
+        long zeros = 1_100_000_000L;
+        byte[] trap = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3};
+        Path file = directory.resolve("large.gz");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            LevelGzipOutputStream gzip = new LevelGzipOutputStream(out);
+            // Без стиснення сигнатура потрапляє в стиснені дані як є
+            gzip.setLevel(Deflater.NO_COMPRESSION);
+            gzip.write(trap);
+            gzip.setLevel(Deflater.BEST_COMPRESSION);
+            byte[] block = new byte[1024 * 1024];
+            for (long written = 0; written < zeros; written += block.length) {
+                gzip.write(block, 0, (int) Math.min(block.length, zeros - written));
+            }
+            gzip.finish();
+            // Після великого члена — звичайні малі члени
+            for (int member = 0; member < 3; member++) {
+                out.write(gzip(csv(1_000, member * 1_000), Deflater.DEFAULT_COMPRESSION));
+            }
+        }
+        byte[] head = new byte[64];
+        try (InputStream in = Files.newInputStream(file)) {
+            in.readNBytes(head, 0, head.length);
+        }
+        assert indexOf(head, trap, 1) > 0 : "Хибна сигнатура не потрапила в стиснені дані";
+
+        long start = System.nanoTime();
+        try (InputStream actual = CompressedInput.newInputStream(file);
+             InputStream expected = new GZIPInputStream(Files.newInputStream(file), 64 * 1024)) {
+            byte[] left = new byte[64 * 1024];
+            byte[] right = new byte[64 * 1024];
+            long total = 0;
+            while (true) {
+                int n = expected.readNBytes(left, 0, left.length);
+                int m = actual.readNBytes(right, 0, right.length);
+                assert n == m : "Різна довжина після " + total + " байтів";
+                assert Arrays.equals(left, 0, n, right, 0, m) : "Вміст відрізняється після " + total + " байтів";
+                total += n;
+                if (n < left.length) {
+                    break;
+                }
+            }
+            long tail = csv(1_000, 0).length + csv(1_000, 1_000).length + csv(1_000, 2_000).length;
+            assert total == trap.length + zeros + tail : "Неправильна довжина: " + total;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + (zeros >> 20) + " МБ за " + elapsedMillis + " мс\n");
+    }
+
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out) throws IOException {
+            super(out, true);
+        }
+
+        void setLevel(int level) throws IOException {
+            // Скидання завершує блок, тож новий рівень діє лише на наступні дані
+            def.setLevel(level);
+            flush();
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        for (int i = from; i + pattern.length <= data.length; i++) {
+            if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
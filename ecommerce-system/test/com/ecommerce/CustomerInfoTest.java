@@ -2,7 +2,9 @@ package com.ecommerce;
 
 import com.ecommerce.model.CustomerInfo;
 import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.CustomerInfo.MembershipStatus;
 import java.time.LocalDate;
+import java.time.Period;
 
 /**
  * Базові тести для CustomerInfo
@@ -18,6 +20,7 @@ public class CustomerInfoTest {
         testCustomerTier();
         testMembershipStatus();
         testUpgradeTier();
+        testMembershipMonthsFixedDate();
 
         System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
     }
@@ -187,4 +190,43 @@ public class CustomerInfoTest {
         System.out.println("  Після 4-го upgrade: " + upgraded4.tier());
         System.out.println("  Оригінальний залишився: " + customer.tier() + " (immutability OK)\n");
     }
+
+    private static void testMembershipMonthsFixedDate() {
+        System.out.println("Тест 7: Місяці членства на фіксовану дату");
+
+        LocalDate[][] cases = {
+                {LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29)},
+                {LocalDate.of(2024, 1, 15), LocalDate.of(2024, 4, 15)},
+                {LocalDate.of(2022, 3, 10), LocalDate.of(2024, 3, 9)},
+                {LocalDate.of(2023, 6, 20), LocalDate.of(2024, 10, 1)}
+        };
+
+        for (LocalDate[] testCase : cases) {
+            CustomerInfo customer = new CustomerInfo("Тест", "Клієнт", "test@example.com",
+                    "+380501234567", testCase[0], CustomerTier.BRONZE);
+            int expected = (int) Period.between(testCase[0], testCase[1]).toTotalMonths();
+
+            assert customer.getMembershipMonths(testCase[1]) == expected
+                    : "Неправильна кількість місяців для " + testCase[0] + " -> " + testCase[1];
+            assert customer.getMembershipMonths(testCase[1].toEpochDay()) == expected
+                    : "Неправильна кількість місяців (epoch day)";
+        }
+
+        // Обчислення дати з номера дня має збігатися з LocalDate, включно з 29 лютого і межами століть
+        CustomerInfo leapDay = new CustomerInfo("Тест", "Клієнт", "test@example.com",
+                "+380501234567", LocalDate.of(2000, 2, 29), CustomerTier.BRONZE);
+        for (long day = LocalDate.of(1899, 12, 1).toEpochDay(); day <= LocalDate.of(2101, 3, 31).toEpochDay(); day++) {
+            assert leapDay.getMembershipMonths(day) == leapDay.getMembershipMonths(LocalDate.ofEpochDay(day))
+                    : "Розбіжність для " + LocalDate.ofEpochDay(day);
+        }
+
+        CustomerInfo customer = new CustomerInfo("Тест", "Клієнт", "test@example.com",
+                "+380501234567", LocalDate.of(2022, 3, 10), CustomerTier.GOLD);
+        assert customer.getMembershipStatus(LocalDate.of(2024, 3, 9)) == MembershipStatus.VIP
+                : "Має бути VIP (23 місяці)";
+        assert customer.getMembershipStatus(LocalDate.of(2024, 3, 10)) == MembershipStatus.PREMIUM
+                : "Має бути PREMIUM (24 місяці)";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
 }
@@ -0,0 +1,173 @@
+package com.ecommerce;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.service.CustomerService;
+import com.ecommerce.store.CustomerStore;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Базові тести для CustomerStore
+ */
+public class CustomerStoreTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ CustomerStore ===\n");
+
+        Path root = Files.createTempDirectory("store");
+        try {
+            testPutGetAcrossReopen(root.resolve("basic"));
+            testOverwriteAndDelete(root.resolve("overwrite"));
+            testPrefixScan(root.resolve("prefix"));
+            testCompaction(root.resolve("compaction"));
+            testImportFromCsv(root);
+        } finally {
+            try (var files = Files.walk(root)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static CustomerInfo customer(int i, CustomerTier tier) {
+        return new CustomerInfo("Ім'я" + i, "Прізвище" + i, "user" + i + "@example.com",
+                i % 3 == 0 ? null : "+38050" + (1_000_000 + i), LocalDate.of(2022, 1, 1).plusDays(i % 700), tier);
+    }
+
+    private static List<CustomerInfo> customers(int from, int to) {
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            customers.add(customer(i, CustomerTier.BRONZE));
+        }
+        return customers;
+    }
+
+    private static void testPutGetAcrossReopen(Path directory) throws Exception {
+        System.out.println("Тест 1: Записи доступні з пам'яті, з диска і після повторного відкриття");
+
+        CustomerStore.Config config = new CustomerStore.Config(1_000, 100);
+        try (CustomerStore store = CustomerStore.open(directory, config)) {
+            store.putAll(customers(0, 5_000));
+            for (int i = 5_000; i < 5_500; i++) {
+                store.put(customer(i, CustomerTier.SILVER));
+            }
+            assert store.get("user42@example.com").equals(customer(42, CustomerTier.BRONZE)) : "Запис з таблиці";
+            assert store.get("user5200@example.com").equals(customer(5200, CustomerTier.SILVER)) : "Запис з пам'яті";
+            assert store.get("nobody@example.com") == null : "Знайдено неіснуючого клієнта";
+        }
+
+        try (CustomerStore store = CustomerStore.open(directory, config)) {
+            for (int i = 0; i < 5_500; i += 37) {
+                CustomerInfo expected = customer(i, i < 5_000 ? CustomerTier.BRONZE : CustomerTier.SILVER);
+                assert expected.equals(store.get(expected.email())) : "Після відкриття втрачено " + expected.email();
+            }
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testOverwriteAndDelete(Path directory) throws Exception {
+        System.out.println("Тест 2: Новіше значення і видалення перекривають старі таблиці");
+
+        try (CustomerStore store = CustomerStore.open(directory, new CustomerStore.Config(100, 100))) {
+            store.putAll(customers(0, 300));
+            store.putAll(List.of(customer(7, CustomerTier.GOLD)));
+            store.put(customer(8, CustomerTier.PLATINUM));
+            store.delete("user9@example.com");
+            store.flush();
+
+            assert store.get("user7@example.com").tier() == CustomerTier.GOLD : "Пакет не перекрив старе значення";
+            assert store.get("user8@example.com").tier() == CustomerTier.PLATINUM : "put не перекрив старе значення";
+            assert store.get("user9@example.com") == null : "Видалений клієнт знайдений";
+        }
+        try (CustomerStore store = CustomerStore.open(directory)) {
+            assert store.get("user8@example.com").tier() == CustomerTier.PLATINUM : "Перезапис втрачено";
+            assert store.get("user9@example.com") == null : "Видалення втрачено";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testPrefixScan(Path directory) throws Exception {
+        System.out.println("Тест 3: Пошук за префіксом email об'єднує всі джерела в порядку ключів");
+
+        try (CustomerStore store = CustomerStore.open(directory, new CustomerStore.Config(10_000, 100))) {
+            store.putAll(customers(0, 2_000));
+            store.put(customer(12, CustomerTier.GOLD));
+            store.delete("user123@example.com");
+            store.put(new CustomerInfo("Нова", "Клієнтка", "user12x@example.com", null,
+                    LocalDate.of(2024, 1, 1), CustomerTier.BRONZE));
+
+            List<CustomerInfo> found = store.scanPrefix("user12");
+            List<String> emails = found.stream().map(CustomerInfo::email).toList();
+            // user12, user120..user129 без user123, user1200..user1299, user12x
+            assert found.size() == 1 + 9 + 100 + 1 : "Знайдено " + found.size();
+            assert emails.equals(emails.stream().sorted().toList()) : "Результат не впорядкований";
+            assert !emails.contains("user123@example.com") : "Видалений клієнт у результаті";
+            assert found.get(emails.indexOf("user12@example.com")).tier() == CustomerTier.GOLD : "Старе значення в результаті";
+            assert emails.contains("user12x@example.com") : "Запис з пам'яті не знайдено";
+            assert store.scanPrefix("zzz").isEmpty() : "Знайдено неіснуючий префікс";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCompaction(Path directory) throws Exception {
+        System.out.println("Тест 4: Компакція зливає таблиці і відкидає перезаписані та видалені ключі");
+
+        try (CustomerStore store = CustomerStore.open(directory, new CustomerStore.Config(1_000, 4))) {
+            for (int round = 0; round < 3; round++) {
+                store.putAll(customers(0, 1_000));
+            }
+            for (int i = 0; i < 100; i++) {
+                store.delete("user" + i + "@example.com");
+            }
+            store.flush();
+            assert store.getTableCount() == 4 : "Таблиць: " + store.getTableCount();
+
+            store.putAll(customers(1_000, 1_100));
+            // П'ята таблиця перевищила межу: автоматична компакція
+            assert store.getTableCount() == 1 : "Компакція не відбулася: " + store.getTableCount();
+            assert store.getApproximateCount() == 1_000 : "Записів після компакції: " + store.getApproximateCount();
+            assert store.get("user5@example.com") == null : "Видалений клієнт повернувся";
+            assert store.get("user500@example.com") != null : "Клієнта втрачено при компакції";
+        }
+        try (var files = Files.list(directory)) {
+            assert files.count() == 1 : "Старі таблиці не видалено";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testImportFromCsv(Path root) throws Exception {
+        System.out.println("Тест 5: Імпорт CSV у сховище пакетами");
+
+        StringBuilder csv = new StringBuilder("firstName,lastName,email,phone,registrationDate,tier\n");
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("Ім'я").append(i).append(",Прізвище,import").append(i).append("@example.com,,2024-01-15,")
+                    .append(i % 2 == 0 ? "GOLD" : "SILVER").append('\n');
+        }
+        csv.append("Зламаний,Рядок,не-email,,2024-01-15,GOLD\n");
+        Path file = Files.writeString(root.resolve("customers.csv"), csv, StandardCharsets.UTF_8);
+
+        long start = System.nanoTime();
+        try (CustomerStore store = CustomerStore.open(root.resolve("import"))) {
+            long imported = new CustomerService().importCustomers(file.toString(), store);
+            assert imported == 20_000 : "Імпортовано " + imported;
+            assert store.get("import19999@example.com").tier() == CustomerTier.SILVER : "Останній клієнт";
+            assert store.scanPrefix("import1999").size() == 11 : "Пошук за префіксом після імпорту";
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  20000 клієнтів за " + (System.nanoTime() - start) / 1_000_000 + " мс\n");
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.export.DataExporter;
+import com.ecommerce.export.ExportFormat;
+import com.ecommerce.ingest.IngestPipeline;
+import com.ecommerce.mapping.RecordMapper;
+import com.ecommerce.mapping.RecordMappers;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.service.FileReader;
+import com.ecommerce.service.ProductService;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Базові тести для DataExporter
+ */
+public class DataExporterTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ DataExporter ===\n");
+
+        Path directory = Files.createTempDirectory("export");
+        try {
+            testProductsRoundTrip(directory);
+            testCustomersRoundTrip(directory);
+            testCsvQuoting(directory);
+            testQuotedRoundTrip(directory);
+            testJsonLines(directory);
+            testStreamingLargeExport(directory);
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static List<ProductInfo> products(int count) {
+        ProductCategory[] categories = ProductCategory.values();
+        double[] prices = {45000, 850.5, 19.99, 0.1 + 0.2, 1234567.89};
+        List<ProductInfo> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductInfo("Товар " + i, prices[i % prices.length], i % 500,
+                    categories[i % categories.length], LocalDate.of(2020, 1, 1).plusDays(i % 2000)));
+        }
+        return products;
+    }
+
+    private static void testProductsRoundTrip(Path directory) throws Exception {
+        System.out.println("Тест 1: Експортовані товари завантажуються назад без змін");
+
+        List<ProductInfo> products = products(10_000);
+        Path file = directory.resolve("products.csv");
+        // Малий буфер, щоб запис перетинав межі скидання
+        long written = new DataExporter(256).exportProducts(file, products, ExportFormat.CSV);
+        assert written == products.size() : "Неправильна кількість рядків";
+
+        List<ProductInfo> loaded = new ProductService().loadProducts(file.toString(), IngestPipeline.Config.defaults());
+        assert loaded.equals(products) : "Товари після експорту відрізняються";
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assert lines.get(0).equals("name,price,stock,category,createdDate") : "Неправильний заголовок";
+        assert lines.get(1).startsWith("Товар 0,45000,0,") : lines.get(1);
+        assert lines.get(2).startsWith("Товар 1,850.5,1,") : lines.get(2);
+        assert lines.get(3).startsWith("Товар 2,19.99,2,") : lines.get(3);
+        assert lines.get(4).startsWith("Товар 3,0.30000000000000004,3,") : lines.get(4);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCustomersRoundTrip(Path directory) throws Exception {
+        System.out.println("Тест 2: Експортовані клієнти відображаються назад у ті самі записи");
+
+        List<CustomerInfo> customers = List.of(
+                new CustomerInfo("Іван", "Петренко", "ivan@example.com", "+380501234567",
+                        LocalDate.of(2024, 1, 15), CustomerTier.BRONZE),
+                new CustomerInfo("Анна", "Мороз", "anna@example.com", null,
+                        LocalDate.of(2023, 6, 20), CustomerTier.GOLD));
+        Path file = directory.resolve("customers.csv");
+        new DataExporter().exportCustomers(file, customers, ExportFormat.CSV);
+
+        RecordMapper.Binding<CustomerInfo> binding = RecordMappers.CUSTOMERS.bind(FileReader.readHeader(file.toString()));
+        List<String[]> rows = FileReader.readCSV(file.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            CustomerInfo loaded = binding.map(rows.get(i), i + 2);
+            assert loaded.equals(customers.get(i)) : "Клієнт #" + i + " відрізняється: " + loaded;
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCsvQuoting(Path directory) throws Exception {
+        System.out.println("Тест 3: Коми, лапки і переноси рядків екрануються за RFC 4180");
+
+        List<ProductInfo> products = List.of(
+                new ProductInfo("Стіл \"Лофт\", дуб", 4200, 3, ProductCategory.FURNITURE, LocalDate.of(2024, 3, 1)),
+                new ProductInfo("Два\nрядки", 100, 1, ProductCategory.BOOKS, LocalDate.of(2024, 3, 2)));
+        Path file = directory.resolve("quoted.csv");
+        new DataExporter().exportProducts(file, products, ExportFormat.CSV);
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assert content.equals("name,price,stock,category,createdDate\n"
+                + "\"Стіл \"\"Лофт\"\", дуб\",4200,3,FURNITURE,2024-03-01\n"
+                + "\"Два\nрядки\",100,1,BOOKS,2024-03-02\n") : content;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testQuotedRoundTrip(Path directory) throws Exception {
+        System.out.println("Тест 4: Назви з комами і лапками завантажуються назад");
+
+        List<ProductInfo> products = List.of(
+                new ProductInfo("Стіл \"Лофт\", дуб", 4200, 3, ProductCategory.FURNITURE, LocalDate.of(2024, 3, 1)),
+                new ProductInfo("Ноутбук Dell, 16 ГБ, 512 ГБ", 45000, 5, ProductCategory.ELECTRONICS, LocalDate.of(2024, 3, 2)),
+                new ProductInfo("Книга \"Кобзар\"", 350, 12, ProductCategory.BOOKS, LocalDate.of(2024, 3, 3)),
+                new ProductInfo("Кава, зерно", 420.5, 0, ProductCategory.FOOD, LocalDate.of(2024, 3, 4)));
+        Path file = directory.resolve("quoted-products.csv");
+        new DataExporter().exportProducts(file, products, ExportFormat.CSV);
+
+        List<ProductInfo> loaded = new ProductService().loadProducts(file.toString(), IngestPipeline.Config.defaults());
+        assert loaded.equals(products) : "Товари з комами в назвах відрізняються: " + loaded;
+
+        List<String[]> rows = FileReader.readCSV(file.toString());
+        assert rows.get(1).length == 5 && rows.get(1)[0].equals("Ноутбук Dell, 16 ГБ, 512 ГБ") : "Кома в лапках розділила поле";
+
+        // Рядки без лапок розбиваються як раніше, лапки діють лише на початку поля
+        assert Arrays.equals(FileReader.splitLine(" a , \"b,c\" ,\"\",d,,", null), new String[]{"a", "b,c", "", "d"});
+        assert Arrays.equals(FileReader.splitLine("Монітор 27\",100", null), new String[]{"Монітор 27\"", "100"});
+        assert Arrays.equals(FileReader.splitLine("\"без кінця,1", null), new String[]{"без кінця,1"});
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testJsonLines(Path directory) throws Exception {
+        System.out.println("Тест 5: JSON Lines з екрануванням і масивом товарів замовлення");
+
+        CustomerInfo customer = new CustomerInfo("Олена", "Коваль", "olena@example.com", null,
+                LocalDate.of(2024, 2, 10), CustomerTier.SILVER);
+        List<ProductInfo> items = List.of(
+                new ProductInfo("Кава \"Арабіка\"", 320.5, 10, ProductCategory.FOOD, LocalDate.of(2024, 1, 1)),
+                new ProductInfo("Чай\tзелений\\", 95, 4, ProductCategory.FOOD, LocalDate.of(2024, 1, 2)));
+        OrderInfo order = new OrderInfo("ORD-1", customer, items, LocalDate.of(2024, 5, 9),
+                OrderStatus.SHIPPED, PaymentMethod.PAYPAL);
+
+        Path orders = directory.resolve("orders.jsonl");
+        new DataExporter().exportOrders(orders, List.of(order), ExportFormat.JSON_LINES);
+        assert Files.readString(orders, StandardCharsets.UTF_8).equals(
+                "{\"orderId\":\"ORD-1\",\"customerEmail\":\"olena@example.com\","
+                        + "\"products\":[\"Кава \\\"Арабіка\\\"\",\"Чай\\tзелений\\\\\"],"
+                        + "\"orderDate\":\"2024-05-09\",\"status\":\"SHIPPED\",\"paymentMethod\":\"PAYPAL\"}\n")
+                : Files.readString(orders, StandardCharsets.UTF_8);
+
+        Path customers = directory.resolve("customers.jsonl");
+        new DataExporter().exportCustomers(customers, List.of(customer), ExportFormat.JSON_LINES);
+        assert Files.readString(customers, StandardCharsets.UTF_8).equals(
+                "{\"firstName\":\"Олена\",\"lastName\":\"Коваль\",\"email\":\"olena@example.com\","
+                        + "\"phone\":null,\"registrationDate\":\"2024-02-10\",\"tier\":\"SILVER\"}\n")
+                : Files.readString(customers, StandardCharsets.UTF_8);
+
+        Path csv = directory.resolve("orders.csv");
+        new DataExporter().exportOrders(csv, List.of(order), ExportFormat.CSV);
+        assert Files.readAllLines(csv, StandardCharsets.UTF_8).get(1).equals(
+                "ORD-1,olena@example.com,\"Кава \"\"Арабіка\"\";Чай\tзелений\\\",2024-05-09,SHIPPED,PAYPAL")
+                : Files.readAllLines(csv, StandardCharsets.UTF_8).get(1);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testStreamingLargeExport(Path directory) throws Exception {
+        System.out.println("Тест 6: Потоковий експорт 1M рядків без списку в пам'яті");
+
+        int rows = 1_000_000;
+        ProductInfo[] templates = products(1_000).toArray(new ProductInfo[0]);
+        Iterable<ProductInfo> stream = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < rows;
+            }
+
+            @Override
+            public ProductInfo next() {
+                return templates[next++ % templates.length];
+            }
+        };
+
+        Path file = directory.resolve("large.csv");
+        long start = System.nanoTime();
+        long written = new DataExporter().exportProducts(file, stream, ExportFormat.CSV);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assert written == rows : "Неправильна кількість рядків";
+        long lines;
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            lines = reader.lines().count();
+        }
+        assert lines == rows + 1 : "У файлі " + lines + " рядків";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + rows + " рядків, " + Files.size(file) / 1024 + " КБ за " + elapsedMillis + " мс\n");
+    }
+}
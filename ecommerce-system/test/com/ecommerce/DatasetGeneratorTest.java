@@ -0,0 +1,114 @@
+package com.ecommerce;
+
+import com.ecommerce.generator.DatasetGenerator;
+import com.ecommerce.generator.DatasetGenerator.FileReport;
+import com.ecommerce.ingest.IngestPipeline;
+import com.ecommerce.service.CustomerService;
+import com.ecommerce.service.ProductService;
+import com.ecommerce.service.ReviewRatingAggregator;
+import com.ecommerce.store.CustomerStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Базові тести для DatasetGenerator
+ */
+public class DatasetGeneratorTest {
+
+    private static final int ROWS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ DatasetGenerator ===\n");
+
+        Path root = Files.createTempDirectory("generator");
+        try {
+            testDeterministicOutput(root);
+            testRowCounts(root);
+            testInvalidRowsRejected(root);
+        } finally {
+            try (var files = Files.walk(root)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static List<FileReport> generate(Path directory, long seed) throws Exception {
+        return new DatasetGenerator(new DatasetGenerator.Config(directory, ROWS, ROWS, ROWS, ROWS, seed, 0.05))
+                .generate();
+    }
+
+    private static void testDeterministicOutput(Path root) throws Exception {
+        System.out.println("Тест 1: Однаковий seed дає побайтово однакові файли");
+
+        List<FileReport> first = generate(root.resolve("seed-42-a"), 42);
+        List<FileReport> second = generate(root.resolve("seed-42-b"), 42);
+        List<FileReport> other = generate(root.resolve("seed-7"), 7);
+
+        for (int i = 0; i < first.size(); i++) {
+            byte[] expected = Files.readAllBytes(first.get(i).file());
+            assert Arrays.equals(expected, Files.readAllBytes(second.get(i).file()))
+                    : "Файл " + first.get(i).file().getFileName() + " відрізняється при тому самому seed";
+            assert first.get(i).invalidRows() == second.get(i).invalidRows();
+            assert !Arrays.equals(expected, Files.readAllBytes(other.get(i).file()))
+                    : "Файл " + first.get(i).file().getFileName() + " не залежить від seed";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testRowCounts(Path root) throws Exception {
+        System.out.println("Тест 2: Кількість рядків у файлах");
+
+        List<FileReport> reports = generate(root.resolve("counts"), 42);
+        assert reports.size() == 4 : "Очікується 4 файли";
+        for (FileReport report : reports) {
+            List<String> lines = Files.readAllLines(report.file());
+            assert report.rows() == ROWS : report.file().getFileName() + ": у звіті " + report.rows() + " рядків";
+            assert lines.size() == ROWS + 1 : report.file().getFileName() + ": " + lines.size() + " рядків із заголовком";
+            assert report.bytes() == Files.size(report.file()) : "Розмір у звіті не збігається з файлом";
+            System.out.println("  " + report.file().getFileName() + ": невалідних " + report.invalidRows());
+        }
+        assert reports.get(2).invalidRows() == 0 : "Замовлення генеруються без помилок";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testInvalidRowsRejected(Path root) throws Exception {
+        System.out.println("Тест 3: Завантажувачі відхиляють рівно згенеровані невалідні рядки");
+
+        Path directory = root.resolve("rejects");
+        List<FileReport> reports = generate(directory, 42);
+        FileReport products = reports.get(0);
+        FileReport customers = reports.get(1);
+        FileReport reviews = reports.get(3);
+        // Частка 0.05 на 20 тис. рядків — близько тисячі помилок у кожному файлі
+        assert products.invalidRows() > 800 && products.invalidRows() < 1200 : "Невалідних товарів: " + products.invalidRows();
+
+        int loadedProducts = new ProductService()
+                .loadProducts(products.file().toString(), new IngestPipeline.Config(512, 8, 2, 2)).size();
+        assert loadedProducts == products.rows() - products.invalidRows()
+                : "Товарів відхилено " + (products.rows() - loadedProducts) + " замість " + products.invalidRows();
+
+        long loadedCustomers;
+        try (CustomerStore store = CustomerStore.open(directory.resolve("store"))) {
+            loadedCustomers = new CustomerService().importCustomers(customers.file().toString(), store);
+        }
+        assert loadedCustomers == customers.rows() - customers.invalidRows()
+                : "Клієнтів відхилено " + (customers.rows() - loadedCustomers) + " замість " + customers.invalidRows();
+
+        int loadedReviews = new ReviewRatingAggregator(ROWS).loadReviews(reviews.file().toString());
+        assert loadedReviews == reviews.rows() - reviews.invalidRows()
+                : "Відгуків відхилено " + (reviews.rows() - loadedReviews) + " замість " + reviews.invalidRows();
+
+        System.out.println("  відхилено товарів: " + products.invalidRows() + ", клієнтів: " + customers.invalidRows()
+                + ", відгуків: " + reviews.invalidRows());
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
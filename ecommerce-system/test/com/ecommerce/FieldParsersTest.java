@@ -0,0 +1,119 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.enums.ShipmentStatus;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.util.EnumLookup;
+import com.ecommerce.util.FieldParsers;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+/**
+ * Базові тести для FieldParsers і EnumLookup
+ */
+public class FieldParsersTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ FieldParsers ===\n");
+
+        testNumbersMatchJdk();
+        testDatesMatchJdk();
+        testErrorsMatchJdk();
+        testEnumLookup();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testNumbersMatchJdk() {
+        System.out.println("Тест 1: Числа збігаються з Double.parseDouble / Integer.parseInt");
+
+        Random random = new Random(42);
+        String[] fixed = {"0", "-0", "+7", "45000", "850.50", "0.1", ".5", "1.", "123456789012345.6",
+                "0.000000000000000000001", "1e3", "NaN", " 12 ", "99999999999999999999", "2147483647", "-2147483648"};
+        for (String s : fixed) {
+            assert Double.compare(FieldParsers.parseDouble(s), Double.parseDouble(s)) == 0 : "Double відрізняється: " + s;
+        }
+        for (int i = 0; i < 100_000; i++) {
+            String s = (random.nextInt(10) == 0 ? "-" : "") + random.nextInt(1_000_000) + "." + random.nextInt(10_000);
+            assert Double.compare(FieldParsers.parseDouble(s), Double.parseDouble(s)) == 0 : "Double відрізняється: " + s;
+
+            String n = Integer.toString(random.nextInt());
+            assert FieldParsers.parseInt(n) == Integer.parseInt(n) : "Int відрізняється: " + n;
+        }
+        assert FieldParsers.parseInt("x=125;", 2, 5) == 125 : "Неправильний діапазон";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testDatesMatchJdk() {
+        System.out.println("Тест 2: Дати збігаються з LocalDate.parse");
+
+        for (LocalDate date = LocalDate.of(1899, 1, 1); date.getYear() < 2101; date = date.plusDays(1)) {
+            String s = date.toString();
+            assert FieldParsers.parseIsoDate(s).equals(date) : "Дата відрізняється: " + s;
+            assert FieldParsers.parseEpochDay(s) == date.toEpochDay() : "Epoch day відрізняється: " + s;
+        }
+        assert FieldParsers.parseIsoDate("+12024-01-15").equals(LocalDate.parse("+12024-01-15")) : "Повільний шлях";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testErrorsMatchJdk() {
+        System.out.println("Тест 3: Ті самі винятки, що й у JDK");
+
+        for (String s : new String[]{"", "-", "abc", "1.2.3", "12a", "2147483648"}) {
+            assertThrows(() -> FieldParsers.parseInt(s), NumberFormatException.class, s);
+        }
+        for (String s : new String[]{"", "-", ".", "abc", "1,5"}) {
+            assertThrows(() -> FieldParsers.parseDouble(s), NumberFormatException.class, s);
+        }
+        for (String s : new String[]{"2024-02-30", "2023-02-29", "2024-13-01", "01.01.2024", "2024-1-1", ""}) {
+            assertThrows(() -> FieldParsers.parseIsoDate(s), DateTimeParseException.class, s);
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void assertThrows(Runnable action, Class<? extends Exception> expected, String input) {
+        try {
+            action.run();
+            assert false : "Очікувався " + expected.getSimpleName() + " для '" + input + "'";
+        } catch (RuntimeException e) {
+            assert expected.isInstance(e) : "Неправильний виняток для '" + input + "': " + e;
+        }
+    }
+
+    private static void testEnumLookup() {
+        System.out.println("Тест 4: Пошук enum без урахування регістру");
+
+        assertAllConstants(ProductCategory.class);
+        assertAllConstants(CustomerTier.class);
+        assertAllConstants(PaymentMethod.class);
+        assertAllConstants(OrderStatus.class);
+        assertAllConstants(ShipmentStatus.class);
+
+        EnumLookup<ProductCategory> categories = EnumLookup.of(ProductCategory.class);
+        assert categories.valueOf("Electronics") == ProductCategory.ELECTRONICS : "Змішаний регістр";
+        assert categories.find("BOOKSX", 0, 5) == ProductCategory.BOOKS : "Діапазон";
+        assert categories.find("BOOK", 0, 4) == null : "Префікс не повинен знаходитись";
+        try {
+            categories.valueOf("GADGETS");
+            assert false : "Невідома категорія знайдена";
+        } catch (IllegalArgumentException e) {
+            assert e.getMessage().contains("GADGETS") : "Повідомлення без значення";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static <E extends Enum<E>> void assertAllConstants(Class<E> type) {
+        EnumLookup<E> lookup = EnumLookup.of(type);
+        for (E constant : type.getEnumConstants()) {
+            assert lookup.valueOf(constant.name()) == constant : "Не знайдено " + constant;
+            assert lookup.valueOf(constant.name().toLowerCase()) == constant : "Не знайдено в нижньому регістрі " + constant;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ecommerce;
+
+import com.ecommerce.analytics.ActiveCustomerCounter;
+import com.ecommerce.analytics.HyperLogLog;
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Базові тести для HyperLogLog і ActiveCustomerCounter
+ */
+public class HyperLogLogTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ HyperLogLog ===\n");
+
+        testAccuracy();
+        testMergeAndSerialization();
+        testActiveCustomers();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static double relativeError(long estimate, long actual) {
+        return actual == 0 ? estimate : Math.abs(estimate - actual) / (double) actual;
+    }
+
+    private static void testAccuracy() {
+        System.out.println("Тест 1: Точність оцінки на різних кількостях");
+
+        assert new HyperLogLog(12).estimate() == 0 : "Порожній sketch";
+        int[] cardinalities = {1, 10, 100, 1_000, 5_000, 20_000, 100_000, 1_000_000};
+        StringBuilder errors = new StringBuilder();
+        for (int cardinality : cardinalities) {
+            HyperLogLog sketch = new HyperLogLog(12);
+            for (int i = 0; i < cardinality; i++) {
+                String email = "user" + i + "@example.com";
+                sketch.add(email);
+                sketch.add(email);
+            }
+            double error = relativeError(sketch.estimate(), cardinality);
+            // 4 стандартні похибки, а для малих кількостей — майже точний підрахунок
+            double allowed = cardinality <= 100 ? 0.02 : 4 * sketch.getRelativeError();
+            assert error <= allowed : "Похибка " + error + " для " + cardinality + ": " + sketch.estimate();
+            errors.append(String.format(" %d→%.2f%%", cardinality, error * 100));
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println(" " + errors + "\n");
+    }
+
+    private static void testMergeAndSerialization() {
+        System.out.println("Тест 2: Злиття і передача між вузлами");
+
+        HyperLogLog first = new HyperLogLog(14);
+        HyperLogLog second = new HyperLogLog(14);
+        HyperLogLog union = new HyperLogLog(14);
+        for (int i = 0; i < 60_000; i++) {
+            String email = "user" + i + "@example.com";
+            (i < 40_000 ? first : second).add(email);
+            if (i >= 20_000 && i < 40_000) {
+                second.add(email);
+            }
+            union.add(email);
+        }
+
+        HyperLogLog received = HyperLogLog.fromBytes(second.toBytes());
+        HyperLogLog merged = first.copy();
+        merged.merge(received);
+        assert merged.estimate() == union.estimate() : "Злиття не дорівнює об'єднанню";
+        assert relativeError(merged.estimate(), 60_000) <= 4 * merged.getRelativeError() : "Оцінка об'єднання";
+        assert relativeError(first.estimate(), 40_000) <= 4 * first.getRelativeError() : "Оцінка частини";
+
+        try {
+            merged.merge(new HyperLogLog(12));
+            assert false : "Злито sketch різної точності";
+        } catch (IllegalArgumentException expected) {
+            // очікувано
+        }
+        byte[] corrupted = first.toBytes();
+        corrupted[10] = 100;
+        try {
+            HyperLogLog.fromBytes(corrupted);
+            assert false : "Прийнято пошкоджений sketch";
+        } catch (IllegalArgumentException expected) {
+            // очікувано
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testActiveCustomers() {
+        System.out.println("Тест 3: Унікальні клієнти за днями, категоріями і способами оплати");
+
+        Random random = new Random(17);
+        ProductCategory[] categories = ProductCategory.values();
+        PaymentMethod[] payments = PaymentMethod.values();
+        List<ProductInfo> catalog = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            catalog.add(new ProductInfo("Товар " + i, 100, 10, categories[i % categories.length],
+                    LocalDate.of(2024, 1, 1)));
+        }
+        LocalDate firstDay = LocalDate.of(2024, 10, 1);
+
+        ActiveCustomerCounter nodeA = new ActiveCustomerCounter();
+        ActiveCustomerCounter nodeB = new ActiveCustomerCounter();
+        Set<String> all = new HashSet<>();
+        Set<String> firstWeek = new HashSet<>();
+        Set<String> dayFive = new HashSet<>();
+        Set<String> books = new HashSet<>();
+        Set<String> paypal = new HashSet<>();
+
+        for (int i = 0; i < 300_000; i++) {
+            String email = "c" + random.nextInt(80_000) + "@example.com";
+            CustomerInfo customer = new CustomerInfo("Ім'я", "Прізвище", email, null,
+                    LocalDate.of(2023, 1, 1), CustomerTier.BRONZE);
+            ProductInfo product = catalog.get(random.nextInt(catalog.size()));
+            LocalDate day = firstDay.plusDays(random.nextInt(30));
+            PaymentMethod method = payments[random.nextInt(payments.length)];
+            OrderInfo order = new OrderInfo("ORD-" + i, customer, List.of(product), day, OrderStatus.DELIVERED, method);
+            (i % 2 == 0 ? nodeA : nodeB).recordOrder(order);
+
+            all.add(email);
+            if (day.isBefore(firstDay.plusDays(7))) {
+                firstWeek.add(email);
+            }
+            if (day.equals(firstDay.plusDays(4))) {
+                dayFive.add(email);
+            }
+            if (product.category() == ProductCategory.BOOKS) {
+                books.add(email);
+            }
+            if (method == PaymentMethod.PAYPAL) {
+                paypal.add(email);
+            }
+        }
+
+        nodeA.merge(nodeB);
+        double allowed = 0.065;
+        assert relativeError(nodeA.countTotal(), all.size()) <= allowed : "Усього: " + nodeA.countTotal();
+        assert relativeError(nodeA.countForDays(firstDay, firstDay.plusDays(6)), firstWeek.size()) <= allowed
+                : "Тиждень: " + nodeA.countForDays(firstDay, firstDay.plusDays(6));
+        assert relativeError(nodeA.countForDay(firstDay.plusDays(4)), dayFive.size()) <= allowed : "День";
+        assert relativeError(nodeA.countForCategory(ProductCategory.BOOKS), books.size()) <= allowed : "Книги";
+        assert relativeError(nodeA.countForPaymentMethod(PaymentMethod.PAYPAL), paypal.size()) <= allowed : "PayPal";
+        assert nodeA.countForDay(firstDay.minusDays(1)) == 0 : "День без замовлень";
+        assert nodeA.getDayCount() == 30 : "Днів: " + nodeA.getDayCount();
+        assert nodeA.getMemoryBytes() < 256 * 1024 : "Пам'ять: " + nodeA.getMemoryBytes();
+
+        System.out.println("✓ Тест пройдено");
+        System.out.printf("  Усього %d (точно %d), за тиждень %d (точно %d), %d КБ замість множин%n%n",
+                nodeA.countTotal(), all.size(), nodeA.countForDays(firstDay, firstDay.plusDays(6)), firstWeek.size(),
+                nodeA.getMemoryBytes() / 1024);
+    }
+}
@@ -0,0 +1,188 @@
+package com.ecommerce;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.ingest.IngestPipeline;
+import com.ecommerce.ingest.IngestSink;
+import com.ecommerce.mapping.RecordMapper;
+import com.ecommerce.mapping.RecordMappers;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.service.FileReader;
+import com.ecommerce.service.ProductService;
+import com.ecommerce.util.StringDeduplicator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Базові тести для IngestPipeline
+ */
+public class IngestPipelineTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ IngestPipeline ===\n");
+
+        Path file = Files.createTempFile("pipeline", ".csv");
+        try {
+            writeProducts(file, 50_000);
+            testSameResultAsSequential(file);
+            testBackpressure(file);
+            testFailureStopsPipeline(file);
+            testEmptyFile();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void writeProducts(Path file, int rows) throws Exception {
+        StringBuilder sb = new StringBuilder("name,price,stock,category,createdDate\n");
+        for (int i = 0; i < rows; i++) {
+            if (i % 1000 == 999) {
+                sb.append("Товар ").append(i).append(",-1,5,TOYS,2024-01-01\n");
+            } else if (i % 5000 == 0) {
+                sb.append("\n");
+            } else {
+                sb.append("Товар ").append(i).append(',').append(i % 700).append(".5,")
+                        .append(i % 40).append(",BOOKS,2024-0").append(1 + i % 9).append("-15\n");
+            }
+        }
+        Files.writeString(file, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static void testSameResultAsSequential(Path file) throws Exception {
+        System.out.println("Тест 1: Той самий результат і порядок, що й послідовне завантаження");
+
+        RecordMapper.Binding<ProductInfo> binding = RecordMappers.PRODUCTS.bind(FileReader.readHeader(file.toString()));
+        List<ProductInfo> expected = new ArrayList<>();
+        List<Integer> expectedRejected = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file);
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                expected.add(binding.map(FileReader.splitLine(lines.get(i), new StringDeduplicator()), i + 1));
+            } catch (InvalidDataException e) {
+                expectedRejected.add(i + 1);
+            }
+        }
+
+        List<ProductInfo> products = new ArrayList<>();
+        List<Integer> rejected = new ArrayList<>();
+        IngestPipeline<ProductInfo> pipeline = new IngestPipeline<>(binding::map, new IngestPipeline.Config(256, 4, 2, 3));
+        IngestPipeline.Result result = pipeline.run(file, new IngestSink<>() {
+            @Override
+            public void accept(ProductInfo record) {
+                products.add(record);
+            }
+
+            @Override
+            public void reject(int lineNumber, InvalidDataException error) {
+                rejected.add(lineNumber);
+            }
+        });
+
+        assert products.equals(expected) : "Товари відрізняються";
+        assert rejected.equals(expectedRejected) : "Номери відхилених рядків відрізняються";
+        assert result.accepted() == expected.size() && result.rejected() == expectedRejected.size() : "Неправильні підсумки";
+
+        List<ProductInfo> viaService = new ProductService().loadProducts(file.toString(), new IngestPipeline.Config(512, 8, 2, 2));
+        assert viaService.equals(expected) : "ProductService повернув інший результат";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println(result.getReport() + "\n");
+    }
+
+    private static void testBackpressure(Path file) throws Exception {
+        System.out.println("Тест 2: Повільний приймач гальмує читача");
+
+        IngestPipeline.Config config = new IngestPipeline.Config(100, 2, 1, 1);
+        IngestPipeline<String[]> pipeline = new IngestPipeline<>((values, line) -> values, config);
+        int[] accepted = new int[1];
+        IngestPipeline.Result result = pipeline.run(file, new IngestSink<>() {
+            @Override
+            public void accept(String[] record) {
+                if (++accepted[0] % 100 == 0) {
+                    sleep(1);
+                }
+            }
+
+            @Override
+            public void reject(int lineNumber, InvalidDataException error) {
+            }
+        });
+
+        IngestPipeline.StageStats reader = result.stages().get(0);
+        assert accepted[0] == 49_990 : "Неправильна кількість рядків: " + accepted[0];
+        assert reader.blockedMillis() > 0 : "Читач не чекав на повільний приймач";
+        for (IngestPipeline.StageStats stage : result.stages()) {
+            assert stage.maxQueueDepth() <= stage.queueCapacity() : "Черга переповнена: " + stage;
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Очікування читача: " + reader.blockedMillis() + " мс\n");
+    }
+
+    private static void testFailureStopsPipeline(Path file) throws Exception {
+        System.out.println("Тест 3: Збій етапу зупиняє конвеєр");
+
+        IngestPipeline<String[]> pipeline = new IngestPipeline<>((values, line) -> {
+            if (line == 20_000) {
+                throw new IllegalStateException("Збій декодера");
+            }
+            return values;
+        }, new IngestPipeline.Config(100, 2, 2, 2));
+
+        try {
+            pipeline.run(file, new IngestSink<>() {
+                @Override
+                public void accept(String[] record) {
+                }
+
+                @Override
+                public void reject(int lineNumber, InvalidDataException error) {
+                }
+            });
+            assert false : "Очікувалась помилка";
+        } catch (IllegalStateException e) {
+            assert e.getMessage().equals("Збій декодера") : "Неправильна помилка: " + e.getMessage();
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testEmptyFile() throws Exception {
+        System.out.println("Тест 4: Порожній файл");
+
+        Path empty = Files.createTempFile("empty", ".csv");
+        try {
+            new IngestPipeline<>((values, line) -> values).run(empty, new IngestSink<>() {
+                @Override
+                public void accept(String[] record) {
+                }
+
+                @Override
+                public void reject(int lineNumber, InvalidDataException error) {
+                }
+            });
+            assert false : "Очікувався InvalidDataException";
+        } catch (InvalidDataException e) {
+            assert e.getErrorCode() == InvalidDataException.ErrorCode.EMPTY_VALUE : "Неправильний код помилки";
+        } finally {
+            Files.deleteIfExists(empty);
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
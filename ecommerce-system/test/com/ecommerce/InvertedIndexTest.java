@@ -0,0 +1,87 @@
+package com.ecommerce;
+
+import com.ecommerce.search.InvertedIndex;
+import com.ecommerce.search.Tokenizer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Базові тести для InvertedIndex
+ */
+public class InvertedIndexTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ InvertedIndex ===\n");
+
+        testTokenizer();
+        testAndOrQueries();
+        testRemove();
+        testLargeIntersection();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testTokenizer() {
+        System.out.println("Тест 1: Токенізація кирилиці та латиниці");
+
+        List<String> tokens = Tokenizer.tokenize("Ноутбук Dell XPS-15, м’ясо та М'ЯСО!");
+
+        assert tokens.equals(List.of("ноутбук", "dell", "xps", "15", "мясо", "та", "мясо"))
+                : "Неправильні токени: " + tokens;
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Токени: " + tokens + "\n");
+    }
+
+    private static void testAndOrQueries() {
+        System.out.println("Тест 2: Запити AND / OR");
+
+        InvertedIndex index = new InvertedIndex();
+        int laptop = index.add("Ноутбук Dell XPS 15");
+        int phone = index.add("iPhone 15 Pro");
+        int book = index.add("Java Programming Book");
+
+        assert Arrays.equals(index.searchAll("dell ноутбук"), new int[]{laptop}) : "AND не працює";
+        assert Arrays.equals(index.searchAll("15"), new int[]{laptop, phone}) : "Пошук за числом не працює";
+        assert Arrays.equals(index.searchAny("iphone java"), new int[]{phone, book}) : "OR не працює";
+        assert Arrays.equals(index.search("dell OR java"), new int[]{laptop, book}) : "Групи OR не працюють";
+        assert index.searchAll("dell iphone").length == 0 : "Зайвий результат AND";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testRemove() {
+        System.out.println("Тест 3: Видалення документів");
+
+        InvertedIndex index = new InvertedIndex();
+        int first = index.add("Футболка Nike");
+        int second = index.add("Кросівки Nike");
+        index.remove(first);
+
+        assert Arrays.equals(index.searchAll("nike"), new int[]{second}) : "Видалений документ знайдено";
+        assert index.getDocumentCount() == 1 : "Неправильна кількість документів";
+        assert !index.remove(first) : "Повторне видалення";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testLargeIntersection() {
+        System.out.println("Тест 4: Перетин довгих списків з пропусками");
+
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 10_000; i++) {
+            String text = (i % 2 == 0 ? "парний " : "") + (i % 3 == 0 ? "трійка " : "") + "товар";
+            index.add(text);
+        }
+
+        int[] result = index.searchAll("парний трійка");
+
+        assert result.length == 1667 : "Неправильна кількість: " + result.length;
+        for (int docId : result) {
+            assert docId % 6 == 0 : "Неправильний документ: " + docId;
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Знайдено: " + result.length + "\n");
+    }
+}
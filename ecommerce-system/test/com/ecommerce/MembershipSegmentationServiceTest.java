@@ -0,0 +1,100 @@
+package com.ecommerce;
+
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.CustomerInfo.MembershipStatus;
+import com.ecommerce.service.MembershipSegmentationService;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Базові тести для MembershipSegmentationService
+ */
+public class MembershipSegmentationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ MembershipSegmentationService ===\n");
+
+        testSegment();
+        testCountByStatus();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static CustomerInfo customer(String email, LocalDate registered) {
+        return new CustomerInfo("Тест", "Клієнт", email, null, registered, CustomerTier.BRONZE);
+    }
+
+    /**
+     * Клієнти на межах статусів відносно TODAY: 2/3, 11/12 і 23/24 повних місяці
+     */
+    private static List<CustomerInfo> boundaryCustomers() {
+        List<CustomerInfo> customers = new ArrayList<>();
+        customers.add(customer("new-0@example.com", TODAY));
+        customers.add(customer("new-2@example.com", LocalDate.of(2023, 12, 11)));
+        customers.add(customer("regular-3@example.com", LocalDate.of(2023, 12, 10)));
+        customers.add(customer("regular-11@example.com", LocalDate.of(2023, 3, 11)));
+        customers.add(customer("vip-12@example.com", LocalDate.of(2023, 3, 10)));
+        customers.add(customer("vip-23@example.com", LocalDate.of(2022, 3, 11)));
+        customers.add(customer("premium-24@example.com", LocalDate.of(2022, 3, 10)));
+        customers.add(customer("premium-leap@example.com", LocalDate.of(2020, 2, 29)));
+        return customers;
+    }
+
+    private static void testSegment() {
+        System.out.println("Тест 1: Розподіл клієнтів за статусами на фіксовану дату");
+
+        List<CustomerInfo> customers = boundaryCustomers();
+        MembershipSegmentationService service = new MembershipSegmentationService(CLOCK);
+        Map<MembershipStatus, List<CustomerInfo>> segments = service.segment(customers);
+
+        assert segments.size() == MembershipStatus.values().length : "Має бути сегмент для кожного статусу";
+        assert segments.get(MembershipStatus.NEW).equals(customers.subList(0, 2)) : "Неправильний сегмент NEW";
+        assert segments.get(MembershipStatus.REGULAR).equals(customers.subList(2, 4)) : "Неправильний сегмент REGULAR";
+        assert segments.get(MembershipStatus.VIP).equals(customers.subList(4, 6)) : "Неправильний сегмент VIP";
+        assert segments.get(MembershipStatus.PREMIUM).equals(customers.subList(6, 8)) : "Неправильний сегмент PREMIUM";
+
+        // Явна дата дає той самий результат, що й годинник
+        assert service.segment(customers, TODAY.toEpochDay()).equals(segments) : "Розбіжність з явною датою";
+
+        // Через день клієнт з 23 місяцями стає PREMIUM
+        Map<MembershipStatus, List<CustomerInfo>> nextDay = service.segment(customers, TODAY.plusDays(1).toEpochDay());
+        assert nextDay.get(MembershipStatus.PREMIUM).size() == 3 : "Межа 24 місяців не спрацювала";
+
+        assert service.segment(List.of()).get(MembershipStatus.NEW).isEmpty() : "Порожній вхід";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testCountByStatus() {
+        System.out.println("Тест 2: Підрахунок за статусами збігається з сегментацією");
+
+        List<CustomerInfo> customers = new ArrayList<>(boundaryCustomers());
+        for (int i = 0; i < 1000; i++) {
+            customers.add(customer("c" + i + "@example.com", TODAY.minusDays(i * 3L)));
+        }
+        MembershipSegmentationService service = new MembershipSegmentationService(CLOCK);
+        Map<MembershipStatus, Integer> counts = service.countByStatus(customers);
+        Map<MembershipStatus, List<CustomerInfo>> segments = service.segment(customers);
+
+        int total = 0;
+        for (MembershipStatus status : MembershipStatus.values()) {
+            assert counts.get(status) == segments.get(status).size() : "Розбіжність для " + status;
+            long expected = customers.stream()
+                    .filter(c -> MembershipStatus.fromMonths(c.getMembershipMonths(TODAY)) == status).count();
+            assert counts.get(status) == expected : "Неправильна кількість для " + status;
+            total += counts.get(status);
+        }
+        assert total == customers.size() : "Кожен клієнт має потрапити в один статус";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + counts + "\n");
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce;
+
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+/**
+ * Базові тести для MetricsRegistry
+ */
+public class MetricsRegistryTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ MetricsRegistry ===\n");
+
+        testCounter();
+        testHistogramPercentiles();
+        testJmxRegistration();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testCounter() throws InterruptedException {
+        System.out.println("Тест 1: Лічильник з кількох потоків");
+
+        MetricsRegistry registry = MetricsRegistry.createLocal();
+        Counter counter = registry.counter("test.rows");
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.increment();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assert counter.getCount() == 40_000 : "Неправильне значення лічильника";
+        assert registry.counter("test.rows") == counter : "Повторний виклик створив новий лічильник";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testHistogramPercentiles() {
+        System.out.println("Тест 2: Перцентилі гістограми");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L); // 1..1000 мкс
+        }
+
+        double p50 = histogram.getP50Micros();
+        double p99 = histogram.getP99Micros();
+
+        assert histogram.getCount() == 1000 : "Неправильна кількість";
+        assert p50 >= 500 && p50 <= 500 * 1.125 : "p50 поза межами похибки: " + p50;
+        assert p99 >= 990 && p99 <= 1000 : "p99 поза межами похибки: " + p99;
+        assert histogram.getMaxMicros() == 1000.0 : "Неправильний максимум";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  p50=" + p50 + " мкс, p99=" + p99 + " мкс\n");
+    }
+
+    private static void testJmxRegistration() throws Exception {
+        System.out.println("Тест 3: Реєстрація в JMX і видалення метрик");
+
+        MetricsRegistry.getInstance().counter("test.jmx").add(7);
+        ObjectName name = new ObjectName("com.ecommerce:type=Counter,name=\"test.jmx\"");
+        Object count = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count");
+
+        assert Long.valueOf(7).equals(count) : "Неправильне значення з JMX: " + count;
+
+        // Прибрати можна лише ту метрику, що зареєстрована під назвою
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        Counter counter = registry.counter("test.jmx");
+        assert !registry.remove("test.jmx", registry.counter("test.other")) : "Прибрано чужу метрику";
+        assert registry.remove("test.jmx", counter) : "Метрику не прибрано";
+        assert !ManagementFactory.getPlatformMBeanServer().isRegistered(name) : "Метрика лишилась у JMX";
+        assert registry.counter("test.jmx") != counter && registry.counter("test.jmx").getCount() == 0
+                : "Після видалення повернуто старий лічильник";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
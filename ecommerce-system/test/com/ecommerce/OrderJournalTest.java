@@ -0,0 +1,318 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.journal.OrderJournal;
+import com.ecommerce.metrics.Counter;
+import com.ecommerce.metrics.LatencyHistogram;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Базові тести для OrderJournal
+ */
+public class OrderJournalTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ OrderJournal ===\n");
+
+        Path root = Files.createTempDirectory("journal");
+        try {
+            testReopenRestoresState(root.resolve("reopen"));
+            testGroupCommit(root.resolve("group"));
+            testTornTailIsTruncated(root.resolve("torn"));
+            testSnapshotsReplaceSegments(root.resolve("snapshot"));
+            testInvalidRequests(root.resolve("invalid"));
+            testStatusMetrics(root.resolve("metrics"));
+            testSnapshotFailureIsRetryable(root.resolve("retry"));
+        } finally {
+            try (var files = Files.walk(root)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static OrderInfo order(int i) {
+        CustomerInfo customer = new CustomerInfo("Клієнт", "Номер " + i, "customer" + i + "@example.com",
+                i % 2 == 0 ? null : "+38050" + (1_000_000 + i), LocalDate.of(2023, 1, 1).plusDays(i % 365),
+                CustomerTier.values()[i % CustomerTier.values().length]);
+        List<ProductInfo> products = List.of(
+                new ProductInfo("Товар " + i, 100 + i * 0.25, i % 50, ProductCategory.BOOKS, LocalDate.of(2024, 1, 1)),
+                new ProductInfo("Кава", 320.5, 10, ProductCategory.FOOD, LocalDate.of(2024, 2, 1)));
+        return new OrderInfo("ORD-" + i, customer, products, LocalDate.of(2024, 5, 1).plusDays(i % 30),
+                OrderStatus.PENDING, PaymentMethod.values()[i % PaymentMethod.values().length]);
+    }
+
+    private static OrderJournal.Config noSnapshots() {
+        return new OrderJournal.Config(Integer.MAX_VALUE, true);
+    }
+
+    private static void testReopenRestoresState(Path directory) throws Exception {
+        System.out.println("Тест 1: Після повторного відкриття стан відновлюється з журналу");
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(order(i));
+            }
+            OrderInfo shipped = journal.updateStatus("ORD-7", OrderStatus.SHIPPED);
+            assert shipped.status() == OrderStatus.SHIPPED : "updateStatus повернув старий статус";
+            journal.updateStatus("ORD-7", OrderStatus.DELIVERED);
+            journal.updateStatus("ORD-9", OrderStatus.CANCELLED);
+        }
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            OrderJournal.RecoveryReport recovery = journal.getRecovery();
+            assert recovery.replayedEntries() == 103 : "Повторено " + recovery.replayedEntries();
+            assert journal.getOrderCount() == 100 : "Відновлено " + journal.getOrderCount();
+            assert journal.find("ORD-7").status() == OrderStatus.DELIVERED : "Статус ORD-7 не відновлено";
+            assert journal.find("ORD-9").status() == OrderStatus.CANCELLED : "Статус ORD-9 не відновлено";
+            assert journal.find("ORD-42").equals(order(42)) : "Замовлення відновлено з іншими даними";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testGroupCommit(Path directory) throws Exception {
+        System.out.println("Тест 2: Паралельні записи об'єднуються в спільний fsync");
+
+        int threads = 8;
+        int perThread = 500;
+        long start = System.nanoTime();
+        long commits;
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = from; i < from + perThread; i++) {
+                        journal.append(order(i));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            commits = journal.getCommitCount();
+            assert journal.getEntryCount() == threads * perThread : "Записано " + journal.getEntryCount();
+            assert commits < threads * perThread : "Кожен запис отримав окремий fsync";
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            assert journal.getOrderCount() == threads * perThread : "Відновлено " + journal.getOrderCount();
+        }
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + threads * perThread + " замовлень, fsync=" + commits + ", " + elapsedMillis + " мс\n");
+    }
+
+    private static void testTornTailIsTruncated(Path directory) throws Exception {
+        System.out.println("Тест 3: Обірваний останній запис відрізається при відновленні");
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(order(i));
+            }
+        }
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".wal")).findFirst().orElseThrow();
+        }
+        // Імітуємо збій посеред запису: останній кадр втрачає кілька байтів
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            assert journal.getOrderCount() == 9 : "Відновлено " + journal.getOrderCount();
+            assert journal.getRecovery().truncatedBytes() > 0 : "Обірваний запис не відрізано";
+            assert journal.find("ORD-9") == null : "Обірване замовлення відновилося";
+            journal.append(order(9));
+        }
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            assert journal.getOrderCount() == 10 : "Запис після відрізання втрачено";
+            assert journal.getRecovery().truncatedBytes() == 0 : "Журнал знову пошкоджений";
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testSnapshotsReplaceSegments(Path directory) throws Exception {
+        System.out.println("Тест 4: Знімки замінюють старі сегменти, відновлення йде від останнього знімка");
+
+        OrderJournal.Config config = new OrderJournal.Config(50, true);
+        try (OrderJournal journal = OrderJournal.open(directory, config)) {
+            for (int i = 0; i < 120; i++) {
+                journal.append(order(i));
+            }
+            journal.updateStatus("ORD-3", OrderStatus.CONFIRMED);
+        }
+
+        List<String> files = list(directory);
+        assert files.stream().filter(name -> name.startsWith("snapshot-")).count() == 1 : "Знімки: " + files;
+        assert files.stream().filter(name -> name.endsWith(".wal")).count() == 1 : "Сегменти: " + files;
+
+        try (OrderJournal journal = OrderJournal.open(directory, config)) {
+            OrderJournal.RecoveryReport recovery = journal.getRecovery();
+            assert recovery.snapshotSequence() == 100 : "Знімок #" + recovery.snapshotSequence();
+            assert recovery.replayedEntries() == 21 : "Повторено " + recovery.replayedEntries();
+            assert journal.getOrderCount() == 120 : "Відновлено " + journal.getOrderCount();
+            assert journal.find("ORD-3").status() == OrderStatus.CONFIRMED : "Статус після знімка втрачено";
+
+            journal.snapshot();
+        }
+        try (OrderJournal journal = OrderJournal.open(directory, config)) {
+            assert journal.getRecovery().snapshotSequence() == 121 : "Ручний знімок не збережено";
+            assert journal.getRecovery().replayedEntries() == 0 : "Після знімка лишилися записи";
+            assert journal.getOrderCount() == 120 : "Відновлено " + journal.getOrderCount();
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testInvalidRequests(Path directory) throws Exception {
+        System.out.println("Тест 5: Дублікат і невідоме замовлення не потрапляють у журнал");
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            journal.append(order(1));
+            try {
+                journal.append(order(1));
+                assert false : "Дублікат мав бути відхилений";
+            } catch (IllegalArgumentException e) {
+                System.out.println("  Очікувана помилка: " + e.getMessage());
+            }
+            try {
+                journal.updateStatus("ORD-404", OrderStatus.SHIPPED);
+                assert false : "Невідоме замовлення мало бути відхилене";
+            } catch (IllegalArgumentException e) {
+                System.out.println("  Очікувана помилка: " + e.getMessage());
+            }
+            assert journal.getEntryCount() == 1 : "Відхилені запити записано";
+        }
+
+        OrderJournal journal = OrderJournal.open(directory, noSnapshots());
+        journal.close();
+        try {
+            journal.append(order(2));
+            assert false : "Закритий журнал не мав приймати записи";
+        } catch (IOException e) {
+            System.out.println("  Очікувана помилка: " + e.getMessage());
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testStatusMetrics(Path directory) throws Exception {
+        System.out.println("Тест 6: Метрики рахують лише зафіксовані зміни статусу");
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        Counter created = registry.counter("orders.created");
+        Counter shipped = registry.counter("orders.status.SHIPPED");
+        Counter pending = registry.counter("orders.status.PENDING");
+        long createdBefore = created.getCount();
+        long shippedBefore = shipped.getCount();
+        long pendingBefore = pending.getCount();
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            journal.append(order(1));
+            journal.append(order(2));
+            journal.updateStatus("ORD-1", OrderStatus.PENDING);
+            journal.updateStatus("ORD-1", OrderStatus.SHIPPED);
+            journal.updateStatus("ORD-1", OrderStatus.SHIPPED);
+        }
+        // Відновлення з журналу не є новими змінами
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            assert journal.find("ORD-1").status() == OrderStatus.SHIPPED : "Статус не відновлено";
+        }
+
+        assert created.getCount() - createdBefore == 2 : "Неправильна кількість створених замовлень";
+        assert shipped.getCount() - shippedBefore == 1 : "Повторний статус пораховано як перехід";
+        assert pending.getCount() == pendingBefore : "Незмінений статус пораховано як перехід";
+
+        OrderInfo order = order(3);
+        assert order.withStatus(OrderStatus.PENDING) == order : "withStatus створив копію для того самого статусу";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testSnapshotFailureIsRetryable(Path directory) throws Exception {
+        System.out.println("Тест 7: Невдалий знімок не зупиняє журнал і повторюється");
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        LatencyHistogram stall = registry.histogram("journal.snapshot.stall");
+        Counter failures = registry.counter("journal.snapshot.failures");
+        long stallBefore = stall.getCount();
+        long failuresBefore = failures.getCount();
+
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(order(i));
+            }
+            // Каталог на місці тимчасового файлу знімка #10 не дає його створити
+            Path obstacle = Files.createDirectory(
+                    directory.resolve("snapshot-" + String.format("%020d", 10) + ".bin.tmp"));
+            // Повтор без нових записів має впиратися в ту саму перешкоду, а не в уже створений сегмент
+            for (int attempt = 0; attempt < 2; attempt++) {
+                try {
+                    journal.snapshot();
+                    assert false : "Знімок мав завершитися помилкою";
+                } catch (IOException e) {
+                    assert e.getMessage().contains(obstacle.getFileName().toString()) : "Інша помилка: " + e;
+                    System.out.println("  Очікувана помилка: " + e.getMessage());
+                }
+            }
+            assert failures.getCount() - failuresBefore == 2 : "Помилки знімка не пораховано";
+
+            Files.delete(obstacle);
+            journal.snapshot();
+
+            // Зафіксовані записи не постраждали, журнал приймає нові
+            OrderInfo appended = journal.append(order(10));
+            assert appended.orderId().equals("ORD-10") : "Журнал зупинився після помилки знімка";
+            assert journal.getOrderCount() == 11 : "Замовлень " + journal.getOrderCount();
+            journal.snapshot();
+        }
+        assert stall.getCount() - stallBefore == 4 : "Паузу потоку запису не виміряно";
+
+        List<String> files = list(directory);
+        assert files.stream().filter(name -> name.startsWith("snapshot-")).count() == 1 : "Знімки: " + files;
+        assert files.stream().filter(name -> name.endsWith(".wal")).count() == 1 : "Сегменти: " + files;
+        try (OrderJournal journal = OrderJournal.open(directory, noSnapshots())) {
+            assert journal.getRecovery().snapshotSequence() == 11 : "Знімок #" + journal.getRecovery().snapshotSequence();
+            assert journal.getRecovery().replayedEntries() == 0 : "Повторено " + journal.getRecovery().replayedEntries();
+            assert journal.getOrderCount() == 11 : "Відновлено " + journal.getOrderCount();
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static List<String> list(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.ecommerce;
+
+import com.ecommerce.analytics.OrderWindowMetrics;
+import com.ecommerce.analytics.OrderWindowMetrics.Snapshot;
+import com.ecommerce.analytics.OrderWindowMetrics.Window;
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.journal.OrderJournal;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.metrics.SlidingWindow;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Базові тести для SlidingWindow і OrderWindowMetrics
+ */
+public class OrderWindowMetricsTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ OrderWindowMetrics ===\n");
+
+        testWindowExpiry();
+        testOrderMetrics();
+        testConcurrentWriters();
+        testFedFromJournal();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    /**
+     * Годинник, який тест переводить вручну
+     */
+    private static final class ManualClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static OrderInfo order(int i, double price) {
+        CustomerInfo customer = new CustomerInfo("Марія", "Коваленко", "maria@example.com", null,
+                LocalDate.of(2023, 6, 20), CustomerTier.BRONZE);
+        ProductInfo product = new ProductInfo("Книга", price, 10, ProductCategory.BOOKS, LocalDate.of(2024, 1, 1));
+        return new OrderInfo("ORD-" + i, customer, List.of(product), LocalDate.of(2024, 10, 1),
+                OrderStatus.PENDING, PaymentMethod.CASH);
+    }
+
+    private static void testWindowExpiry() {
+        System.out.println("Тест 1: Події випадають з вікна після його тривалості");
+
+        ManualClock clock = new ManualClock();
+        SlidingWindow window = new SlidingWindow(Duration.ofSeconds(60), 60, 2, clock);
+        for (int second = 0; second < 30; second++) {
+            window.increment(0);
+            window.add(1, 10);
+            clock.advance(Duration.ofSeconds(1));
+        }
+        assert window.sum(0) == 30 && window.sum(1) == 300 : "Сума за вікно: " + window.sum(0);
+
+        clock.advance(Duration.ofSeconds(40));
+        // Минуло 70 с від першої події: у вікні лишились події з 11-ї по 29-ту секунду
+        assert window.sum(0) == 19 : "Після зсуву: " + window.sum(0);
+        clock.advance(Duration.ofMinutes(5));
+        assert window.sum(0) == 0 && window.sums()[1] == 0 : "Вікно не спорожніло";
+
+        // Кошик, що повертається на ту саму позицію кільця, починається з нуля
+        window.increment(0);
+        assert window.sum(0) == 1 : "Старий кошик не скинуто";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testOrderMetrics() {
+        System.out.println("Тест 2: Темп, виручка і частка скасувань за 1, 5 і 60 хвилин");
+
+        ManualClock clock = new ManualClock();
+        OrderWindowMetrics metrics = new OrderWindowMetrics(clock);
+        // 30 хвилин по 10 замовлень на хвилину, кожне п'яте скасовується
+        for (int minute = 0; minute < 30; minute++) {
+            for (int i = 0; i < 10; i++) {
+                metrics.onOrderCreated(order(i, 100));
+                if (i % 5 == 0) {
+                    metrics.onStatusChanged(OrderStatus.PENDING, OrderStatus.CANCELLED);
+                }
+                metrics.onStatusChanged(OrderStatus.CANCELLED, OrderStatus.CANCELLED);
+                clock.advance(Duration.ofSeconds(6));
+            }
+        }
+
+        Snapshot lastMinute = metrics.snapshot(Window.LAST_MINUTE);
+        Snapshot lastFive = metrics.snapshot(Window.LAST_5_MINUTES);
+        Snapshot lastHour = metrics.snapshot(Window.LAST_HOUR);
+        assert Math.abs(lastMinute.getOrdersPerMinute() - 10) <= 1 : lastMinute.getReport();
+        assert Math.abs(lastFive.getOrdersPerMinute() - 10) <= 1 : lastFive.getReport();
+        assert lastHour.orders() == 300 : lastHour.getReport();
+        assert Math.abs(lastHour.getRevenuePerMinute() - 300 * 100.0 / 60) < 1e-6 : lastHour.getReport();
+        assert Math.abs(lastHour.getCancellationRatio() - 0.2) < 1e-9 : lastHour.getReport();
+
+        MetricsRegistry registry = MetricsRegistry.createLocal();
+        metrics.registerGauges(registry);
+        assert registry.snapshot().contains("orders.window.60m.cancellationRatio") : "Gauge не зареєстровано";
+
+        // Новий екземпляр перебирає gauges, а старий при знятті не прибирає чужих
+        OrderWindowMetrics replacement = new OrderWindowMetrics(clock);
+        replacement.registerGauges(registry);
+        assert registry.gauge("orders.window.60m.rate", () -> -1).getValue() == 0 : "Gauge показує старий екземпляр";
+        metrics.unregisterGauges(registry);
+        assert registry.snapshot().contains("orders.window.60m.rate") : "Прибрано gauge нового екземпляра";
+        replacement.unregisterGauges(registry);
+        assert !registry.snapshot().contains("orders.window") : "Gauges не прибрано:\n" + registry.snapshot();
+
+        clock.advance(Duration.ofMinutes(2));
+        assert metrics.snapshot(Window.LAST_MINUTE).orders() == 0 : "Хвилинне вікно не спорожніло";
+        assert metrics.snapshot(Window.LAST_5_MINUTES).orders() < lastFive.orders() : "П'ятихвилинне вікно не зсунулось";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + lastMinute.getReport());
+        System.out.println("  " + lastHour.getReport() + "\n");
+    }
+
+    private static void testConcurrentWriters() throws Exception {
+        System.out.println("Тест 3: Записи з кількох потоків без блокувань не губляться");
+
+        OrderWindowMetrics metrics = new OrderWindowMetrics();
+        OrderInfo order = order(1, 12.34);
+        int threads = 4;
+        int perThread = 50_000;
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    metrics.onOrderCreated(order);
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        writers.forEach(Thread::start);
+        // Читач працює паралельно з записами
+        long seen = 0;
+        while (writers.stream().anyMatch(Thread::isAlive)) {
+            long orders = metrics.snapshot(Window.LAST_HOUR).orders();
+            assert orders >= seen : "Сума зменшилась під час запису";
+            seen = orders;
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        Snapshot snapshot = metrics.snapshot(Window.LAST_HOUR);
+        assert snapshot.orders() == (long) threads * perThread : "Замовлень: " + snapshot.orders();
+        assert Math.abs(snapshot.revenue() - 12.34 * threads * perThread) < 0.01 : "Виручка: " + snapshot.revenue();
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + threads * perThread + " подій за " + elapsed + " мс\n");
+    }
+
+    private static void testFedFromJournal() throws Exception {
+        System.out.println("Тест 4: Вікна оновлюються зафіксованими подіями журналу замовлень");
+
+        Path directory = Files.createTempDirectory("window-journal");
+        try {
+            OrderWindowMetrics metrics = new OrderWindowMetrics();
+            try (OrderJournal journal = OrderJournal.open(directory, OrderJournal.Config.defaults(), metrics)) {
+                for (int i = 0; i < 3; i++) {
+                    journal.append(order(i, 100));
+                }
+                journal.updateStatus("ORD-0", OrderStatus.CANCELLED);
+                journal.updateStatus("ORD-0", OrderStatus.CANCELLED);
+                try {
+                    journal.append(order(1, 100));
+                    assert false : "Дублікат мав бути відхилений";
+                } catch (IllegalArgumentException e) {
+                    // очікувано
+                }
+            }
+            Snapshot snapshot = metrics.snapshot(Window.LAST_MINUTE);
+            assert snapshot.orders() == 3 : "Замовлень: " + snapshot.orders();
+            assert snapshot.cancellations() == 1 : "Скасувань: " + snapshot.cancellations();
+            assert Math.abs(snapshot.revenue() - 300) < 1e-9 : "Виручка: " + snapshot.revenue();
+
+            // Відновлення стану при відкритті не є новими подіями
+            OrderWindowMetrics reopened = new OrderWindowMetrics();
+            try (OrderJournal journal = OrderJournal.open(directory, OrderJournal.Config.defaults(), reopened)) {
+                assert journal.getOrderCount() == 3;
+            }
+            assert reopened.snapshot(Window.LAST_HOUR).orders() == 0 : "Відновлені замовлення пораховано";
+        } finally {
+            try (var files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
@@ -0,0 +1,272 @@
+package com.ecommerce;
+
+import com.ecommerce.cache.ProductCache;
+import com.ecommerce.cache.TinyLfuCache;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.metrics.MetricsRegistry;
+import com.ecommerce.model.ProductInfo;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Базові тести для кешу товарів (TinyLfuCache)
+ */
+public class ProductCacheTest {
+
+    private static final int CATALOG = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ ProductCache ===\n");
+
+        testReadThrough();
+        testByteBound();
+        testHitRateBeatsLru();
+        testScanResistance();
+        testConcurrentAccess();
+        testMetricsFollowLatestCache();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static ProductInfo product(int i) {
+        return new ProductInfo(String.format("Товар-%06d", i), 10 + i % 500, i % 50,
+                ProductCategory.values()[i % ProductCategory.values().length], LocalDate.of(2024, 1, 1));
+    }
+
+    private static int idOf(String name) {
+        return Integer.parseInt(name.substring(name.indexOf('-') + 1));
+    }
+
+    /**
+     * Генератор індексів за законом Ципфа через заздалегідь обчислену функцію розподілу
+     */
+    private static int[] zipfKeys(int count, int distinct, double exponent, long seed) {
+        double[] cumulative = new double[distinct];
+        double sum = 0;
+        for (int i = 0; i < distinct; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        Random random = new Random(seed);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            double target = random.nextDouble() * sum;
+            int low = 0;
+            int high = distinct - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulative[middle] < target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            // Перемішування, щоб популярні ключі не йшли підряд за номером
+            keys[i] = (int) ((low * 2_654_435_761L) % distinct);
+        }
+        return keys;
+    }
+
+    private static void testReadThrough() throws Exception {
+        System.out.println("Тест 1: Наскрізне читання, інвалідація і метрики");
+
+        AtomicInteger loads = new AtomicInteger();
+        TinyLfuCache<String, ProductInfo> cache = ProductCache.create(1 << 20, name -> {
+            loads.incrementAndGet();
+            if (name.startsWith("Зламаний")) {
+                throw new IOException("Джерело недоступне");
+            }
+            return name.startsWith("Немає") ? null : product(idOf(name));
+        });
+        long hitsBefore = MetricsRegistry.getInstance().counter("products.cache.hits").getCount();
+
+        ProductInfo first = cache.get("Товар-000042");
+        assert first.equals(product(42)) : "Завантажено не той товар";
+        assert cache.get("Товар-000042") == first : "Другий запит не з кешу";
+        assert loads.get() == 1 : "Завантажень: " + loads.get();
+
+        assert cache.get("Немає-1") == null && cache.get("Немає-1") == null : "Відсутній товар";
+        assert loads.get() == 3 : "null не має кешуватися";
+        try {
+            cache.get("Зламаний-1");
+            assert false : "Помилку завантажувача поглинуто";
+        } catch (IOException expected) {
+            // очікувано
+        }
+
+        cache.invalidate("Товар-000042");
+        assert cache.getIfPresent("Товар-000042") == null : "Запис не інвалідовано";
+        assert cache.getEntryCount() == 0 && cache.getWeightedSize() == 0 : "Вага після інвалідації";
+
+        TinyLfuCache.Stats stats = cache.getStats();
+        assert stats.hits() == 1 : "Влучань: " + stats.hits();
+        assert stats.misses() == 5 : "Промахів: " + stats.misses();
+        assert MetricsRegistry.getInstance().counter("products.cache.hits").getCount() - hitsBefore == 1
+                : "Глобальний лічильник влучань";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testByteBound() throws Exception {
+        System.out.println("Тест 2: Сумарна вага не перевищує межу");
+
+        long limit = 256 * 1024;
+        TinyLfuCache<String, ProductInfo> cache = ProductCache.create(limit, name -> product(idOf(name)));
+        for (int i = 0; i < CATALOG; i++) {
+            cache.get(product(i).name());
+            assert cache.getWeightedSize() <= limit : "Перевищено межу: " + cache.getWeightedSize();
+        }
+        long weight = ProductCache.footprint(product(1));
+        assert cache.getEntryCount() > limit / weight / 2 : "Кеш заповнений лише на " + cache.getEntryCount();
+        assert cache.getStats().evictions() > 0 : "Витіснень не було";
+
+        // Запис, важчий за весь кеш, не кешується
+        TinyLfuCache<String, String> tiny = new TinyLfuCache<>("test.cache.tiny", 1024, String::length, key -> key);
+        tiny.put("a", "x".repeat(4096));
+        assert tiny.getEntryCount() == 0 : "Завеликий запис закешовано";
+        assert ProductCache.footprint(product(1)) < ProductCache.footprint(
+                new ProductInfo("Товар з дуже довгою назвою ".repeat(4), 1, 1, ProductCategory.BOOKS, null))
+                : "Вага не залежить від назви";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testHitRateBeatsLru() throws Exception {
+        System.out.println("Тест 3: На розподілі Ципфа частка влучань вища, ніж у LRU того ж розміру");
+
+        long limit = 512 * 1024;
+        int capacity = (int) (limit / ProductCache.footprint(product(1)));
+        int[] keys = zipfKeys(400_000, CATALOG * 5, 0.9, 7);
+
+        TinyLfuCache<String, ProductInfo> cache = ProductCache.create(limit, name -> product(idOf(name)));
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < CATALOG * 5; i++) {
+            names.add(product(i).name());
+        }
+        for (int key : keys) {
+            cache.get(names.get(key));
+        }
+
+        Map<String, ProductInfo> lru = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ProductInfo> eldest) {
+                return size() > capacity;
+            }
+        };
+        long lruHits = 0;
+        for (int key : keys) {
+            String name = names.get(key);
+            if (lru.get(name) != null) {
+                lruHits++;
+            } else {
+                lru.put(name, product(key));
+            }
+        }
+
+        double tinyLfu = cache.getStats().getHitRate();
+        double plain = (double) lruHits / keys.length;
+        assert tinyLfu > plain : String.format("W-TinyLFU %.3f не краще за LRU %.3f", tinyLfu, plain);
+
+        System.out.println("✓ Тест пройдено");
+        System.out.printf("  W-TinyLFU: %.1f%%, LRU: %.1f%% влучань%n%n", tinyLfu * 100, plain * 100);
+    }
+
+    private static void testScanResistance() throws Exception {
+        System.out.println("Тест 4: Одноразовий перебір не витісняє популярні товари");
+
+        TinyLfuCache<String, ProductInfo> cache = ProductCache.create(256 * 1024, name -> product(idOf(name)));
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 100; i++) {
+                cache.get(product(i).name());
+            }
+        }
+        // Перебір каталогу на тлі звичайного потоку запитів до популярних товарів
+        for (int i = 0; i < CATALOG; i++) {
+            cache.get(product(1_000 + i).name());
+            if (i % 10 == 0) {
+                cache.get(product(i / 10 % 100).name());
+            }
+        }
+        int survived = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.getIfPresent(product(i).name()) != null) {
+                survived++;
+            }
+        }
+        assert survived >= 95 : "Після перебору залишилось популярних: " + survived;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testConcurrentAccess() throws Exception {
+        System.out.println("Тест 5: Паралельний доступ з кількох потоків");
+
+        long limit = 256 * 1024;
+        TinyLfuCache<String, ProductInfo> cache = ProductCache.create(limit, name -> product(idOf(name)));
+        int[] keys = zipfKeys(200_000, CATALOG, 1.0, 11);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger wrong = new AtomicInteger();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = offset; i < keys.length; i += 4) {
+                        ProductInfo product = cache.get(String.format("Товар-%06d", keys[i]));
+                        if (idOf(product.name()) != keys[i]) {
+                            wrong.incrementAndGet();
+                        }
+                    }
+                } catch (IOException e) {
+                    wrong.incrementAndGet();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        TinyLfuCache.Stats stats = cache.getStats();
+        assert wrong.get() == 0 : "Невірних відповідей: " + wrong.get();
+        assert stats.hits() + stats.misses() == keys.length : "Втрачено запити";
+        assert cache.getWeightedSize() <= limit : "Перевищено межу";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + stats.getReport() + "\n");
+    }
+
+    private static void testMetricsFollowLatestCache() throws Exception {
+        System.out.println("Тест 6: Метрики належать останньому кешу з тією ж назвою");
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        TinyLfuCache<String, ProductInfo> previous = ProductCache.create(1 << 20, name -> product(idOf(name)));
+        previous.get(product(1).name());
+        // Кеш після перезавантаження каталогу перебирає назву метрик
+        TinyLfuCache<String, ProductInfo> current = ProductCache.create(1 << 20, name -> product(idOf(name)));
+        for (int i = 0; i < 100; i++) {
+            current.get(product(i).name());
+        }
+        previous.get(product(1).name());
+
+        String bytes = ProductCache.METRICS_NAME + ".bytes";
+        assert registry.gauge(bytes, () -> -1).getValue() == current.getWeightedSize()
+                : "Gauge показує " + registry.gauge(bytes, () -> -1).getValue() + " замість " + current.getWeightedSize();
+        assert registry.counter(ProductCache.METRICS_NAME + ".hits").getCount() == 0 : "Влучання старого кешу враховано";
+        assert registry.counter(ProductCache.METRICS_NAME + ".misses").getCount() == 100 : "Лічильники спільні";
+
+        // Закриття старого кешу не чіпає метрик нового, закриття нового прибирає їх
+        previous.close();
+        assert registry.gauge(bytes, () -> -1).getValue() == current.getWeightedSize() : "Старий кеш прибрав чужий gauge";
+        current.close();
+        assert registry.gauge(bytes, () -> -1).getValue() == -1 : "Реєстр тримає закритий кеш";
+        registry.remove(bytes);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
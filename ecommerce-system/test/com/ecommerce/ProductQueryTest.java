@@ -0,0 +1,189 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.query.CompiledQuery;
+import com.ecommerce.query.ProductCatalog;
+import com.ecommerce.search.Tokenizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Базові тести для мови запитів до каталогу (ProductCatalog, CompiledQuery)
+ */
+public class ProductQueryTest {
+
+    private static final String[] BRANDS = {"Samsung", "Lenovo", "Nike", "Adidas", "Ikea", "Lego"};
+    private static final String[] KINDS = {"ноутбук", "кросівки", "стілець", "конструктор", "куртка", "книга"};
+    private static final String[] EXTRAS = {"pro", "mini", "класичний", "новий", "дитячий"};
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ ProductQuery ===\n");
+
+        List<ProductInfo> products = generateProducts(20_000, 42);
+        ProductCatalog catalog = new ProductCatalog(products);
+
+        testFilters(catalog, products);
+        testIndexChoice(catalog, products);
+        testOrderByLimit(catalog, products);
+        testParseErrors(catalog);
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static List<ProductInfo> generateProducts(int count, long seed) {
+        Random random = new Random(seed);
+        ProductCategory[] categories = ProductCategory.values();
+        List<ProductInfo> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = KINDS[random.nextInt(KINDS.length)] + " " + BRANDS[random.nextInt(BRANDS.length)]
+                    + " " + EXTRAS[random.nextInt(EXTRAS.length)] + " " + i;
+            // Ціни з кроком 0.5, щоб були однакові значення і перевірялося впорядкування за рядком
+            products.add(new ProductInfo(name, 1 + random.nextInt(4000) / 2.0, random.nextInt(200),
+                    categories[random.nextInt(categories.length)],
+                    LocalDate.of(2023, 1, 1).plusDays(random.nextInt(730))));
+        }
+        return products;
+    }
+
+    private static void check(ProductCatalog catalog, List<ProductInfo> products, String query,
+                              Predicate<ProductInfo> expected) throws InvalidDataException {
+        List<ProductInfo> actual = catalog.query(query);
+        List<ProductInfo> reference = products.stream().filter(expected).toList();
+        assert actual.equals(reference)
+                : query + ": очікувалось " + reference.size() + " товарів, отримано " + actual.size();
+        System.out.println("  " + query + " -> " + actual.size());
+    }
+
+    private static boolean nameMatches(ProductInfo product, String text) {
+        return Tokenizer.tokenize(product.name()).containsAll(Tokenizer.tokenize(text));
+    }
+
+    private static void testFilters(ProductCatalog catalog, List<ProductInfo> products) throws InvalidDataException {
+        System.out.println("Тест 1: Результати збігаються з фільтрацією списку");
+
+        check(catalog, products, "price < 100", p -> p.price() < 100);
+        check(catalog, products, "price >= 1999.5", p -> p.price() >= 1999.5);
+        check(catalog, products, "stock = 0", p -> p.stock() == 0);
+        check(catalog, products, "stock <> 0 and stock <= 10", p -> p.stock() != 0 && p.stock() <= 10);
+        check(catalog, products, "category = BOOKS", p -> p.category() == ProductCategory.BOOKS);
+        check(catalog, products, "category != 'books'", p -> p.category() != ProductCategory.BOOKS);
+        check(catalog, products, "category in (TOYS, SPORTS)",
+                p -> p.category() == ProductCategory.TOYS || p.category() == ProductCategory.SPORTS);
+        check(catalog, products, "category not in (TOYS, SPORTS, FOOD) and stock > 150",
+                p -> p.category() != ProductCategory.TOYS && p.category() != ProductCategory.SPORTS
+                        && p.category() != ProductCategory.FOOD && p.stock() > 150);
+        check(catalog, products, "createdDate >= '2024-06-01' AND createdDate < '2024-07-01'",
+                p -> !p.createdDate().isBefore(LocalDate.of(2024, 6, 1))
+                        && p.createdDate().isBefore(LocalDate.of(2024, 7, 1)));
+        check(catalog, products, "name matches 'ноутбук lenovo'", p -> nameMatches(p, "ноутбук lenovo"));
+        check(catalog, products, "name matches 'lego' and (price < 50 or stock > 190) and not category = TOYS",
+                p -> nameMatches(p, "lego") && (p.price() < 50 || p.stock() > 190)
+                        && p.category() != ProductCategory.TOYS);
+        check(catalog, products, "(category = ELECTRONICS or name matches 'куртка') and stock in (1, 2, 3)",
+                p -> (p.category() == ProductCategory.ELECTRONICS || nameMatches(p, "куртка"))
+                        && p.stock() >= 1 && p.stock() <= 3);
+        check(catalog, products, "not (price > 10 and price < 1990)", p -> !(p.price() > 10 && p.price() < 1990));
+        check(catalog, products, "stock not in (0, 199)", p -> p.stock() != 0 && p.stock() != 199);
+        String name = products.get(777).name();
+        check(catalog, products, "name = '" + name + "'", p -> p.name().equals(name));
+        check(catalog, products, "", p -> true);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testIndexChoice(ProductCatalog catalog, List<ProductInfo> products) throws InvalidDataException {
+        System.out.println("Тест 2: Перетин індексів у плані запиту");
+
+        String fullScan = catalog.compile("price < 100 or category = BOOKS").explain();
+        assert fullScan.contains("повний перегляд") : fullScan;
+
+        String byCategory = catalog.compile("price < 100 and category = BOOKS").explain();
+        assert byCategory.contains("індекс category") && byCategory.contains("фільтр: price") : byCategory;
+
+        String inStock = catalog.compile("stock > 0 and category in (TOYS, FOOD) and price < 10").explain();
+        assert inStock.contains("індекс stock > 0.0 AND category IN (FOOD, TOYS)") : inStock;
+
+        // Слово з номера товару зустрічається лише в назві товару 12345, тож перетин дає рівно його
+        ProductInfo target = products.get(12345);
+        CompiledQuery byName = catalog.compile("category = " + target.category().name() + " and name matches '12345'");
+        String plan = byName.explain();
+        assert plan.contains("name MATCHES [12345]") && plan.contains("(1 рядків)") : plan;
+        assert byName.execute().equals(List.of(target)) : "Перетин дав " + byName.execute().size() + " товарів";
+        System.out.println(plan);
+
+        // Скомпільований запит можна виконувати повторно
+        assert byName.execute().equals(byName.execute());
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testOrderByLimit(ProductCatalog catalog, List<ProductInfo> products) throws InvalidDataException {
+        System.out.println("Тест 3: ORDER BY і LIMIT збігаються з повним сортуванням");
+
+        Comparator<ProductInfo> byPrice = Comparator.comparingDouble(ProductInfo::price);
+        List<ProductInfo> cheap = catalog.query("stock > 0 order by price limit 25");
+        assert cheap.equals(products.stream().filter(p -> p.stock() > 0).sorted(byPrice).limit(25).toList())
+                : "Найдешевші товари не збігаються";
+
+        // При DESC рівні ціни йдуть від останнього рядка до першого, тому еталон сортується
+        // з оберненого переліку
+        List<ProductInfo> reversed = new ArrayList<>(products.stream()
+                .filter(p -> p.category() == ProductCategory.FURNITURE).toList());
+        Collections.reverse(reversed);
+        List<ProductInfo> expensive = reversed.stream().sorted(byPrice.reversed()).limit(40).toList();
+        assert catalog.query("category = FURNITURE order by price desc limit 40").equals(expensive)
+                : "Найдорожчі меблі не збігаються";
+
+        List<ProductInfo> byName = catalog.query("name matches 'nike' order by name");
+        assert byName.equals(products.stream().filter(p -> nameMatches(p, "nike"))
+                .sorted(Comparator.comparing(ProductInfo::name)).toList()) : "Сортування за назвою без LIMIT";
+
+        List<ProductInfo> newest = catalog.query("order by createdDate desc limit 1");
+        assert newest.size() == 1 && newest.get(0).createdDate().equals(products.stream()
+                .map(ProductInfo::createdDate).max(Comparator.naturalOrder()).orElseThrow()) : "Найновіший товар";
+
+        assert catalog.query("limit 7").equals(products.subList(0, 7)) : "LIMIT без ORDER BY — перші рядки каталогу";
+        assert catalog.query("price > 0 order by stock limit 0").isEmpty() : "LIMIT 0";
+
+        String plan = catalog.compile("order by stock desc limit 10").explain();
+        assert plan.contains("купа на 10") : plan;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testParseErrors(ProductCatalog catalog) {
+        System.out.println("Тест 4: Помилки розбору");
+
+        String[] invalid = {
+                "price <", "price < 'abc'", "weight > 1", "(price > 1", "price > 1 extra",
+                "name > 'a'", "order by category", "limit -1", "createdDate > '2024-13-01'",
+                "stock matches 'x'", "name matches '   '", "price ! 3", "name = 'без кінця"
+        };
+        for (String query : invalid) {
+            try {
+                catalog.compile(query);
+                assert false : "Запит мав бути відхилений: " + query;
+            } catch (InvalidDataException e) {
+                assert e.getErrorCode() == InvalidDataException.ErrorCode.INVALID_FORMAT : query;
+            }
+        }
+
+        try {
+            catalog.compile("category = WEAPONS");
+            assert false : "Невідома категорія мала бути відхилена";
+        } catch (InvalidDataException e) {
+            assert e.getErrorCode() == InvalidDataException.ErrorCode.INVALID_ENUM_VALUE;
+            assert "WEAPONS".equals(e.getInvalidValue());
+            System.out.println("  " + e.getMessage());
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
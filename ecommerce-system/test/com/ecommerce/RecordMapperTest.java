@@ -0,0 +1,109 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.mapping.RecordMapper;
+import com.ecommerce.mapping.RecordMappers;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.service.FileReader;
+import com.ecommerce.service.ProductService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Базові тести для RecordMapper
+ */
+public class RecordMapperTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ RecordMapper ===\n");
+
+        testMapByHeaderName();
+        testErrorCodes();
+        testOptionalAndMissingColumns();
+        testSameResultAsService();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testMapByHeaderName() throws InvalidDataException {
+        System.out.println("Тест 1: Зв'язування колонок за назвою, а не позицією");
+
+        RecordMapper.Binding<ProductInfo> binding = RecordMappers.PRODUCTS.bind(
+                new String[]{"category", "createdDate", "Name", "stock", "price"});
+        ProductInfo product = binding.map(new String[]{"books", "2024-05-01", "Java Book", "7", "850.5"}, 2);
+
+        assert product.equals(new ProductInfo("Java Book", 850.5, 7, ProductCategory.BOOKS, LocalDate.of(2024, 5, 1)))
+                : "Неправильний товар: " + product;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testErrorCodes() throws InvalidDataException {
+        System.out.println("Тест 2: Коди помилок як у ручних парсерах");
+
+        RecordMapper.Binding<ProductInfo> binding = RecordMappers.PRODUCTS.bind(
+                new String[]{"name", "price", "stock", "category", "createdDate"});
+
+        assertError(binding, new String[]{"", "10", "1", "BOOKS", "2024-01-01"}, InvalidDataException.ErrorCode.EMPTY_VALUE);
+        assertError(binding, new String[]{"A", "abc", "1", "BOOKS", "2024-01-01"}, InvalidDataException.ErrorCode.INVALID_FORMAT);
+        assertError(binding, new String[]{"A", "10", "-1", "BOOKS", "2024-01-01"}, InvalidDataException.ErrorCode.NEGATIVE_VALUE);
+        assertError(binding, new String[]{"A", "10", "1", "GADGETS", "2024-01-01"}, InvalidDataException.ErrorCode.INVALID_ENUM_VALUE);
+        assertError(binding, new String[]{"A", "10", "1", "BOOKS", "01.01.2024"}, InvalidDataException.ErrorCode.INVALID_FORMAT);
+        assertError(binding, new String[]{"A", "10", "1"}, InvalidDataException.ErrorCode.MISSING_REQUIRED_FIELD);
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void assertError(RecordMapper.Binding<ProductInfo> binding, String[] values,
+                                    InvalidDataException.ErrorCode expected) {
+        try {
+            binding.map(values, 5);
+            assert false : "Очікувалась помилка " + expected;
+        } catch (InvalidDataException e) {
+            assert e.getErrorCode() == expected : "Очікувався " + expected + ", отримано " + e.getErrorCode();
+        }
+    }
+
+    private static void testOptionalAndMissingColumns() throws InvalidDataException {
+        System.out.println("Тест 3: Необов'язкові та відсутні колонки");
+
+        RecordMapper.Binding<CustomerInfo> binding = RecordMappers.CUSTOMERS.bind(
+                new String[]{"firstName", "lastName", "email", "registrationDate", "tier"});
+        CustomerInfo customer = binding.map(new String[]{"Іван", "Петренко", "ivan@example.com", "2024-01-15", "GOLD"}, 2);
+
+        assert customer.phone() == null : "Телефон має бути null";
+        assert customer.tier() == CustomerInfo.CustomerTier.GOLD : "Неправильний рівень";
+
+        try {
+            RecordMappers.CUSTOMERS.bind(new String[]{"firstName", "lastName", "phone", "registrationDate", "tier"});
+            assert false : "Відсутня обов'язкова колонка email";
+        } catch (InvalidDataException e) {
+            assert e.getErrorCode() == InvalidDataException.ErrorCode.MISSING_REQUIRED_FIELD : "Неправильний код помилки";
+            assert "email".equals(e.getFieldName()) : "Неправильне поле: " + e.getFieldName();
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testSameResultAsService() throws Exception {
+        System.out.println("Тест 4: Той самий результат, що й ProductService");
+
+        String path = "data/products.csv";
+        RecordMapper.Binding<ProductInfo> binding = RecordMappers.PRODUCTS.bind(FileReader.readHeader(path));
+        List<String[]> records = FileReader.readCSV(path);
+        List<ProductInfo> mapped = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            mapped.add(binding.map(records.get(i), i + 2));
+        }
+
+        List<ProductInfo> loaded = new ProductService().loadProducts();
+
+        assert mapped.equals(loaded) : "Результати відрізняються";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Товарів: " + mapped.size() + "\n");
+    }
+}
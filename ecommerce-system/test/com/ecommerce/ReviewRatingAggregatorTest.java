@@ -0,0 +1,136 @@
+package com.ecommerce;
+
+import com.ecommerce.model.ProductRating;
+import com.ecommerce.service.ReviewRatingAggregator;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Базові тести для ReviewRatingAggregator
+ */
+public class ReviewRatingAggregatorTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ ReviewRatingAggregator ===\n");
+
+        testHistogram();
+        testRemoveRating();
+        testTopByAverage();
+        testInvalidRating();
+        testLoadReviews();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testHistogram() {
+        System.out.println("Тест 1: Гістограма оцінок");
+
+        ReviewRatingAggregator aggregator = new ReviewRatingAggregator(2);
+        aggregator.addRating("Ноутбук", 5);
+        aggregator.addRating("Ноутбук", 4);
+        aggregator.addRating("Ноутбук", 5);
+
+        ProductRating rating = aggregator.getRating("Ноутбук");
+        assert rating.getReviewCount() == 3 : "Неправильна кількість відгуків";
+        assert rating.getCount(5) == 2 : "Неправильна кількість п'ятірок";
+        assert Math.abs(rating.getAverage() - 14.0 / 3) < 1e-9 : "Неправильна середня оцінка";
+        assert aggregator.getRating("Невідомий") == null : "Невідомий товар має рейтинг";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + rating + "\n");
+    }
+
+    private static void testRemoveRating() {
+        System.out.println("Тест 2: Скасування оцінки");
+
+        ReviewRatingAggregator aggregator = new ReviewRatingAggregator();
+        aggregator.addRating("Книга", 2);
+        aggregator.addRating("Книга", 5);
+        aggregator.removeRating("Книга", 2);
+
+        assert aggregator.getRating("Книга").getAverage() == 5.0 : "Оцінку не скасовано";
+
+        try {
+            aggregator.removeRating("Книга", 1);
+            System.err.println("❌ Тест не пройдено: виключення не викинуте");
+        } catch (IllegalStateException e) {
+            System.out.println("✓ Тест пройдено: виключення перехоплено\n");
+        }
+    }
+
+    private static void testTopByAverage() {
+        System.out.println("Тест 3: Топ товарів за середньою оцінкою");
+
+        ReviewRatingAggregator aggregator = new ReviewRatingAggregator(4);
+        for (int i = 0; i < 10; i++) {
+            aggregator.addRating("A", 4);
+            aggregator.addRating("B", 5);
+            aggregator.addRating("C", 3);
+        }
+        aggregator.addRating("D", 5); // Один відгук — нижче порогу
+
+        List<ProductRating> top = aggregator.topByAverage(2, 5);
+
+        assert top.size() == 2 : "Неправильний розмір топу";
+        assert top.get(0).productName().equals("B") : "Перше місце має бути B";
+        assert top.get(1).productName().equals("A") : "Друге місце має бути A";
+
+        System.out.println("✓ Тест пройдено");
+        top.forEach(r -> System.out.println("  " + r));
+        System.out.println();
+    }
+
+    private static void testInvalidRating() {
+        System.out.println("Тест 4: Невалідна оцінка");
+
+        ReviewRatingAggregator aggregator = new ReviewRatingAggregator();
+        try {
+            aggregator.addRating("Товар", 6);
+            System.err.println("❌ Тест не пройдено: виключення не викинуте");
+        } catch (IllegalArgumentException e) {
+            System.out.println("✓ Тест пройдено: виключення перехоплено\n");
+        }
+    }
+
+    private static void testLoadReviews() throws Exception {
+        System.out.println("Тест 5: Потокове завантаження відгуків з CSV і CSV.GZ");
+
+        StringBuilder csv = new StringBuilder("productName,customerEmail,rating,comment,reviewDate\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("Товар ").append(i % 100).append(",c").append(i).append("@example.com,")
+                    .append(1 + i % 5).append(",Коментар,2024-05-01\n");
+        }
+        csv.append("Товар 0,c@example.com\n");          // мало полів
+        csv.append("Товар 0,c@example.com,7,,\n");      // оцінка поза діапазоном
+        csv.append("\n");
+
+        Path plain = Files.createTempFile("reviews", ".csv");
+        Path gzip = Files.createTempFile("reviews", ".csv.gz");
+        try {
+            Files.writeString(plain, csv);
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(gzip)),
+                    StandardCharsets.UTF_8)) {
+                writer.write(csv.toString());
+            }
+
+            for (Path file : List.of(plain, gzip)) {
+                ReviewRatingAggregator aggregator = new ReviewRatingAggregator(16);
+                int loaded = aggregator.loadReviews(file.toString());
+                assert loaded == 10_000 : "Неправильна кількість відгуків: " + loaded;
+                assert aggregator.getProductCount() == 100 : "Неправильна кількість товарів";
+                ProductRating rating = aggregator.getRating("Товар 7");
+                assert rating.getReviewCount() == 100 && rating.getCount(3) == 100 : "Неправильна гістограма";
+            }
+        } finally {
+            Files.deleteIfExists(plain);
+            Files.deleteIfExists(gzip);
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
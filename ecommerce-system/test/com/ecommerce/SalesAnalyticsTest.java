@@ -0,0 +1,170 @@
+package com.ecommerce;
+
+import com.ecommerce.analytics.SalesAnalytics;
+import com.ecommerce.analytics.SalesReport;
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Базові тести для SalesAnalytics
+ */
+public class SalesAnalyticsTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ SalesAnalytics ===\n");
+
+        List<OrderInfo> orders = orders(200_000, 7);
+        testMatchesStreamGrouping(orders);
+        testParallelEqualsSequential(orders);
+        testGroupingsAreConsistent(orders);
+        testSmallAndEmptyInput();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static List<OrderInfo> orders(int count, long seed) {
+        Random random = new Random(seed);
+        ProductCategory[] categories = ProductCategory.values();
+        CustomerTier[] tiers = CustomerTier.values();
+        PaymentMethod[] payments = PaymentMethod.values();
+        OrderStatus[] statuses = OrderStatus.values();
+
+        List<ProductInfo> catalog = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            catalog.add(new ProductInfo("Товар " + i, 10 + random.nextInt(5_000) + random.nextInt(100) / 100.0,
+                    random.nextInt(100), categories[i % categories.length], LocalDate.of(2024, 1, 1)));
+        }
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            customers.add(new CustomerInfo("Ім'я", "Прізвище", "c" + i + "@example.com", null,
+                    LocalDate.of(2023, 1, 1), tiers[i % tiers.length]));
+        }
+
+        List<OrderInfo> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<ProductInfo> items = new ArrayList<>();
+            for (int n = 1 + random.nextInt(4); n > 0; n--) {
+                items.add(catalog.get(random.nextInt(catalog.size())));
+            }
+            // Дати йдуть врозкид, зокрема раніше за першу побачену
+            LocalDate date = LocalDate.of(2024, 6, 1).plusDays(random.nextInt(400) - 200);
+            orders.add(new OrderInfo("ORD-" + i, customers.get(random.nextInt(customers.size())), items, date,
+                    statuses[random.nextInt(statuses.length)], payments[random.nextInt(payments.length)]));
+        }
+        return orders;
+    }
+
+    private static boolean close(double a, double b) {
+        return Math.abs(a - b) <= 1e-9 * Math.max(1.0, Math.abs(b));
+    }
+
+    private static double revenueOf(OrderInfo order) {
+        return order.getSubtotal() - order.getDiscount();
+    }
+
+    private static void testMatchesStreamGrouping(List<OrderInfo> orders) throws Exception {
+        System.out.println("Тест 1: Результат збігається з підрахунком через groupingBy");
+
+        long start = System.nanoTime();
+        SalesReport report = new SalesAnalytics(4).analyze(orders);
+        long analyticsMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        List<OrderInfo> active = orders.stream().filter(o -> o.status() != OrderStatus.CANCELLED).toList();
+        Map<PaymentMethod, Double> byPayment = active.stream()
+                .collect(Collectors.groupingBy(OrderInfo::paymentMethod, Collectors.summingDouble(SalesAnalyticsTest::revenueOf)));
+        Map<CustomerTier, Double> taxByTier = active.stream()
+                .collect(Collectors.groupingBy(o -> o.customer().tier(), Collectors.summingDouble(OrderInfo::getTaxTotal)));
+        Map<LocalDate, Long> ordersByDay = active.stream()
+                .collect(Collectors.groupingBy(OrderInfo::orderDate, Collectors.counting()));
+        Map<ProductCategory, Double> byCategory = active.stream()
+                .flatMap(o -> o.products().stream()
+                        .map(p -> Map.entry(p.category(), p.price() * (1 - o.customer().getDiscount()))))
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingDouble(Map.Entry::getValue)));
+        long streamMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assert report.getOrderCount() == active.size() : "Замовлень: " + report.getOrderCount();
+        assert report.getCancelledCount() == orders.size() - active.size() : "Скасованих: " + report.getCancelledCount();
+        byPayment.forEach((method, revenue) -> {
+            assert close(report.getByPaymentMethod().get(method).revenue(), revenue) : "Виручка " + method;
+        });
+        taxByTier.forEach((tier, tax) -> {
+            assert close(report.getByTier().get(tier).tax(), tax) : "Податок " + tier;
+        });
+        byCategory.forEach((category, revenue) -> {
+            assert close(report.getByCategory().get(category).revenue(), revenue) : "Виручка " + category;
+        });
+        assert report.getByDay().size() == ordersByDay.size() : "Днів: " + report.getByDay().size();
+        ordersByDay.forEach((day, count) -> {
+            assert report.getByDay().get(day).count() == count : "Замовлень за " + day;
+        });
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Один прохід: " + analyticsMillis + " мс, чотири groupingBy: " + streamMillis + " мс\n");
+    }
+
+    private static void testParallelEqualsSequential(List<OrderInfo> orders) throws Exception {
+        System.out.println("Тест 2: Паралельний і послідовний прохід дають однакові групи");
+
+        SalesReport sequential = new SalesAnalytics(1).analyze(orders);
+        SalesReport parallel = new SalesAnalytics(8).analyze(orders);
+
+        assert sequential.getOrderCount() == parallel.getOrderCount() : "Кількість замовлень";
+        assert close(parallel.getRevenue(), sequential.getRevenue()) : "Загальна виручка";
+        assert sequential.getByDay().keySet().equals(parallel.getByDay().keySet()) : "Набір днів";
+        assert sequential.getByDay().firstKey().equals(LocalDate.of(2024, 6, 1).minusDays(200)) : "Перший день";
+        sequential.getByCategory().forEach((category, totals) -> {
+            SalesReport.Totals other = parallel.getByCategory().get(category);
+            assert totals.count() == other.count() && close(other.tax(), totals.tax()) : "Категорія " + category;
+        });
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testGroupingsAreConsistent(List<OrderInfo> orders) throws Exception {
+        System.out.println("Тест 3: Суми кожного групування дорівнюють загальним");
+
+        SalesReport report = new SalesAnalytics().analyze(orders);
+        List<Map<?, SalesReport.Totals>> groupings = List.of(report.getByCategory(), report.getByPaymentMethod(),
+                report.getByTier(), report.getByDay());
+        for (Map<?, SalesReport.Totals> grouping : groupings) {
+            double revenue = grouping.values().stream().mapToDouble(SalesReport.Totals::revenue).sum();
+            double tax = grouping.values().stream().mapToDouble(SalesReport.Totals::tax).sum();
+            assert close(revenue, report.getRevenue()) : "Виручка групування " + grouping.keySet();
+            assert close(tax, report.getTax()) : "Податок групування " + grouping.keySet();
+        }
+        long units = report.getByCategory().values().stream().mapToLong(SalesReport.Totals::count).sum();
+        long expectedUnits = orders.stream().filter(o -> o.status() != OrderStatus.CANCELLED)
+                .mapToLong(OrderInfo::getProductCount).sum();
+        assert units == expectedUnits : "Одиниць товару: " + units;
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println(report.getSummary() + "\n");
+    }
+
+    private static void testSmallAndEmptyInput() throws Exception {
+        System.out.println("Тест 4: Порожній список і лише скасовані замовлення");
+
+        SalesReport empty = new SalesAnalytics(4).analyze(List.of());
+        assert empty.getOrderCount() == 0 && empty.getByDay().isEmpty() && empty.getByCategory().isEmpty()
+                : "Порожній звіт";
+
+        List<OrderInfo> cancelled = orders(10, 3).stream().map(o -> o.withStatus(OrderStatus.CANCELLED)).toList();
+        SalesReport report = new SalesAnalytics(4).analyze(cancelled);
+        assert report.getCancelledCount() == 10 && report.getOrderCount() == 0 : "Скасовані враховано";
+        assert report.getRevenue() == 0 && report.getByPaymentMethod().isEmpty() : "Виручка зі скасованих";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
@@ -0,0 +1,135 @@
+package com.ecommerce;
+
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.service.ShardedProductLoader;
+import com.ecommerce.util.CompressedInput;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Базові тести для ShardedProductLoader
+ */
+public class ShardedProductLoaderTest {
+
+    private static final String HEADER = "name,price,stock,category,createdDate\n";
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ ShardedProductLoader ===\n");
+
+        Path directory = Files.createTempDirectory("shards");
+        try {
+            testLoadAndResume(directory);
+            testGlobAndBudget(directory);
+            testCompressedShards(directory);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testLoadAndResume(Path directory) throws Exception {
+        System.out.println("Тест 1: Облік по шардах і відновлення після помилки");
+
+        write(directory.resolve("products-1.csv"), HEADER
+                + "Ноутбук,45000,10,ELECTRONICS,2024-10-01\n"
+                + "Футболка,500,100,CLOTHING,2024-09-15\n");
+        write(directory.resolve("products-2.csv"), HEADER
+                + "Книга Java,850,20,BOOKS,2024-08-01\n"
+                + "Ноутбук,44000,3,ELECTRONICS,2024-10-02\n"
+                + "Зламаний,-1,1,BOOKS,2024-01-01\n");
+        write(directory.resolve("products-3.csv"), "");
+
+        ShardedProductLoader loader = new ShardedProductLoader(4, 64L * 1024 * 1024);
+        ShardedProductLoader.Result result = loader.load(directory.toString());
+
+        assert result.getShards().size() == 3 : "Неправильна кількість шардів";
+        assert result.getFailedShards().size() == 1 : "Очікувався один невдалий шард";
+        assert result.getFailedShards().get(0).shard().getFileName().toString().equals("products-3.csv")
+                : "Не той невдалий шард";
+        assert result.getProducts().size() == 3 : "Неправильна кількість товарів: " + result.getProducts().size();
+        ShardedProductLoader.ShardReport second = result.getShards().get(1);
+        assert second.loaded() == 2 && second.rejected() == 1 && second.duplicates() == 1
+                : "Неправильний облік шарду: " + second;
+
+        write(directory.resolve("products-3.csv"), HEADER + "М'яч,900,15,SPORTS,2024-07-01\n");
+        ShardedProductLoader.Result resumed = loader.resume(result);
+
+        assert resumed.isComplete() : "Після відновлення залишились невдалі шарди";
+        List<String> names = resumed.getProducts().stream().map(ProductInfo::name).toList();
+        assert names.equals(List.of("Ноутбук", "Футболка", "Книга Java", "М'яч")) : "Неправильний каталог: " + names;
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + resumed.getSummary() + "\n");
+    }
+
+    private static void testGlobAndBudget(Path directory) throws Exception {
+        System.out.println("Тест 2: Glob-шаблон і малий бюджет пам'яті");
+
+        Path nested = Files.createDirectories(directory.resolve("export"));
+        StringBuilder big = new StringBuilder(HEADER);
+        for (int i = 0; i < 5_000; i++) {
+            big.append("Товар ").append(i).append(",100,1,TOYS,2024-01-01\n");
+        }
+        for (int shard = 0; shard < 6; shard++) {
+            write(nested.resolve("part-" + shard + ".csv"), big.toString().replace("Товар ", "Товар " + shard + "-"));
+        }
+        write(nested.resolve("notes.txt"), "не шард");
+
+        ShardedProductLoader loader = new ShardedProductLoader(4, 1024);
+        ShardedProductLoader.Result result = loader.load(nested + "/part-*.csv");
+
+        assert result.getShards().size() == 6 : "Glob знайшов " + result.getShards().size() + " шардів";
+        assert result.isComplete() : "Невдалі шарди: " + result.getFailedShards();
+        assert result.getProducts().size() == 30_000 : "Неправильна кількість товарів";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + result.getSummary() + "\n");
+    }
+
+    private static void testCompressedShards(Path directory) throws Exception {
+        System.out.println("Тест 3: Стиснені шарди враховуються в бюджеті за розпакованим розміром");
+
+        Path compressed = Files.createDirectories(directory.resolve("compressed"));
+        long uncompressed = 0;
+        for (int shard = 0; shard < 4; shard++) {
+            StringBuilder content = new StringBuilder(HEADER);
+            for (int i = 0; i < 5_000; i++) {
+                content.append("Товар ").append(shard).append('-').append(i).append(",100,1,TOYS,2024-01-01\n");
+            }
+            byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+            Path file = compressed.resolve("part-" + shard + ".csv.gz");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                out.write(bytes);
+            }
+            assert CompressedInput.estimateUncompressedSize(file) == bytes.length
+                    : "Вага шарду " + file.getFileName() + " не дорівнює розпакованому розміру";
+            assert Files.size(file) * 5 < bytes.length : "Шард стиснувся слабше, ніж очікувалось";
+            uncompressed += bytes.length;
+        }
+
+        // Бюджет вміщує всі стиснені файли, але лише один розпакований шард
+        ShardedProductLoader loader = new ShardedProductLoader(4, uncompressed / 3);
+        ShardedProductLoader.Result result = loader.load(compressed.toString());
+
+        assert result.getShards().size() == 4 && result.isComplete() : "Невдалі шарди: " + result.getFailedShards();
+        assert result.getProducts().size() == 20_000 : "Неправильна кількість товарів";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + result.getSummary() + "\n");
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
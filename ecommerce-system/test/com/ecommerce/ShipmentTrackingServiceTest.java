@@ -0,0 +1,131 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.ShipmentStatus;
+import com.ecommerce.model.TrackingEvent;
+import com.ecommerce.service.ShipmentTrackingService;
+import java.util.List;
+
+/**
+ * Базові тести для ShipmentTrackingService
+ */
+public class ShipmentTrackingServiceTest {
+
+    private static final long DAY = 86_400L;
+    private static final long START = 1_727_740_800L; // 2024-10-01T00:00:00Z
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ ShipmentTrackingService ===\n");
+
+        testCurrentState();
+        testOutOfOrderEvents();
+        testStuckInTransit();
+        testCompactHistory();
+        testReadsDoNotGrowDictionary();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testCurrentState() {
+        System.out.println("Тест 1: Поточний стан відправки");
+
+        ShipmentTrackingService service = new ShipmentTrackingService();
+        service.ingest(List.of(
+                new TrackingEvent("TRK-1A2B3C4D", ShipmentStatus.PREPARING, START),
+                new TrackingEvent("TRK-1A2B3C4D", ShipmentStatus.IN_TRANSIT, START + DAY),
+                new TrackingEvent("NP-20450001234567", ShipmentStatus.DELIVERED, START + 2 * DAY)
+        ));
+
+        assert service.getStatus("TRK-1A2B3C4D") == ShipmentStatus.IN_TRANSIT : "Неправильний статус";
+        assert service.getLastUpdateEpochSecond("TRK-1A2B3C4D") == START + DAY : "Неправильний час оновлення";
+        assert service.getStatus("NP-20450001234567") == ShipmentStatus.DELIVERED : "Неправильний статус";
+        assert service.getStatus("TRK-00000000") == null : "Невідома відправка має статус";
+        assert service.getShipmentCount() == 2 : "Неправильна кількість відправок";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testOutOfOrderEvents() {
+        System.out.println("Тест 2: Події не по порядку");
+
+        ShipmentTrackingService service = new ShipmentTrackingService();
+        service.ingest(new TrackingEvent("TRK-AAAA0001", ShipmentStatus.DELIVERED, START + 3 * DAY));
+        boolean applied = service.ingest(new TrackingEvent("TRK-AAAA0001", ShipmentStatus.IN_TRANSIT, START));
+
+        assert !applied : "Застаріла подія змінила стан";
+        assert service.getStatus("TRK-AAAA0001") == ShipmentStatus.DELIVERED : "Статус перезаписано";
+        assert service.getHistory("TRK-AAAA0001").size() == 2 : "Подія не потрапила в історію";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testStuckInTransit() {
+        System.out.println("Тест 3: Відправки, що застрягли в дорозі");
+
+        ShipmentTrackingService service = new ShipmentTrackingService();
+        service.ingest(List.of(
+                new TrackingEvent("TRK-00000001", ShipmentStatus.IN_TRANSIT, START),
+                new TrackingEvent("TRK-00000002", ShipmentStatus.IN_TRANSIT, START),
+                new TrackingEvent("TRK-00000002", ShipmentStatus.DELIVERED, START + DAY),
+                new TrackingEvent("TRK-00000003", ShipmentStatus.IN_TRANSIT, START + 8 * DAY),
+                new TrackingEvent("custom-42", ShipmentStatus.IN_TRANSIT, START + DAY)
+        ));
+
+        List<String> stuck = service.findStuckInTransit(5, START + 10 * DAY);
+
+        assert stuck.size() == 2 : "Неправильна кількість: " + stuck;
+        assert stuck.contains("TRK-00000001") : "TRK-00000001 відсутній";
+        assert stuck.contains("custom-42") : "custom-42 відсутній";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Застряглі: " + stuck + "\n");
+    }
+
+    private static void testCompactHistory() {
+        System.out.println("Тест 4: Ущільнення історії");
+
+        ShipmentTrackingService service = new ShipmentTrackingService();
+        service.ingest(List.of(
+                new TrackingEvent("TRK-0000000A", ShipmentStatus.IN_TRANSIT, START),
+                new TrackingEvent("TRK-0000000A", ShipmentStatus.IN_TRANSIT, START + 100),
+                new TrackingEvent("TRK-0000000A", ShipmentStatus.IN_TRANSIT, START + 200),
+                new TrackingEvent("TRK-0000000A", ShipmentStatus.DELIVERED, START + 300)
+        ));
+
+        int removed = service.compactHistory();
+
+        assert removed == 2 : "Неправильна кількість видалених подій";
+        assert service.getHistorySize() == 2 : "Неправильний розмір історії";
+        assert service.getStatus("TRK-0000000A") == ShipmentStatus.DELIVERED : "Стан змінився після ущільнення";
+
+        // Ланцюжок історії перебудовується при ущільненні і зберігає порядок надходження
+        service.ingest(new TrackingEvent("TRK-0000000B", ShipmentStatus.PREPARING, START + 400));
+        service.ingest(new TrackingEvent("TRK-0000000A", ShipmentStatus.RETURNED, START + 500));
+        List<TrackingEvent> history = service.getHistory("TRK-0000000A");
+        assert history.size() == 3 : "Неправильна довжина історії";
+        assert history.get(0).epochSecond() == START && history.get(1).epochSecond() == START + 300
+                && history.get(2).status() == ShipmentStatus.RETURNED : "Неправильний порядок історії";
+        assert service.getHistory("TRK-0000000B").size() == 1 : "Історія іншої відправки";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testReadsDoNotGrowDictionary() {
+        System.out.println("Тест 5: Читання невідомих номерів не змінює словник");
+
+        ShipmentTrackingService service = new ShipmentTrackingService();
+        service.ingest(new TrackingEvent("NP-20450001234567", ShipmentStatus.IN_TRANSIT, START));
+        assert service.getDictionarySize() == 1 : "Нестандартний номер не потрапив у словник";
+
+        for (int i = 0; i < 1000; i++) {
+            String unknown = "NP-" + i;
+            assert service.getStatus(unknown) == null : "Невідомий номер має статус";
+            assert service.getLastUpdateEpochSecond(unknown) == -1L : "Невідомий номер має час оновлення";
+            assert service.getHistory(unknown).isEmpty() : "Невідомий номер має історію";
+        }
+
+        assert service.getDictionarySize() == 1 : "Словник виріс від запитів читання";
+        assert service.getHistory("NP-20450001234567").size() == 1 : "Історія відомого номера";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce;
+
+import com.ecommerce.exceptions.InvalidDataException;
+import com.ecommerce.startup.StartupOrchestrator;
+import com.ecommerce.startup.StartupResult;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Базові тести для StartupOrchestrator
+ */
+public class StartupOrchestratorTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ StartupOrchestrator ===\n");
+
+        testIndependentStagesRunConcurrently();
+        testDependenciesWaitForResults();
+        testFailFast();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testIndependentStagesRunConcurrently() throws Exception {
+        System.out.println("Тест 1: Незалежні етапи виконуються одночасно");
+
+        StartupOrchestrator startup = new StartupOrchestrator();
+        for (int i = 0; i < 4; i++) {
+            startup.stage("stage-" + i, ignored -> sleep(200));
+        }
+        StartupResult result = startup.run();
+
+        assert result.getTimeline().size() == 4 : "Неправильна кількість етапів";
+        assert result.getElapsedMillis() < 600 : "Етапи виконувались послідовно: " + result.getElapsedMillis() + " мс";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  Загальний час: " + result.getElapsedMillis() + " мс\n");
+    }
+
+    private static void testDependenciesWaitForResults() throws Exception {
+        System.out.println("Тест 2: Залежний етап отримує результати залежностей");
+
+        StartupOrchestrator startup = new StartupOrchestrator();
+        StartupOrchestrator.Stage<Integer> products = startup.stage("products", ignored -> {
+            sleep(100);
+            return 5;
+        });
+        StartupOrchestrator.Stage<Integer> customers = startup.stage("customers", ignored -> 4);
+        StartupOrchestrator.Stage<Integer> orders = startup.stage("orders",
+                loaded -> loaded.get(products) * 10 + loaded.get(customers), products, customers);
+
+        StartupResult result = startup.run();
+
+        assert result.get(orders) == 54 : "Неправильний результат залежного етапу";
+        StartupResult.StageTiming productsTiming = timing(result, "products");
+        StartupResult.StageTiming ordersTiming = timing(result, "orders");
+        assert ordersTiming.startMillis() >= productsTiming.endMillis() : "Етап стартував до завершення залежності";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println(result.getTimelineReport() + "\n");
+    }
+
+    private static void testFailFast() throws Exception {
+        System.out.println("Тест 3: Перша помилка зупиняє запуск");
+
+        InvalidDataException expected = new InvalidDataException("Некоректний рядок",
+                InvalidDataException.ErrorCode.INVALID_FORMAT);
+        AtomicBoolean dependentStarted = new AtomicBoolean();
+        AtomicBoolean slowInterrupted = new AtomicBoolean();
+
+        StartupOrchestrator startup = new StartupOrchestrator();
+        StartupOrchestrator.Stage<Object> broken = startup.stage("broken", ignored -> {
+            throw expected;
+        });
+        startup.stage("slow", ignored -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                slowInterrupted.set(true);
+            }
+            return null;
+        });
+        startup.stage("dependent", ignored -> {
+            dependentStarted.set(true);
+            return null;
+        }, broken);
+
+        long start = System.nanoTime();
+        try {
+            startup.run();
+            assert false : "Очікувався InvalidDataException";
+        } catch (InvalidDataException e) {
+            assert e == expected : "Повернуто інший виняток: " + e;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Thread.sleep(50);
+
+        assert elapsedMillis < 5_000 : "Запуск не зупинився одразу: " + elapsedMillis + " мс";
+        assert !dependentStarted.get() : "Залежний етап запущено після помилки";
+        assert slowInterrupted.get() : "Повільний етап не перервано";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static Object sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Перервано", e);
+        }
+        return null;
+    }
+
+    private static StartupResult.StageTiming timing(StartupResult result, String name) {
+        return result.getTimeline().stream()
+                .filter(timing -> timing.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce;
+
+import com.ecommerce.service.FileReader;
+import com.ecommerce.util.StringDeduplicator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Базові тести для StringDeduplicator
+ */
+public class StringDeduplicatorTest {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== ТЕСТУВАННЯ StringDeduplicator ===\n");
+
+        testSameInstance();
+        testBoundedCapacity();
+        testReadCsvMatchesSplit();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static void testSameInstance() {
+        System.out.println("Тест 1: Повторні значення дають один екземпляр");
+
+        StringDeduplicator strings = new StringDeduplicator();
+        String line = "ELECTRONICS,Іван,ELECTRONICS,Іван";
+        String first = strings.intern(line, 0, 11);
+        String second = strings.intern(line, 17, 28);
+        String name = strings.intern(line, 12, 16);
+
+        assert first.equals("ELECTRONICS") : "Неправильне значення: " + first;
+        assert first == second : "Повтор не дедупліковано";
+        assert strings.intern(new String("Іван")) == name : "Кирилиця не дедуплікована";
+        assert strings.getHits() == 2 && strings.getLookups() == 4 : "Неправильна статистика";
+        assert strings.getBytesSaved() > 0 : "Не пораховано заощаджені байти";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println("  " + strings.getReport() + "\n");
+    }
+
+    private static void testBoundedCapacity() {
+        System.out.println("Тест 2: Таблиця обмежена, часті значення не витісняються");
+
+        StringDeduplicator strings = new StringDeduplicator(64);
+        String category = strings.intern("BOOKS");
+        for (int i = 0; i < 100_000; i++) {
+            strings.intern("user" + i + "@example.com");
+            if (i % 8 == 0) {
+                assert strings.intern(new String("BOOKS")) == category : "Часте значення витіснено";
+            }
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testReadCsvMatchesSplit() throws Exception {
+        System.out.println("Тест 3: readCSV з дедуплікацією дає ті самі значення");
+
+        Path file = Files.createTempFile("dedup", ".csv");
+        try {
+            Files.writeString(file, String.join("\n",
+                    "a,b,c",
+                    " Іван , Петренко ,ivan@example.com",
+                    "x,,",
+                    ",y, ",
+                    "one",
+                    ",",
+                    "p,q,r,s"), StandardCharsets.UTF_8);
+
+            List<String[]> plain = FileReader.readCSV(file.toString());
+            List<String[]> interned = FileReader.readCSV(file.toString(), new StringDeduplicator());
+
+            assert plain.size() == interned.size() : "Різна кількість рядків";
+            for (int i = 0; i < plain.size(); i++) {
+                assert Arrays.equals(plain.get(i), interned.get(i))
+                        : "Рядок #" + i + ": " + Arrays.toString(plain.get(i)) + " != " + Arrays.toString(interned.get(i));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}
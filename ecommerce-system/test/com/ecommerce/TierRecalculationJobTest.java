@@ -0,0 +1,165 @@
+package com.ecommerce;
+
+import com.ecommerce.enums.OrderStatus;
+import com.ecommerce.enums.PaymentMethod;
+import com.ecommerce.enums.ProductCategory;
+import com.ecommerce.model.CustomerInfo;
+import com.ecommerce.model.CustomerInfo.CustomerTier;
+import com.ecommerce.model.OrderInfo;
+import com.ecommerce.model.ProductInfo;
+import com.ecommerce.service.TierRecalculationJob;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Базові тести для TierRecalculationJob
+ */
+public class TierRecalculationJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 10, 1);
+
+    public static void main(String[] args) {
+        System.out.println("=== ТЕСТУВАННЯ TierRecalculationJob ===\n");
+
+        testDecideTier();
+        testRecalculation();
+        testDowngrade();
+        testDeterministicTotals();
+
+        System.out.println("\n=== ВСІ ТЕСТИ ПРОЙДЕНО ===");
+    }
+
+    private static CustomerInfo customer(String email, int monthsAgo, CustomerTier tier) {
+        return new CustomerInfo("Ім'я", "Прізвище", email, null, TODAY.minusMonths(monthsAgo), tier);
+    }
+
+    private static OrderInfo order(String id, CustomerInfo customer, double price, OrderStatus status) {
+        // Книги без податку і готівка без комісії: сума замовлення дорівнює ціні мінус знижка рівня
+        return new OrderInfo(id, customer,
+                List.of(new ProductInfo("Книга " + id, price, 1, ProductCategory.BOOKS, TODAY)),
+                TODAY.minusDays(10), status, PaymentMethod.CASH);
+    }
+
+    private static void testDecideTier() {
+        System.out.println("Тест 1: Пороги рівнів");
+
+        assert TierRecalculationJob.decideTier(100_000, 24) == CustomerTier.PLATINUM;
+        assert TierRecalculationJob.decideTier(99_999.99, 24) == CustomerTier.GOLD;
+        assert TierRecalculationJob.decideTier(100_000, 23) == CustomerTier.GOLD;
+        assert TierRecalculationJob.decideTier(50_000, 12) == CustomerTier.GOLD;
+        assert TierRecalculationJob.decideTier(50_000, 11) == CustomerTier.SILVER;
+        assert TierRecalculationJob.decideTier(10_000, 3) == CustomerTier.SILVER;
+        assert TierRecalculationJob.decideTier(9_999.99, 100) == CustomerTier.BRONZE;
+        assert TierRecalculationJob.decideTier(1_000_000, 2) == CustomerTier.BRONZE;
+        assert TierRecalculationJob.decideTier(0, 0) == CustomerTier.BRONZE;
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static List<CustomerInfo> customers() {
+        return List.of(
+                customer("bronze-to-gold@example.com", 30, CustomerTier.BRONZE),
+                customer("gold-idle@example.com", 30, CustomerTier.GOLD),
+                customer("silver-new@example.com", 2, CustomerTier.SILVER),
+                customer("bronze-to-silver@example.com", 5, CustomerTier.BRONZE));
+    }
+
+    private static List<OrderInfo> orders(List<CustomerInfo> customers) {
+        return List.of(
+                order("1", customers.get(0), 60_000, OrderStatus.DELIVERED),
+                // Скасоване замовлення підняло б клієнта до PLATINUM, якби враховувалось
+                order("2", customers.get(0), 100_000, OrderStatus.CANCELLED),
+                order("3", customers.get(2), 200_000, OrderStatus.DELIVERED),
+                order("4", customers.get(3), 8_000, OrderStatus.SHIPPED),
+                order("5", customers.get(3), 7_000, OrderStatus.PENDING),
+                // Замовлення невідомого клієнта ігнорується
+                order("6", customer("stranger@example.com", 50, CustomerTier.BRONZE), 500_000, OrderStatus.DELIVERED));
+    }
+
+    private static void testRecalculation() {
+        System.out.println("Тест 2: Перерахунок без пониження рівня");
+
+        List<CustomerInfo> customers = customers();
+        TierRecalculationJob.Result result = new TierRecalculationJob(new ForkJoinPool(2), false)
+                .run(customers, orders(customers), TODAY);
+
+        assert result.customers().get(0).tier() == CustomerTier.GOLD : "Скасоване замовлення враховано у витратах";
+        assert result.customers().get(1).tier() == CustomerTier.GOLD : "Рівень знижено без дозволу";
+        assert result.customers().get(2).tier() == CustomerTier.SILVER : "Рівень знижено без дозволу";
+        assert result.customers().get(3).tier() == CustomerTier.SILVER : "Витрати кількох замовлень не підсумовано";
+        assert result.customers().get(1) == customers.get(1) : "Незмінений клієнт має бути тим самим об'єктом";
+
+        assert result.getTransitionCount(CustomerTier.BRONZE, CustomerTier.GOLD) == 1;
+        assert result.getTransitionCount(CustomerTier.BRONZE, CustomerTier.SILVER) == 1;
+        assert result.getTransitionCount(CustomerTier.GOLD, CustomerTier.GOLD) == 1;
+        assert result.getTransitionCount(CustomerTier.SILVER, CustomerTier.SILVER) == 1;
+        assert result.getChangedCount() == 2 : "Неправильна кількість змін";
+
+        System.out.println("✓ Тест пройдено");
+        System.out.println(result.getTransitionReport() + "\n");
+    }
+
+    private static void testDowngrade() {
+        System.out.println("Тест 3: Перерахунок з пониженням рівня");
+
+        List<CustomerInfo> customers = customers();
+        TierRecalculationJob.Result result = new TierRecalculationJob(new ForkJoinPool(2), true)
+                .run(customers, orders(customers), TODAY);
+
+        assert result.customers().get(0).tier() == CustomerTier.GOLD;
+        assert result.customers().get(1).tier() == CustomerTier.BRONZE : "Неактивного клієнта не знижено";
+        assert result.customers().get(2).tier() == CustomerTier.BRONZE : "Замалий стаж не знизив рівень";
+        assert result.customers().get(3).tier() == CustomerTier.SILVER;
+
+        assert result.getTransitionCount(CustomerTier.GOLD, CustomerTier.BRONZE) == 1;
+        assert result.getTransitionCount(CustomerTier.SILVER, CustomerTier.BRONZE) == 1;
+        assert result.getChangedCount() == 4 : "Неправильна кількість змін";
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+
+    private static void testDeterministicTotals() {
+        System.out.println("Тест 4: Результат не залежить від порядку виконання потоків");
+
+        Random random = new Random(42);
+        CustomerTier[] tiers = CustomerTier.values();
+        List<CustomerInfo> customers = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            customers.add(customer("c" + i + "@example.com", random.nextInt(40), tiers[random.nextInt(tiers.length)]));
+        }
+        OrderStatus[] statuses = OrderStatus.values();
+        List<OrderInfo> orders = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            orders.add(order("ORD-" + i, customers.get(random.nextInt(customers.size())),
+                    10 + random.nextInt(5_000) + random.nextDouble(), statuses[random.nextInt(statuses.length)]));
+        }
+
+        // Послідовний еталон
+        Map<String, Double> spend = new HashMap<>();
+        for (OrderInfo order : orders) {
+            if (order.status() != OrderStatus.CANCELLED) {
+                spend.merge(order.customer().email(), order.getTotalAmount(), Double::sum);
+            }
+        }
+
+        TierRecalculationJob job = new TierRecalculationJob(new ForkJoinPool(4), true);
+        TierRecalculationJob.Result first = job.run(customers, orders, TODAY);
+        for (int attempt = 0; attempt < 5; attempt++) {
+            TierRecalculationJob.Result next = job.run(customers, orders, TODAY);
+            assert next.customers().equals(first.customers()) : "Результат змінився між запусками";
+        }
+        for (int i = 0; i < customers.size(); i++) {
+            CustomerInfo customer = customers.get(i);
+            CustomerTier expected = TierRecalculationJob.decideTier(spend.getOrDefault(customer.email(), 0.0),
+                    customer.getMembershipMonths(TODAY));
+            assert first.customers().get(i).tier() == expected : "Рівень не збігається з еталоном: " + customer.email();
+        }
+
+        System.out.println("✓ Тест пройдено\n");
+    }
+}